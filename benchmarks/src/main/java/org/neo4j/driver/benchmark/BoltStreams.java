@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.packstream.PackStream;
+
+/**
+ * Builds synthetic Bolt byte streams so that benchmarks can run without a server.
+ */
+public final class BoltStreams {
+    private BoltStreams() {}
+
+    /**
+     * Unchunked RECORD fields list as seen by {@link org.neo4j.driver.internal.messaging.ValueUnpacker#unpackArray()}.
+     */
+    public static ByteBuf recordFields(RecordShape shape, boolean elementIds) {
+        var buf = Unpooled.buffer();
+        try {
+            shape.packFields(new PackStream.Packer(new ByteBufOutput(buf)), elementIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buf;
+    }
+
+    /**
+     * Chunked stream of RECORD messages, each terminated by a message boundary, as received from the network.
+     */
+    public static ByteBuf chunkedRecordMessages(RecordShape shape, boolean elementIds, int count) {
+        var stream = Unpooled.buffer();
+        var output = new ChunkAwareByteBufOutput();
+        var packer = new PackStream.Packer(output);
+        try {
+            for (var i = 0; i < count; i++) {
+                // chunk headers are written at absolute indexes, so every message needs a buffer of its own
+                var message = Unpooled.buffer();
+                output.start(message);
+                packer.packStructHeader(1, RecordMessage.SIGNATURE);
+                shape.packFields(packer, elementIds);
+                output.stop();
+                BoltProtocolUtil.writeMessageBoundary(message);
+                stream.writeBytes(message);
+                message.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Outbound message chunking by {@link ChunkAwareByteBufOutput}, covering many small writes and large byte arrays, with
+ * fixed and adaptive chunk sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkAwareByteBufOutputBenchmark {
+    @Param({"false", "true"})
+    public boolean adaptive;
+
+    private ByteBuf buf;
+    private ChunkAwareByteBufOutput output;
+    private PackStream.Packer packer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        buf = Unpooled.buffer(64 * 1024);
+        output = new ChunkAwareByteBufOutput(DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES, adaptive);
+        packer = new PackStream.Packer(output);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        buf.release();
+    }
+
+    @Benchmark
+    public ByteBuf writeMessage(ShapeState state) throws IOException {
+        buf.clear();
+        output.start(buf);
+        packer.packStructHeader(1, RecordMessage.SIGNATURE);
+        state.shape.packFields(packer, true);
+        output.stop();
+        return buf;
+    }
+
+    @Benchmark
+    public int writeByteArray(BytesState state) throws IOException {
+        // large arrays end up in a composite buffer that takes ownership of the started one
+        output.start(PooledByteBufAllocator.DEFAULT.ioBuffer());
+        packer.pack(state.bytes);
+        var message = output.stop();
+        var size = message.readableBytes();
+        message.release();
+        return size;
+    }
+
+    @State(Scope.Thread)
+    public static class ShapeState {
+        @Param({"SCALARS", "STRINGS", "MAPS", "NODES", "FLOAT_LIST"})
+        public RecordShape shape;
+    }
+
+    @State(Scope.Thread)
+    public static class BytesState {
+        @Param({"1024", "65536", "1048576"})
+        public int size;
+
+        private byte[] bytes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            bytes = new byte[size];
+            new Random(size).nextBytes(bytes);
+        }
+    }
+}
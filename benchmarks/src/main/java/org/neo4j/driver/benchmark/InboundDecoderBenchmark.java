@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.connection.ChannelAttributes;
+import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
+import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.messaging.v54.MessageFormatV54;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Inbound pipeline throughput for a stream of RECORD messages. {@code frame} covers {@link ChunkDecoder} and
+ * {@link MessageDecoder} only, while {@code frameAndDispatch} adds {@link InboundMessageHandler} decoding every message
+ * and handing it to {@link InboundMessageDispatcher}. Scores are per RECORD message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InboundDecoderBenchmark {
+    private static final int RECORDS = 100;
+
+    @Param({"SCALARS", "STRINGS", "MAPS", "NODES", "FLOAT_LIST"})
+    public RecordShape shape;
+
+    private ByteBuf stream;
+    private EmbeddedChannel framingChannel;
+    private EmbeddedChannel dispatchingChannel;
+    private BlackholeResponseHandler responseHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stream = BoltStreams.chunkedRecordMessages(shape, true, RECORDS);
+
+        framingChannel = new EmbeddedChannel(new ChunkDecoder(DEV_NULL_LOGGING), new MessageDecoder());
+
+        dispatchingChannel = new EmbeddedChannel();
+        var dispatcher = new InboundMessageDispatcher(dispatchingChannel, DEV_NULL_LOGGING);
+        ChannelAttributes.setMessageDispatcher(dispatchingChannel, dispatcher);
+        dispatchingChannel
+                .pipeline()
+                .addLast(
+                        new ChunkDecoder(DEV_NULL_LOGGING),
+                        new MessageDecoder(),
+                        new InboundMessageHandler(new MessageFormatV54(), DEV_NULL_LOGGING));
+        responseHandler = new BlackholeResponseHandler();
+        dispatcher.enqueue(responseHandler);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        framingChannel.finishAndReleaseAll();
+        dispatchingChannel.finishAndReleaseAll();
+        stream.release();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void frame(Blackhole blackhole) {
+        framingChannel.writeInbound(stream.retainedDuplicate());
+        ByteBuf message;
+        while ((message = framingChannel.readInbound()) != null) {
+            blackhole.consume(message.readableBytes());
+            message.release();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void frameAndDispatch(Blackhole blackhole) {
+        responseHandler.blackhole = blackhole;
+        dispatchingChannel.writeInbound(stream.retainedDuplicate());
+    }
+
+    private static class BlackholeResponseHandler implements ResponseHandler {
+        private Blackhole blackhole;
+
+        @Override
+        public void onSuccess(Map<String, Value> metadata) {
+            throw new IllegalStateException("Unexpected SUCCESS");
+        }
+
+        @Override
+        public void onFailure(Throwable error) {
+            throw new IllegalStateException("Unexpected FAILURE", error);
+        }
+
+        @Override
+        public void onRecord(Value[] fields) {
+            blackhole.consume(fields);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Raw {@link PackStream.Packer} and {@link PackStream.Unpacker} throughput for the primitive PackStream types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PackStreamBenchmark {
+    private static final long[] LONGS = {0, -16, 127, -128, 32_767, -32_768, Integer.MAX_VALUE, Long.MIN_VALUE};
+    private static final double[] DOUBLES = {0.0, -1.5, Math.PI, Double.MAX_VALUE};
+
+    private ByteBuf out;
+    private PackStream.Packer packer;
+
+    private ByteBuf longsIn;
+    private ByteBuf doublesIn;
+    private ByteBufInput input;
+    private PackStream.Unpacker unpacker;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        out = Unpooled.buffer(4 * 1024);
+        packer = new PackStream.Packer(new ByteBufOutput(out));
+
+        longsIn = Unpooled.buffer();
+        var longsPacker = new PackStream.Packer(new ByteBufOutput(longsIn));
+        for (var value : LONGS) {
+            longsPacker.pack(value);
+        }
+
+        doublesIn = Unpooled.buffer();
+        var doublesPacker = new PackStream.Packer(new ByteBufOutput(doublesIn));
+        for (var value : DOUBLES) {
+            doublesPacker.pack(value);
+        }
+
+        input = new ByteBufInput();
+        unpacker = new PackStream.Unpacker(input);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        out.release();
+        longsIn.release();
+        doublesIn.release();
+    }
+
+    @Benchmark
+    public ByteBuf packLongs() throws IOException {
+        out.clear();
+        for (var value : LONGS) {
+            packer.pack(value);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public ByteBuf packDoubles() throws IOException {
+        out.clear();
+        for (var value : DOUBLES) {
+            packer.pack(value);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public ByteBuf packString(StringState state) throws IOException {
+        out.clear();
+        packer.pack(state.string);
+        return out;
+    }
+
+    @Benchmark
+    public void unpackLongs(Blackhole blackhole) throws IOException {
+        input.start(longsIn.readerIndex(0));
+        try {
+            for (var i = 0; i < LONGS.length; i++) {
+                blackhole.consume(unpacker.unpackLong());
+            }
+        } finally {
+            input.stop();
+        }
+    }
+
+    @Benchmark
+    public void unpackDoubles(Blackhole blackhole) throws IOException {
+        input.start(doublesIn.readerIndex(0));
+        try {
+            for (var i = 0; i < DOUBLES.length; i++) {
+                blackhole.consume(unpacker.unpackDouble());
+            }
+        } finally {
+            input.stop();
+        }
+    }
+
+    @Benchmark
+    public String unpackString(StringState state) throws IOException {
+        input.start(state.packed.readerIndex(0));
+        try {
+            return unpacker.unpackString();
+        } finally {
+            input.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class StringState {
+        @Param({"8", "64", "512"})
+        public int length;
+
+        private String string;
+        private ByteBuf packed;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            string = "x".repeat(length);
+            packed = Unpooled.buffer();
+            new PackStream.Packer(new ByteBufOutput(packed)).pack(string);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            packed.release();
+        }
+    }
+}
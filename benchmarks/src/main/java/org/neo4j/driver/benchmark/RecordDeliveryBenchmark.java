@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Query;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.TerminationAwareStateLockingExecutor;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.handlers.pulln.BasicPullResponseHandler;
+import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.ValueUnpacker;
+import org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5;
+import org.neo4j.driver.internal.messaging.v54.BoltProtocolV54;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.MetadataExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Record delivery from {@link BasicPullResponseHandler#onRecord(Value[])} to the record consumer as an
+ * {@link org.neo4j.driver.internal.InternalRecord}, either from already decoded fields or including decoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordDeliveryBenchmark {
+    @Param({"SCALARS", "STRINGS", "MAPS", "NODES", "FLOAT_LIST"})
+    public RecordShape shape;
+
+    private ByteBuf encodedFields;
+    private ByteBufInput input;
+    private ValueUnpacker unpacker;
+    private Value[] decodedFields;
+
+    private BasicPullResponseHandler pullHandler;
+    private Record lastRecord;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        encodedFields = BoltStreams.recordFields(shape, true);
+        input = new ByteBufInput();
+        unpacker = new ValueUnpackerV5(input);
+        decodedFields = unpackFields();
+
+        var metadataExtractor = new MetadataExtractor("t_first", "t_last");
+        var connection = new NoOpConnection();
+        var runHandler = new RunResponseHandler(new CompletableFuture<>(), metadataExtractor, connection, null);
+        runHandler.onSuccess(Map.of("fields", value(shape.keys())));
+
+        pullHandler = new BasicPullResponseHandler(
+                new Query("RETURN 1"), runHandler, connection, metadataExtractor, new NoOpCompletionListener());
+        pullHandler.installRecordConsumer((record, error) -> lastRecord = record);
+        pullHandler.installSummaryConsumer((summary, error) -> {});
+        pullHandler.request(UNLIMITED_FETCH_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        encodedFields.release();
+    }
+
+    @Benchmark
+    public Value onRecord() {
+        pullHandler.onRecord(decodedFields);
+        return lastRecord.get(0);
+    }
+
+    @Benchmark
+    public Value decodeAndOnRecord() throws IOException {
+        pullHandler.onRecord(unpackFields());
+        return lastRecord.get(0);
+    }
+
+    private Value[] unpackFields() throws IOException {
+        input.start(encodedFields.readerIndex(0));
+        try {
+            return unpacker.unpackArray();
+        } finally {
+            input.stop();
+        }
+    }
+
+    private static class NoOpCompletionListener implements PullResponseCompletionListener {
+        @Override
+        public void afterSuccess(Map<String, Value> metadata) {}
+
+        @Override
+        public void afterFailure(Throwable error) {}
+    }
+
+    private static class NoOpConnection implements Connection {
+        private static final CompletionStage<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void enableAutoRead() {}
+
+        @Override
+        public void disableAutoRead() {}
+
+        @Override
+        public void write(Message message, ResponseHandler handler) {}
+
+        @Override
+        public void writeAndFlush(Message message, ResponseHandler handler) {}
+
+        @Override
+        public boolean isTelemetryEnabled() {
+            return false;
+        }
+
+        @Override
+        public CompletionStage<Void> reset(Throwable throwable) {
+            return COMPLETED;
+        }
+
+        @Override
+        public CompletionStage<Void> release() {
+            return COMPLETED;
+        }
+
+        @Override
+        public void terminateAndRelease(String reason) {}
+
+        @Override
+        public String serverAgent() {
+            return "Neo4j/5.0.0";
+        }
+
+        @Override
+        public BoltServerAddress serverAddress() {
+            return BoltServerAddress.LOCAL_DEFAULT;
+        }
+
+        @Override
+        public BoltProtocol protocol() {
+            return BoltProtocolV54.INSTANCE;
+        }
+
+        @Override
+        public void bindTerminationAwareStateLockingExecutor(TerminationAwareStateLockingExecutor executor) {}
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
+import org.neo4j.driver.internal.packstream.PackStream;
+
+/**
+ * Synthetic record layouts used to exercise the different value decoding paths.
+ */
+public enum RecordShape {
+    /**
+     * Ten columns mixing integers of every width, floats, short strings, booleans and nulls.
+     */
+    SCALARS(10) {
+        @Override
+        void packField(PackStream.Packer packer, int column, boolean elementIds) throws IOException {
+            switch (column % 5) {
+                case 0 -> packer.pack(INTEGERS[column % INTEGERS.length]);
+                case 1 -> packer.pack(column * 1.5d);
+                case 2 -> packer.pack("value-" + column);
+                case 3 -> packer.pack(column % 2 == 0);
+                default -> packer.packNull();
+            }
+        }
+    },
+    /**
+     * Ten columns of 32 character ASCII strings.
+     */
+    STRINGS(10) {
+        @Override
+        void packField(PackStream.Packer packer, int column, boolean elementIds) throws IOException {
+            packer.pack(string(32, column));
+        }
+    },
+    /**
+     * A single map column with ten entries, mimicking a projected property map.
+     */
+    MAPS(1) {
+        @Override
+        void packField(PackStream.Packer packer, int column, boolean elementIds) throws IOException {
+            packer.packMapHeader(PROPERTY_KEYS.length);
+            packProperties(packer);
+        }
+    },
+    /**
+     * A single node column with two labels and ten properties.
+     */
+    NODES(1) {
+        @Override
+        void packField(PackStream.Packer packer, int column, boolean elementIds) throws IOException {
+            packer.packStructHeader(elementIds ? 4 : 3, CommonValueUnpacker.NODE);
+            packer.pack(column + 1000L);
+            packer.packListHeader(LABELS.length);
+            for (var label : LABELS) {
+                packer.pack(label);
+            }
+            packer.packMapHeader(PROPERTY_KEYS.length);
+            packProperties(packer);
+            if (elementIds) {
+                packer.pack("4:2f1a9b38-5d2f-4e7c-9a15-0f8a3c7e6d21:" + (column + 1000));
+            }
+        }
+    },
+    /**
+     * A single column holding a 1536 element list of floats, the size of a typical embedding vector.
+     */
+    FLOAT_LIST(1) {
+        @Override
+        void packField(PackStream.Packer packer, int column, boolean elementIds) throws IOException {
+            packer.packListHeader(EMBEDDING_SIZE);
+            for (var i = 0; i < EMBEDDING_SIZE; i++) {
+                packer.pack(Math.sin(i));
+            }
+        }
+    };
+
+    private static final long[] INTEGERS = {7, -100, 30_000, 2_000_000_000L, Long.MAX_VALUE};
+    private static final String[] LABELS = {"Person", "Employee"};
+    private static final String[] PROPERTY_KEYS = {
+        "name", "surname", "age", "email", "city", "country", "score", "active", "createdAt", "tags"
+    };
+    private static final int EMBEDDING_SIZE = 1536;
+
+    private final int columns;
+
+    RecordShape(int columns) {
+        this.columns = columns;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>(columns);
+        for (var i = 0; i < columns; i++) {
+            keys.add("column" + i);
+        }
+        return keys;
+    }
+
+    /**
+     * Packs the RECORD fields list, without the enclosing message structure header.
+     */
+    public void packFields(PackStream.Packer packer, boolean elementIds) throws IOException {
+        packer.packListHeader(columns);
+        for (var i = 0; i < columns; i++) {
+            packField(packer, i, elementIds);
+        }
+    }
+
+    abstract void packField(PackStream.Packer packer, int column, boolean elementIds) throws IOException;
+
+    private static void packProperties(PackStream.Packer packer) throws IOException {
+        for (var i = 0; i < PROPERTY_KEYS.length; i++) {
+            packer.pack(PROPERTY_KEYS[i]);
+            if (i % 3 == 0) {
+                packer.pack(string(12, i));
+            } else if (i % 3 == 1) {
+                packer.pack((long) i * 31);
+            } else {
+                packer.pack(i * 0.25d);
+            }
+        }
+    }
+
+    private static String string(int length, int seed) {
+        var builder = new StringBuilder(length);
+        for (var i = 0; i < length; i++) {
+            builder.append((char) ('a' + (seed + i) % 26));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.ValueUnpacker;
+import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
+import org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding of RECORD fields into {@link Value} trees by {@link CommonValueUnpacker} and {@link ValueUnpackerV5}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueUnpackerBenchmark {
+    @Param({"COMMON", "V5"})
+    public UnpackerKind unpacker;
+
+    @Param({"SCALARS", "STRINGS", "MAPS", "NODES", "FLOAT_LIST"})
+    public RecordShape shape;
+
+    private ByteBuf fields;
+    private ByteBufInput input;
+    private ValueUnpacker valueUnpacker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fields = BoltStreams.recordFields(shape, unpacker.elementIds);
+        input = new ByteBufInput();
+        valueUnpacker = unpacker.create(input);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fields.release();
+    }
+
+    @Benchmark
+    public Value[] unpackRecordFields() throws IOException {
+        input.start(fields.readerIndex(0));
+        try {
+            return valueUnpacker.unpackArray();
+        } finally {
+            input.stop();
+        }
+    }
+
+    public enum UnpackerKind {
+        COMMON(false) {
+            @Override
+            ValueUnpacker create(ByteBufInput input) {
+                return new CommonValueUnpacker(input, true);
+            }
+        },
+        V5(true) {
+            @Override
+            ValueUnpacker create(ByteBufInput input) {
+                return new ValueUnpackerV5(input);
+            }
+        };
+
+        private final boolean elementIds;
+
+        UnpackerKind(boolean elementIds) {
+            this.elementIds = elementIds;
+        }
+
+        abstract ValueUnpacker create(ByteBufInput input);
+    }
+}
@@ -40,6 +40,9 @@ module org.neo4j.driver {
     requires transitive java.logging;
     requires transitive org.reactivestreams;
     requires static micrometer.core;
+    requires static io.netty.transport.classes.epoll;
+    requires static io.netty.incubator.transport.classes.io_uring;
+    requires static io.netty.tcnative.classes.openssl;
     requires static org.graalvm.nativeimage;
     requires static org.slf4j;
     requires static java.management;
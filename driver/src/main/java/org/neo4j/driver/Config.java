@@ -17,6 +17,9 @@
 package org.neo4j.driver;
 
 import static java.lang.String.format;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.MAX_CHUNK_SIZE_BYTES;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.DriverInfoUtil.driverVersion;
 
@@ -36,7 +39,9 @@ import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
+import org.neo4j.driver.internal.security.TlsSettings;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.net.ServerZoneResolver;
 import org.neo4j.driver.util.Experimental;
 import org.neo4j.driver.util.Immutable;
 
@@ -88,6 +93,31 @@ public final class Config implements Serializable {
      * The maximum connection pool size.
      */
     private final int maxConnectionPoolSize;
+    /**
+     * Specify if the connection pool size adapts to how quickly servers respond.
+     */
+    private final boolean adaptiveConnectionPoolSizing;
+    /**
+     * The size below which adaptive connection pool sizing does not shrink the connection pool.
+     */
+    private final int minAdaptiveConnectionPoolSize;
+
+    /**
+     * The amount of idle connections kept in the connection pool of every server.
+     */
+    private final int minIdleConnectionsPerServer;
+    /**
+     * The amount of idle connections above which idle connections are closed.
+     */
+    private final int maxIdleConnectionsPerServer;
+    /**
+     * The interval in milliseconds at which idle connections are maintained in the background.
+     */
+    private final long idleConnectionSweepIntervalMillis;
+    /**
+     * The idle time in milliseconds after which idle connections are closed.
+     */
+    private final long maxConnectionIdleTimeMillis;
 
     /**
      * The idle time that defines if connection should be tested before being handed out by the connection pool.
@@ -97,6 +127,14 @@ public final class Config implements Serializable {
      * The maximum connection lifetime in milliseconds.
      */
     private final long maxConnectionLifetimeMillis;
+    /**
+     * The maximum amount in milliseconds by which the lifetime of every connection is randomly shortened.
+     */
+    private final long maxConnectionLifetimeJitterMillis;
+    /**
+     * Specify if connections are replaced in the background before they reach their maximum lifetime.
+     */
+    private final boolean proactiveConnectionRotation;
     /**
      * The maximum amount of time connection acquisition will attempt to acquire a connection from the connection pool.
      */
@@ -115,6 +153,26 @@ public final class Config implements Serializable {
      * The stale routing table purge delay in milliseconds.
      */
     private final long routingTablePurgeDelayMillis;
+    /**
+     * The time in milliseconds for which the home database of a user is cached.
+     */
+    private final long homeDatabaseCacheTtlMillis;
+    /**
+     * The fraction of the time-to-live of a routing table after which it is refreshed in the background.
+     */
+    private final double routingTableRefreshAheadFactor;
+    /**
+     * The strategy used to select among the servers of a cluster.
+     */
+    private final LoadBalancingMode loadBalancingMode;
+    /**
+     * The zone the driver is located in.
+     */
+    private final String localZone;
+    /**
+     * The server zone resolver.
+     */
+    private final ServerZoneResolver zoneResolver;
     /**
      * The managed transactions maximum retry time.
      */
@@ -153,13 +211,61 @@ public final class Config implements Serializable {
      */
     private final boolean telemetryDisabled;
 
+    /**
+     * Specify if fields of received records are decoded when accessed.
+     */
+    private final boolean lazyRecordDecoding;
+
+    /**
+     * The maximum number of message bytes in a chunk sent to the server.
+     */
+    private final int maxOutboundChunkSize;
+
+    /**
+     * Specify if outbound chunks grow in size within large messages.
+     */
+    private final boolean adaptiveOutboundChunking;
+
+    /**
+     * The network transport used for connections.
+     */
+    private final TransportType transportType;
+
+    /**
+     * The TLS implementation used for encrypted connections.
+     */
+    private final TlsProvider tlsProvider;
+
+    /**
+     * The maximum amount of TLS sessions cached for resumption, {@code 0} keeps the TLS implementation default.
+     */
+    private final int tlsSessionCacheSize;
+
+    /**
+     * The time in milliseconds a cached TLS session may be resumed for, {@code 0} keeps the TLS implementation default.
+     */
+    private final long tlsSessionTimeoutMillis;
+
+    /**
+     * Specify if connection pools are split by event loop.
+     */
+    private final boolean eventLoopAffinity;
+
     private Config(ConfigBuilder builder) {
         this.logging = builder.logging;
         this.logLeakedSessions = builder.logLeakedSessions;
 
         this.idleTimeBeforeConnectionTest = builder.idleTimeBeforeConnectionTest;
         this.maxConnectionLifetimeMillis = builder.maxConnectionLifetimeMillis;
+        this.maxConnectionLifetimeJitterMillis = builder.maxConnectionLifetimeJitterMillis;
+        this.proactiveConnectionRotation = builder.proactiveConnectionRotation;
         this.maxConnectionPoolSize = builder.maxConnectionPoolSize;
+        this.adaptiveConnectionPoolSizing = builder.adaptiveConnectionPoolSizing;
+        this.minAdaptiveConnectionPoolSize = builder.minAdaptiveConnectionPoolSize;
+        this.minIdleConnectionsPerServer = builder.minIdleConnectionsPerServer;
+        this.maxIdleConnectionsPerServer = builder.maxIdleConnectionsPerServer;
+        this.idleConnectionSweepIntervalMillis = builder.idleConnectionSweepIntervalMillis;
+        this.maxConnectionIdleTimeMillis = builder.maxConnectionIdleTimeMillis;
         this.connectionAcquisitionTimeoutMillis = builder.connectionAcquisitionTimeoutMillis;
         this.userAgent = builder.userAgent;
 
@@ -167,6 +273,11 @@ public final class Config implements Serializable {
 
         this.connectionTimeoutMillis = builder.connectionTimeoutMillis;
         this.routingTablePurgeDelayMillis = builder.routingTablePurgeDelayMillis;
+        this.homeDatabaseCacheTtlMillis = builder.homeDatabaseCacheTtlMillis;
+        this.routingTableRefreshAheadFactor = builder.routingTableRefreshAheadFactor;
+        this.loadBalancingMode = builder.loadBalancingMode;
+        this.localZone = builder.localZone;
+        this.zoneResolver = builder.zoneResolver;
         this.maxTransactionRetryTimeMillis = builder.maxTransactionRetryTimeMillis;
         this.resolver = builder.resolver;
         this.fetchSize = builder.fetchSize;
@@ -175,6 +286,14 @@ public final class Config implements Serializable {
         this.eventLoopThreads = builder.eventLoopThreads;
         this.metricsAdapter = builder.metricsAdapter;
         this.telemetryDisabled = builder.telemetryDisabled;
+        this.lazyRecordDecoding = builder.lazyRecordDecoding;
+        this.maxOutboundChunkSize = builder.maxOutboundChunkSize;
+        this.adaptiveOutboundChunking = builder.adaptiveOutboundChunking;
+        this.transportType = builder.transportType;
+        this.tlsProvider = builder.tlsProvider;
+        this.tlsSessionCacheSize = builder.tlsSessionCacheSize;
+        this.tlsSessionTimeoutMillis = builder.tlsSessionTimeoutMillis;
+        this.eventLoopAffinity = builder.eventLoopAffinity;
     }
 
     /**
@@ -214,6 +333,26 @@ public final class Config implements Serializable {
         return maxConnectionLifetimeMillis;
     }
 
+    /**
+     * Returns the maximum amount by which the lifetime of every pooled connection is randomly shortened.
+     *
+     * @return maximum lifetime jitter in milliseconds
+     * @since 5.15
+     */
+    public long maxConnectionLifetimeJitterMillis() {
+        return maxConnectionLifetimeJitterMillis;
+    }
+
+    /**
+     * Returns if pooled connections are replaced in the background before they reach their maximum lifetime.
+     *
+     * @return {@code true} if proactive connection rotation is enabled, {@code false} otherwise
+     * @since 5.15
+     */
+    public boolean isProactiveConnectionRotationEnabled() {
+        return proactiveConnectionRotation;
+    }
+
     /**
      * @return the configured connection timeout value in milliseconds.
      */
@@ -229,6 +368,67 @@ public final class Config implements Serializable {
         return maxConnectionPoolSize;
     }
 
+    /**
+     * Returns if the connection pool size adapts to how quickly servers respond.
+     *
+     * @return {@code true} if adaptive connection pool sizing is enabled, {@code false} otherwise
+     * @since 5.15
+     */
+    public boolean isAdaptiveConnectionPoolSizingEnabled() {
+        return adaptiveConnectionPoolSizing;
+    }
+
+    /**
+     * Returns the size below which adaptive connection pool sizing does not shrink the connection pool.
+     *
+     * @return the minimum adaptive connection pool size
+     * @since 5.15
+     */
+    public int minAdaptiveConnectionPoolSize() {
+        return minAdaptiveConnectionPoolSize;
+    }
+
+    /**
+     * Returns the amount of idle connections kept in the connection pool of every server.
+     *
+     * @return the minimum amount of idle connections per server
+     * @since 5.15
+     */
+    public int minIdleConnectionsPerServer() {
+        return minIdleConnectionsPerServer;
+    }
+
+    /**
+     * Returns the amount of idle connections in the connection pool of every server above which idle connections are
+     * closed in the background.
+     *
+     * @return the maximum amount of idle connections per server
+     * @since 5.15
+     */
+    public int maxIdleConnectionsPerServer() {
+        return maxIdleConnectionsPerServer;
+    }
+
+    /**
+     * Returns the interval at which idle connections are maintained in the background.
+     *
+     * @return the interval in milliseconds, zero or negative if idle connections are not maintained in the background
+     * @since 5.15
+     */
+    public long idleConnectionSweepIntervalMillis() {
+        return idleConnectionSweepIntervalMillis;
+    }
+
+    /**
+     * Returns the idle time after which idle connections are closed in the background.
+     *
+     * @return the maximum idle time in milliseconds, zero or negative if idle connections are not closed for being idle
+     * @since 5.15
+     */
+    public long maxConnectionIdleTimeMillis() {
+        return maxConnectionIdleTimeMillis;
+    }
+
     /**
      * Returns the connection acquisition timeout in milliseconds.
      * @return the acquisition timeout
@@ -285,6 +485,56 @@ public final class Config implements Serializable {
         return routingTablePurgeDelayMillis;
     }
 
+    /**
+     * Returns the time for which the home database of a user is cached.
+     *
+     * @return the home database cache time-to-live in milliseconds, {@code 0} if the cache is disabled
+     * @since 5.15
+     */
+    public long homeDatabaseCacheTtlMillis() {
+        return homeDatabaseCacheTtlMillis;
+    }
+
+    /**
+     * Returns the fraction of the time-to-live of a routing table after which it is refreshed in the background.
+     *
+     * @return the refresh-ahead factor, {@code 0} if routing tables are only refreshed once they are stale
+     * @since 5.15
+     */
+    public double routingTableRefreshAheadFactor() {
+        return routingTableRefreshAheadFactor;
+    }
+
+    /**
+     * Returns how a routing driver selects among the servers of a cluster.
+     *
+     * @return the load balancing mode
+     * @since 5.15
+     */
+    public LoadBalancingMode loadBalancingMode() {
+        return loadBalancingMode;
+    }
+
+    /**
+     * Returns the zone the driver is located in.
+     *
+     * @return the local zone or {@code null} if readers are selected regardless of their zone
+     * @since 5.15
+     */
+    public String localZone() {
+        return localZone;
+    }
+
+    /**
+     * Server zone resolver.
+     *
+     * @return the resolver to use or {@code null} if readers are selected regardless of their zone
+     * @since 5.15
+     */
+    public ServerZoneResolver zoneResolver() {
+        return zoneResolver;
+    }
+
     /**
      * Returns managed transactions maximum retry time.
      *
@@ -353,6 +603,87 @@ public final class Config implements Serializable {
         return telemetryDisabled;
     }
 
+    /**
+     * Returns if lazy record decoding is enabled.
+     *
+     * @return {@code true} if record fields are decoded when accessed or {@code false} otherwise
+     * @since 5.15
+     */
+    public boolean isLazyRecordDecodingEnabled() {
+        return lazyRecordDecoding;
+    }
+
+    /**
+     * Returns the maximum number of message bytes in a chunk sent to the server.
+     *
+     * @return the maximum outbound chunk size in bytes
+     * @since 5.15
+     */
+    public int maxOutboundChunkSize() {
+        return maxOutboundChunkSize;
+    }
+
+    /**
+     * Returns if adaptive outbound chunking is enabled.
+     *
+     * @return {@code true} if chunks grow in size within large messages or {@code false} otherwise
+     * @since 5.15
+     */
+    public boolean isAdaptiveOutboundChunkingEnabled() {
+        return adaptiveOutboundChunking;
+    }
+
+    /**
+     * Returns the network transport used for connections.
+     *
+     * @return the transport type
+     * @since 5.15
+     */
+    public TransportType transportType() {
+        return transportType;
+    }
+
+    /**
+     * Returns the TLS implementation used for encrypted connections.
+     *
+     * @return the TLS provider
+     * @since 5.15
+     */
+    public TlsProvider tlsProvider() {
+        return tlsProvider;
+    }
+
+    /**
+     * Returns the maximum amount of TLS sessions cached for resumption.
+     *
+     * @return the TLS session cache size, or {@code 0} if the default of the TLS implementation is used
+     * @since 5.15
+     */
+    public int tlsSessionCacheSize() {
+        return tlsSessionCacheSize;
+    }
+
+    /**
+     * Returns the time in milliseconds a cached TLS session may be resumed for.
+     *
+     * @return the TLS session timeout in milliseconds, or {@code 0} if the default of the TLS implementation is used
+     * @since 5.15
+     */
+    public long tlsSessionTimeoutMillis() {
+        return tlsSessionTimeoutMillis;
+    }
+
+    /**
+     * Returns if connection pools are split by event loop.
+     *
+     * @return {@code true} if connections are preferably acquired from the event loop of the caller or {@code false}
+     * otherwise
+     * @since 5.15
+     */
+    public boolean isEventLoopAffinityEnabled() {
+        return eventLoopAffinity;
+    }
+
     /**
      * Used to build new config instances
      */
@@ -360,13 +691,26 @@ public final class Config implements Serializable {
         private Logging logging = DEV_NULL_LOGGING;
         private boolean logLeakedSessions;
         private int maxConnectionPoolSize = PoolSettings.DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private boolean adaptiveConnectionPoolSizing = false;
+        private int minAdaptiveConnectionPoolSize = PoolSettings.DEFAULT_MIN_ADAPTIVE_CONNECTION_POOL_SIZE;
+        private int minIdleConnectionsPerServer = PoolSettings.DEFAULT_MIN_IDLE_CONNECTIONS_PER_SERVER;
+        private int maxIdleConnectionsPerServer = PoolSettings.DEFAULT_MAX_IDLE_CONNECTIONS_PER_SERVER;
+        private long idleConnectionSweepIntervalMillis = PoolSettings.DEFAULT_IDLE_CONNECTION_SWEEP_INTERVAL;
+        private long maxConnectionIdleTimeMillis = PoolSettings.DEFAULT_MAX_CONNECTION_IDLE_TIME;
         private long idleTimeBeforeConnectionTest = PoolSettings.DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
         private long maxConnectionLifetimeMillis = PoolSettings.DEFAULT_MAX_CONNECTION_LIFETIME;
+        private long maxConnectionLifetimeJitterMillis = PoolSettings.DEFAULT_MAX_CONNECTION_LIFETIME_JITTER;
+        private boolean proactiveConnectionRotation = false;
         private long connectionAcquisitionTimeoutMillis = PoolSettings.DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
         private String userAgent = format("neo4j-java/%s", driverVersion());
         private final SecuritySettings.SecuritySettingsBuilder securitySettingsBuilder =
                 new SecuritySettings.SecuritySettingsBuilder();
         private long routingTablePurgeDelayMillis = RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
+        private long homeDatabaseCacheTtlMillis = RoutingSettings.DEFAULT_HOME_DATABASE_CACHE_TTL_MS;
+        private double routingTableRefreshAheadFactor = RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR;
+        private LoadBalancingMode loadBalancingMode = LoadBalancingMode.LEAST_CONNECTED;
+        private String localZone;
+        private ServerZoneResolver zoneResolver;
         private int connectionTimeoutMillis = (int) TimeUnit.SECONDS.toMillis(30);
         private long maxTransactionRetryTimeMillis = ExponentialBackoffRetryLogic.DEFAULT_MAX_RETRY_TIME_MS;
         private ServerAddressResolver resolver;
@@ -376,6 +720,14 @@ public final class Config implements Serializable {
         private NotificationConfig notificationConfig = NotificationConfig.defaultConfig();
 
         private boolean telemetryDisabled = false;
+        private boolean lazyRecordDecoding = false;
+        private int maxOutboundChunkSize = DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES - CHUNK_HEADER_SIZE_BYTES;
+        private boolean adaptiveOutboundChunking = false;
+        private TransportType transportType = TransportType.NIO;
+        private TlsProvider tlsProvider = TlsProvider.JDK;
+        private int tlsSessionCacheSize = TlsSettings.UNCONFIGURED;
+        private long tlsSessionTimeoutMillis = TlsSettings.UNCONFIGURED;
+        private boolean eventLoopAffinity = false;
 
         private ConfigBuilder() {}
 
@@ -469,6 +821,54 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Shortens the {@link #withMaxConnectionLifetime(long, TimeUnit) maximum lifetime} of every pooled connection
+         * by a random amount up to the given jitter.
+         * <p>
+         * Connections created at the same time, for instance when the driver starts or after a server restart,
+         * otherwise reach their maximum lifetime at the same time and are all replaced at once, which makes many
+         * queries wait for new connections. The jitter spreads their expiry over the given duration. It should be well
+         * below the maximum lifetime.
+         * <p>
+         * Default value is {@code 0}, which gives all connections the same lifetime.
+         *
+         * @param value the maximum lifetime jitter
+         * @param unit  the unit in which the duration is given
+         * @return this builder
+         * @throws IllegalArgumentException if the value is negative
+         * @since 5.15
+         */
+        public ConfigBuilder withMaxConnectionLifetimeJitter(long value, TimeUnit unit) {
+            if (value < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The maximum connection lifetime jitter may not be negative, but was %d.", value));
+            }
+            this.maxConnectionLifetimeJitterMillis = unit.toMillis(value);
+            return this;
+        }
+
+        /**
+         * Enable or disable the replacement of idle connections before they reach their
+         * {@link #withMaxConnectionLifetime(long, TimeUnit) maximum lifetime}.
+         * <p>
+         * When enabled, the background maintenance configured with
+         * {@link #withIdleConnectionSweepInterval(long, TimeUnit)} replaces idle connections that would otherwise
+         * expire before its next run. A new connection is established before the expiring one is closed and at most
+         * one connection per server is replaced per run, so that the pool keeps its idle connections and is renewed
+         * gradually rather than at once.
+         * <p>
+         * This has no effect unless both the maintenance and the maximum lifetime are enabled. It is disabled by
+         * default.
+         *
+         * @param enabled {@code true} to enable proactive connection rotation, {@code false} to disable it
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withProactiveConnectionRotation(boolean enabled) {
+            this.proactiveConnectionRotation = enabled;
+            return this;
+        }
+
         /**
          * Configure maximum amount of connections in the connection pool towards a single database. This setting
          * limits total amount of connections in the pool when used in direct driver, created for URI with 'bolt'
@@ -496,6 +896,143 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Enable or disable adapting the size of the connection pool of every server to how quickly the server
+         * responds.
+         * <p>
+         * The {@link #withMaxConnectionPoolSize(int) maximum connection pool size} is the same for all servers, so
+         * that a server that is overloaded, for instance by garbage collection or a slow disk, keeps getting as many
+         * concurrent queries as a healthy one. When enabled, the driver limits the amount of connections in use
+         * towards every server separately. The limit shrinks when the server takes much longer than usual to respond
+         * to queries and grows back while queries keep waiting for connections and the server responds as usual. It
+         * never exceeds the maximum connection pool size and never falls below the
+         * {@link #withMinAdaptiveConnectionPoolSize(int) minimum adaptive connection pool size}.
+         * <p>
+         * Response times are compared to the usual response time of the same server, so this works best when the
+         * queries sent to a server have similar costs. It is disabled by default.
+         *
+         * @param enabled {@code true} to enable adaptive connection pool sizing, {@code false} to disable it
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withAdaptiveConnectionPoolSizing(boolean enabled) {
+            this.adaptiveConnectionPoolSizing = enabled;
+            return this;
+        }
+
+        /**
+         * Configure the size below which {@link #withAdaptiveConnectionPoolSizing(boolean) adaptive connection pool
+         * sizing} does not shrink the connection pool of a server.
+         * <p>
+         * Default value is {@code 1}. When connection pools are split by
+         * {@link #withEventLoopAffinity(boolean) event loop affinity}, every event loop in use keeps at least one
+         * connection.
+         *
+         * @param value the minimum adaptive connection pool size
+         * @return this builder
+         * @throws IllegalArgumentException if the value is smaller than {@code 1}
+         * @since 5.15
+         */
+        public ConfigBuilder withMinAdaptiveConnectionPoolSize(int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException(String.format(
+                        "The minimum adaptive connection pool size may not be smaller than 1, but was %d.", value));
+            }
+            this.minAdaptiveConnectionPoolSize = value;
+            return this;
+        }
+
+        /**
+         * Configure the amount of idle connections the driver keeps ready in the connection pool of every server.
+         * <p>
+         * Connections are created lazily by default, so that the first queries after the driver is created or after
+         * the cluster topology changed wait for connections to be established and authenticated. With a minimum
+         * configured, the driver fills the pool of a direct driver's server when it is created and the pools of all
+         * members of every routing table it fetches. Pools are filled in the background, one connection at a time, so
+         * that many drivers starting at the same time do not overwhelm the servers. Connections in use by the
+         * application are not counted and the pool never grows beyond {@link #withMaxConnectionPoolSize(int) the
+         * maximum pool size}.
+         * <p>
+         * Default value is {@code 0}, which keeps creating connections lazily.
+         *
+         * @param value the minimum amount of idle connections per server
+         * @return this builder
+         * @throws IllegalArgumentException if the value is negative
+         * @since 5.15
+         */
+        public ConfigBuilder withMinIdleConnectionsPerServer(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The minimum amount of idle connections per server may not be negative, but was %d.", value));
+            }
+            this.minIdleConnectionsPerServer = value;
+            return this;
+        }
+
+        /**
+         * Configure the interval at which the driver maintains idle connections in the background.
+         * <p>
+         * Every interval, idle connections that are broken or older than
+         * {@link #withMaxConnectionLifetime(long, TimeUnit) the maximum lifetime} are closed, as are idle connections
+         * that have been idle for longer than {@link #withMaxConnectionIdleTime(long, TimeUnit) the maximum idle time}
+         * or that exceed {@link #withMaxIdleConnectionsPerServer(int) the maximum amount of idle connections}. Idle
+         * connections that would be tested when acquired, see
+         * {@link #withConnectionLivenessCheckTimeout(long, TimeUnit)}, are tested in the background instead, so that
+         * acquiring a connection normally does not wait for the test. Connections closed for their age are replaced up
+         * to {@link #withMinIdleConnectionsPerServer(int) the minimum amount of idle connections}.
+         * <p>
+         * Connections are still checked when they are acquired, so that a connection that expired between two
+         * maintenance runs is never handed out.
+         * <p>
+         * Idle connections are not maintained in the background by default. Zero and negative values disable the
+         * maintenance.
+         *
+         * @param value the maintenance interval
+         * @param unit  the unit in which the duration is given
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withIdleConnectionSweepInterval(long value, TimeUnit unit) {
+            this.idleConnectionSweepIntervalMillis = value > 0 ? unit.toMillis(value) : -1;
+            return this;
+        }
+
+        /**
+         * Pooled connections that have been idle in the pool for longer than this threshold will be closed by the
+         * background maintenance configured with {@link #withIdleConnectionSweepInterval(long, TimeUnit)}. Idle
+         * connections are not closed for being idle while there are no more than
+         * {@link #withMinIdleConnectionsPerServer(int) the minimum amount of idle connections}.
+         * <p>
+         * Idle connections are not closed for being idle by default. Zero and negative values result in idle time not
+         * being checked.
+         *
+         * @param value the maximum idle time
+         * @param unit  the unit in which the duration is given
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withMaxConnectionIdleTime(long value, TimeUnit unit) {
+            this.maxConnectionIdleTimeMillis = value > 0 ? unit.toMillis(value) : -1;
+            return this;
+        }
+
+        /**
+         * Configure the amount of idle connections in the connection pool of every server above which the background
+         * maintenance configured with {@link #withIdleConnectionSweepInterval(long, TimeUnit)} closes the least
+         * recently used idle connections. Pools are never shrunk below
+         * {@link #withMinIdleConnectionsPerServer(int) the minimum amount of idle connections}.
+         * <p>
+         * Default value is unlimited. Negative values are allowed and result in unlimited idle connections.
+         *
+         * @param value the maximum amount of idle connections per server
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withMaxIdleConnectionsPerServer(int value) {
+            this.maxIdleConnectionsPerServer = value >= 0 ? value : Integer.MAX_VALUE;
+            return this;
+        }
+
         /**
          * Configure maximum amount of time connection acquisition will attempt to acquire a connection from the
          * connection pool. This timeout only kicks in when all existing connections are being used and no new
@@ -586,6 +1123,109 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Specify how long the driver caches the home database of a user.
+         * <p>
+         * Sessions that do not specify a database work with the home database of their user, which a routing driver
+         * has to look up with a routing table request before the first query of every such session. With a cache
+         * enabled, the home database is looked up once per user, identified by the impersonated user and the
+         * session's {@link AuthToken} if any, and reused by later sessions of the same user until the time given here
+         * has passed. Entries are also dropped when the routing table of their database cannot be refreshed.
+         * Home databases are only cached for sessions with an impersonated user or their own {@link AuthToken}, since
+         * the {@link AuthTokenManager} of the driver may switch to another user at any time.
+         * <p>
+         * A change of the home database of a user may remain unnoticed by the driver for the time given here. This
+         * setting has no effect on direct drivers, which do not look up home databases.
+         * <p>
+         * Default value is {@code 0}, which disables the cache.
+         *
+         * @param ttl  the amount of time the home database of a user is cached for
+         * @param unit the unit in which the duration is given
+         * @return this builder
+         * @throws IllegalArgumentException if the value is negative
+         * @since 5.15
+         */
+        public ConfigBuilder withHomeDatabaseCacheTtl(long ttl, TimeUnit unit) {
+            var homeDatabaseCacheTtlMillis = unit.toMillis(ttl);
+            if (homeDatabaseCacheTtlMillis < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "The home database cache time-to-live may not be smaller than 0, but was %d %s.", ttl, unit));
+            }
+            this.homeDatabaseCacheTtlMillis = homeDatabaseCacheTtlMillis;
+            return this;
+        }
+
+        /**
+         * Specify after which fraction of its time-to-live a routing table is refreshed in the background.
+         * <p>
+         * A routing driver refreshes the routing table of a database once its time-to-live, which is set by the
+         * server, has passed. The refresh requires a round trip to a router, and work that needs the routing table
+         * waits for it. With a factor between {@code 0} and {@code 1}, the first work that needs the routing table
+         * after the given fraction of its time-to-live has passed starts a refresh in the background instead, while
+         * the current routing table keeps being used. If the background refresh fails, the routing table is refreshed
+         * once it expires as usual.
+         * <p>
+         * For example, with a factor of {@code 0.8} and a time-to-live of 300 seconds, routing tables that are in use
+         * are refreshed after 240 seconds without delaying any work. This setting has no effect on direct drivers.
+         * <p>
+         * Default value is {@code 0}, which refreshes routing tables only once they have expired.
+         *
+         * @param factor the fraction of the time-to-live, at least {@code 0} and smaller than {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if the value is negative, not smaller than {@code 1} or not a number
+         * @since 5.15
+         */
+        public ConfigBuilder withRoutingTableRefreshAheadFactor(double factor) {
+            if (!(factor >= 0 && factor < 1)) {
+                throw new IllegalArgumentException(String.format(
+                        "The routing table refresh-ahead factor must be at least 0 and smaller than 1, but was %s.",
+                        factor));
+            }
+            this.routingTableRefreshAheadFactor = factor;
+            return this;
+        }
+
+        /**
+         * Specify how a routing driver selects among the readers or writers of a cluster.
+         * <p>
+         * Default value is {@link LoadBalancingMode#LEAST_CONNECTED}. This setting has no effect on direct
+         * drivers.
+         *
+         * @param loadBalancingMode the load balancing mode, must not be {@code null}
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withLoadBalancingMode(LoadBalancingMode loadBalancingMode) {
+            this.loadBalancingMode = Objects.requireNonNull(loadBalancingMode, "loadBalancingMode");
+            return this;
+        }
+
+        /**
+         * Specify the zone, such as a cloud availability zone, the driver is located in, and how to find the zones of
+         * servers, so that a routing driver prefers readers in the same zone.
+         * <p>
+         * Readers located in other zones are only selected when no reader of the local zone is available, either
+         * because all of them are unreachable or because all of them have {@link #withMaxConnectionPoolSize(int)}
+         * connections in use. Readers in the local zone are selected among each other using the configured
+         * {@link #withLoadBalancingMode(LoadBalancingMode) load balancing mode}. Writers are selected
+         * regardless of their zone.
+         * <p>
+         * By default readers are selected regardless of their zone. This setting has no effect on direct drivers.
+         *
+         * @param localZone    the zone the driver is located in, must not be {@code null}
+         * @param zoneResolver the resolver of the zones of servers, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException when the given zone or resolver is {@code null}.
+         * @see Metrics#localReaderSelections()
+         * @see Metrics#remoteReaderSelections()
+         * @since 5.15
+         */
+        public ConfigBuilder withLocalZone(String localZone, ServerZoneResolver zoneResolver) {
+            this.localZone = Objects.requireNonNull(localZone, "localZone");
+            this.zoneResolver = Objects.requireNonNull(zoneResolver, "zoneResolver");
+            return this;
+        }
+
         /**
          * Specify how many records to fetch in each batch.
          * This config is only valid when the driver is used with servers that support Bolt V4 (Server version 4.0 and later).
@@ -793,6 +1433,171 @@ public final class Config implements Serializable {
             return this;
         }
 
+        /**
+         * Sets if fields of received records are decoded when they are accessed rather than when they are received.
+         * <p>
+         * By default, every record is fully decoded on arrival. With lazy decoding enabled, the driver keeps a copy
+         * of the encoded record and decodes a field the first time it is read from the {@link Record}. This saves
+         * work and allocations for queries returning wide records when the application reads only some of their
+         * values, or none, like when the result is consumed. Decoding errors are reported when the affected field is
+         * read.
+         *
+         * @param lazyRecordDecoding {@code true} to decode record fields when accessed or {@code false} otherwise
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withLazyRecordDecoding(boolean lazyRecordDecoding) {
+            this.lazyRecordDecoding = lazyRecordDecoding;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of message bytes in a chunk sent to the server.
+         * <p>
+         * Bolt messages are split into chunks, each preceded by a 2 byte header. Larger chunks mean fewer headers and
+         * buffer writes for large messages, like queries with big parameter maps. Messages smaller than the chunk
+         * size are always sent as a single chunk.
+         * <p>
+         * Default value is 16381 bytes and the maximum allowed by the protocol is 65535 bytes.
+         *
+         * @param size the maximum outbound chunk size in bytes
+         * @return this builder
+         * @throws IllegalArgumentException if the size is smaller than 1 or greater than 65535
+         * @since 5.15
+         */
+        public ConfigBuilder withMaxOutboundChunkSize(int size) {
+            if (size < 1 || size > MAX_CHUNK_SIZE_BYTES) {
+                throw new IllegalArgumentException(String.format(
+                        "The max outbound chunk size must be between 1 and %d, but was %d.",
+                        MAX_CHUNK_SIZE_BYTES, size));
+            }
+            this.maxOutboundChunkSize = size;
+            return this;
+        }
+
+        /**
+         * Sets if outbound chunks grow in size within large messages.
+         * <p>
+         * By default, every chunk is at most {@link #withMaxOutboundChunkSize(int) the max outbound chunk size}. With
+         * adaptive chunking enabled, the first chunk of a message uses that size and every following chunk of the
+         * same message doubles it, up to the 65535 bytes allowed by the protocol. Small messages, like the ones
+         * committing or resetting transactions, keep using a single small chunk, while large messages need far fewer
+         * chunks.
+         *
+         * @param adaptiveOutboundChunking {@code true} to grow chunks within large messages or {@code false} otherwise
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withAdaptiveOutboundChunking(boolean adaptiveOutboundChunking) {
+            this.adaptiveOutboundChunking = adaptiveOutboundChunking;
+            return this;
+        }
+
+        /**
+         * Sets the network transport used for connections.
+         * <p>
+         * By default, the driver uses the Java NIO transport. On Linux, the native epoll and io_uring transports
+         * make fewer system calls and produce less garbage. They need the corresponding Netty native artifacts on the
+         * class path, see {@link TransportType}, and are not available with the shaded
+         * {@code neo4j-java-driver-all} artifact. When the requested transport can not be used, the driver logs a
+         * warning and uses NIO.
+         * <p>
+         * This setting is ignored when the driver is given an existing event loop group.
+         *
+         * @param transportType the transport type
+         * @return this builder
+         * @throws NullPointerException if the transport type is {@code null}
+         * @since 5.15
+         */
+        public ConfigBuilder withTransportType(TransportType transportType) {
+            this.transportType = Objects.requireNonNull(transportType, "transportType must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the TLS implementation used for encrypted connections.
+         * <p>
+         * By default, the driver uses the TLS implementation of the Java runtime. OpenSSL needs considerably less CPU
+         * for encryption, which matters for encrypted connections with high throughput. It needs a netty-tcnative
+         * artifact on the class path, see {@link TlsProvider#OPENSSL}. Encryption and trust settings apply to both
+         * implementations in the same way. When OpenSSL can not be used, the driver logs a warning and uses the Java
+         * runtime.
+         *
+         * @param tlsProvider the TLS provider
+         * @return this builder
+         * @throws NullPointerException if the TLS provider is {@code null}
+         * @since 5.15
+         */
+        public ConfigBuilder withTlsProvider(TlsProvider tlsProvider) {
+            this.tlsProvider = Objects.requireNonNull(tlsProvider, "tlsProvider must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of TLS sessions the driver caches for resumption.
+         * <p>
+         * Sessions are cached per server address and shared by all connections of a driver, so that new connections to
+         * a known server complete an abbreviated TLS handshake, which saves a network round trip and the public key
+         * operations of a full handshake. When the cache is full, older sessions are evicted.
+         * <p>
+         * By default, the cache size of the TLS implementation is kept, which is {@code 20480} sessions for the JDK
+         * unless changed with the {@code javax.net.ssl.sessionCacheSize} system property.
+         *
+         * @param size the maximum amount of cached TLS sessions, must be greater than zero
+         * @return this builder
+         * @throws IllegalArgumentException if the size is smaller than 1
+         * @since 5.15
+         */
+        public ConfigBuilder withTlsSessionCacheSize(int size) {
+            if (size < 1) {
+                throw new IllegalArgumentException(
+                        String.format("The TLS session cache size may not be smaller than 1, but was %d.", size));
+            }
+            this.tlsSessionCacheSize = size;
+            return this;
+        }
+
+        /**
+         * Sets the time a cached TLS session may be resumed for, see {@link #withTlsSessionCacheSize(int)}.
+         * <p>
+         * Servers may accept resumption for a shorter time, in which case the driver completes a full handshake.
+         * <p>
+         * By default, the session timeout of the TLS implementation is kept, which is {@code 24 HOURS} for the JDK.
+         *
+         * @param value the timeout duration, must be at least one second
+         * @param unit  the unit in which duration is given
+         * @return this builder
+         * @throws IllegalArgumentException if the timeout is shorter than one second
+         * @since 5.15
+         */
+        public ConfigBuilder withTlsSessionTimeout(long value, TimeUnit unit) {
+            if (unit.toSeconds(value) < 1) {
+                throw new IllegalArgumentException(String.format(
+                        "The TLS session timeout may not be shorter than 1 second, but was %d %s.", value, unit));
+            }
+            this.tlsSessionTimeoutMillis = unit.toMillis(value);
+            return this;
+        }
+
+        /**
+         * Sets if the connection pool of every server is split by event loop.
+         * <p>
+         * By default, a connection acquired on an event loop thread, like in the callbacks of the async and reactive
+         * APIs, may be bound to any event loop, so that its I/O and completions switch threads. With event loop
+         * affinity enabled, every event loop owns an equal share of the {@link #withMaxConnectionPoolSize(int)
+         * maximum pool size} and connections are acquired from the share of the calling event loop. When that share
+         * is exhausted, connections are taken from the share of another event loop. Callers outside event loops, like
+         * the ones of the synchronous API, use the shares in turn.
+         *
+         * @param eventLoopAffinity {@code true} to split connection pools by event loop or {@code false} otherwise
+         * @return this builder
+         * @since 5.15
+         */
+        public ConfigBuilder withEventLoopAffinity(boolean eventLoopAffinity) {
+            this.eventLoopAffinity = eventLoopAffinity;
+            return this;
+        }
+
         /**
          * Create a config instance from this builder.
          *
@@ -803,6 +1608,28 @@ public final class Config implements Serializable {
         }
     }
 
+    /**
+     * The modes a routing driver can use to select among the readers or writers of a cluster.
+     *
+     * @since 5.15
+     */
+    public enum LoadBalancingMode {
+        /**
+         * Select the server with the least connections in use, trying servers with equal amounts in turn.
+         */
+        LEAST_CONNECTED,
+        /**
+         * Select the cheaper of two random servers, where the cost of a server is its estimated response time
+         * multiplied by its amount of connections in use.
+         * <p>
+         * The response time of a server is estimated from the time it takes to respond to queries. The estimate
+         * follows slowdowns immediately and recovers from them gradually over about ten seconds, so that a server that
+         * is paused, for instance by garbage collection, stops receiving most of the work even while it has few
+         * connections in use.
+         */
+        PEAK_EWMA
+    }
+
     /**
      * Control how the driver determines if it can trust the encryption certificates provided by the Neo4j instance it is connected to.
      */
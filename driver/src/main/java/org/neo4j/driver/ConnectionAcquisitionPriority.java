@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.time.Duration;
+
+/**
+ * The priority with which a session acquires connections from the connection pool, see
+ * {@link SessionConfig.Builder#withConnectionAcquisitionPriority(ConnectionAcquisitionPriority)}.
+ * <p>
+ * The priority only matters when all connections of the pool towards a server are in use. Sessions waiting for a
+ * connection are then served by priority first, by their acquisition deadline second, see
+ * {@link SessionConfig.Builder#withConnectionAcquisitionTimeout(Duration)}, and in the order they started waiting
+ * last.
+ *
+ * @since 5.15
+ */
+public enum ConnectionAcquisitionPriority {
+    /**
+     * Use this for latency-sensitive work, such as queries serving interactive requests.
+     */
+    HIGH,
+    /**
+     * The priority of sessions that do not configure one.
+     */
+    NORMAL,
+    /**
+     * Use this for work that can tolerate waiting, such as batch jobs.
+     */
+    LOW
+}
@@ -177,4 +177,21 @@ public interface ConnectionPoolMetrics {
      * @return the total amount of connection that are borrowed outside the pool.
      */
     long totalInUseCount();
+
+    /**
+     * A counter to record how many connections created by this pool completed an abbreviated TLS handshake by resuming a
+     * previously established TLS session.
+     * This number increases every time when a new encrypted connection resumes a cached TLS session.
+     * @return The amount of TLS handshakes that resumed a cached session.
+     * @since 5.15
+     */
+    long resumedTlsHandshakes();
+
+    /**
+     * A counter to record how many connections created by this pool completed a full TLS handshake.
+     * This number increases every time when a new encrypted connection negotiates a new TLS session.
+     * @return The amount of full TLS handshakes.
+     * @since 5.15
+     */
+    long fullTlsHandshakes();
 }
@@ -17,6 +17,7 @@
 package org.neo4j.driver;
 
 import java.util.Collection;
+import org.neo4j.driver.net.ServerZoneResolver;
 import org.neo4j.driver.util.Experimental;
 
 /**
@@ -30,4 +31,22 @@ public interface Metrics {
      * @return Connection pool metrics for all current active pools.
      */
     Collection<ConnectionPoolMetrics> connectionPoolMetrics();
+
+    /**
+     * The amount of readers selected from the zone of the driver, see
+     * {@link Config.ConfigBuilder#withLocalZone(String, ServerZoneResolver)}.
+     *
+     * @return the amount of readers selected from the local zone
+     * @since 5.15
+     */
+    long localReaderSelections();
+
+    /**
+     * The amount of readers selected from other zones than the zone of the driver, because no reader was available in
+     * it, see {@link Config.ConfigBuilder#withLocalZone(String, ServerZoneResolver)}.
+     *
+     * @return the amount of readers selected from other zones
+     * @since 5.15
+     */
+    long remoteReaderSelections();
 }
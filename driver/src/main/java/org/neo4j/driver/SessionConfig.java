@@ -21,6 +21,7 @@ import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.assertValid
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
@@ -66,6 +67,14 @@ public final class SessionConfig implements Serializable {
      * The notification config.
      */
     private final NotificationConfig notificationConfig;
+    /**
+     * The connection acquisition priority.
+     */
+    private final ConnectionAcquisitionPriority connectionAcquisitionPriority;
+    /**
+     * The connection acquisition timeout.
+     */
+    private final Duration connectionAcquisitionTimeout;
 
     private SessionConfig(Builder builder) {
         this.bookmarks = builder.bookmarks;
@@ -75,6 +84,8 @@ public final class SessionConfig implements Serializable {
         this.impersonatedUser = builder.impersonatedUser;
         this.bookmarkManager = builder.bookmarkManager;
         this.notificationConfig = builder.notificationConfig;
+        this.connectionAcquisitionPriority = builder.connectionAcquisitionPriority;
+        this.connectionAcquisitionTimeout = builder.connectionAcquisitionTimeout;
     }
 
     /**
@@ -171,6 +182,28 @@ public final class SessionConfig implements Serializable {
         return notificationConfig;
     }
 
+    /**
+     * Returns the priority with which the session acquires connections.
+     *
+     * @return the connection acquisition priority
+     * @since 5.15
+     */
+    public ConnectionAcquisitionPriority connectionAcquisitionPriority() {
+        return connectionAcquisitionPriority;
+    }
+
+    /**
+     * Returns the maximum amount of time the session waits for a connection when all connections are in use. The
+     * driver's {@link Config#connectionAcquisitionTimeoutMillis() connection acquisition timeout} is used when this is
+     * empty.
+     *
+     * @return an optional value of the connection acquisition timeout
+     * @since 5.15
+     */
+    public Optional<Duration> connectionAcquisitionTimeout() {
+        return Optional.ofNullable(connectionAcquisitionTimeout);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -186,7 +219,9 @@ public final class SessionConfig implements Serializable {
                 && Objects.equals(fetchSize, that.fetchSize)
                 && Objects.equals(impersonatedUser, that.impersonatedUser)
                 && Objects.equals(bookmarkManager, that.bookmarkManager)
-                && Objects.equals(notificationConfig, that.notificationConfig);
+                && Objects.equals(notificationConfig, that.notificationConfig)
+                && connectionAcquisitionPriority == that.connectionAcquisitionPriority
+                && Objects.equals(connectionAcquisitionTimeout, that.connectionAcquisitionTimeout);
     }
 
     @Override
@@ -199,9 +234,16 @@ public final class SessionConfig implements Serializable {
         return String.format(
                 """
                 SessionParameters{bookmarks=%s, defaultAccessMode=%s, database='%s', fetchSize=%d, impersonatedUser=%s, \
-                bookmarkManager=%s}\
+                bookmarkManager=%s, connectionAcquisitionPriority=%s, connectionAcquisitionTimeout=%s}\
                 """,
-                bookmarks, defaultAccessMode, database, fetchSize, impersonatedUser, bookmarkManager);
+                bookmarks,
+                defaultAccessMode,
+                database,
+                fetchSize,
+                impersonatedUser,
+                bookmarkManager,
+                connectionAcquisitionPriority,
+                connectionAcquisitionTimeout);
     }
 
     /**
@@ -215,6 +257,8 @@ public final class SessionConfig implements Serializable {
         private String impersonatedUser = null;
         private BookmarkManager bookmarkManager;
         private NotificationConfig notificationConfig = NotificationConfig.defaultConfig();
+        private ConnectionAcquisitionPriority connectionAcquisitionPriority = ConnectionAcquisitionPriority.NORMAL;
+        private Duration connectionAcquisitionTimeout;
 
         private Builder() {}
 
@@ -397,6 +441,47 @@ public final class SessionConfig implements Serializable {
             return this;
         }
 
+        /**
+         * Sets the priority with which the session acquires connections.
+         * <p>
+         * When all connections of the pool towards a server are in use, sessions with a higher priority are served
+         * before sessions with a lower priority, so that latency-sensitive work is not queued behind batch work.
+         * <p>
+         * The default priority is {@link ConnectionAcquisitionPriority#NORMAL}.
+         *
+         * @param priority the connection acquisition priority, must not be {@code null}
+         * @return this builder
+         * @since 5.15
+         */
+        public Builder withConnectionAcquisitionPriority(ConnectionAcquisitionPriority priority) {
+            this.connectionAcquisitionPriority = requireNonNull(priority, "priority must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum amount of time the session waits for a connection when all connections of the pool towards
+         * a server are in use, replacing the driver's
+         * {@link Config.ConfigBuilder#withConnectionAcquisitionTimeout(long, java.util.concurrent.TimeUnit) connection
+         * acquisition timeout} for this session.
+         * <p>
+         * Waiting sessions are served in the order of their deadlines within the same
+         * {@link #withConnectionAcquisitionPriority(ConnectionAcquisitionPriority) priority} and fail as soon as their
+         * deadline passes. A timeout of zero fails immediately when no connection is available.
+         *
+         * @param timeout the connection acquisition timeout, must not be {@code null} or negative
+         * @return this builder
+         * @since 5.15
+         */
+        public Builder withConnectionAcquisitionTimeout(Duration timeout) {
+            requireNonNull(timeout, "timeout must not be null");
+            if (timeout.isNegative()) {
+                throw new IllegalArgumentException(
+                        String.format("The connection acquisition timeout may not be negative, but was %s.", timeout));
+            }
+            this.connectionAcquisitionTimeout = timeout;
+            return this;
+        }
+
         /**
          * Builds the {@link SessionConfig}.
          * @return the config
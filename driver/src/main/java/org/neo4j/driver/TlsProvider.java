@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+/**
+ * The implementation of TLS used by the driver for encrypted connections, configured with
+ * {@link Config.ConfigBuilder#withTlsProvider(TlsProvider)}.
+ *
+ * @since 5.15
+ */
+public enum TlsProvider {
+    /**
+     * Use the TLS implementation of the Java runtime.
+     */
+    JDK,
+    /**
+     * Use OpenSSL or BoringSSL through netty-tcnative, which needs considerably less CPU than the Java runtime for
+     * encryption. It requires a {@code io.netty:netty-tcnative} artifact for the platform, like
+     * {@code netty-tcnative-boringssl-static}.
+     * <p>
+     * The driver uses {@link #JDK} when the native library is not available and for trust strategies with
+     * certificate revocation checking, which relies on the Java runtime. It also does so for trusting all
+     * certificates with hostname verification enabled.
+     */
+    OPENSSL
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+/**
+ * The network transport used by the driver for its connections, configured with
+ * {@link Config.ConfigBuilder#withTransportType(TransportType)}.
+ * <p>
+ * Native transports are only used when their Netty classes and native libraries are on the class path and supported
+ * by the operating system. Otherwise, the driver falls back to {@link #NIO}.
+ * <p>
+ * Native transports require the {@code org.neo4j.driver:neo4j-java-driver} artifact. The shaded
+ * {@code org.neo4j.driver:neo4j-java-driver-all} artifact relocates Netty, so the unshaded Netty native artifacts
+ * can not be used with it, and it always uses {@link #NIO}.
+ *
+ * @since 5.15
+ */
+public enum TransportType {
+    /**
+     * Use the best transport available at runtime, which is {@link #EPOLL} when it can be used and {@link #NIO}
+     * otherwise.
+     */
+    AUTO,
+    /**
+     * Use the Java NIO transport, which is available on all platforms.
+     */
+    NIO,
+    /**
+     * Use the native epoll transport on Linux. It requires the {@code io.netty:netty-transport-native-epoll}
+     * artifact for the platform.
+     */
+    EPOLL,
+    /**
+     * Use the native io_uring transport on Linux. It requires the
+     * {@code io.netty.incubator:netty-incubator-transport-native-io_uring} artifact for the platform and a kernel
+     * supporting io_uring.
+     */
+    IO_URING
+}
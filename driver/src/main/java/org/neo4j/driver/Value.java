@@ -359,6 +359,32 @@ public interface Value extends MapAccessor, MapAccessorWithDefaultValue {
      */
     <T> List<T> asList(Function<Value, T> mapFunction, List<T> defaultValue);
 
+    /**
+     * If the underlying type is a list of integers, returns its elements as a Java long array. Lists decoded from
+     * the database are converted without creating an intermediate object per element.
+     *
+     * @return the value as a Java long array, if possible.
+     * @throws LossyCoercion if it is not possible to convert an element without loosing precision.
+     * @throws Uncoercible if value types are incompatible.
+     * @since 5.15
+     */
+    default long[] asLongArray() {
+        return asList(Value::asLong).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * If the underlying type is a list of floats, returns its elements as a Java double array. Lists decoded from
+     * the database are converted without creating an intermediate object per element.
+     *
+     * @return the value as a Java double array, if possible.
+     * @throws LossyCoercion if it is not possible to convert an element without loosing precision.
+     * @throws Uncoercible if value types are incompatible.
+     * @since 5.15
+     */
+    default double[] asDoubleArray() {
+        return asList(Value::asDouble).stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
     /**
      * @return the value as a {@link Entity}, if possible.
      * @throws Uncoercible if value types are incompatible.
@@ -47,12 +47,14 @@ import org.neo4j.driver.internal.value.BooleanValue;
 import org.neo4j.driver.internal.value.BytesValue;
 import org.neo4j.driver.internal.value.DateTimeValue;
 import org.neo4j.driver.internal.value.DateValue;
+import org.neo4j.driver.internal.value.DoubleArrayValue;
 import org.neo4j.driver.internal.value.DurationValue;
 import org.neo4j.driver.internal.value.FloatValue;
 import org.neo4j.driver.internal.value.IntegerValue;
 import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.LocalDateTimeValue;
 import org.neo4j.driver.internal.value.LocalTimeValue;
+import org.neo4j.driver.internal.value.LongArrayValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NullValue;
 import org.neo4j.driver.internal.value.PointValue;
@@ -284,8 +286,7 @@ public final class Values {
      * @return the value
      */
     public static Value value(long... input) {
-        var values = Arrays.stream(input).mapToObj(Values::value).toArray(Value[]::new);
-        return new ListValue(values);
+        return new LongArrayValue(input.clone());
     }
 
     /**
@@ -294,9 +295,11 @@ public final class Values {
      * @return the value
      */
     public static Value value(short... input) {
-        var values =
-                IntStream.range(0, input.length).mapToObj(i -> value(input[i])).toArray(Value[]::new);
-        return new ListValue(values);
+        var values = new long[input.length];
+        for (var i = 0; i < input.length; i++) {
+            values[i] = input[i];
+        }
+        return new LongArrayValue(values);
     }
     /**
      * Returns a value from int vararg.
@@ -304,8 +307,7 @@ public final class Values {
      * @return the value
      */
     public static Value value(int... input) {
-        var values = Arrays.stream(input).mapToObj(Values::value).toArray(Value[]::new);
-        return new ListValue(values);
+        return new LongArrayValue(Arrays.stream(input).asLongStream().toArray());
     }
     /**
      * Returns a value from double vararg.
@@ -313,8 +315,7 @@ public final class Values {
      * @return the value
      */
     public static Value value(double... input) {
-        var values = Arrays.stream(input).mapToObj(Values::value).toArray(Value[]::new);
-        return new ListValue(values);
+        return new DoubleArrayValue(input.clone());
     }
 
     /**
@@ -323,9 +324,11 @@ public final class Values {
      * @return the value
      */
     public static Value value(float... input) {
-        var values =
-                IntStream.range(0, input.length).mapToObj(i -> value(input[i])).toArray(Value[]::new);
-        return new ListValue(values);
+        var values = new double[input.length];
+        for (var i = 0; i < input.length; i++) {
+            values[i] = input[i];
+        }
+        return new DoubleArrayValue(values);
     }
 
     /**
@@ -24,6 +24,7 @@ import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.async.connection.DirectConnection;
 import org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
@@ -46,7 +47,7 @@ public class DirectConnectionProvider implements ConnectionProvider {
     public CompletionStage<Connection> acquireConnection(ConnectionContext context) {
         var databaseNameFuture = context.databaseNameFuture();
         databaseNameFuture.complete(DatabaseNameUtil.defaultDatabase());
-        return acquirePooledConnection(context.overrideAuthToken())
+        return acquirePooledConnection(context.overrideAuthToken(), context.acquisitionOptions())
                 .thenApply(connection -> new DirectConnection(
                         connection,
                         Futures.joinNowOrElseThrow(databaseNameFuture, PENDING_DATABASE_NAME_EXCEPTION_SUPPLIER),
@@ -56,7 +57,7 @@ public class DirectConnectionProvider implements ConnectionProvider {
 
     @Override
     public CompletionStage<Void> verifyConnectivity() {
-        return acquirePooledConnection(null).thenCompose(Connection::release);
+        return acquirePooledConnection(null, AcquisitionOptions.DEFAULT).thenCompose(Connection::release);
     }
 
     @Override
@@ -75,7 +76,7 @@ public class DirectConnectionProvider implements ConnectionProvider {
     }
 
     private CompletionStage<Boolean> detectFeature(Function<Connection, Boolean> featureDetectionFunction) {
-        return acquirePooledConnection(null).thenCompose(conn -> {
+        return acquirePooledConnection(null, AcquisitionOptions.DEFAULT).thenCompose(conn -> {
             boolean featureDetected = featureDetectionFunction.apply(conn);
             return conn.release().thenApply(ignored -> featureDetected);
         });
@@ -89,7 +90,8 @@ public class DirectConnectionProvider implements ConnectionProvider {
      * Used only for grabbing a connection with the server after hello message.
      * This connection cannot be directly used for running any queries as it is missing necessary connection context
      */
-    private CompletionStage<Connection> acquirePooledConnection(AuthToken authToken) {
-        return connectionPool.acquire(address, authToken);
+    private CompletionStage<Connection> acquirePooledConnection(
+            AuthToken authToken, AcquisitionOptions acquisitionOptions) {
+        return connectionPool.acquire(address, authToken, acquisitionOptions);
     }
 }
@@ -27,15 +27,20 @@ import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 import java.net.URI;
 import java.time.Clock;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.neo4j.driver.AuthTokenManager;
 import org.neo4j.driver.Config;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.MetricsAdapter;
+import org.neo4j.driver.TlsProvider;
+import org.neo4j.driver.TransportType;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
+import org.neo4j.driver.internal.async.connection.ChannelPipelineBuilderImpl;
+import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.Rediscovery;
@@ -45,15 +50,20 @@ import org.neo4j.driver.internal.cluster.RoutingProcedureClusterCompositionProvi
 import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.cluster.loadbalancing.LeastConnectedLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
+import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.PeakEwmaLoadBalancingStrategy;
+import org.neo4j.driver.internal.cluster.loadbalancing.ZoneAwareLoadBalancingStrategy;
 import org.neo4j.driver.internal.logging.NettyLogging;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.MicrometerMetricsProvider;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.security.SecurityPlans;
+import org.neo4j.driver.internal.security.TlsSettings;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.DriverInfoUtil;
@@ -80,7 +90,7 @@ public class DriverFactory {
         Bootstrap bootstrap;
         boolean ownsEventLoopGroup;
         if (eventLoopGroup == null) {
-            bootstrap = createBootstrap(config.eventLoopThreads());
+            bootstrap = createBootstrap(config.eventLoopThreads(), resolveTransportType(config));
             ownsEventLoopGroup = true;
         } else {
             bootstrap = createBootstrap(eventLoopGroup);
@@ -89,11 +99,16 @@ public class DriverFactory {
 
         if (securityPlan == null) {
             var settings = new SecuritySettings(config.encrypted(), config.trustStrategy());
-            securityPlan = SecurityPlans.createSecurityPlan(settings, uri.getScheme());
+            securityPlan = SecurityPlans.createSecurityPlan(settings, uri.getScheme(), TlsSettings.from(config));
+            logTlsProviderFallback(config, securityPlan);
         }
 
         var address = new BoltServerAddress(uri);
-        var routingSettings = new RoutingSettings(config.routingTablePurgeDelayMillis(), new RoutingContext(uri));
+        var routingSettings = new RoutingSettings(
+                config.routingTablePurgeDelayMillis(),
+                new RoutingContext(uri),
+                config.homeDatabaseCacheTtlMillis(),
+                config.routingTableRefreshAheadFactor());
 
         InternalLoggerFactory.setDefaultFactory(new NettyLogging(config.logging()));
         EventExecutorGroup eventExecutorGroup = bootstrap.config().group();
@@ -134,11 +149,22 @@ public class DriverFactory {
         var settings = new ConnectionSettings(authTokenManager, config.userAgent(), config.connectionTimeoutMillis());
         var boltAgent = DriverInfoUtil.boltAgent();
         var connector = createConnector(settings, securityPlan, config, clock, routingContext, boltAgent);
-        var poolSettings = new PoolSettings(
-                config.maxConnectionPoolSize(),
-                config.connectionAcquisitionTimeoutMillis(),
-                config.maxConnectionLifetimeMillis(),
-                config.idleTimeBeforeConnectionTest());
+        var poolSettings = new PoolSettings.PoolSettingsBuilder()
+                .withMaxConnectionPoolSize(config.maxConnectionPoolSize())
+                .withConnectionAcquisitionTimeout(config.connectionAcquisitionTimeoutMillis())
+                .withMaxConnectionLifetime(config.maxConnectionLifetimeMillis())
+                .withIdleTimeBeforeConnectionTest(config.idleTimeBeforeConnectionTest())
+                .withEventLoopAffinity(config.isEventLoopAffinityEnabled())
+                .withMinIdleConnectionsPerServer(config.minIdleConnectionsPerServer())
+                .withIdleConnectionSweepInterval(config.idleConnectionSweepIntervalMillis())
+                .withMaxConnectionIdleTime(config.maxConnectionIdleTimeMillis())
+                .withMaxIdleConnectionsPerServer(config.maxIdleConnectionsPerServer())
+                .withMaxConnectionLifetimeJitter(config.maxConnectionLifetimeJitterMillis())
+                .withProactiveConnectionRotation(config.isProactiveConnectionRotationEnabled())
+                .withAdaptiveConnectionPoolSizing(config.isAdaptiveConnectionPoolSizingEnabled())
+                .withMinAdaptiveConnectionPoolSize(config.minAdaptiveConnectionPoolSize())
+                .withResponseLatencyTracking(config.loadBalancingMode() == Config.LoadBalancingMode.PEAK_EWMA)
+                .build();
         return new ConnectionPoolImpl(
                 connector,
                 bootstrap,
@@ -172,6 +198,10 @@ public class DriverFactory {
         return new ChannelConnectorImpl(
                 settings,
                 securityPlan,
+                new ChannelPipelineBuilderImpl(
+                        config.isLazyRecordDecodingEnabled(),
+                        config.maxOutboundChunkSize(),
+                        config.isAdaptiveOutboundChunkingEnabled()),
                 config.logging(),
                 clock,
                 routingContext,
@@ -229,6 +259,7 @@ public class DriverFactory {
             MetricsProvider metricsProvider,
             Config config) {
         ConnectionProvider connectionProvider = new DirectConnectionProvider(address, connectionPool);
+        connectionPool.warmUp(Set.of(address));
         var sessionFactory = createSessionFactory(connectionProvider, retryLogic, config);
         var driver = createDriver(securityPlan, sessionFactory, metricsProvider, config);
         var log = config.logging().getLog(getClass());
@@ -252,7 +283,13 @@ public class DriverFactory {
             Supplier<Rediscovery> rediscoverySupplier,
             Config config) {
         ConnectionProvider connectionProvider = createLoadBalancer(
-                address, connectionPool, eventExecutorGroup, config, routingSettings, rediscoverySupplier);
+                address,
+                connectionPool,
+                eventExecutorGroup,
+                config,
+                routingSettings,
+                rediscoverySupplier,
+                metricsProvider.metricsListener());
         var sessionFactory = createSessionFactory(connectionProvider, retryLogic, config);
         var driver = createDriver(securityPlan, sessionFactory, metricsProvider, config);
         var log = config.logging().getLog(getClass());
@@ -282,8 +319,9 @@ public class DriverFactory {
             EventExecutorGroup eventExecutorGroup,
             Config config,
             RoutingSettings routingSettings,
-            Supplier<Rediscovery> rediscoverySupplier) {
-        var loadBalancingStrategy = new LeastConnectedLoadBalancingStrategy(connectionPool, config.logging());
+            Supplier<Rediscovery> rediscoverySupplier,
+            MetricsListener metricsListener) {
+        var loadBalancingStrategy = createLoadBalancingStrategy(connectionPool, config, metricsListener);
         var resolver = createResolver(config);
         var domainNameResolver = requireNonNull(getDomainNameResolver(), "domainNameResolver must not be null");
         var clock = createClock();
@@ -304,6 +342,25 @@ public class DriverFactory {
         return loadBalancer;
     }
 
+    private static LoadBalancingStrategy createLoadBalancingStrategy(
+            ConnectionPool connectionPool, Config config, MetricsListener metricsListener) {
+        LoadBalancingStrategy strategy =
+                switch (config.loadBalancingMode()) {
+                    case LEAST_CONNECTED -> new LeastConnectedLoadBalancingStrategy(connectionPool, config.logging());
+                    case PEAK_EWMA -> new PeakEwmaLoadBalancingStrategy(connectionPool, config.logging());
+                };
+        if (config.localZone() != null) {
+            strategy = new ZoneAwareLoadBalancingStrategy(
+                    strategy,
+                    connectionPool,
+                    config.localZone(),
+                    config.zoneResolver(),
+                    metricsListener,
+                    config.logging());
+        }
+        return strategy;
+    }
+
     protected Rediscovery createRediscovery(
             BoltServerAddress initialRouter,
             ServerAddressResolver resolver,
@@ -362,8 +419,8 @@ public class DriverFactory {
      * <p>
      * <b>This method is protected only for testing</b>
      */
-    protected Bootstrap createBootstrap(int size) {
-        return BootstrapFactory.newBootstrap(size);
+    protected Bootstrap createBootstrap(int size, TransportType transportType) {
+        return BootstrapFactory.newBootstrap(size, transportType);
     }
 
     /**
@@ -386,6 +443,33 @@ public class DriverFactory {
         return DefaultDomainNameResolver.getInstance();
     }
 
+    private static TransportType resolveTransportType(Config config) {
+        var requested = config.transportType();
+        var resolved = EventLoopGroupFactory.resolveTransportType(requested);
+        if (requested != TransportType.AUTO && requested != resolved) {
+            var log = config.logging().getLog(DriverFactory.class);
+            log.warn(
+                    "Transport %s is not available, using %s instead. "
+                            + "Please make sure the corresponding Netty native artifact is on the class path "
+                            + "and that the neo4j-java-driver artifact is used, native transports are not "
+                            + "available with the shaded neo4j-java-driver-all artifact.",
+                    requested, resolved);
+        }
+        return resolved;
+    }
+
+    private static void logTlsProviderFallback(Config config, SecurityPlan securityPlan) {
+        if (config.tlsProvider() == TlsProvider.OPENSSL
+                && securityPlan.requiresEncryption()
+                && securityPlan.openSslContext() == null) {
+            var log = config.logging().getLog(DriverFactory.class);
+            log.warn(
+                    "TLS provider %s is not available or does not support the configured trust strategy, "
+                            + "using %s instead. Please make sure a netty-tcnative artifact is on the class path.",
+                    TlsProvider.OPENSSL, TlsProvider.JDK);
+        }
+    }
+
     private static void assertNoRoutingContext(URI uri, RoutingSettings routingSettings) {
         var routingContext = routingSettings.routingContext();
         if (routingContext.isDefined()) {
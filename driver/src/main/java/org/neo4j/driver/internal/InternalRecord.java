@@ -30,6 +30,7 @@ import java.util.stream.Collectors;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.types.InternalMapAccessorWithDefaultValue;
 import org.neo4j.driver.internal.util.Extract;
 import org.neo4j.driver.internal.util.QueryKeys;
@@ -38,16 +39,26 @@ import org.neo4j.driver.util.Pair;
 public class InternalRecord extends InternalMapAccessorWithDefaultValue implements Record {
     private final QueryKeys queryKeys;
     private final Value[] values;
+    private final LazyRecordFields lazyFields;
     private int hashCode = 0;
 
     public InternalRecord(List<String> keys, Value[] values) {
-        this.queryKeys = new QueryKeys(keys);
-        this.values = values;
+        this(new QueryKeys(keys), values);
     }
 
     public InternalRecord(QueryKeys queryKeys, Value[] values) {
         this.queryKeys = queryKeys;
         this.values = values;
+        this.lazyFields = null;
+    }
+
+    /**
+     * Creates a record that decodes its fields when they are accessed for the first time.
+     */
+    public InternalRecord(QueryKeys queryKeys, LazyRecordFields lazyFields) {
+        this.queryKeys = queryKeys;
+        this.values = null;
+        this.lazyFields = lazyFields;
     }
 
     @Override
@@ -57,7 +68,7 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
 
     @Override
     public List<Value> values() {
-        return Arrays.asList(values);
+        return Arrays.asList(allValues());
     }
 
     @Override
@@ -92,18 +103,18 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
         if (fieldIndex == -1) {
             return Values.NULL;
         } else {
-            return values[fieldIndex];
+            return value(fieldIndex);
         }
     }
 
     @Override
     public Value get(int index) {
-        return index >= 0 && index < values.length ? values[index] : Values.NULL;
+        return index >= 0 && index < size() ? value(index) : Values.NULL;
     }
 
     @Override
     public int size() {
-        return values.length;
+        return lazyFields != null ? lazyFields.size() : values.length;
     }
 
     @Override
@@ -149,8 +160,16 @@ public class InternalRecord extends InternalMapAccessorWithDefaultValue implemen
     @Override
     public int hashCode() {
         if (hashCode == 0) {
-            hashCode = 31 * queryKeys.hashCode() + Arrays.hashCode(values);
+            hashCode = 31 * queryKeys.hashCode() + Arrays.hashCode(allValues());
         }
         return hashCode;
     }
+
+    private Value value(int index) {
+        return lazyFields != null ? lazyFields.get(index) : values[index];
+    }
+
+    private Value[] allValues() {
+        return lazyFields != null ? lazyFields.values() : values;
+    }
 }
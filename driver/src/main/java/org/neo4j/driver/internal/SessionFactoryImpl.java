@@ -33,6 +33,7 @@ import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.retry.RetryLogic;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
 public class SessionFactoryImpl implements SessionFactory {
@@ -65,6 +66,7 @@ public class SessionFactoryImpl implements SessionFactory {
                 sessionConfig.bookmarkManager().orElse(NoOpBookmarkManager.INSTANCE),
                 sessionConfig.notificationConfig(),
                 overrideAuthToken,
+                AcquisitionOptions.from(sessionConfig),
                 telemetryDisabled);
     }
 
@@ -143,6 +145,7 @@ public class SessionFactoryImpl implements SessionFactory {
             BookmarkManager bookmarkManager,
             NotificationConfig notificationConfig,
             AuthToken authToken,
+            AcquisitionOptions acquisitionOptions,
             boolean telemetryDisabled) {
         Objects.requireNonNull(bookmarks, "bookmarks may not be null");
         Objects.requireNonNull(bookmarkManager, "bookmarkManager may not be null");
@@ -159,6 +162,7 @@ public class SessionFactoryImpl implements SessionFactory {
                         bookmarkManager,
                         notificationConfig,
                         authToken,
+                        acquisitionOptions,
                         telemetryDisabled)
                 : new NetworkSession(
                         connectionProvider,
@@ -172,6 +176,7 @@ public class SessionFactoryImpl implements SessionFactory {
                         bookmarkManager,
                         notificationConfig,
                         authToken,
+                        acquisitionOptions,
                         telemetryDisabled);
     }
 }
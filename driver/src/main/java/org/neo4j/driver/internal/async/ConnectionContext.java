@@ -23,6 +23,7 @@ import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
 /**
@@ -41,4 +42,6 @@ public interface ConnectionContext {
     String impersonatedUser();
 
     AuthToken overrideAuthToken();
+
+    AcquisitionOptions acquisitionOptions();
 }
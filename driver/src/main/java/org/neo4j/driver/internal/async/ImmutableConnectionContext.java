@@ -26,6 +26,7 @@ import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Bookmark;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 
 /**
@@ -72,6 +73,11 @@ public class ImmutableConnectionContext implements ConnectionContext {
         return null;
     }
 
+    @Override
+    public AcquisitionOptions acquisitionOptions() {
+        return AcquisitionOptions.DEFAULT;
+    }
+
     /**
      * A simple context is used to test connectivity with a remote server/cluster. As long as there is a read only service, the connection shall be established
      * successfully. Depending on whether multidb is supported or not, this method returns different context for routing table discovery.
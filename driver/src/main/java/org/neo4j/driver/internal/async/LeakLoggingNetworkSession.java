@@ -29,6 +29,7 @@ import org.neo4j.driver.Logging;
 import org.neo4j.driver.NotificationConfig;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.retry.RetryLogic;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.Futures;
 
@@ -47,6 +48,7 @@ public class LeakLoggingNetworkSession extends NetworkSession {
             BookmarkManager bookmarkManager,
             NotificationConfig notificationConfig,
             AuthToken overrideAuthToken,
+            AcquisitionOptions acquisitionOptions,
             boolean telemetryDisabled) {
         super(
                 connectionProvider,
@@ -60,6 +62,7 @@ public class LeakLoggingNetworkSession extends NetworkSession {
                 bookmarkManager,
                 notificationConfig,
                 overrideAuthToken,
+                acquisitionOptions,
                 telemetryDisabled);
         this.stackTrace = captureStackTrace();
     }
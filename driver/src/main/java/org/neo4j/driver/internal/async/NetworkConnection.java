@@ -39,6 +39,7 @@ import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
 import org.neo4j.driver.internal.handlers.ChannelReleasingResetResponseHandler;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.request.CommitMessage;
@@ -230,8 +231,13 @@ public class NetworkConnection implements Connection {
                         messageDispatcher.enqueue(handler);
 
                         if (flush) {
-                            channel.writeAndFlush(message)
-                                    .addListener(future -> registerConnectionReadTimeout(channel));
+                            channel.writeAndFlush(message).addListener(future -> {
+                                markFlushedIfRun(handler);
+                                registerConnectionReadTimeout(channel);
+                            });
+                        } else if (handler instanceof RunResponseHandler) {
+                            // the write completes once a later message flushes it to the network
+                            channel.write(message).addListener(future -> markFlushedIfRun(handler));
                         } else {
                             channel.write(message, channel.voidPromise());
                         }
@@ -241,6 +247,12 @@ public class NetworkConnection implements Connection {
                 }));
     }
 
+    private static void markFlushedIfRun(ResponseHandler handler) {
+        if (handler instanceof RunResponseHandler runHandler) {
+            runHandler.markFlushed();
+        }
+    }
+
     private void setAutoRead(boolean value) {
         channel.config().setAutoRead(value);
     }
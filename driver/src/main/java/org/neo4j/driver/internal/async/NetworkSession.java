@@ -50,6 +50,7 @@ import org.neo4j.driver.internal.cursor.ResultCursorFactory;
 import org.neo4j.driver.internal.cursor.RxResultCursor;
 import org.neo4j.driver.internal.logging.PrefixedLogger;
 import org.neo4j.driver.internal.retry.RetryLogic;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.telemetry.ApiTelemetryWork;
@@ -88,6 +89,7 @@ public class NetworkSession {
             BookmarkManager bookmarkManager,
             NotificationConfig notificationConfig,
             AuthToken overrideAuthToken,
+            AcquisitionOptions acquisitionOptions,
             boolean telemetryDisabled) {
         Objects.requireNonNull(bookmarks, "bookmarks may not be null");
         Objects.requireNonNull(bookmarkManager, "bookmarkManager may not be null");
@@ -103,7 +105,7 @@ public class NetworkSession {
         this.bookmarkManager = bookmarkManager;
         this.lastReceivedBookmarks = bookmarks;
         this.connectionContext = new NetworkSessionConnectionContext(
-                databaseNameFuture, determineBookmarks(false), impersonatedUser, overrideAuthToken);
+                databaseNameFuture, determineBookmarks(false), impersonatedUser, overrideAuthToken, acquisitionOptions);
         this.fetchSize = fetchSize;
         this.notificationConfig = notificationConfig;
         this.telemetryDisabled = telemetryDisabled;
@@ -426,16 +428,19 @@ public class NetworkSession {
         private final Set<Bookmark> rediscoveryBookmarks;
         private final String impersonatedUser;
         private final AuthToken authToken;
+        private final AcquisitionOptions acquisitionOptions;
 
         private NetworkSessionConnectionContext(
                 CompletableFuture<DatabaseName> databaseNameFuture,
                 Set<Bookmark> bookmarks,
                 String impersonatedUser,
-                AuthToken authToken) {
+                AuthToken authToken,
+                AcquisitionOptions acquisitionOptions) {
             this.databaseNameFuture = databaseNameFuture;
             this.rediscoveryBookmarks = bookmarks;
             this.impersonatedUser = impersonatedUser;
             this.authToken = authToken;
+            this.acquisitionOptions = acquisitionOptions;
         }
 
         private ConnectionContext contextWithMode(AccessMode mode) {
@@ -467,5 +472,10 @@ public class NetworkSession {
         public AuthToken overrideAuthToken() {
             return authToken;
         }
+
+        @Override
+        public AcquisitionOptions acquisitionOptions() {
+            return acquisitionOptions;
+        }
     }
 }
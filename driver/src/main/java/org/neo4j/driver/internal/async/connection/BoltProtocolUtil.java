@@ -35,6 +35,8 @@ public final class BoltProtocolUtil {
 
     public static final int CHUNK_HEADER_SIZE_BYTES = 2;
 
+    public static final int MAX_CHUNK_SIZE_BYTES = 0xFFFF;
+
     public static final int DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES = Short.MAX_VALUE / 2;
 
     private static final ByteBuf HANDSHAKE_BUF = unreleasableBuffer(copyInt(
@@ -17,20 +17,32 @@
 package org.neo4j.driver.internal.async.connection;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import org.neo4j.driver.TransportType;
 
 public final class BootstrapFactory {
     private BootstrapFactory() {}
 
     public static Bootstrap newBootstrap(int threadCount) {
-        return newBootstrap(EventLoopGroupFactory.newEventLoopGroup(threadCount));
+        return newBootstrap(threadCount, TransportType.NIO);
+    }
+
+    public static Bootstrap newBootstrap(int threadCount, TransportType transportType) {
+        return newBootstrap(
+                EventLoopGroupFactory.newEventLoopGroup(threadCount, transportType),
+                EventLoopGroupFactory.channelClass(transportType));
     }
 
     public static Bootstrap newBootstrap(EventLoopGroup eventLoopGroup) {
+        return newBootstrap(eventLoopGroup, EventLoopGroupFactory.channelClass());
+    }
+
+    private static Bootstrap newBootstrap(EventLoopGroup eventLoopGroup, Class<? extends Channel> channelClass) {
         var bootstrap = new Bootstrap();
         bootstrap.group(eventLoopGroup);
-        bootstrap.channel(EventLoopGroupFactory.channelClass());
+        bootstrap.channel(channelClass);
         bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
         bootstrap.option(ChannelOption.SO_REUSEADDR, true);
         return bootstrap;
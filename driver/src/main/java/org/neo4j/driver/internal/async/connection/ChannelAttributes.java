@@ -39,6 +39,7 @@ public final class ChannelAttributes {
     private static final AttributeKey<BoltServerAddress> ADDRESS = newInstance("serverAddress");
     private static final AttributeKey<Long> CREATION_TIMESTAMP = newInstance("creationTimestamp");
     private static final AttributeKey<Long> LAST_USED_TIMESTAMP = newInstance("lastUsedTimestamp");
+    private static final AttributeKey<Long> LIFETIME_JITTER = newInstance("lifetimeJitter");
     private static final AttributeKey<InboundMessageDispatcher> MESSAGE_DISPATCHER = newInstance("messageDispatcher");
     private static final AttributeKey<String> TERMINATION_REASON = newInstance("terminationReason");
     private static final AttributeKey<AuthorizationStateListener> AUTHORIZATION_STATE_LISTENER =
@@ -47,6 +48,8 @@ public final class ChannelAttributes {
             newInstance("boltPatchesListeners");
     private static final AttributeKey<CompletionStage<Void>> HELLO_STAGE = newInstance("helloStage");
     private static final AttributeKey<AuthContext> AUTH_CONTEXT = newInstance("authContext");
+    private static final AttributeKey<ResponseLatencyListener> RESPONSE_LATENCY_LISTENER =
+            newInstance("responseLatencyListener");
 
     // configuration hints provided by the server
     private static final AttributeKey<Long> CONNECTION_READ_TIMEOUT = newInstance("connectionReadTimeout");
@@ -111,6 +114,14 @@ public final class ChannelAttributes {
         set(channel, LAST_USED_TIMESTAMP, lastUsedTimestamp);
     }
 
+    public static Long lifetimeJitter(Channel channel) {
+        return get(channel, LIFETIME_JITTER);
+    }
+
+    public static void setLifetimeJitter(Channel channel, long lifetimeJitter) {
+        setOnce(channel, LIFETIME_JITTER, lifetimeJitter);
+    }
+
     public static InboundMessageDispatcher messageDispatcher(Channel channel) {
         return get(channel, MESSAGE_DISPATCHER);
     }
@@ -136,6 +147,14 @@ public final class ChannelAttributes {
         set(channel, AUTHORIZATION_STATE_LISTENER, authorizationStateListener);
     }
 
+    public static ResponseLatencyListener responseLatencyListener(Channel channel) {
+        return get(channel, RESPONSE_LATENCY_LISTENER);
+    }
+
+    public static void setResponseLatencyListener(Channel channel, ResponseLatencyListener responseLatencyListener) {
+        set(channel, RESPONSE_LATENCY_LISTENER, responseLatencyListener);
+    }
+
     public static Optional<Long> connectionReadTimeout(Channel channel) {
         return Optional.ofNullable(get(channel, CONNECTION_READ_TIMEOUT));
     }
@@ -16,6 +16,8 @@
  */
 package org.neo4j.driver.internal.async.connection;
 
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.addBoltPatchesListener;
 
 import io.netty.channel.ChannelPipeline;
@@ -24,12 +26,41 @@ import org.neo4j.driver.internal.async.inbound.ChannelErrorHandler;
 import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 
 public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder {
+    private final boolean lazyRecordsEnabled;
+    private final int maxOutboundChunkSize;
+    private final boolean adaptiveOutboundChunking;
+
+    public ChannelPipelineBuilderImpl() {
+        this(false);
+    }
+
+    public ChannelPipelineBuilderImpl(boolean lazyRecordsEnabled) {
+        this(lazyRecordsEnabled, DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES - CHUNK_HEADER_SIZE_BYTES, false);
+    }
+
+    /**
+     * @param lazyRecordsEnabled {@code true} to decode record fields when accessed
+     * @param maxOutboundChunkSize the maximum number of message bytes in an outbound chunk
+     * @param adaptiveOutboundChunking {@code true} to grow outbound chunks within large messages
+     */
+    public ChannelPipelineBuilderImpl(
+            boolean lazyRecordsEnabled, int maxOutboundChunkSize, boolean adaptiveOutboundChunking) {
+        this.lazyRecordsEnabled = lazyRecordsEnabled;
+        this.maxOutboundChunkSize = maxOutboundChunkSize;
+        this.adaptiveOutboundChunking = adaptiveOutboundChunking;
+    }
+
     @Override
     public void build(MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging) {
+        if (lazyRecordsEnabled) {
+            messageFormat.enableLazyRecords();
+        }
+
         // inbound handlers
         pipeline.addLast(new ChunkDecoder(logging));
         pipeline.addLast(new MessageDecoder());
@@ -39,7 +70,9 @@ public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder {
         pipeline.addLast(inboundMessageHandler);
 
         // outbound handlers
-        var outboundMessageHandler = new OutboundMessageHandler(messageFormat, logging);
+        var output =
+                new ChunkAwareByteBufOutput(maxOutboundChunkSize + CHUNK_HEADER_SIZE_BYTES, adaptiveOutboundChunking);
+        var outboundMessageHandler = new OutboundMessageHandler(messageFormat, output, logging);
         addBoltPatchesListener(channel, outboundMessageHandler);
         pipeline.addLast(OutboundMessageHandler.NAME, outboundMessageHandler);
 
@@ -19,14 +19,21 @@ package org.neo4j.driver.internal.async.connection;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.FastThreadLocalThread;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.TransportType;
 import org.neo4j.driver.async.AsyncSession;
 
 /**
@@ -49,6 +56,21 @@ public final class EventLoopGroupFactory {
         return NioSocketChannel.class;
     }
 
+    /**
+     * Get class of {@link Channel} for {@link Bootstrap#channel(Class)} method.
+     *
+     * @param transportType the transport of the channel, falls back to NIO when not available.
+     * @return class of the channel, which should be consistent with {@link EventLoopGroup}s returned by
+     * {@link #newEventLoopGroup(int, TransportType)} for the same transport.
+     */
+    public static Class<? extends Channel> channelClass(TransportType transportType) {
+        return switch (resolveTransportType(transportType)) {
+            case EPOLL -> EpollSocketChannel.class;
+            case IO_URING -> IOUringSocketChannel.class;
+            default -> NioSocketChannel.class;
+        };
+    }
+
     /**
      * Create new {@link EventLoopGroup} with specified thread count. Returned group should by given to
      * {@link Bootstrap#group(EventLoopGroup)}.
@@ -60,6 +82,39 @@ public final class EventLoopGroupFactory {
         return new DriverEventLoopGroup(threadCount);
     }
 
+    /**
+     * Create new {@link EventLoopGroup} with specified thread count and transport. Returned group should by given to
+     * {@link Bootstrap#group(EventLoopGroup)}.
+     *
+     * @param threadCount amount of IO threads for the new group.
+     * @param transportType the transport of the group, falls back to NIO when not available.
+     * @return new group consistent with channel class returned by {@link #channelClass(TransportType)}.
+     */
+    public static EventLoopGroup newEventLoopGroup(int threadCount, TransportType transportType) {
+        return switch (resolveTransportType(transportType)) {
+                // native groups are final, so they get the thread factory instead of overriding its creation
+            case EPOLL -> new EpollEventLoopGroup(threadCount, new DriverThreadFactory());
+            case IO_URING -> new IOUringEventLoopGroup(threadCount, new DriverThreadFactory());
+            default -> new DriverEventLoopGroup(threadCount);
+        };
+    }
+
+    /**
+     * Resolve the transport that is used for the given one. Native transports need their Netty classes and native
+     * libraries, which are optional dependencies, and an operating system supporting them.
+     *
+     * @param transportType the requested transport.
+     * @return {@link TransportType#EPOLL}, {@link TransportType#IO_URING} or {@link TransportType#NIO}, never
+     * {@link TransportType#AUTO}.
+     */
+    public static TransportType resolveTransportType(TransportType transportType) {
+        return switch (transportType) {
+            case AUTO, EPOLL -> isEpollAvailable() ? TransportType.EPOLL : TransportType.NIO;
+            case IO_URING -> isIOUringAvailable() ? TransportType.IO_URING : TransportType.NIO;
+            case NIO -> TransportType.NIO;
+        };
+    }
+
     /**
      * Assert that current thread is not an event loop used for async IO operations. This check is needed because
      * blocking API methods like {@link Session#run(String)} are implemented on top of corresponding async API methods
@@ -86,6 +141,24 @@ public final class EventLoopGroupFactory {
         return thread instanceof DriverThread;
     }
 
+    // transport classes are optional dependencies, so check their presence before touching them
+    private static boolean isEpollAvailable() {
+        return isClassPresent("io.netty.channel.epoll.Epoll") && Epoll.isAvailable();
+    }
+
+    private static boolean isIOUringAvailable() {
+        return isClassPresent("io.netty.incubator.channel.uring.IOUring") && IOUring.isAvailable();
+    }
+
+    private static boolean isClassPresent(String className) {
+        try {
+            Class.forName(className, false, EventLoopGroupFactory.class.getClassLoader());
+            return true;
+        } catch (Throwable error) {
+            return false;
+        }
+    }
+
     /**
      * Same as {@link NioEventLoopGroup} but uses a different {@link ThreadFactory} that produces threads of
      * {@link DriverThread} class. Such threads can be recognized by {@link #assertNotInEventLoopThread()}.
@@ -59,23 +59,25 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel> {
     @Override
     protected void initChannel(Channel channel) {
         if (securityPlan.requiresEncryption()) {
-            var sslHandler = createSslHandler();
+            var sslHandler = createSslHandler(channel);
             channel.pipeline().addFirst(sslHandler);
         }
 
         updateChannelAttributes(channel);
     }
 
-    private SslHandler createSslHandler() {
-        var sslEngine = createSslEngine();
+    private SslHandler createSslHandler(Channel channel) {
+        var sslEngine = createSslEngine(channel);
         var sslHandler = new SslHandler(sslEngine);
         sslHandler.setHandshakeTimeoutMillis(connectTimeoutMillis);
         return sslHandler;
     }
 
-    private SSLEngine createSslEngine() {
-        var sslContext = securityPlan.sslContext();
-        var sslEngine = sslContext.createSSLEngine(address.host(), address.port());
+    private SSLEngine createSslEngine(Channel channel) {
+        var openSslContext = securityPlan.openSslContext();
+        var sslEngine = openSslContext != null
+                ? openSslContext.newEngine(channel.alloc(), address.host(), address.port())
+                : securityPlan.sslContext().createSSLEngine(address.host(), address.port());
         sslEngine.setUseClientMode(true);
         if (securityPlan.requiresHostnameVerification()) {
             var sslParameters = sslEngine.getSSLParameters();
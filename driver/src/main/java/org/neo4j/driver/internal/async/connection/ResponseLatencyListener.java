@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.connection;
+
+/**
+ * Listener for the time the server takes to respond to the queries run on a channel.
+ */
+public interface ResponseLatencyListener {
+    /**
+     * Notifies the listener that the server has responded to a query.
+     *
+     * @param latencyNanos the time between running the query and receiving the response to it in nanoseconds
+     */
+    void onQueryResponse(long latencyNanos);
+}
@@ -16,6 +16,7 @@
  */
 package org.neo4j.driver.internal.async.inbound;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import io.netty.buffer.ByteBuf;
@@ -63,6 +64,23 @@ public class ByteBufInput implements PackInput {
         buf.readBytes(into, offset, toRead);
     }
 
+    @Override
+    public String readUtf8(int size) {
+        var index = buf.readerIndex();
+        buf.skipBytes(size);
+        return buf.toString(index, size, UTF_8);
+    }
+
+    @Override
+    public void skipBytes(int size) {
+        buf.skipBytes(size);
+    }
+
+    @Override
+    public int readableBytes() {
+        return buf.readableBytes();
+    }
+
     @Override
     public byte peekByte() {
         return buf.getByte(buf.readerIndex());
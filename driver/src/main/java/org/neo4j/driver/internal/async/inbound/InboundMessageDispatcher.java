@@ -19,6 +19,7 @@ package org.neo4j.driver.internal.async.inbound;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authContext;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authorizationStateListener;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.responseLatencyListener;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
 import static org.neo4j.driver.internal.util.ErrorUtil.addSuppressed;
 
@@ -38,8 +39,10 @@ import org.neo4j.driver.exceptions.SecurityException;
 import org.neo4j.driver.exceptions.SecurityRetryableException;
 import org.neo4j.driver.exceptions.TokenExpiredException;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.logging.ChannelErrorLogger;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.ErrorUtil;
@@ -88,6 +91,12 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
         log.debug("S: SUCCESS %s", meta);
         invokeBeforeLastHandlerHook(HandlerHook.MessageType.SUCCESS);
         var handler = removeHandler();
+        if (handler instanceof RunResponseHandler runHandler) {
+            var latencyListener = responseLatencyListener(channel);
+            if (latencyListener != null) {
+                latencyListener.onQueryResponse(runHandler.elapsedNanos());
+            }
+        }
         handler.onSuccess(meta);
     }
 
@@ -104,6 +113,18 @@ public class InboundMessageDispatcher implements ResponseMessageHandler {
         handler.onRecord(fields);
     }
 
+    @Override
+    public void handleRecordMessage(LazyRecordFields fields) {
+        // the fields are not decoded for logging, which would defeat their lazy decoding
+        log.debug("S: RECORD (%d bytes, decoded when accessed)", fields.packedSize());
+        var handler = handlers.peek();
+        if (handler == null) {
+            throw new IllegalStateException(
+                    "No handler exists to handle RECORD message of " + fields.packedSize() + " bytes");
+        }
+        handler.onRecord(fields);
+    }
+
     @Override
     public void handleFailureMessage(String code, String message) {
         log.debug("S: FAILURE %s \"%s\"", code, message);
@@ -19,37 +19,94 @@ package org.neo4j.driver.internal.async.outbound;
 import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
 import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.MAX_CHUNK_SIZE_BYTES;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
 public class ChunkAwareByteBufOutput implements PackOutput {
-    private final int maxChunkSize;
+    static final int DEFAULT_ZERO_COPY_THRESHOLD_BYTES = 64 * 1024;
+
+    private static final int MARKED_DOUBLE_SIZE_BYTES = 1 + Double.BYTES;
+
+    private final int initialMaxChunkSize;
+    private final boolean adaptive;
+    private final int zeroCopyThreshold;
 
     private ByteBuf buf;
+    private int maxChunkSize;
     private int currentChunkStartIndex;
     private int currentChunkSize;
 
+    // only created when a message contains byte arrays that are not copied, see writeBytes
+    private CompositeByteBuf composite;
+    private int compositeEndIndex;
+
     public ChunkAwareByteBufOutput() {
         this(DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES);
     }
 
     ChunkAwareByteBufOutput(int maxChunkSize) {
-        this.maxChunkSize = verifyMaxChunkSize(maxChunkSize);
+        this(maxChunkSize, false);
+    }
+
+    /**
+     * @param maxChunkSize the maximum size of a chunk, including its header
+     * @param adaptive {@code true} to double the maximum size of every following chunk of a message, up to the
+     * size allowed by the protocol
+     */
+    public ChunkAwareByteBufOutput(int maxChunkSize, boolean adaptive) {
+        this(maxChunkSize, adaptive, DEFAULT_ZERO_COPY_THRESHOLD_BYTES);
+    }
+
+    ChunkAwareByteBufOutput(int maxChunkSize, int zeroCopyThreshold) {
+        this(maxChunkSize, false, zeroCopyThreshold);
+    }
+
+    private ChunkAwareByteBufOutput(int maxChunkSize, boolean adaptive, int zeroCopyThreshold) {
+        this.initialMaxChunkSize = verifyMaxChunkSize(maxChunkSize);
+        this.adaptive = adaptive;
+        this.zeroCopyThreshold = zeroCopyThreshold;
+    }
+
+    int initialMaxChunkSize() {
+        return initialMaxChunkSize;
+    }
+
+    boolean isAdaptive() {
+        return adaptive;
     }
 
     public void start(ByteBuf newBuf) {
         assertNotStarted();
         buf = requireNonNull(newBuf);
+        maxChunkSize = initialMaxChunkSize;
         startNewChunk(0);
     }
 
-    public void stop() {
+    /**
+     * Completes the current message.
+     *
+     * @return the buffer holding the message, which is either the buffer given to {@link #start(ByteBuf)} or, when
+     * large byte arrays have been wrapped instead of copied, a composite buffer that took ownership of it
+     */
+    public ByteBuf stop() {
         writeChunkSizeHeader();
+        var message = buf;
+        if (composite != null) {
+            composite.addComponent(true, buf.retainedSlice(compositeEndIndex, buf.writerIndex() - compositeEndIndex));
+            buf.release();
+            message = composite;
+            composite = null;
+            compositeEndIndex = 0;
+        }
         buf = null;
         currentChunkStartIndex = 0;
         currentChunkSize = 0;
+        return message;
     }
 
     @Override
@@ -60,10 +117,20 @@ public class ChunkAwareByteBufOutput implements PackOutput {
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Arrays of at least {@link #DEFAULT_ZERO_COPY_THRESHOLD_BYTES} are not copied, apart from the parts that share a
+     * chunk with other data. They are referenced by the buffer returned from {@link #stop()} and must not be modified
+     * until it has been written.
+     */
     @Override
     public PackOutput writeBytes(byte[] data) {
         var offset = 0;
         var length = data.length;
+        if (length >= zeroCopyThreshold) {
+            offset = writeBytesWithoutCopy(data);
+        }
         while (offset < length) {
             // Ensure there is an open chunk, and that it has at least one byte of space left
             ensureCanFitInCurrentChunk(1);
@@ -110,14 +177,79 @@ public class ChunkAwareByteBufOutput implements PackOutput {
         return this;
     }
 
+    @Override
+    public PackOutput writeDoubles(byte marker, double[] values) {
+        var offset = 0;
+        while (offset < values.length) {
+            ensureCanFitInCurrentChunk(MARKED_DOUBLE_SIZE_BYTES);
+
+            // Write as many values as fit into the current chunk without checking each one
+            var count = Math.min(availableBytesInCurrentChunk() / MARKED_DOUBLE_SIZE_BYTES, values.length - offset);
+            var size = count * MARKED_DOUBLE_SIZE_BYTES;
+            buf.ensureWritable(size);
+            var index = buf.writerIndex();
+            for (var i = offset; i < offset + count; i++) {
+                buf.setByte(index, marker);
+                buf.setDouble(index + 1, values[i]);
+                index += MARKED_DOUBLE_SIZE_BYTES;
+            }
+            buf.writerIndex(index);
+            currentChunkSize += size;
+            offset += count;
+        }
+        return this;
+    }
+
+    /**
+     * Fills the current chunk with a copy of the array and then appends full chunks that wrap the array. The last
+     * part is left to the caller to copy, so that the message always ends with a chunk that is still open.
+     *
+     * @return the number of bytes written
+     */
+    private int writeBytesWithoutCopy(byte[] data) {
+        ensureCanFitInCurrentChunk(1);
+        var offset = availableBytesInCurrentChunk();
+        if (data.length - offset <= nextMaxChunkSize() - CHUNK_HEADER_SIZE_BYTES) {
+            // not even a single chunk could be wrapped
+            return 0;
+        }
+
+        buf.writeBytes(data, 0, offset);
+        currentChunkSize += offset;
+        writeChunkSizeHeader();
+        maxChunkSize = nextMaxChunkSize();
+
+        if (composite == null) {
+            composite = buf.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        var chunkBodySize = maxChunkSize - CHUNK_HEADER_SIZE_BYTES;
+        while (data.length - offset > chunkBodySize) {
+            buf.writeShort(chunkBodySize);
+            composite.addComponent(true, buf.retainedSlice(compositeEndIndex, buf.writerIndex() - compositeEndIndex));
+            composite.addComponent(true, Unpooled.wrappedBuffer(data, offset, chunkBodySize));
+            compositeEndIndex = buf.writerIndex();
+            offset += chunkBodySize;
+            maxChunkSize = nextMaxChunkSize();
+            chunkBodySize = maxChunkSize - CHUNK_HEADER_SIZE_BYTES;
+        }
+
+        startNewChunk(buf.writerIndex());
+        return offset;
+    }
+
     private void ensureCanFitInCurrentChunk(int numberOfBytes) {
         var targetChunkSize = currentChunkSize + numberOfBytes;
         if (targetChunkSize > maxChunkSize) {
             writeChunkSizeHeader();
+            maxChunkSize = nextMaxChunkSize();
             startNewChunk(buf.writerIndex());
         }
     }
 
+    private int nextMaxChunkSize() {
+        return adaptive ? Math.min(maxChunkSize * 2, MAX_CHUNK_SIZE_BYTES + CHUNK_HEADER_SIZE_BYTES) : maxChunkSize;
+    }
+
     private void startNewChunk(int index) {
         currentChunkStartIndex = index;
         BoltProtocolUtil.writeEmptyChunkHeader(buf);
@@ -144,6 +276,10 @@ public class ChunkAwareByteBufOutput implements PackOutput {
         if (maxChunkSize <= 0) {
             throw new IllegalArgumentException("Max chunk size should be > 0, given: " + maxChunkSize);
         }
+        if (maxChunkSize > MAX_CHUNK_SIZE_BYTES + CHUNK_HEADER_SIZE_BYTES) {
+            throw new IllegalArgumentException("Max chunk size should be <= "
+                    + (MAX_CHUNK_SIZE_BYTES + CHUNK_HEADER_SIZE_BYTES) + ", given: " + maxChunkSize);
+        }
         return maxChunkSize;
     }
 }
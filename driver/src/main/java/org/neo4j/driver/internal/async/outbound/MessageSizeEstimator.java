@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+/**
+ * Estimates the encoded size of every outbound message type of a channel, so that buffers for new messages can be
+ * allocated with a capacity that does not need to grow while the message is encoded.
+ * <p>
+ * Encoded sizes are counted in power-of-two size classes over a decaying window of recent messages, and the estimate
+ * is the smallest size class that holds {@link #PERCENTILE} percent of them. A rare large message therefore does not
+ * inflate the buffers of the messages that follow it, while a sustained change of the message size moves the estimate
+ * within a window. Estimates are capped at {@link #MAX_ESTIMATE}, larger messages grow their buffer as needed.
+ * <p>
+ * Buffers are not reused by the estimator. Their memory is recycled by the pooled allocator of the channel, which
+ * already keeps per-thread caches of buffers of each size class, so sizing allocations to a size class is enough for
+ * them to be served from those caches.
+ * <p>
+ * Instances are not thread-safe and are meant to be confined to the event loop of their channel.
+ */
+final class MessageSizeEstimator {
+    static final int DEFAULT_ESTIMATE = 256;
+    static final int MAX_ESTIMATE = 64 * 1024;
+    static final int PERCENTILE = 90;
+    static final int WINDOW = 64;
+
+    private static final int MIN_SIZE_CLASS_SHIFT = 6;
+    private static final int MAX_SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MAX_ESTIMATE);
+    private static final int SIZE_CLASS_COUNT = MAX_SIZE_CLASS_SHIFT - MIN_SIZE_CLASS_SHIFT + 1;
+
+    // all indexed by message signature, histograms are created when a message type is first seen
+    private final int[][] histograms = new int[256][];
+    private final int[] counts = new int[256];
+    private final int[] estimates = new int[256];
+
+    int estimate(byte signature) {
+        var estimate = estimates[signature & 0xFF];
+        return estimate == 0 ? DEFAULT_ESTIMATE : estimate;
+    }
+
+    void update(byte signature, int size) {
+        var index = signature & 0xFF;
+        var histogram = histograms[index];
+        if (histogram == null) {
+            histogram = new int[SIZE_CLASS_COUNT];
+            histograms[index] = histogram;
+        }
+
+        var count = counts[index];
+        if (count >= WINDOW) {
+            // halve the old counts, so that sizes that are no longer seen fade out of the window
+            count = 0;
+            for (var i = 0; i < SIZE_CLASS_COUNT; i++) {
+                histogram[i] >>= 1;
+                count += histogram[i];
+            }
+        }
+        histogram[sizeClass(size)]++;
+        count++;
+        counts[index] = count;
+
+        var required = count - count * (100 - PERCENTILE) / 100;
+        var seen = 0;
+        for (var i = 0; i < SIZE_CLASS_COUNT; i++) {
+            seen += histogram[i];
+            if (seen >= required) {
+                estimates[index] = 1 << (i + MIN_SIZE_CLASS_SHIFT);
+                return;
+            }
+        }
+    }
+
+    private static int sizeClass(int size) {
+        var shift = size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+        return Math.min(Math.max(shift, MIN_SIZE_CLASS_SHIFT), MAX_SIZE_CLASS_SHIFT) - MIN_SIZE_CLASS_SHIFT;
+    }
+}
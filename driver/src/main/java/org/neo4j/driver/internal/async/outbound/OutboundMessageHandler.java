@@ -18,33 +18,52 @@ package org.neo4j.driver.internal.async.outbound;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToMessageEncoder;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
+import org.neo4j.driver.internal.messaging.AbstractMessageWriter;
 import org.neo4j.driver.internal.messaging.BoltPatchesListener;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 
 public class OutboundMessageHandler extends MessageToMessageEncoder<Message> implements BoltPatchesListener {
     public static final String NAME = OutboundMessageHandler.class.getSimpleName();
+    // templates of all connections, they only depend on the writer class and the chunking of the output
+    private static final ConcurrentMap<TemplatesKey, Map<Message, Template>> TEMPLATES_CACHE =
+            new ConcurrentHashMap<>();
+
     private final ChunkAwareByteBufOutput output;
+    private final MessageSizeEstimator sizeEstimator = new MessageSizeEstimator();
     private final MessageFormat messageFormat;
     private final Logging logging;
 
     private MessageFormat.Writer writer;
+    private Map<Message, Template> templates;
     private Logger log;
 
     public OutboundMessageHandler(MessageFormat messageFormat, Logging logging) {
-        this.output = new ChunkAwareByteBufOutput();
+        this(messageFormat, new ChunkAwareByteBufOutput(), logging);
+    }
+
+    public OutboundMessageHandler(MessageFormat messageFormat, ChunkAwareByteBufOutput output, Logging logging) {
+        this.output = output;
         this.messageFormat = messageFormat;
         this.logging = logging;
         this.writer = messageFormat.newWriter(output);
+        this.templates = encodeConstantMessages();
     }
 
     @Override
@@ -61,23 +80,36 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message> imp
     protected void encode(ChannelHandlerContext ctx, Message msg, List<Object> out) {
         log.debug("C: %s", msg);
 
-        var messageBuf = ctx.alloc().ioBuffer();
-        output.start(messageBuf);
+        var template = templates.get(msg);
+        if (template != null) {
+            // template slices are read-only and never freed, so they can be shared by all writes of the message on any
+            // connection
+            var messageBuf = template.buf().retainedSlice();
+            if (log.isTraceEnabled()) {
+                // leave out the message boundary, like for encoded messages
+                log.trace("C: %s", hexDump(messageBuf, messageBuf.readerIndex(), template.messageLength()));
+            }
+            out.add(messageBuf);
+            return;
+        }
+
+        var signature = msg.signature();
+        output.start(ctx.alloc().ioBuffer(sizeEstimator.estimate(signature)));
         try {
             writer.write(msg);
-            output.stop();
         } catch (Throwable error) {
-            output.stop();
             // release buffer because it will not get added to the out list and no other handler is going to handle it
-            messageBuf.release();
+            output.stop().release();
             throw new EncoderException("Failed to write outbound message: " + msg, error);
         }
+        var messageBuf = output.stop();
 
         if (log.isTraceEnabled()) {
             log.trace("C: %s", hexDump(messageBuf));
         }
 
         BoltProtocolUtil.writeMessageBoundary(messageBuf);
+        sizeEstimator.update(signature, messageBuf.readableBytes());
         out.add(messageBuf);
     }
 
@@ -86,6 +118,44 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message> imp
         if (patches.contains(DATE_TIME_UTC_PATCH)) {
             messageFormat.enableDateTimeUtc();
             writer = messageFormat.newWriter(output);
+            templates = encodeConstantMessages();
         }
     }
+
+    private Map<Message, Template> encodeConstantMessages() {
+        if (writer instanceof AbstractMessageWriter) {
+            var key = new TemplatesKey(writer.getClass(), output.initialMaxChunkSize(), output.isAdaptive());
+            return TEMPLATES_CACHE.computeIfAbsent(key, ignored -> encodeTemplates());
+        }
+        return encodeTemplates();
+    }
+
+    private Map<Message, Template> encodeTemplates() {
+        var constantMessages = writer.constantMessages();
+        Map<Message, Template> result = new IdentityHashMap<>(constantMessages.size());
+        for (var message : constantMessages) {
+            output.start(Unpooled.buffer());
+            try {
+                writer.write(message);
+            } catch (Throwable error) {
+                output.stop().release();
+                throw new EncoderException("Failed to write outbound message: " + message, error);
+            }
+            var messageBuf = output.stop();
+            var messageLength = messageBuf.readableBytes();
+            BoltProtocolUtil.writeMessageBoundary(messageBuf);
+            var template = Unpooled.wrappedBuffer(ByteBufUtil.getBytes(messageBuf));
+            messageBuf.release();
+            result.put(message, new Template(Unpooled.unreleasableBuffer(template.asReadOnly()), messageLength));
+        }
+        return result;
+    }
+
+    /**
+     * @param buf           the encoded message followed by the message boundary
+     * @param messageLength the length of the encoded message without the message boundary
+     */
+    private record Template(ByteBuf buf, int messageLength) {}
+
+    private record TemplatesKey(Class<?> writerClass, int maxChunkSize, boolean adaptiveChunking) {}
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
+
+import io.netty.util.concurrent.EventExecutor;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import org.neo4j.driver.ConnectionAcquisitionPriority;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
+
+/**
+ * Limits the amount of channels acquired from a pool at the same time. Acquisitions that have to wait for a release
+ * are served by priority, then by deadline and then in the order they started waiting, instead of in the order they
+ * started waiting only. Waiting acquisitions fail as soon as their deadline passes.
+ */
+final class AcquisitionScheduler {
+    static final String CLOSED_ERROR_MESSAGE = "Acquisition scheduler is closed";
+    static final String TIMEOUT_ERROR_MESSAGE = "Acquire operation took longer then configured maximum time";
+
+    private final IntSupplier maxAcquired;
+    private final long acquisitionTimeoutMillis;
+    private final EventExecutor timeoutExecutor;
+    private final Clock clock;
+
+    private final Lock lock = new ReentrantLock();
+    private final Queue<Waiter> waiters = new PriorityQueue<>();
+    private int acquired;
+    private long nextSequence;
+    private boolean closed;
+
+    /**
+     * @param maxAcquired              the maximum amount of channels acquired at the same time, which may change over
+     *                                 time
+     * @param acquisitionTimeoutMillis the time acquisitions that do not configure one wait for at most, a negative
+     *                                 value for no limit
+     * @param timeoutExecutor          the executor that fails waiting acquisitions when their deadline passes
+     * @param clock                    the clock
+     */
+    AcquisitionScheduler(
+            IntSupplier maxAcquired, long acquisitionTimeoutMillis, EventExecutor timeoutExecutor, Clock clock) {
+        this.maxAcquired = maxAcquired;
+        this.acquisitionTimeoutMillis = acquisitionTimeoutMillis;
+        this.timeoutExecutor = timeoutExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * Waits until a channel may be acquired. Every successful acquisition must be followed by exactly one
+     * {@link #release()}.
+     *
+     * @param options the acquisition options
+     * @return a stage completed once a channel may be acquired or failed with a {@link TimeoutException} when the
+     * deadline of the acquisition has passed
+     */
+    CompletionStage<Void> acquire(AcquisitionOptions options) {
+        var timeoutMillis = options.hasTimeout() ? options.timeoutMillis() : acquisitionTimeoutMillis;
+        return executeWithLock(lock, () -> {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException(CLOSED_ERROR_MESSAGE));
+            }
+            if (acquired < maxAcquired.getAsInt()) {
+                acquired++;
+                return completedWithNull();
+            }
+            if (timeoutMillis == 0) {
+                // waiting for no time at all is shed right away
+                return CompletableFuture.failedFuture(new TimeoutException(TIMEOUT_ERROR_MESSAGE));
+            }
+            var deadline = timeoutMillis > 0 ? clock.millis() + timeoutMillis : Long.MAX_VALUE;
+            var waiter = new Waiter(options.priority(), deadline, nextSequence++);
+            waiters.add(waiter);
+            if (timeoutMillis > 0) {
+                waiter.timeout = timeoutExecutor.schedule(() -> expire(waiter), timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            return waiter.future;
+        });
+    }
+
+    /**
+     * Admits an acquisition only if it does not have to wait. Every successful acquisition must be followed by exactly
+     * one {@link #release()}.
+     *
+     * @return {@code true} if a channel may be acquired or {@code false} if all channels are acquired or the scheduler
+     * is closed
+     */
+    boolean tryAcquire() {
+        return executeWithLock(lock, () -> {
+            if (closed || acquired >= maxAcquired.getAsInt()) {
+                return false;
+            }
+            acquired++;
+            return true;
+        });
+    }
+
+    /**
+     * Hands the released channel over to the first waiting acquisition whose deadline has not passed, if any. When the
+     * maximum has grown, further waiting acquisitions are admitted up to it, and when it has shrunk, the channel is not
+     * handed over until fewer channels are acquired than the maximum.
+     */
+    void release() {
+        var expired = new ArrayList<Waiter>();
+        var admitted = new ArrayList<Waiter>();
+        executeWithLock(lock, () -> {
+            acquired--;
+            var now = clock.millis();
+            var max = maxAcquired.getAsInt();
+            Waiter waiter;
+            while (acquired < max && (waiter = waiters.poll()) != null) {
+                if (waiter.deadline <= now) {
+                    expired.add(waiter);
+                } else {
+                    acquired++;
+                    admitted.add(waiter);
+                }
+            }
+        });
+        expired.forEach(Waiter::fail);
+        for (var waiter : admitted) {
+            waiter.cancelTimeout();
+            waiter.future.complete(null);
+        }
+    }
+
+    /**
+     * Checks if acquisitions have to wait for a release.
+     *
+     * @return {@code true} if all channels are acquired or {@code false} otherwise
+     */
+    boolean isExhausted() {
+        return executeWithLock(lock, () -> acquired >= maxAcquired.getAsInt());
+    }
+
+    /**
+     * Fails all waiting acquisitions and any later ones.
+     */
+    void close() {
+        List<Waiter> pending = executeWithLock(lock, () -> {
+            closed = true;
+            var drained = new ArrayList<>(waiters);
+            waiters.clear();
+            return drained;
+        });
+        for (var waiter : pending) {
+            waiter.cancelTimeout();
+            waiter.future.completeExceptionally(new IllegalStateException(CLOSED_ERROR_MESSAGE));
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        if (executeWithLock(lock, () -> waiters.remove(waiter))) {
+            waiter.fail();
+        }
+    }
+
+    private static final class Waiter implements Comparable<Waiter> {
+        private final ConnectionAcquisitionPriority priority;
+        private final long deadline;
+        private final long sequence;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private ScheduledFuture<?> timeout;
+
+        private Waiter(ConnectionAcquisitionPriority priority, long deadline, long sequence) {
+            this.priority = priority;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            var result = priority.compareTo(other.priority);
+            if (result == 0) {
+                result = Long.compare(deadline, other.deadline);
+            }
+            if (result == 0) {
+                result = Long.compare(sequence, other.sequence);
+            }
+            return result;
+        }
+
+        private void fail() {
+            cancelTimeout();
+            future.completeExceptionally(new TimeoutException(TIMEOUT_ERROR_MESSAGE));
+        }
+
+        private void cancelTimeout() {
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A limit of the amount of connections acquired from the pool of a single server that adapts to how quickly the server
+ * responds, comparing recent response times to those of the server when it is not loaded.
+ * <p>
+ * The limit starts at its ceiling. Query responses are grouped in windows of {@link #WINDOW_SIZE} responses and each
+ * window is summarised by the geometric mean of its response times, so that a few slow queries in a mix of fast ones
+ * move it only a little. The baseline is the lowest window seen so far, approximating the response time of the server
+ * when it is not loaded, and drifts up towards later windows so that it follows lasting changes of the workload.
+ * <p>
+ * A window that takes longer than {@link #LATENCY_TOLERANCE} times the baseline signals that the server is overloaded
+ * and shrinks the limit in proportion to how much longer it took, to no less than {@link #MIN_GRADIENT} of itself.
+ * Unless the last window signalled an overload, any response grows the limit by one connection as long as acquisitions
+ * had to wait for a connection or at least half of the limit is in use. The limit always stays between its floor and
+ * its ceiling.
+ */
+final class AdaptiveConnectionLimit {
+    static final int WINDOW_SIZE = 100;
+    static final double LATENCY_TOLERANCE = 2.0;
+    static final double MIN_GRADIENT = 0.5;
+    private static final double BASELINE_DRIFT = 0.1;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final Lock lock = new ReentrantLock();
+    private volatile int limit;
+    private volatile boolean acquisitionWaited;
+    private double windowLogLatencySum;
+    private int windowResponses;
+    private double baselineLatencyNanos;
+    private boolean overloaded;
+
+    /**
+     * @param minLimit the floor of the limit
+     * @param maxLimit the ceiling of the limit
+     */
+    AdaptiveConnectionLimit(int minLimit, int maxLimit) {
+        this.minLimit = Math.min(minLimit, maxLimit);
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the maximum amount of connections that may be acquired at the same time
+     */
+    int limit() {
+        return limit;
+    }
+
+    /**
+     * Notifies the limit that an acquisition has to wait for a connection to be released.
+     */
+    void onAcquisitionWait() {
+        acquisitionWaited = true;
+    }
+
+    /**
+     * Notifies the limit that the server has responded to a query.
+     *
+     * @param latencyNanos the time the server took to respond in nanoseconds
+     * @param inUse        the amount of connections in use
+     */
+    void onQueryResponse(long latencyNanos, int inUse) {
+        executeWithLock(lock, () -> {
+            windowLogLatencySum += Math.log(Math.max(latencyNanos, 1));
+            if (++windowResponses == WINDOW_SIZE) {
+                onWindowEnd(Math.exp(windowLogLatencySum / WINDOW_SIZE));
+                windowLogLatencySum = 0;
+                windowResponses = 0;
+            }
+
+            if (!overloaded && limit < maxLimit && (acquisitionWaited || inUse >= limit / 2)) {
+                acquisitionWaited = false;
+                limit++;
+            }
+        });
+    }
+
+    private void onWindowEnd(double windowLatencyNanos) {
+        if (baselineLatencyNanos == 0 || windowLatencyNanos < baselineLatencyNanos) {
+            baselineLatencyNanos = windowLatencyNanos;
+        }
+
+        var gradient =
+                Math.max(MIN_GRADIENT, Math.min(1.0, LATENCY_TOLERANCE * baselineLatencyNanos / windowLatencyNanos));
+        overloaded = gradient < 1.0;
+        if (overloaded) {
+            limit = Math.max(minLimit, (int) (limit * gradient));
+        }
+        baselineLatencyNanos += (windowLatencyNanos - baselineLatencyNanos) * BASELINE_DRIFT;
+    }
+}
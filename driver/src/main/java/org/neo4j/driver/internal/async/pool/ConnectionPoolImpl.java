@@ -21,24 +21,21 @@ import static java.util.Objects.requireNonNull;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAuthorizationStateListener;
 import static org.neo4j.driver.internal.util.Futures.combineErrors;
 import static org.neo4j.driver.internal.util.Futures.completeWithNullIfNoError;
-import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
-import static org.neo4j.driver.internal.util.LockUtil.executeWithLockAsync;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
 import java.time.Clock;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Logger;
@@ -47,7 +44,9 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.async.connection.ResponseLatencyListener;
 import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Futures;
@@ -63,13 +62,15 @@ public class ConnectionPoolImpl implements ConnectionPool {
     private final MetricsListener metricsListener;
     private final boolean ownsEventLoopGroup;
 
-    private final ReadWriteLock addressToPoolLock = new ReentrantReadWriteLock();
-    private final Map<BoltServerAddress, ExtendedChannelPool> addressToPool = new HashMap<>();
+    private final Map<BoltServerAddress, ExtendedChannelPool> addressToPool = new ConcurrentHashMap<>();
+    private final Map<ServerAddress, PeakEwmaLatency> addressToResponseLatency = new ConcurrentHashMap<>();
     private final AtomicBoolean closed = new AtomicBoolean();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final ConnectionFactory connectionFactory;
     private final Clock clock;
 
+    private final ScheduledFuture<?> idleConnectionSweep;
+
     public ConnectionPoolImpl(
             ChannelConnector connector,
             Bootstrap bootstrap,
@@ -112,10 +113,19 @@ public class ConnectionPoolImpl implements ConnectionPool {
         this.ownsEventLoopGroup = ownsEventLoopGroup;
         this.connectionFactory = connectionFactory;
         this.clock = clock;
+        this.idleConnectionSweep = settings.idleConnectionSweepEnabled()
+                ? eventLoopGroup()
+                        .scheduleWithFixedDelay(
+                                this::sweepIdleConnections,
+                                settings.idleConnectionSweepInterval(),
+                                settings.idleConnectionSweepInterval(),
+                                TimeUnit.MILLISECONDS)
+                : null;
     }
 
     @Override
-    public CompletionStage<Connection> acquire(BoltServerAddress address, AuthToken overrideAuthToken) {
+    public CompletionStage<Connection> acquire(
+            BoltServerAddress address, AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions) {
         log.trace("Acquiring a connection from pool towards %s", address);
 
         assertNotClosed();
@@ -123,11 +133,11 @@ public class ConnectionPoolImpl implements ConnectionPool {
 
         var acquireEvent = metricsListener.createListenerEvent();
         metricsListener.beforeAcquiringOrCreating(pool.id(), acquireEvent);
-        var channelFuture = pool.acquire(overrideAuthToken);
+        var channelFuture = pool.acquire(overrideAuthToken, acquisitionOptions);
 
         return channelFuture.handle((channel, error) -> {
             try {
-                processAcquisitionError(pool, address, error);
+                processAcquisitionError(pool, address, acquisitionOptions, error);
                 assertNotClosed(address, channel, pool);
                 setAuthorizationStateListener(channel, pool.healthChecker());
                 var connection = connectionFactory.createConnection(channel, pool);
@@ -142,36 +152,86 @@ public class ConnectionPoolImpl implements ConnectionPool {
 
     @Override
     public void retainAll(Set<BoltServerAddress> addressesToRetain) {
-        executeWithLock(addressToPoolLock.writeLock(), () -> {
-            var entryIterator = addressToPool.entrySet().iterator();
-            while (entryIterator.hasNext()) {
-                var entry = entryIterator.next();
-                var address = entry.getKey();
-                if (!addressesToRetain.contains(address)) {
-                    var activeChannels = nettyChannelTracker.inUseChannelCount(address);
-                    if (activeChannels == 0) {
-                        // address is not present in updated routing table and has no active connections
-                        // it's now safe to terminate corresponding connection pool and forget about it
-                        var pool = entry.getValue();
-                        entryIterator.remove();
-                        if (pool != null) {
-                            log.info(
-                                    "Closing connection pool towards %s, it has no active connections "
-                                            + "and is not in the routing table registry.",
-                                    address);
-                            closePoolInBackground(address, pool);
-                        }
+        for (var entry : addressToPool.entrySet()) {
+            var address = entry.getKey();
+            if (!addressesToRetain.contains(address)) {
+                var activeChannels = nettyChannelTracker.inUseChannelCount(address);
+                if (activeChannels == 0) {
+                    // address is not present in updated routing table and has no active connections
+                    // it's now safe to terminate corresponding connection pool and forget about it
+                    var pool = entry.getValue();
+                    // only the thread that removes the pool closes it
+                    if (addressToPool.remove(address, pool)) {
+                        addressToResponseLatency.remove(address);
+                        log.info(
+                                "Closing connection pool towards %s, it has no active connections "
+                                        + "and is not in the routing table registry.",
+                                address);
+                        closePoolInBackground(address, pool);
                     }
                 }
             }
+        }
+    }
+
+    @Override
+    public void warmUp(Set<BoltServerAddress> addresses) {
+        if (!settings.warmUpEnabled() || closed.get()) {
+            return;
+        }
+        for (var address : addresses) {
+            warmUp(address, getOrCreatePool(address));
+        }
+    }
+
+    private void warmUp(BoltServerAddress address, ExtendedChannelPool pool) {
+        // every pool creates its idle connections one at a time, so that warm-up does not stampede a server, and
+        // never acquires them, so that the application does not wait for them
+        pool.createIdleChannels(settings.minIdleConnectionsPerServer()).whenComplete((ignored, error) -> {
+            if (error != null) {
+                log.debug(
+                        "Failed to warm up connection pool towards %s: %s",
+                        address, Futures.completionExceptionCause(error));
+            }
         });
     }
 
+    private void sweepIdleConnections() {
+        if (closed.get()) {
+            return;
+        }
+        try {
+            for (var entry : addressToPool.entrySet()) {
+                var pool = entry.getValue();
+                pool.sweepIdleChannels(settings.minIdleConnectionsPerServer(), settings.maxIdleConnectionsPerServer());
+                if (settings.warmUpEnabled()) {
+                    // replace the idle connections closed for their age
+                    warmUp(entry.getKey(), pool);
+                }
+            }
+        } catch (Throwable error) {
+            // an exception would cancel all further sweeps
+            log.warn("Failed to sweep idle connections", error);
+        }
+    }
+
     @Override
     public int inUseConnections(ServerAddress address) {
         return nettyChannelTracker.inUseChannelCount(address);
     }
 
+    @Override
+    public boolean isSaturated(BoltServerAddress address) {
+        var pool = addressToPool.get(address);
+        return pool != null && pool.isExhausted();
+    }
+
+    @Override
+    public long responseLatencyNanos(ServerAddress address) {
+        var responseLatency = addressToResponseLatency.get(address);
+        return responseLatency != null ? responseLatency.estimateNanos() : 0;
+    }
+
     private int idleConnections(ServerAddress address) {
         return nettyChannelTracker.idleChannelCount(address);
     }
@@ -179,19 +239,22 @@ public class ConnectionPoolImpl implements ConnectionPool {
     @Override
     public CompletionStage<Void> close() {
         if (closed.compareAndSet(false, true)) {
+            if (idleConnectionSweep != null) {
+                idleConnectionSweep.cancel(false);
+            }
             nettyChannelTracker.prepareToCloseChannels();
 
-            executeWithLockAsync(addressToPoolLock.writeLock(), () -> {
-                // We can only shutdown event loop group when all netty pools are fully closed,
-                // otherwise the netty pools might missing threads (from event loop group) to execute clean ups.
-                return closeAllPools().whenComplete((ignored, pollCloseError) -> {
-                    addressToPool.clear();
-                    if (!ownsEventLoopGroup) {
-                        completeWithNullIfNoError(closeFuture, pollCloseError);
-                    } else {
-                        shutdownEventLoopGroup(pollCloseError);
-                    }
-                });
+            // We can only shutdown event loop group when all netty pools are fully closed,
+            // otherwise the netty pools might missing threads (from event loop group) to execute clean ups.
+            // Pools created concurrently with closing are closed by the acquisitions that created them, see
+            // assertNotClosed.
+            closeAllPools().whenComplete((ignored, pollCloseError) -> {
+                addressToPool.clear();
+                if (!ownsEventLoopGroup) {
+                    completeWithNullIfNoError(closeFuture, pollCloseError);
+                } else {
+                    shutdownEventLoopGroup(pollCloseError);
+                }
             });
         }
         return closeFuture;
@@ -199,25 +262,31 @@ public class ConnectionPoolImpl implements ConnectionPool {
 
     @Override
     public boolean isOpen(BoltServerAddress address) {
-        return executeWithLock(addressToPoolLock.readLock(), () -> addressToPool.containsKey(address));
+        return addressToPool.containsKey(address);
     }
 
     @Override
     public String toString() {
-        return executeWithLock(
-                addressToPoolLock.readLock(), () -> "ConnectionPoolImpl{" + "pools=" + addressToPool + '}');
+        return "ConnectionPoolImpl{" + "pools=" + addressToPool + '}';
     }
 
-    private void processAcquisitionError(ExtendedChannelPool pool, BoltServerAddress serverAddress, Throwable error) {
+    private void processAcquisitionError(
+            ExtendedChannelPool pool,
+            BoltServerAddress serverAddress,
+            AcquisitionOptions acquisitionOptions,
+            Throwable error) {
         var cause = Futures.completionExceptionCause(error);
         if (cause != null) {
             if (cause instanceof TimeoutException) {
                 // NettyChannelPool returns future failed with TimeoutException if acquire operation takes more than
                 // configured time, translate this exception to a prettier one and re-throw
                 metricsListener.afterTimedOutToAcquireOrCreate(pool.id());
+                var timeoutMillis = acquisitionOptions.hasTimeout()
+                        ? acquisitionOptions.timeoutMillis()
+                        : settings.connectionAcquisitionTimeout();
                 throw new ClientException(
-                        "Unable to acquire connection from the pool within configured maximum time of "
-                                + settings.connectionAcquisitionTimeout() + "ms");
+                        "Unable to acquire connection from the pool within configured maximum time of " + timeoutMillis
+                                + "ms");
             } else if (pool.isClosed()) {
                 // There is a race condition where a thread tries to acquire a connection while the pool is closed by
                 // another concurrent thread.
@@ -243,17 +312,35 @@ public class ConnectionPoolImpl implements ConnectionPool {
         if (closed.get()) {
             pool.release(channel);
             closePoolInBackground(address, pool);
-            executeWithLock(addressToPoolLock.writeLock(), () -> addressToPool.remove(address));
+            addressToPool.remove(address, pool);
             assertNotClosed();
         }
     }
 
     // for testing only
     ExtendedChannelPool getPool(BoltServerAddress address) {
-        return executeWithLock(addressToPoolLock.readLock(), () -> addressToPool.get(address));
+        return addressToPool.get(address);
     }
 
     ExtendedChannelPool newPool(BoltServerAddress address) {
+        var adaptiveLimit = settings.adaptiveConnectionPoolSizingEnabled()
+                ? new AdaptiveConnectionLimit(
+                        settings.minAdaptiveConnectionPoolSize(), settings.maxConnectionPoolSize())
+                : null;
+        var responseLatencyListener = responseLatencyListener(address, adaptiveLimit);
+        if (settings.eventLoopAffinity()) {
+            return new ShardedNettyChannelPool(
+                    address,
+                    connector,
+                    bootstrap,
+                    nettyChannelTracker,
+                    channelHealthCheckerSupplier.get(),
+                    settings.connectionAcquisitionTimeout(),
+                    settings.maxConnectionPoolSize(),
+                    adaptiveLimit,
+                    responseLatencyListener,
+                    clock);
+        }
         return new NettyChannelPool(
                 address,
                 connector,
@@ -262,27 +349,43 @@ public class ConnectionPoolImpl implements ConnectionPool {
                 channelHealthCheckerSupplier.get(),
                 settings.connectionAcquisitionTimeout(),
                 settings.maxConnectionPoolSize(),
+                adaptiveLimit,
+                responseLatencyListener,
                 clock);
     }
 
+    private ResponseLatencyListener responseLatencyListener(
+            BoltServerAddress address, AdaptiveConnectionLimit adaptiveLimit) {
+        ResponseLatencyListener adaptiveLimitListener = adaptiveLimit != null
+                ? latencyNanos ->
+                        adaptiveLimit.onQueryResponse(latencyNanos, nettyChannelTracker.inUseChannelCount(address))
+                : null;
+        if (!settings.responseLatencyTracking()) {
+            return adaptiveLimitListener;
+        }
+        var responseLatency = addressToResponseLatency.computeIfAbsent(
+                address, ignored -> new PeakEwmaLatency(PeakEwmaLatency.DEFAULT_DECAY_TIME_MILLIS, clock));
+        if (adaptiveLimitListener == null) {
+            return responseLatency::observe;
+        }
+        return latencyNanos -> {
+            adaptiveLimitListener.onQueryResponse(latencyNanos);
+            responseLatency.observe(latencyNanos);
+        };
+    }
+
     private ExtendedChannelPool getOrCreatePool(BoltServerAddress address) {
-        var existingPool = executeWithLock(addressToPoolLock.readLock(), () -> addressToPool.get(address));
-        return existingPool != null
-                ? existingPool
-                : executeWithLock(addressToPoolLock.writeLock(), () -> {
-                    var pool = addressToPool.get(address);
-                    if (pool == null) {
-                        pool = newPool(address);
-                        // before the connection pool is added I can register the metrics for the pool.
-                        metricsListener.registerPoolMetrics(
-                                pool.id(),
-                                address,
-                                () -> this.inUseConnections(address),
-                                () -> this.idleConnections(address));
-                        addressToPool.put(address, pool);
-                    }
-                    return pool;
-                });
+        // plain reads do not lock, unlike computeIfAbsent on a present key
+        var existingPool = addressToPool.get(address);
+        return existingPool != null ? existingPool : addressToPool.computeIfAbsent(address, this::createPool);
+    }
+
+    private ExtendedChannelPool createPool(BoltServerAddress address) {
+        var pool = newPool(address);
+        // before the connection pool is added I can register the metrics for the pool.
+        metricsListener.registerPoolMetrics(
+                pool.id(), address, () -> this.inUseConnections(address), () -> this.idleConnections(address));
+        return pool;
     }
 
     private CompletionStage<Void> closePool(ExtendedChannelPool pool) {
@@ -19,17 +19,44 @@ package org.neo4j.driver.internal.async.pool;
 import io.netty.channel.Channel;
 import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 
 public interface ExtendedChannelPool {
-    CompletionStage<Channel> acquire(AuthToken overrideAuthToken);
+    CompletionStage<Channel> acquire(AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions);
 
     CompletionStage<Void> release(Channel channel);
 
     boolean isClosed();
 
+    /**
+     * Checks if all channels this pool currently admits are acquired, so that an acquisition has to wait for a release.
+     *
+     * @return {@code true} if no channel is available without waiting or {@code false} otherwise
+     */
+    boolean isExhausted();
+
     String id();
 
     CompletionStage<Void> close();
 
     NettyChannelHealthChecker healthChecker();
+
+    /**
+     * Closes idle channels that are broken, past their lifetime or idle time or above the given amount of idle
+     * channels, and pings idle channels that would otherwise be pinged when acquired. Never closes idle channels for
+     * being idle while there are no more than the given minimum amount of them.
+     *
+     * @param minIdleChannels the amount of idle channels that are kept regardless of their idle time
+     * @param maxIdleChannels the amount of idle channels above which idle channels are closed
+     */
+    void sweepIdleChannels(int minIdleChannels, int maxIdleChannels);
+
+    /**
+     * Creates channels one at a time and keeps them idle without acquiring them, until the pool has the given amount of
+     * idle channels or as many channels as it admits acquisitions. Does nothing while such a creation is in progress.
+     *
+     * @param minIdleChannels the amount of idle channels to create
+     * @return a stage that completes when no more channels are to be created
+     */
+    CompletionStage<Void> createIdleChannels(int minIdleChannels);
 }
@@ -19,8 +19,10 @@ package org.neo4j.driver.internal.async.pool;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authContext;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.creationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lastUsedTimestamp;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lifetimeJitter;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.protocolVersion;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLifetimeJitter;
 
 import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelHealthChecker;
@@ -28,6 +30,7 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.concurrent.PromiseNotifier;
 import java.time.Clock;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.neo4j.driver.Logger;
@@ -130,13 +133,13 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
         minAuthTimestamp.getAndUpdate(prev -> Math.max(prev, now));
     }
 
-    private boolean isTooOld(Channel channel) {
+    boolean isTooOld(Channel channel) {
         if (poolSettings.maxConnectionLifetimeEnabled()) {
             var creationTimestampMillis = creationTimestamp(channel);
             var currentTimestampMillis = clock.millis();
 
             var ageMillis = currentTimestampMillis - creationTimestampMillis;
-            var maxAgeMillis = poolSettings.maxConnectionLifetime();
+            var maxAgeMillis = maxLifetime(channel);
 
             var tooOld = ageMillis > maxAgeMillis;
             if (tooOld) {
@@ -149,7 +152,35 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
         return false;
     }
 
-    private boolean hasBeenIdleForTooLong(Channel channel) {
+    /**
+     * Shortens the lifetime of a new channel by a random amount up to the configured jitter, so that channels created
+     * at the same time do not expire at the same time.
+     */
+    void assignLifetime(Channel channel) {
+        if (poolSettings.maxConnectionLifetimeJitterEnabled()) {
+            var jitter = ThreadLocalRandom.current().nextLong(poolSettings.maxConnectionLifetimeJitter() + 1);
+            setLifetimeJitter(channel, jitter);
+        }
+    }
+
+    /**
+     * Checks if the channel should be replaced by the maintenance of the pool, because it would otherwise expire
+     * before the next maintenance run.
+     */
+    boolean isDueForRotation(Channel channel) {
+        if (poolSettings.proactiveConnectionRotationEnabled()) {
+            var ageMillis = clock.millis() - creationTimestamp(channel);
+            return ageMillis > maxLifetime(channel) - poolSettings.idleConnectionSweepInterval();
+        }
+        return false;
+    }
+
+    private long maxLifetime(Channel channel) {
+        var jitter = lifetimeJitter(channel);
+        return jitter != null ? poolSettings.maxConnectionLifetime() - jitter : poolSettings.maxConnectionLifetime();
+    }
+
+    boolean hasBeenIdleForTooLong(Channel channel) {
         if (poolSettings.idleTimeBeforeConnectionTestEnabled()) {
             var lastUsedTimestamp = lastUsedTimestamp(channel);
             if (lastUsedTimestamp != null) {
@@ -166,7 +197,21 @@ public class NettyChannelHealthChecker implements ChannelHealthChecker, Authoriz
         return false;
     }
 
-    private Future<Boolean> ping(Channel channel) {
+    /**
+     * Checks if the channel has been idle for longer than the maximum idle time, after which idle channels are closed
+     * by the maintenance of the pool.
+     */
+    boolean hasExceededMaxIdleTime(Channel channel) {
+        if (poolSettings.maxConnectionIdleTimeEnabled()) {
+            var lastUsedTimestamp = lastUsedTimestamp(channel);
+            var idleSinceMillis = lastUsedTimestamp != null ? lastUsedTimestamp : creationTimestamp(channel);
+            var idleTime = clock.millis() - idleSinceMillis;
+            return idleTime > poolSettings.maxConnectionIdleTime();
+        }
+        return false;
+    }
+
+    Future<Boolean> ping(Channel channel) {
         Promise<Boolean> result = channel.eventLoop().newPromise();
         var messageDispatcher = messageDispatcher(channel);
         messageDispatcher.enqueue(new PingResponseHandler(result, channel, logging));
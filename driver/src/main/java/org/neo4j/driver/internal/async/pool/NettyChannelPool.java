@@ -21,27 +21,36 @@ import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authC
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.helloStage;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.protocolVersion;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setLastUsedTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setResponseLatencyListener;
 import static org.neo4j.driver.internal.util.Futures.asCompletionStage;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.pool.FixedChannelPool;
 import java.time.Clock;
+import java.util.Deque;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.exceptions.UnsupportedFeatureException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.async.connection.ResponseLatencyListener;
 import org.neo4j.driver.internal.handlers.LogoffResponseHandler;
 import org.neo4j.driver.internal.handlers.LogonResponseHandler;
 import org.neo4j.driver.internal.messaging.request.LogoffMessage;
 import org.neo4j.driver.internal.messaging.request.LogonMessage;
 import org.neo4j.driver.internal.security.InternalAuthToken;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.internal.util.SessionAuthUtil;
 
@@ -55,8 +64,23 @@ public class NettyChannelPool implements ExtendedChannelPool {
      */
     private static final boolean RELEASE_HEALTH_CHECK = false;
 
+    private final BoltServerAddress address;
+    private final ChannelConnector connector;
+    private final Bootstrap bootstrap;
+    private final NettyChannelTracker handler;
     private final FixedChannelPool delegate;
+    private final AcquisitionScheduler scheduler;
+    private final AdaptiveConnectionLimit adaptiveLimit;
+    private final IntSupplier connectionLimit;
+    private final ResponseLatencyListener responseLatencyListener;
+    /**
+     * Idle channels, from the least to the most recently used one. Owned by this pool, so that idle channels can be
+     * maintained without acquiring them.
+     */
+    private final Deque<Channel> idleChannels = new ConcurrentLinkedDeque<>();
+
     private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicBoolean creatingIdleChannels = new AtomicBoolean(false);
     private final String id;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final NettyChannelHealthChecker healthChecker;
@@ -71,50 +95,143 @@ public class NettyChannelPool implements ExtendedChannelPool {
             long acquireTimeoutMillis,
             int maxConnections,
             Clock clock) {
+        this(
+                address,
+                connector,
+                bootstrap,
+                handler,
+                healthCheck,
+                acquireTimeoutMillis,
+                maxConnections,
+                null,
+                null,
+                clock);
+    }
+
+    /**
+     * Creates a pool whose limit adapts to how quickly the server responds, unless the given adaptive limit is
+     * {@code null}. The given response latency listener, if any, is notified of the response times of all channels.
+     */
+    NettyChannelPool(
+            BoltServerAddress address,
+            ChannelConnector connector,
+            Bootstrap bootstrap,
+            NettyChannelTracker handler,
+            NettyChannelHealthChecker healthCheck,
+            long acquireTimeoutMillis,
+            int maxConnections,
+            AdaptiveConnectionLimit adaptiveLimit,
+            ResponseLatencyListener responseLatencyListener,
+            Clock clock) {
+        this(
+                address,
+                connector,
+                bootstrap,
+                handler,
+                healthCheck,
+                acquireTimeoutMillis,
+                maxConnections,
+                adaptiveLimit,
+                adaptiveLimit != null ? adaptiveLimit::limit : () -> maxConnections,
+                responseLatencyListener,
+                clock,
+                null);
+    }
+
+    /**
+     * Creates a pool with the given id, which allows multiple pools to share it, see {@link ShardedNettyChannelPool}.
+     * A {@code null} id is replaced by an id unique to this pool. The pool never creates more than the maximum amount
+     * of channels and admits no more acquisitions at the same time than the connection limit.
+     */
+    NettyChannelPool(
+            BoltServerAddress address,
+            ChannelConnector connector,
+            Bootstrap bootstrap,
+            NettyChannelTracker handler,
+            NettyChannelHealthChecker healthCheck,
+            long acquireTimeoutMillis,
+            int maxConnections,
+            AdaptiveConnectionLimit adaptiveLimit,
+            IntSupplier connectionLimit,
+            ResponseLatencyListener responseLatencyListener,
+            Clock clock,
+            String id) {
         requireNonNull(address);
         requireNonNull(connector);
         requireNonNull(handler);
         requireNonNull(clock);
-        this.id = poolId(address);
+        this.id = id != null ? id : poolId(address);
         this.healthChecker = healthCheck;
         this.clock = clock;
+        this.address = address;
+        this.connector = connector;
+        this.bootstrap = bootstrap;
+        this.handler = handler;
+        this.adaptiveLimit = adaptiveLimit;
+        this.connectionLimit = connectionLimit;
+        this.responseLatencyListener = responseLatencyListener;
+        this.scheduler = new AcquisitionScheduler(
+                connectionLimit,
+                acquireTimeoutMillis,
+                bootstrap.config().group().next(),
+                clock);
+        // the scheduler admits no more acquisitions than there are channels, so that the delegate never makes them wait
         this.delegate =
                 new FixedChannelPool(
                         bootstrap,
                         handler,
                         healthCheck,
-                        FixedChannelPool.AcquireTimeoutAction.FAIL,
-                        acquireTimeoutMillis,
+                        null,
+                        -1,
                         maxConnections,
                         MAX_PENDING_ACQUIRES,
                         RELEASE_HEALTH_CHECK) {
                     @Override
                     protected ChannelFuture connectChannel(Bootstrap bootstrap) {
-                        var creatingEvent = handler.channelCreating(id);
-                        var connectedChannelFuture = connector.connect(address, bootstrap);
-                        var channel = connectedChannelFuture.channel();
-                        // This ensures that handler.channelCreated is called before SimpleChannelPool calls
-                        // handler.channelAcquired
-                        var trackedChannelFuture = channel.newPromise();
-                        connectedChannelFuture.addListener(future -> {
-                            if (future.isSuccess()) {
-                                // notify pool handler about a successful connection
-                                setPoolId(channel, id);
-                                handler.channelCreated(channel, creatingEvent);
-                                trackedChannelFuture.setSuccess();
-                            } else {
-                                handler.channelFailedToCreate(id);
-                                trackedChannelFuture.setFailure(future.cause());
-                            }
-                        });
-                        return trackedChannelFuture;
+                        return connectTrackedChannel(bootstrap);
+                    }
+
+                    @Override
+                    protected Channel pollChannel() {
+                        return idleChannels.pollLast();
+                    }
+
+                    @Override
+                    protected boolean offerChannel(Channel channel) {
+                        return idleChannels.offerLast(channel);
                     }
                 };
     }
 
+    private ChannelFuture connectTrackedChannel(Bootstrap bootstrap) {
+        var creatingEvent = handler.channelCreating(id);
+        var connectedChannelFuture = connector.connect(address, bootstrap);
+        var channel = connectedChannelFuture.channel();
+        // This ensures that handler.channelCreated is called before SimpleChannelPool calls
+        // handler.channelAcquired
+        var trackedChannelFuture = channel.newPromise();
+        connectedChannelFuture.addListener(future -> {
+            if (future.isSuccess()) {
+                // notify pool handler about a successful connection
+                setPoolId(channel, id);
+                healthChecker.assignLifetime(channel);
+                if (responseLatencyListener != null) {
+                    setResponseLatencyListener(channel, responseLatencyListener);
+                }
+                handler.channelCreated(channel, creatingEvent);
+                trackedChannelFuture.setSuccess();
+            } else {
+                handler.channelFailedToCreate(id);
+                trackedChannelFuture.setFailure(future.cause());
+            }
+        });
+        return trackedChannelFuture;
+    }
+
     @Override
     public CompletionStage<Void> close() {
         if (closed.compareAndSet(false, true)) {
+            scheduler.close();
             asCompletionStage(delegate.closeAsync(), closeFuture);
         }
         return closeFuture;
@@ -126,8 +243,35 @@ public class NettyChannelPool implements ExtendedChannelPool {
     }
 
     @Override
-    public CompletionStage<Channel> acquire(AuthToken overrideAuthToken) {
-        return asCompletionStage(delegate.acquire()).thenCompose(channel -> auth(channel, overrideAuthToken));
+    public CompletionStage<Channel> acquire(AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions) {
+        if (adaptiveLimit != null && scheduler.isExhausted()) {
+            adaptiveLimit.onAcquisitionWait();
+        }
+        return scheduler
+                .acquire(acquisitionOptions)
+                .thenCompose(ignored -> acquireAdmitted())
+                .thenCompose(channel -> auth(channel, overrideAuthToken));
+    }
+
+    /**
+     * Acquires a channel unless the acquisition would have to wait for a release.
+     *
+     * @param overrideAuthToken the auth token to use instead of the one of the driver, if any
+     * @return the acquired channel or {@code null} if all channels are acquired
+     */
+    CompletionStage<Channel> tryAcquire(AuthToken overrideAuthToken) {
+        if (!scheduler.tryAcquire()) {
+            return null;
+        }
+        return acquireAdmitted().thenCompose(channel -> auth(channel, overrideAuthToken));
+    }
+
+    private CompletionStage<Channel> acquireAdmitted() {
+        return asCompletionStage(delegate.acquire()).whenComplete((channel, error) -> {
+            if (error != null) {
+                scheduler.release();
+            }
+        });
     }
 
     private CompletionStage<Channel> auth(Channel channel, AuthToken overrideAuthToken) {
@@ -170,39 +314,7 @@ public class NettyChannelPool implements ExtendedChannelPool {
                 }
             }
         } else {
-            var validToken = authContext.getValidToken();
-            authContext.setValidToken(null);
-            var stage = validToken != null
-                    ? CompletableFuture.completedStage(validToken)
-                    : authContext.getAuthTokenManager().getToken();
-            authStage = stage.thenComposeAsync(
-                    latestAuthToken -> {
-                        CompletionStage<Channel> result;
-                        if (authContext.getAuthTimestamp() != null) {
-                            if (!authContext.getAuthToken().equals(latestAuthToken) || authContext.isPendingLogoff()) {
-                                var logoffFuture = new CompletableFuture<Void>();
-                                messageDispatcher(channel).enqueue(new LogoffResponseHandler(logoffFuture));
-                                channel.write(LogoffMessage.INSTANCE);
-                                var logonFuture = new CompletableFuture<Void>();
-                                messageDispatcher(channel)
-                                        .enqueue(new LogonResponseHandler(logonFuture, channel, clock));
-                                authContext.initiateAuth(latestAuthToken);
-                                channel.write(new LogonMessage(((InternalAuthToken) latestAuthToken).toMap()));
-                            }
-                            // do not await for re-login
-                            result = CompletableFuture.completedStage(channel);
-                        } else {
-                            var logonFuture = new CompletableFuture<Void>();
-                            messageDispatcher(channel).enqueue(new LogonResponseHandler(logonFuture, channel, clock));
-                            result = helloStage(channel)
-                                    .thenCompose(ignored -> logonFuture)
-                                    .thenApply(ignored -> channel);
-                            authContext.initiateAuth(latestAuthToken);
-                            channel.writeAndFlush(new LogonMessage(((InternalAuthToken) latestAuthToken).toMap()));
-                        }
-                        return result;
-                    },
-                    channel.eventLoop());
+            authStage = logonWithManagedToken(channel, authContext);
         }
         return authStage.handle((ignored, throwable) -> {
             if (throwable != null) {
@@ -219,9 +331,193 @@ public class NettyChannelPool implements ExtendedChannelPool {
         });
     }
 
+    private CompletionStage<Channel> logonWithManagedToken(Channel channel, AuthContext authContext) {
+        var validToken = authContext.getValidToken();
+        authContext.setValidToken(null);
+        var stage = validToken != null
+                ? CompletableFuture.completedStage(validToken)
+                : authContext.getAuthTokenManager().getToken();
+        return stage.thenCompose(latestAuthToken -> {
+            // channels are written from their event loop only, which callers on that loop do without a hand-off
+            var eventLoop = channel.eventLoop();
+            if (eventLoop.inEventLoop()) {
+                return logon(channel, authContext, latestAuthToken);
+            }
+            return CompletableFuture.supplyAsync(() -> logon(channel, authContext, latestAuthToken), eventLoop)
+                    .thenCompose(Function.identity());
+        });
+    }
+
+    private CompletionStage<Channel> logon(Channel channel, AuthContext authContext, AuthToken latestAuthToken) {
+        CompletionStage<Channel> result;
+        if (authContext.getAuthTimestamp() != null) {
+            if (!authContext.getAuthToken().equals(latestAuthToken) || authContext.isPendingLogoff()) {
+                var logoffFuture = new CompletableFuture<Void>();
+                messageDispatcher(channel).enqueue(new LogoffResponseHandler(logoffFuture));
+                channel.write(LogoffMessage.INSTANCE);
+                var logonFuture = new CompletableFuture<Void>();
+                messageDispatcher(channel).enqueue(new LogonResponseHandler(logonFuture, channel, clock));
+                authContext.initiateAuth(latestAuthToken);
+                channel.write(new LogonMessage(((InternalAuthToken) latestAuthToken).toMap()));
+            }
+            // do not await for re-login
+            result = CompletableFuture.completedStage(channel);
+        } else {
+            var logonFuture = new CompletableFuture<Void>();
+            messageDispatcher(channel).enqueue(new LogonResponseHandler(logonFuture, channel, clock));
+            result = helloStage(channel).thenCompose(ignored -> logonFuture).thenApply(ignored -> channel);
+            authContext.initiateAuth(latestAuthToken);
+            channel.writeAndFlush(new LogonMessage(((InternalAuthToken) latestAuthToken).toMap()));
+        }
+        return result;
+    }
+
     @Override
     public CompletionStage<Void> release(Channel channel) {
-        return asCompletionStage(delegate.release(channel));
+        // the delegate has counted the release once it completes, so the next acquisition does not wait in it
+        return asCompletionStage(delegate.release(channel)).whenComplete((ignored, error) -> scheduler.release());
+    }
+
+    @Override
+    public void sweepIdleChannels(int minIdleChannels, int maxIdleChannels) {
+        // the least recently used channels are visited first, so that they are the ones to be closed
+        var idleCount = idleChannels.size();
+        var idleTarget = Math.max(minIdleChannels, maxIdleChannels);
+        var rotated = false;
+        for (var channel : idleChannels) {
+            if (closed.get()) {
+                return;
+            }
+            var expendable = idleCount > minIdleChannels;
+            var close = !channel.isActive()
+                    || healthChecker.isTooOld(channel)
+                    || (expendable && (idleCount > idleTarget || healthChecker.hasExceededMaxIdleTime(channel)));
+            if (close) {
+                // removal fails if the channel has been acquired in the meantime
+                if (idleChannels.remove(channel)) {
+                    idleCount--;
+                    channel.close();
+                }
+            } else if (!rotated && healthChecker.isDueForRotation(channel) && idleChannels.remove(channel)) {
+                // a single channel per sweep, so that channels are replaced gradually
+                rotated = true;
+                rotateIdleChannel(channel);
+            } else if (healthChecker.hasBeenIdleForTooLong(channel) && idleChannels.remove(channel)) {
+                pingIdleChannel(channel);
+            }
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> createIdleChannels(int minIdleChannels) {
+        if (!creatingIdleChannels.compareAndSet(false, true)) {
+            return completedWithNull();
+        }
+        var result = new CompletableFuture<Void>();
+        createIdleChannel(minIdleChannels, result);
+        return result.whenComplete((ignored, error) -> creatingIdleChannels.set(false));
+    }
+
+    private void createIdleChannel(int minIdleChannels, CompletableFuture<Void> result) {
+        // checked before every channel, so that creation stops as soon as the application uses the pool
+        var idleCount = idleChannels.size();
+        if (closed.get()
+                || idleCount >= minIdleChannels
+                || delegate.acquiredChannelCount() + idleCount >= connectionLimit.getAsInt()) {
+            result.complete(null);
+            return;
+        }
+        createLoggedOnIdleChannel().whenComplete((channel, error) -> {
+            if (error == null) {
+                offerIdleChannel(channel, false);
+                createIdleChannel(minIdleChannels, result);
+            } else {
+                result.completeExceptionally(Futures.completionExceptionCause(error));
+            }
+        });
+    }
+
+    private void rotateIdleChannel(Channel channel) {
+        // the replacement is connected first, so that the pool does not lose an idle channel
+        createLoggedOnIdleChannel().whenComplete((replacement, error) -> {
+            if (error == null) {
+                offerIdleChannel(replacement, false);
+                channel.close();
+            } else {
+                // keep the channel until it expires, the next sweep tries again
+                offerIdleChannel(channel, true);
+            }
+        });
+    }
+
+    /**
+     * Creates a channel to be kept idle, for warm-up or to replace a rotated channel, and logs it on with the current
+     * token of the driver, like its first acquisition would, so that the acquisition does not wait for a LOGON. Channels of protocol versions that
+     * authenticate with HELLO are logged on once they are created.
+     */
+    private CompletionStage<Channel> createLoggedOnIdleChannel() {
+        var result = new CompletableFuture<Channel>();
+        var channelFuture = connectTrackedChannel(bootstrap.clone());
+        channelFuture.addListener(future -> {
+            if (!future.isSuccess()) {
+                result.completeExceptionally(future.cause());
+                return;
+            }
+            var channel = channelFuture.channel();
+            handler.channelKeptIdle(channel);
+            var authContext = authContext(channel);
+            var logonStage = authContext.getAuthTimestamp() != null
+                    ? CompletableFuture.completedStage(channel)
+                    : logonWithManagedToken(channel, authContext);
+            logonStage.whenComplete((ignored, error) -> {
+                if (error == null) {
+                    result.complete(channel);
+                } else {
+                    channel.close();
+                    result.completeExceptionally(error);
+                }
+            });
+        });
+        return result;
+    }
+
+    private void pingIdleChannel(Channel channel) {
+        // sweeps run on any event loop, but the message dispatcher and the pipeline of a channel are only used from its
+        // own event loop
+        var eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            pingIdleChannelOnEventLoop(channel);
+        } else {
+            eventLoop.execute(() -> pingIdleChannelOnEventLoop(channel));
+        }
+    }
+
+    private void pingIdleChannelOnEventLoop(Channel channel) {
+        healthChecker.ping(channel).addListener(future -> {
+            if (future.isSuccess() && Boolean.TRUE.equals(future.getNow())) {
+                // a successful ping counts as a use, so that the acquisition does not repeat it
+                setLastUsedTimestamp(channel, clock.millis());
+                offerIdleChannel(channel, true);
+            } else {
+                channel.close();
+            }
+        });
+    }
+
+    private void offerIdleChannel(Channel channel, boolean leastRecentlyUsed) {
+        if (closed.get()) {
+            channel.close();
+            return;
+        }
+        if (leastRecentlyUsed) {
+            idleChannels.offerFirst(channel);
+        } else {
+            idleChannels.offerLast(channel);
+        }
+        // the pool may have drained its idle channels in the meantime
+        if (closed.get() && idleChannels.remove(channel)) {
+            channel.close();
+        }
     }
 
     @Override
@@ -229,6 +525,11 @@ public class NettyChannelPool implements ExtendedChannelPool {
         return closed.get();
     }
 
+    @Override
+    public boolean isExhausted() {
+        return scheduler.isExhausted();
+    }
+
     @Override
     public String id() {
         return this.id;
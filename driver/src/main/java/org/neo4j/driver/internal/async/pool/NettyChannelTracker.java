@@ -18,18 +18,20 @@ package org.neo4j.driver.internal.async.pool;
 
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.poolId;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serverAddress;
-import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.pool.ChannelPoolHandler;
+import io.netty.handler.ssl.ReferenceCountedOpenSslEngine;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.internal.tcnative.SSL;
 import io.netty.util.concurrent.EventExecutor;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLEngine;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
@@ -38,11 +40,10 @@ import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.net.ServerAddress;
 
 public class NettyChannelTracker implements ChannelPoolHandler {
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    private final Lock read = lock.readLock();
-    private final Lock write = lock.writeLock();
-    private final Map<ServerAddress, Integer> addressToInUseChannelCount = new HashMap<>();
-    private final Map<ServerAddress, Integer> addressToIdleChannelCount = new HashMap<>();
+    private static final String TLS_SESSION_NEGOTIATED = NettyChannelTracker.class.getName() + ".negotiated";
+
+    private final Map<ServerAddress, AtomicInteger> addressToInUseChannelCount = new ConcurrentHashMap<>();
+    private final Map<ServerAddress, AtomicInteger> addressToIdleChannelCount = new ConcurrentHashMap<>();
     private final Logger log;
     private final MetricsListener metricsListener;
     private final ChannelFutureListener closeListener = future -> channelClosed(future.channel());
@@ -60,22 +61,18 @@ public class NettyChannelTracker implements ChannelPoolHandler {
 
     @Override
     public void channelReleased(Channel channel) {
-        executeWithLock(write, () -> {
-            decrementInUse(channel);
-            incrementIdle(channel);
-            channel.closeFuture().addListener(closeListener);
-        });
+        decrementInUse(channel);
+        incrementIdle(channel);
+        channel.closeFuture().addListener(closeListener);
 
         log.debug("Channel [0x%s] released back to the pool", channel.id());
     }
 
     @Override
     public void channelAcquired(Channel channel) {
-        executeWithLock(write, () -> {
-            incrementInUse(channel);
-            decrementIdle(channel);
-            channel.closeFuture().removeListener(closeListener);
-        });
+        incrementInUse(channel);
+        decrementIdle(channel);
+        channel.closeFuture().removeListener(closeListener);
 
         log.debug(
                 "Channel [0x%s] acquired from the pool. Local address: %s, remote address: %s",
@@ -89,9 +86,13 @@ public class NettyChannelTracker implements ChannelPoolHandler {
 
     public void channelCreated(Channel channel, ListenerEvent<?> creatingEvent) {
         // when it is created, we count it as idle as it has not been acquired out of the pool
-        executeWithLock(write, () -> incrementIdle(channel));
+        incrementIdle(channel);
 
         metricsListener.afterCreated(poolId(channel), creatingEvent);
+        var sslHandler = channel.pipeline().get(SslHandler.class);
+        if (sslHandler != null) {
+            metricsListener.afterTlsHandshake(poolId(channel), isTlsSessionResumed(sslHandler.engine()));
+        }
         allChannels.add(channel);
         log.debug(
                 "Channel [0x%s] created. Local address: %s, remote address: %s",
@@ -104,21 +105,29 @@ public class NettyChannelTracker implements ChannelPoolHandler {
         return creatingEvent;
     }
 
+    /**
+     * Tracks a channel that has been created to be kept idle in the pool rather than to be acquired, so that it is
+     * no longer counted as idle once it is closed.
+     */
+    public void channelKeptIdle(Channel channel) {
+        channel.closeFuture().addListener(closeListener);
+    }
+
     public void channelFailedToCreate(String poolId) {
         metricsListener.afterFailedToCreate(poolId);
     }
 
     public void channelClosed(Channel channel) {
-        executeWithLock(write, () -> decrementIdle(channel));
+        decrementIdle(channel);
         metricsListener.afterClosed(poolId(channel));
     }
 
     public int inUseChannelCount(ServerAddress address) {
-        return executeWithLock(read, () -> addressToInUseChannelCount.getOrDefault(address, 0));
+        return count(address, addressToInUseChannelCount);
     }
 
     public int idleChannelCount(ServerAddress address) {
-        return executeWithLock(read, () -> addressToIdleChannelCount.getOrDefault(address, 0));
+        return count(address, addressToIdleChannelCount);
     }
 
     public void prepareToCloseChannels() {
@@ -136,17 +145,28 @@ public class NettyChannelTracker implements ChannelPoolHandler {
         }
     }
 
+    private static boolean isTlsSessionResumed(SSLEngine engine) {
+        if (engine instanceof ReferenceCountedOpenSslEngine openSslEngine) {
+            // the engine lock keeps the native SSL object from being freed while it is queried
+            synchronized (openSslEngine) {
+                var ssl = openSslEngine.sslPointer();
+                return ssl != 0 && SSL.isSessionReused(ssl);
+            }
+        }
+        // the JDK resumes a TLS 1.2 session by reusing the cached session and a TLS 1.3 session with a copy that shares
+        // the values bound to it, so a resumed session carries the mark put on the session it was negotiated in
+        var session = engine.getSession();
+        var resumed = session.getValue(TLS_SESSION_NEGOTIATED) != null;
+        session.putValue(TLS_SESSION_NEGOTIATED, Boolean.TRUE);
+        return resumed;
+    }
+
     private void incrementInUse(Channel channel) {
         increment(channel, addressToInUseChannelCount);
     }
 
     private void decrementInUse(Channel channel) {
-        var address = serverAddress(channel);
-        if (!addressToInUseChannelCount.containsKey(address)) {
-            throw new IllegalStateException("No count exists for address '" + address + "' in the 'in use' count");
-        }
-        var count = addressToInUseChannelCount.get(address);
-        addressToInUseChannelCount.put(address, count - 1);
+        decrement(channel, addressToInUseChannelCount, "in use");
     }
 
     private void incrementIdle(Channel channel) {
@@ -154,17 +174,27 @@ public class NettyChannelTracker implements ChannelPoolHandler {
     }
 
     private void decrementIdle(Channel channel) {
+        decrement(channel, addressToIdleChannelCount, "idle");
+    }
+
+    private void increment(Channel channel, Map<ServerAddress, AtomicInteger> countMap) {
+        ServerAddress address = serverAddress(channel);
+        countMap.computeIfAbsent(address, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private void decrement(Channel channel, Map<ServerAddress, AtomicInteger> countMap, String countName) {
         var address = serverAddress(channel);
-        if (!addressToIdleChannelCount.containsKey(address)) {
-            throw new IllegalStateException("No count exists for address '" + address + "' in the 'idle' count");
+        var count = countMap.get(address);
+        if (count == null) {
+            throw new IllegalStateException(
+                    "No count exists for address '" + address + "' in the '" + countName + "' count");
         }
-        var count = addressToIdleChannelCount.get(address);
-        addressToIdleChannelCount.put(address, count - 1);
+        count.decrementAndGet();
     }
 
-    private void increment(Channel channel, Map<ServerAddress, Integer> countMap) {
-        ServerAddress address = serverAddress(channel);
-        var count = countMap.computeIfAbsent(address, k -> 0);
-        countMap.put(address, count + 1);
+    private static int count(ServerAddress address, Map<ServerAddress, AtomicInteger> countMap) {
+        // read for every candidate of every load balanced acquisition, which is why counters are not striped
+        var count = countMap.get(address);
+        return count != null ? count.get() : 0;
     }
 }
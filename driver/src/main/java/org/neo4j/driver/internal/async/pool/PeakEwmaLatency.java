@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An estimate of the response time of a server that follows increases immediately and decreases gradually.
+ * <p>
+ * A response slower than the estimate replaces it, while a faster one is averaged into it with a weight that grows
+ * with the time since the previous response, so that the estimate depends on how much time has passed rather than on
+ * how many responses were received. Without responses, the estimate decays towards zero over the same time, so that a
+ * server that stopped receiving queries because of a slowdown is eventually tried again.
+ */
+final class PeakEwmaLatency {
+    static final long DEFAULT_DECAY_TIME_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final long decayTimeMillis;
+    private final Clock clock;
+
+    private final Lock lock = new ReentrantLock();
+    private double estimateNanos;
+    private long timestamp;
+
+    /**
+     * @param decayTimeMillis the time after which the weight of a response has dropped to about a third
+     * @param clock           the clock
+     */
+    PeakEwmaLatency(long decayTimeMillis, Clock clock) {
+        this.decayTimeMillis = decayTimeMillis;
+        this.clock = clock;
+        this.timestamp = clock.millis();
+    }
+
+    /**
+     * Adds a response to the estimate.
+     *
+     * @param latencyNanos the time the server took to respond in nanoseconds
+     */
+    void observe(long latencyNanos) {
+        executeWithLock(lock, () -> update(latencyNanos));
+    }
+
+    /**
+     * Returns the estimate.
+     *
+     * @return the estimated response time in nanoseconds
+     */
+    long estimateNanos() {
+        return executeWithLock(lock, () -> {
+            update(0);
+            return (long) estimateNanos;
+        });
+    }
+
+    private void update(double latencyNanos) {
+        var now = clock.millis();
+        var weight = Math.exp(-Math.max(now - timestamp, 0) / (double) decayTimeMillis);
+        timestamp = now;
+        if (latencyNanos > estimateNanos) {
+            estimateNanos = latencyNanos;
+        } else {
+            estimateNanos = estimateNanos * weight + latencyNanos * (1 - weight);
+        }
+    }
+}
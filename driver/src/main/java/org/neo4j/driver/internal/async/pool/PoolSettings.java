@@ -22,19 +22,186 @@ public record PoolSettings(
         int maxConnectionPoolSize,
         long connectionAcquisitionTimeout,
         long maxConnectionLifetime,
-        long idleTimeBeforeConnectionTest) {
+        long idleTimeBeforeConnectionTest,
+        boolean eventLoopAffinity,
+        int minIdleConnectionsPerServer,
+        long idleConnectionSweepInterval,
+        long maxConnectionIdleTime,
+        int maxIdleConnectionsPerServer,
+        long maxConnectionLifetimeJitter,
+        boolean proactiveConnectionRotation,
+        boolean adaptiveConnectionPoolSizing,
+        int minAdaptiveConnectionPoolSize,
+        boolean responseLatencyTracking) {
     public static final int NOT_CONFIGURED = -1;
 
     public static final int DEFAULT_MAX_CONNECTION_POOL_SIZE = 100;
     public static final long DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST = NOT_CONFIGURED;
     public static final long DEFAULT_MAX_CONNECTION_LIFETIME = TimeUnit.HOURS.toMillis(1);
     public static final long DEFAULT_CONNECTION_ACQUISITION_TIMEOUT = TimeUnit.SECONDS.toMillis(60);
+    public static final int DEFAULT_MIN_IDLE_CONNECTIONS_PER_SERVER = 0;
+    public static final long DEFAULT_IDLE_CONNECTION_SWEEP_INTERVAL = NOT_CONFIGURED;
+    public static final long DEFAULT_MAX_CONNECTION_IDLE_TIME = NOT_CONFIGURED;
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS_PER_SERVER = Integer.MAX_VALUE;
+    public static final long DEFAULT_MAX_CONNECTION_LIFETIME_JITTER = 0;
+    public static final int DEFAULT_MIN_ADAPTIVE_CONNECTION_POOL_SIZE = 1;
+
+    public PoolSettings(
+            int maxConnectionPoolSize,
+            long connectionAcquisitionTimeout,
+            long maxConnectionLifetime,
+            long idleTimeBeforeConnectionTest) {
+        this(
+                maxConnectionPoolSize,
+                connectionAcquisitionTimeout,
+                maxConnectionLifetime,
+                idleTimeBeforeConnectionTest,
+                false,
+                DEFAULT_MIN_IDLE_CONNECTIONS_PER_SERVER,
+                DEFAULT_IDLE_CONNECTION_SWEEP_INTERVAL,
+                DEFAULT_MAX_CONNECTION_IDLE_TIME,
+                DEFAULT_MAX_IDLE_CONNECTIONS_PER_SERVER,
+                DEFAULT_MAX_CONNECTION_LIFETIME_JITTER,
+                false,
+                false,
+                DEFAULT_MIN_ADAPTIVE_CONNECTION_POOL_SIZE,
+                false);
+    }
 
     public boolean idleTimeBeforeConnectionTestEnabled() {
         return idleTimeBeforeConnectionTest >= 0;
     }
 
+    public boolean warmUpEnabled() {
+        return minIdleConnectionsPerServer > 0;
+    }
+
+    public boolean idleConnectionSweepEnabled() {
+        return idleConnectionSweepInterval > 0;
+    }
+
+    public boolean maxConnectionIdleTimeEnabled() {
+        return maxConnectionIdleTime > 0;
+    }
+
     public boolean maxConnectionLifetimeEnabled() {
         return maxConnectionLifetime > 0;
     }
+
+    public boolean maxConnectionLifetimeJitterEnabled() {
+        return maxConnectionLifetimeEnabled() && maxConnectionLifetimeJitter > 0;
+    }
+
+    public boolean proactiveConnectionRotationEnabled() {
+        return proactiveConnectionRotation && maxConnectionLifetimeEnabled() && idleConnectionSweepEnabled();
+    }
+
+    public boolean adaptiveConnectionPoolSizingEnabled() {
+        return adaptiveConnectionPoolSizing && minAdaptiveConnectionPoolSize < maxConnectionPoolSize;
+    }
+
+    public static class PoolSettingsBuilder {
+        private int maxConnectionPoolSize = DEFAULT_MAX_CONNECTION_POOL_SIZE;
+        private long connectionAcquisitionTimeout = DEFAULT_CONNECTION_ACQUISITION_TIMEOUT;
+        private long maxConnectionLifetime = DEFAULT_MAX_CONNECTION_LIFETIME;
+        private long idleTimeBeforeConnectionTest = DEFAULT_IDLE_TIME_BEFORE_CONNECTION_TEST;
+        private boolean eventLoopAffinity;
+        private int minIdleConnectionsPerServer = DEFAULT_MIN_IDLE_CONNECTIONS_PER_SERVER;
+        private long idleConnectionSweepInterval = DEFAULT_IDLE_CONNECTION_SWEEP_INTERVAL;
+        private long maxConnectionIdleTime = DEFAULT_MAX_CONNECTION_IDLE_TIME;
+        private int maxIdleConnectionsPerServer = DEFAULT_MAX_IDLE_CONNECTIONS_PER_SERVER;
+        private long maxConnectionLifetimeJitter = DEFAULT_MAX_CONNECTION_LIFETIME_JITTER;
+        private boolean proactiveConnectionRotation;
+        private boolean adaptiveConnectionPoolSizing;
+        private int minAdaptiveConnectionPoolSize = DEFAULT_MIN_ADAPTIVE_CONNECTION_POOL_SIZE;
+        private boolean responseLatencyTracking;
+
+        public PoolSettingsBuilder withMaxConnectionPoolSize(int maxConnectionPoolSize) {
+            this.maxConnectionPoolSize = maxConnectionPoolSize;
+            return this;
+        }
+
+        public PoolSettingsBuilder withConnectionAcquisitionTimeout(long connectionAcquisitionTimeout) {
+            this.connectionAcquisitionTimeout = connectionAcquisitionTimeout;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxConnectionLifetime(long maxConnectionLifetime) {
+            this.maxConnectionLifetime = maxConnectionLifetime;
+            return this;
+        }
+
+        public PoolSettingsBuilder withIdleTimeBeforeConnectionTest(long idleTimeBeforeConnectionTest) {
+            this.idleTimeBeforeConnectionTest = idleTimeBeforeConnectionTest;
+            return this;
+        }
+
+        public PoolSettingsBuilder withEventLoopAffinity(boolean eventLoopAffinity) {
+            this.eventLoopAffinity = eventLoopAffinity;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMinIdleConnectionsPerServer(int minIdleConnectionsPerServer) {
+            this.minIdleConnectionsPerServer = minIdleConnectionsPerServer;
+            return this;
+        }
+
+        public PoolSettingsBuilder withIdleConnectionSweepInterval(long idleConnectionSweepInterval) {
+            this.idleConnectionSweepInterval = idleConnectionSweepInterval;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxConnectionIdleTime(long maxConnectionIdleTime) {
+            this.maxConnectionIdleTime = maxConnectionIdleTime;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxIdleConnectionsPerServer(int maxIdleConnectionsPerServer) {
+            this.maxIdleConnectionsPerServer = maxIdleConnectionsPerServer;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMaxConnectionLifetimeJitter(long maxConnectionLifetimeJitter) {
+            this.maxConnectionLifetimeJitter = maxConnectionLifetimeJitter;
+            return this;
+        }
+
+        public PoolSettingsBuilder withProactiveConnectionRotation(boolean proactiveConnectionRotation) {
+            this.proactiveConnectionRotation = proactiveConnectionRotation;
+            return this;
+        }
+
+        public PoolSettingsBuilder withAdaptiveConnectionPoolSizing(boolean adaptiveConnectionPoolSizing) {
+            this.adaptiveConnectionPoolSizing = adaptiveConnectionPoolSizing;
+            return this;
+        }
+
+        public PoolSettingsBuilder withMinAdaptiveConnectionPoolSize(int minAdaptiveConnectionPoolSize) {
+            this.minAdaptiveConnectionPoolSize = minAdaptiveConnectionPoolSize;
+            return this;
+        }
+
+        public PoolSettingsBuilder withResponseLatencyTracking(boolean responseLatencyTracking) {
+            this.responseLatencyTracking = responseLatencyTracking;
+            return this;
+        }
+
+        public PoolSettings build() {
+            return new PoolSettings(
+                    maxConnectionPoolSize,
+                    connectionAcquisitionTimeout,
+                    maxConnectionLifetime,
+                    idleTimeBeforeConnectionTest,
+                    eventLoopAffinity,
+                    minIdleConnectionsPerServer,
+                    idleConnectionSweepInterval,
+                    maxConnectionIdleTime,
+                    maxIdleConnectionsPerServer,
+                    maxConnectionLifetimeJitter,
+                    proactiveConnectionRotation,
+                    adaptiveConnectionPoolSizing,
+                    minAdaptiveConnectionPoolSize,
+                    responseLatencyTracking);
+        }
+    }
 }
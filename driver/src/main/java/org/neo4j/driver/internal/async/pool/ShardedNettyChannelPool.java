@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.neo4j.driver.internal.util.Futures.completeWithNullIfNoError;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.async.connection.ResponseLatencyListener;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
+
+/**
+ * A pool of channels towards a single server that is split into one {@link NettyChannelPool} per event loop. Every
+ * shard creates its channels on its own event loop, so that callers on that event loop acquire channels whose I/O and
+ * completions stay on the calling thread.
+ * <p>
+ * Acquisitions are admitted by a scheduler of the whole pool, so that acquisitions waiting for a release are served by
+ * priority and deadline no matter which shard the channel is released to. An admitted acquisition takes a channel from
+ * the shard of the calling event loop if it can, or from any other shard that is not exhausted.
+ */
+public class ShardedNettyChannelPool implements ExtendedChannelPool {
+    private final List<Shard> shards;
+    private final Map<EventLoop, NettyChannelPool> eventLoopToShard = new IdentityHashMap<>();
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    private final AcquisitionScheduler scheduler;
+    private final AdaptiveConnectionLimit adaptiveLimit;
+    private final String id;
+    private final NettyChannelHealthChecker healthChecker;
+
+    ShardedNettyChannelPool(
+            BoltServerAddress address,
+            ChannelConnector connector,
+            Bootstrap bootstrap,
+            NettyChannelTracker handler,
+            NettyChannelHealthChecker healthCheck,
+            long acquireTimeoutMillis,
+            int maxConnections,
+            AdaptiveConnectionLimit adaptiveLimit,
+            ResponseLatencyListener responseLatencyListener,
+            Clock clock) {
+        this.id = String.format("%s:%d-%d", address.host(), address.port(), this.hashCode());
+        this.healthChecker = healthCheck;
+        this.adaptiveLimit = adaptiveLimit;
+        // the shards admit at least as many acquisitions together, so an admitted acquisition finds a shard to use
+        this.scheduler = new AcquisitionScheduler(
+                adaptiveLimit != null ? adaptiveLimit::limit : () -> maxConnections,
+                acquireTimeoutMillis,
+                bootstrap.config().group().next(),
+                clock);
+
+        var eventLoops = new ArrayList<EventLoop>();
+        bootstrap.config().group().forEach(executor -> eventLoops.add((EventLoop) executor));
+        // every shard may create at least one channel, so small pools use only some of the event loops
+        var shardCount = Math.max(1, Math.min(eventLoops.size(), maxConnections));
+        var shards = new ArrayList<Shard>(shardCount);
+        for (var i = 0; i < shardCount; i++) {
+            var eventLoop = eventLoops.get(i);
+            var shardIndex = i;
+            var shardMaxConnections = share(maxConnections, shardIndex, shardCount);
+            // every shard keeps a share of at least one, so that acquisitions waiting on it are eventually admitted
+            IntSupplier shardConnectionLimit = adaptiveLimit != null
+                    ? () -> Math.max(1, share(adaptiveLimit.limit(), shardIndex, shardCount))
+                    : () -> shardMaxConnections;
+            var pool = new NettyChannelPool(
+                    address,
+                    connector,
+                    bootstrap.clone(eventLoop),
+                    handler,
+                    healthCheck,
+                    acquireTimeoutMillis,
+                    shardMaxConnections,
+                    adaptiveLimit,
+                    shardConnectionLimit,
+                    responseLatencyListener,
+                    clock,
+                    id);
+            shards.add(new Shard(eventLoop, pool));
+        }
+        this.shards = List.copyOf(shards);
+        for (var shard : this.shards) {
+            eventLoopToShard.put(shard.eventLoop(), shard.pool());
+        }
+    }
+
+    // for testing only
+    ShardedNettyChannelPool(
+            String id, List<Shard> shards, AcquisitionScheduler scheduler, NettyChannelHealthChecker healthChecker) {
+        this.id = id;
+        this.healthChecker = healthChecker;
+        this.scheduler = scheduler;
+        this.adaptiveLimit = null;
+        this.shards = List.copyOf(shards);
+        for (var shard : this.shards) {
+            eventLoopToShard.put(shard.eventLoop(), shard.pool());
+        }
+    }
+
+    @Override
+    public CompletionStage<Channel> acquire(AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions) {
+        if (adaptiveLimit != null && scheduler.isExhausted()) {
+            adaptiveLimit.onAcquisitionWait();
+        }
+        return scheduler.acquire(acquisitionOptions).thenCompose(ignored -> acquireFromShard(
+                        overrideAuthToken, acquisitionOptions)
+                .whenComplete((channel, error) -> {
+                    if (error != null) {
+                        scheduler.release();
+                    }
+                }));
+    }
+
+    private CompletionStage<Channel> acquireFromShard(
+            AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions) {
+        // admitted acquisitions continue on the thread that released a channel, so that they use the shard it was
+        // released to, unless the caller was admitted right away
+        var preferred = preferredShardIndex();
+        // steal from the first shard that does not make the caller wait, starting with the preferred one
+        for (var i = 0; i < shards.size(); i++) {
+            var acquisition = shards.get((preferred + i) % shards.size()).pool().tryAcquire(overrideAuthToken);
+            if (acquisition != null) {
+                return acquisition;
+            }
+        }
+        // only possible while an adaptive limit is changing, wait for a release on the preferred shard
+        return shards.get(preferred).pool().acquire(overrideAuthToken, acquisitionOptions);
+    }
+
+    @Override
+    public CompletionStage<Void> release(Channel channel) {
+        var shard = eventLoopToShard.get(channel.eventLoop());
+        if (shard == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Channel " + channel + " was not acquired from pool " + id));
+        }
+        // the shard admits its next acquisition before the pool does, so the one admitted by the pool finds it free
+        return shard.release(channel).whenComplete((ignored, error) -> scheduler.release());
+    }
+
+    @Override
+    public void sweepIdleChannels(int minIdleChannels, int maxIdleChannels) {
+        for (var i = 0; i < shards.size(); i++) {
+            shards.get(i)
+                    .pool()
+                    .sweepIdleChannels(
+                            share(minIdleChannels, i, shards.size()), share(maxIdleChannels, i, shards.size()));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> createIdleChannels(int minIdleChannels) {
+        var stages = new CompletableFuture<?>[shards.size()];
+        for (var i = 0; i < shards.size(); i++) {
+            stages[i] = shards.get(i)
+                    .pool()
+                    .createIdleChannels(share(minIdleChannels, i, shards.size()))
+                    .toCompletableFuture();
+        }
+        return CompletableFuture.allOf(stages);
+    }
+
+    @Override
+    public boolean isExhausted() {
+        return scheduler.isExhausted();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public CompletionStage<Void> close() {
+        if (closed.compareAndSet(false, true)) {
+            scheduler.close();
+            CompletableFuture.allOf(shards.stream()
+                            .map(shard -> shard.pool().close().toCompletableFuture())
+                            .toArray(CompletableFuture[]::new))
+                    .whenComplete((ignored, error) -> completeWithNullIfNoError(closeFuture, error));
+        }
+        return closeFuture;
+    }
+
+    @Override
+    public NettyChannelHealthChecker healthChecker() {
+        return healthChecker;
+    }
+
+    private int preferredShardIndex() {
+        for (var i = 0; i < shards.size(); i++) {
+            if (shards.get(i).eventLoop().inEventLoop()) {
+                return i;
+            }
+        }
+        // callers outside the event loops of this pool use the shards in turn
+        return Math.floorMod(nextShard.getAndIncrement(), shards.size());
+    }
+
+    private static int share(int total, int shardIndex, int shardCount) {
+        // the remainder of the split is spread over the first shards
+        return total / shardCount + (shardIndex < total % shardCount ? 1 : 0);
+    }
+
+    record Shard(EventLoop eventLoop, NettyChannelPool pool) {}
+}
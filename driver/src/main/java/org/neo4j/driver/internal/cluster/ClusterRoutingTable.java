@@ -18,7 +18,6 @@ package org.neo4j.driver.internal.cluster;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
-import static org.neo4j.driver.internal.util.LockUtil.executeWithLock;
 
 import java.time.Clock;
 import java.util.ArrayList;
@@ -26,50 +25,48 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 
+/**
+ * Routing table of a single database.
+ * <p>
+ * The state of the table is kept in an immutable {@link Snapshot} that is replaced as a whole on every change, so
+ * reading it never blocks and every read observes the addresses and the expiration of a single version of the table.
+ */
 public class ClusterRoutingTable implements RoutingTable {
-    private final ReadWriteLock tableLock = new ReentrantReadWriteLock();
     private final DatabaseName databaseName;
     private final Clock clock;
-    private final Set<BoltServerAddress> disused = new HashSet<>();
-
-    private long expirationTimestamp;
-    private boolean preferInitialRouter = true;
-    private List<BoltServerAddress> readers = Collections.emptyList();
-    private List<BoltServerAddress> writers = Collections.emptyList();
-    private List<BoltServerAddress> routers = Collections.emptyList();
+    private final AtomicReference<Snapshot> snapshot;
 
     public ClusterRoutingTable(DatabaseName ofDatabase, Clock clock, BoltServerAddress... routingAddresses) {
-        this(ofDatabase, clock);
-        routers = Collections.unmodifiableList(asList(routingAddresses));
-    }
-
-    private ClusterRoutingTable(DatabaseName ofDatabase, Clock clock) {
         this.databaseName = ofDatabase;
         this.clock = clock;
-        this.expirationTimestamp = clock.millis() - 1;
+        this.snapshot = new AtomicReference<>(new Snapshot(
+                clock.millis() - 1,
+                true,
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.unmodifiableList(asList(routingAddresses)),
+                Collections.emptySet()));
     }
 
     @Override
     public boolean isStaleFor(AccessMode mode) {
-        return executeWithLock(
-                tableLock.readLock(),
-                () -> expirationTimestamp < clock.millis()
-                        || routers.isEmpty()
-                        || mode == AccessMode.READ && readers.isEmpty()
-                        || mode == AccessMode.WRITE && writers.isEmpty());
+        var snapshot = this.snapshot.get();
+        return snapshot.expirationTimestamp() < clock.millis()
+                || snapshot.routers().isEmpty()
+                || mode == AccessMode.READ && snapshot.readers().isEmpty()
+                || mode == AccessMode.WRITE && snapshot.writers().isEmpty();
     }
 
     @Override
     public boolean hasBeenStaleFor(long extraTime) {
-        var totalTime = executeWithLock(tableLock.readLock(), () -> expirationTimestamp) + extraTime;
+        var totalTime = snapshot.get().expirationTimestamp() + extraTime;
         if (totalTime < 0) {
             totalTime = Long.MAX_VALUE;
         }
@@ -78,51 +75,50 @@ public class ClusterRoutingTable implements RoutingTable {
 
     @Override
     public void update(ClusterComposition cluster) {
-        executeWithLock(tableLock.writeLock(), () -> {
-            expirationTimestamp = cluster.expirationTimestamp();
-            readers = newWithReusedAddresses(readers, disused, cluster.readers());
-            writers = newWithReusedAddresses(writers, disused, cluster.writers());
-            routers = newWithReusedAddresses(routers, disused, cluster.routers());
-            disused.clear();
-            preferInitialRouter = !cluster.hasWriters();
-        });
+        snapshot.updateAndGet(snapshot -> new Snapshot(
+                cluster.expirationTimestamp(),
+                !cluster.hasWriters(),
+                newWithReusedAddresses(snapshot.readers(), snapshot.disused(), cluster.readers()),
+                newWithReusedAddresses(snapshot.writers(), snapshot.disused(), cluster.writers()),
+                newWithReusedAddresses(snapshot.routers(), snapshot.disused(), cluster.routers()),
+                Collections.emptySet()));
     }
 
     @Override
     public void forget(BoltServerAddress address) {
-        executeWithLock(tableLock.writeLock(), () -> {
-            routers = newWithoutAddressIfPresent(routers, address);
-            readers = newWithoutAddressIfPresent(readers, address);
-            writers = newWithoutAddressIfPresent(writers, address);
-            disused.add(address);
-        });
+        snapshot.updateAndGet(snapshot -> new Snapshot(
+                snapshot.expirationTimestamp(),
+                snapshot.preferInitialRouter(),
+                newWithoutAddressIfPresent(snapshot.readers(), address),
+                newWithoutAddressIfPresent(snapshot.writers(), address),
+                newWithoutAddressIfPresent(snapshot.routers(), address),
+                newWithAddress(snapshot.disused(), address)));
     }
 
     @Override
     public List<BoltServerAddress> readers() {
-        return executeWithLock(tableLock.readLock(), () -> readers);
+        return snapshot.get().readers();
     }
 
     @Override
     public List<BoltServerAddress> writers() {
-        return executeWithLock(tableLock.readLock(), () -> writers);
+        return snapshot.get().writers();
     }
 
     @Override
     public List<BoltServerAddress> routers() {
-        return executeWithLock(tableLock.readLock(), () -> routers);
+        return snapshot.get().routers();
     }
 
     @Override
     public Set<BoltServerAddress> servers() {
-        return executeWithLock(tableLock.readLock(), () -> {
-            Set<BoltServerAddress> servers = new HashSet<>();
-            servers.addAll(readers);
-            servers.addAll(writers);
-            servers.addAll(routers);
-            servers.addAll(disused);
-            return servers;
-        });
+        var snapshot = this.snapshot.get();
+        Set<BoltServerAddress> servers = new HashSet<>();
+        servers.addAll(snapshot.readers());
+        servers.addAll(snapshot.writers());
+        servers.addAll(snapshot.routers());
+        servers.addAll(snapshot.disused());
+        return servers;
     }
 
     @Override
@@ -132,35 +128,47 @@ public class ClusterRoutingTable implements RoutingTable {
 
     @Override
     public void forgetWriter(BoltServerAddress toRemove) {
-        executeWithLock(tableLock.writeLock(), () -> {
-            writers = newWithoutAddressIfPresent(writers, toRemove);
-            disused.add(toRemove);
-        });
+        snapshot.updateAndGet(snapshot -> new Snapshot(
+                snapshot.expirationTimestamp(),
+                snapshot.preferInitialRouter(),
+                snapshot.readers(),
+                newWithoutAddressIfPresent(snapshot.writers(), toRemove),
+                snapshot.routers(),
+                newWithAddress(snapshot.disused(), toRemove)));
     }
 
     @Override
     public void replaceRouterIfPresent(BoltServerAddress oldRouter, BoltServerAddress newRouter) {
-        executeWithLock(
-                tableLock.writeLock(), () -> routers = newWithAddressReplacedIfPresent(routers, oldRouter, newRouter));
+        snapshot.updateAndGet(snapshot -> new Snapshot(
+                snapshot.expirationTimestamp(),
+                snapshot.preferInitialRouter(),
+                snapshot.readers(),
+                snapshot.writers(),
+                newWithAddressReplacedIfPresent(snapshot.routers(), oldRouter, newRouter),
+                snapshot.disused()));
     }
 
     @Override
     public boolean preferInitialRouter() {
-        return executeWithLock(tableLock.readLock(), () -> preferInitialRouter);
+        return snapshot.get().preferInitialRouter();
     }
 
     @Override
     public long expirationTimestamp() {
-        return executeWithLock(tableLock.readLock(), () -> expirationTimestamp);
+        return snapshot.get().expirationTimestamp();
     }
 
     @Override
     public String toString() {
-        return executeWithLock(
-                tableLock.readLock(),
-                () -> format(
-                        "Ttl %s, currentTime %s, routers %s, writers %s, readers %s, database '%s'",
-                        expirationTimestamp, clock.millis(), routers, writers, readers, databaseName.description()));
+        var snapshot = this.snapshot.get();
+        return format(
+                "Ttl %s, currentTime %s, routers %s, writers %s, readers %s, database '%s'",
+                snapshot.expirationTimestamp(),
+                clock.millis(),
+                snapshot.routers(),
+                snapshot.writers(),
+                snapshot.readers(),
+                databaseName.description());
     }
 
     private List<BoltServerAddress> newWithoutAddressIfPresent(
@@ -177,6 +185,15 @@ public class ClusterRoutingTable implements RoutingTable {
                 .toList();
     }
 
+    private Set<BoltServerAddress> newWithAddress(Set<BoltServerAddress> addresses, BoltServerAddress newAddress) {
+        if (addresses.contains(newAddress)) {
+            return addresses;
+        }
+        Set<BoltServerAddress> newSet = new HashSet<>(addresses);
+        newSet.add(newAddress);
+        return Collections.unmodifiableSet(newSet);
+    }
+
     private List<BoltServerAddress> newWithReusedAddresses(
             List<BoltServerAddress> currentAddresses,
             Set<BoltServerAddress> disusedAddresses,
@@ -193,4 +210,23 @@ public class ClusterRoutingTable implements RoutingTable {
                 ? address
                 : new BoltServerAddress(address.host(), address.port());
     }
+
+    /**
+     * A version of the routing table. Update functions passed to the holding {@link AtomicReference} may be retried,
+     * so they must build new snapshots without modifying the current one.
+     *
+     * @param expirationTimestamp the time in milliseconds after which the table is stale
+     * @param preferInitialRouter whether the initial router should be tried before the known routers
+     * @param readers             the immutable list of reader addresses
+     * @param writers             the immutable list of writer addresses
+     * @param routers             the immutable list of router addresses
+     * @param disused             the immutable set of addresses forgotten since the last update
+     */
+    private record Snapshot(
+            long expirationTimestamp,
+            boolean preferInitialRouter,
+            List<BoltServerAddress> readers,
+            List<BoltServerAddress> writers,
+            List<BoltServerAddress> routers,
+            Set<BoltServerAddress> disused) {}
 }
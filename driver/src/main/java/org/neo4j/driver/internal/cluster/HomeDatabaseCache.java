@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.internal.DatabaseName;
+
+/**
+ * Caches the home databases of principals for a limited time, so that sessions that do not specify a database learn
+ * it without a routing table lookup.
+ */
+final class HomeDatabaseCache {
+    private final ConcurrentMap<Principal, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final Clock clock;
+
+    /**
+     * @param ttlMillis the time for which home databases are cached, {@code 0} to disable the cache
+     * @param clock     the clock
+     */
+    HomeDatabaseCache(long ttlMillis, Clock clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the home database of the given principal unless it is not cached, has expired or the principal is not
+     * {@link Principal#isDetermined() determined}.
+     *
+     * @param principal the principal
+     * @return the home database
+     */
+    Optional<DatabaseName> get(Principal principal) {
+        if (ttlMillis <= 0 || !principal.isDetermined()) {
+            return Optional.empty();
+        }
+        var entry = entries.get(principal);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expirationTimestamp() <= clock.millis()) {
+            entries.remove(principal, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.databaseName());
+    }
+
+    /**
+     * Caches the home database of the given principal unless it is not {@link Principal#isDetermined() determined}.
+     *
+     * @param principal    the principal
+     * @param databaseName the home database
+     */
+    void put(Principal principal, DatabaseName databaseName) {
+        if (ttlMillis > 0 && principal.isDetermined()) {
+            entries.put(principal, new Entry(databaseName, clock.millis() + ttlMillis));
+        }
+    }
+
+    /**
+     * Removes all principals whose home database is the given database.
+     *
+     * @param databaseName the database
+     */
+    void invalidate(DatabaseName databaseName) {
+        entries.values().removeIf(entry -> entry.databaseName().equals(databaseName));
+    }
+
+    /**
+     * Removes all expired entries.
+     */
+    void removeExpired() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        var now = clock.millis();
+        entries.values().removeIf(entry -> entry.expirationTimestamp() <= now);
+    }
+
+    // For tests
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * The identity whose home database is looked up, which is the impersonated user if any, as seen by the
+     * authentication token of the session if any or by the one of the driver otherwise.
+     *
+     * @param impersonatedUser the impersonated user or {@code null}
+     * @param authToken        the authentication token of the session or {@code null}
+     */
+    record Principal(String impersonatedUser, AuthToken authToken) {
+        /**
+         * Checks if the identity is known without the authentication token of the driver, which its
+         * {@link org.neo4j.driver.AuthTokenManager} may change to the one of another user at any time.
+         *
+         * @return {@code true} if there is an impersonated user or an authentication token of the session
+         */
+        boolean isDetermined() {
+            return impersonatedUser != null || authToken != null;
+        }
+    }
+
+    private record Entry(DatabaseName databaseName, long expirationTimestamp) {}
+}
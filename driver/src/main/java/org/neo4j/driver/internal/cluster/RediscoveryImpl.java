@@ -48,6 +48,7 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DomainNameResolver;
 import org.neo4j.driver.internal.ImpersonationUtil;
 import org.neo4j.driver.internal.ResolvedBoltServerAddress;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.net.ServerAddress;
@@ -294,7 +295,7 @@ public class RediscoveryImpl implements Rediscovery {
                 .thenApply(address ->
                         resolveAddress ? resolveByDomainNameOrThrowCompletionException(address, routingTable) : address)
                 .thenApply(address -> addAndReturn(seenServers, address))
-                .thenCompose(address -> connectionPool.acquire(address, overrideAuthToken))
+                .thenCompose(address -> connectionPool.acquire(address, overrideAuthToken, AcquisitionOptions.DEFAULT))
                 .thenApply(connection -> ImpersonationUtil.ensureImpersonationSupport(connection, impersonatedUser))
                 .thenCompose(connection -> provider.getClusterComposition(
                         connection, routingTable.database(), bookmarks, impersonatedUser))
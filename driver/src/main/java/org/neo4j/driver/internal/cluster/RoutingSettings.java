@@ -18,6 +18,20 @@ package org.neo4j.driver.internal.cluster;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
-public record RoutingSettings(long routingTablePurgeDelayMs, RoutingContext routingContext) {
+public record RoutingSettings(
+        long routingTablePurgeDelayMs,
+        RoutingContext routingContext,
+        long homeDatabaseCacheTtlMs,
+        double routingTableRefreshAheadFactor) {
     public static final long STALE_ROUTING_TABLE_PURGE_DELAY_MS = SECONDS.toMillis(30);
+    public static final long DEFAULT_HOME_DATABASE_CACHE_TTL_MS = 0;
+    public static final double DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR = 0;
+
+    public RoutingSettings(long routingTablePurgeDelayMs, RoutingContext routingContext) {
+        this(
+                routingTablePurgeDelayMs,
+                routingContext,
+                DEFAULT_HOME_DATABASE_CACHE_TTL_MS,
+                DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR);
+    }
 }
@@ -18,11 +18,13 @@ package org.neo4j.driver.internal.cluster;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
+import java.time.Clock;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -40,15 +42,29 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
     private final Rediscovery rediscovery;
     private final Logger log;
     private final long routingTablePurgeDelayMs;
+    private final double refreshAheadFactor;
+    private final Clock clock;
+    private final Consumer<Set<BoltServerAddress>> knownServersListener;
     private final Set<BoltServerAddress> resolvedInitialRouters = new HashSet<>();
+    private long refreshAheadTimestamp = Long.MAX_VALUE;
+    private boolean refreshingAhead;
 
+    /**
+     * @param refreshAheadFactor the fraction of the time to live of the routing table after which it is refreshed in
+     *                           the background while it keeps being used, {@code 0} to refresh it only once it is stale
+     * @param knownServersListener the listener notified of all servers known to the driver after each update of the
+     *                             routing table
+     */
     public RoutingTableHandlerImpl(
             RoutingTable routingTable,
             Rediscovery rediscovery,
             ConnectionPool connectionPool,
             RoutingTableRegistry routingTableRegistry,
             Logging logging,
-            long routingTablePurgeDelayMs) {
+            long routingTablePurgeDelayMs,
+            double refreshAheadFactor,
+            Clock clock,
+            Consumer<Set<BoltServerAddress>> knownServersListener) {
         this.routingTable = routingTable;
         this.databaseName = routingTable.database();
         this.rediscovery = rediscovery;
@@ -56,6 +72,9 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
         this.routingTableRegistry = routingTableRegistry;
         this.log = logging.getLog(getClass());
         this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+        this.refreshAheadFactor = refreshAheadFactor;
+        this.clock = clock;
+        this.knownServersListener = knownServersListener;
     }
 
     @Override
@@ -99,11 +118,51 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
 
             return resultFuture;
         } else {
-            // existing routing table is fresh, use it
+            // existing routing table is fresh, use it and refresh it in the background if it is about to expire
+            if (refreshAheadFactor > 0 && !refreshingAhead && clock.millis() >= refreshAheadTimestamp) {
+                refreshAhead(context);
+            }
             return completedFuture(routingTable);
         }
     }
 
+    private void refreshAhead(ConnectionContext context) {
+        log.debug(
+                "Routing table for database '%s' is about to expire, refreshing it in the background. %s",
+                databaseName.description(), routingTable);
+        refreshingAhead = true;
+        rediscovery
+                .lookupClusterComposition(
+                        routingTable, connectionPool, context.rediscoveryBookmarks(), null, context.overrideAuthToken())
+                .whenComplete(this::refreshAheadCompleted);
+    }
+
+    private synchronized void refreshAheadCompleted(
+            ClusterCompositionLookupResult compositionLookupResult, Throwable completionError) {
+        refreshingAhead = false;
+        var error = Futures.completionExceptionCause(completionError);
+        if (error == null) {
+            // a concurrent refresh of a stale routing table takes precedence
+            if (refreshRoutingTableFuture != null
+                    || compositionLookupResult.getClusterComposition().expirationTimestamp()
+                            < routingTable.expirationTimestamp()) {
+                return;
+            }
+            try {
+                applyClusterComposition(compositionLookupResult);
+                return;
+            } catch (Throwable applyError) {
+                error = applyError;
+            }
+        }
+        // keep using the current routing table and refresh it once it is stale
+        refreshAheadTimestamp = Long.MAX_VALUE;
+        log.warn(
+                "Failed to refresh routing table for database '%s' in the background, it will be refreshed once it is stale. Current routing table: %s.",
+                databaseName.description(), routingTable);
+        log.debug("Failed to refresh routing table in the background", error);
+    }
+
     @Override
     public synchronized CompletionStage<RoutingTable> updateRoutingTable(
             ClusterCompositionLookupResult compositionLookupResult) {
@@ -124,24 +183,7 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
 
     private synchronized void freshClusterCompositionFetched(ClusterCompositionLookupResult compositionLookupResult) {
         try {
-            log.debug(
-                    "Fetched cluster composition for database '%s'. %s",
-                    databaseName.description(), compositionLookupResult.getClusterComposition());
-            routingTable.update(compositionLookupResult.getClusterComposition());
-            routingTableRegistry.removeAged();
-
-            Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
-            routingTableRegistry.allServers().stream()
-                    .flatMap(BoltServerAddress::unicastStream)
-                    .forEach(addressesToRetain::add);
-            compositionLookupResult.getResolvedInitialRouters().ifPresent(addresses -> {
-                resolvedInitialRouters.clear();
-                resolvedInitialRouters.addAll(addresses);
-            });
-            addressesToRetain.addAll(resolvedInitialRouters);
-            connectionPool.retainAll(addressesToRetain);
-
-            log.debug("Updated routing table for database '%s'. %s", databaseName.description(), routingTable);
+            applyClusterComposition(compositionLookupResult);
 
             var routingTableFuture = refreshRoutingTableFuture;
             refreshRoutingTableFuture = null;
@@ -151,6 +193,40 @@ public class RoutingTableHandlerImpl implements RoutingTableHandler {
         }
     }
 
+    private void applyClusterComposition(ClusterCompositionLookupResult compositionLookupResult) {
+        log.debug(
+                "Fetched cluster composition for database '%s'. %s",
+                databaseName.description(), compositionLookupResult.getClusterComposition());
+        routingTable.update(compositionLookupResult.getClusterComposition());
+        routingTableRegistry.removeAged();
+
+        Set<BoltServerAddress> addressesToRetain = new LinkedHashSet<>();
+        routingTableRegistry.allServers().stream()
+                .flatMap(BoltServerAddress::unicastStream)
+                .forEach(addressesToRetain::add);
+        compositionLookupResult.getResolvedInitialRouters().ifPresent(addresses -> {
+            resolvedInitialRouters.clear();
+            resolvedInitialRouters.addAll(addresses);
+        });
+        addressesToRetain.addAll(resolvedInitialRouters);
+        connectionPool.retainAll(addressesToRetain);
+        knownServersListener.accept(addressesToRetain);
+
+        Set<BoltServerAddress> addressesToWarmUp = new LinkedHashSet<>();
+        routingTable.servers().stream()
+                .flatMap(BoltServerAddress::unicastStream)
+                .forEach(addressesToWarmUp::add);
+        connectionPool.warmUp(addressesToWarmUp);
+
+        log.debug("Updated routing table for database '%s'. %s", databaseName.description(), routingTable);
+
+        if (refreshAheadFactor > 0) {
+            var now = clock.millis();
+            var timeToLive = Math.max(routingTable.expirationTimestamp() - now, 0);
+            refreshAheadTimestamp = now + (long) (timeToLive * refreshAheadFactor);
+        }
+    }
+
     private synchronized void clusterCompositionLookupFailed(Throwable error) {
         log.error(
                 String.format(
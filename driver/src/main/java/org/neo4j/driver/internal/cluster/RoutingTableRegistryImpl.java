@@ -22,7 +22,6 @@ import static org.neo4j.driver.internal.async.ConnectionContext.PENDING_DATABASE
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -30,6 +29,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
@@ -37,12 +37,14 @@ import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.DatabaseNameUtil;
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.cluster.HomeDatabaseCache.Principal;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.Futures;
 
 public class RoutingTableRegistryImpl implements RoutingTableRegistry {
     private final ConcurrentMap<DatabaseName, RoutingTableHandler> routingTableHandlers;
     private final Map<Principal, CompletionStage<DatabaseName>> principalToDatabaseNameStage;
+    private final HomeDatabaseCache homeDatabaseCache;
     private final RoutingTableHandlerFactory factory;
     private final Logger log;
     private final Clock clock;
@@ -54,14 +56,25 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
             Rediscovery rediscovery,
             Clock clock,
             Logging logging,
-            long routingTablePurgeDelayMs) {
+            long routingTablePurgeDelayMs,
+            long homeDatabaseCacheTtlMs,
+            double routingTableRefreshAheadFactor,
+            Consumer<Set<BoltServerAddress>> knownServersListener) {
         this(
                 new ConcurrentHashMap<>(),
-                new RoutingTableHandlerFactory(connectionPool, rediscovery, clock, logging, routingTablePurgeDelayMs),
+                new RoutingTableHandlerFactory(
+                        connectionPool,
+                        rediscovery,
+                        clock,
+                        logging,
+                        routingTablePurgeDelayMs,
+                        routingTableRefreshAheadFactor,
+                        knownServersListener),
                 clock,
                 connectionPool,
                 rediscovery,
-                logging);
+                logging,
+                new HomeDatabaseCache(homeDatabaseCacheTtlMs, clock));
     }
 
     RoutingTableRegistryImpl(
@@ -70,11 +83,13 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
             Clock clock,
             ConnectionPool connectionPool,
             Rediscovery rediscovery,
-            Logging logging) {
+            Logging logging,
+            HomeDatabaseCache homeDatabaseCache) {
         requireNonNull(rediscovery, "rediscovery must not be null");
         this.factory = factory;
         this.routingTableHandlers = routingTableHandlers;
         this.principalToDatabaseNameStage = new HashMap<>();
+        this.homeDatabaseCache = homeDatabaseCache;
         this.clock = clock;
         this.connectionPool = connectionPool;
         this.rediscovery = rediscovery;
@@ -99,6 +114,8 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
 
         if (contextDatabaseNameFuture.isDone()) {
             contextAndHandlerStage = CompletableFuture.completedFuture(new ConnectionContextAndHandler(context, null));
+        } else if (completeWithCachedHomeDatabase(context)) {
+            contextAndHandlerStage = CompletableFuture.completedFuture(new ConnectionContextAndHandler(context, null));
         } else {
             synchronized (this) {
                 if (contextDatabaseNameFuture.isDone()) {
@@ -106,7 +123,7 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
                             CompletableFuture.completedFuture(new ConnectionContextAndHandler(context, null));
                 } else {
                     var impersonatedUser = context.impersonatedUser();
-                    var principal = new Principal(impersonatedUser);
+                    var principal = new Principal(impersonatedUser, context.overrideAuthToken());
                     var databaseNameStage = principalToDatabaseNameStage.get(principal);
                     var handlerRef = new AtomicReference<RoutingTableHandler>();
 
@@ -130,7 +147,10 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
                                     var handler = getOrCreate(databaseName);
                                     handlerRef.set(handler);
                                     return handler.updateRoutingTable(compositionLookupResult)
-                                            .thenApply(ignored -> databaseName);
+                                            .thenApply(ignored -> {
+                                                homeDatabaseCache.put(principal, databaseName);
+                                                return databaseName;
+                                            });
                                 })
                                 .whenComplete((databaseName, throwable) -> {
                                     synchronized (this) {
@@ -159,6 +179,13 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
         return contextAndHandlerStage;
     }
 
+    private boolean completeWithCachedHomeDatabase(ConnectionContext context) {
+        var principal = new Principal(context.impersonatedUser(), context.overrideAuthToken());
+        var databaseName = homeDatabaseCache.get(principal);
+        databaseName.ifPresent(context.databaseNameFuture()::complete);
+        return databaseName.isPresent();
+    }
+
     @Override
     public Set<BoltServerAddress> allServers() {
         // obviously we just had a snapshot of all servers in all routing tables
@@ -171,6 +198,7 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
     @Override
     public void remove(DatabaseName databaseName) {
         routingTableHandlers.remove(databaseName);
+        homeDatabaseCache.invalidate(databaseName);
         log.debug("Routing table handler for database '%s' is removed.", databaseName.description());
     }
 
@@ -182,8 +210,10 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
                         "Routing table handler for database '%s' is removed because it has not been used for a long time. Routing table: %s",
                         databaseName.description(), handler.routingTable());
                 routingTableHandlers.remove(databaseName);
+                homeDatabaseCache.invalidate(databaseName);
             }
         });
+        homeDatabaseCache.removeExpired();
     }
 
     @Override
@@ -210,39 +240,38 @@ public class RoutingTableRegistryImpl implements RoutingTableRegistry {
         private final Logging logging;
         private final Clock clock;
         private final long routingTablePurgeDelayMs;
+        private final double routingTableRefreshAheadFactor;
+        private final Consumer<Set<BoltServerAddress>> knownServersListener;
 
         RoutingTableHandlerFactory(
                 ConnectionPool connectionPool,
                 Rediscovery rediscovery,
                 Clock clock,
                 Logging logging,
-                long routingTablePurgeDelayMs) {
+                long routingTablePurgeDelayMs,
+                double routingTableRefreshAheadFactor,
+                Consumer<Set<BoltServerAddress>> knownServersListener) {
             this.connectionPool = connectionPool;
             this.rediscovery = rediscovery;
             this.clock = clock;
             this.logging = logging;
             this.routingTablePurgeDelayMs = routingTablePurgeDelayMs;
+            this.routingTableRefreshAheadFactor = routingTableRefreshAheadFactor;
+            this.knownServersListener = knownServersListener;
         }
 
         RoutingTableHandler newInstance(DatabaseName databaseName, RoutingTableRegistry allTables) {
             var routingTable = new ClusterRoutingTable(databaseName, clock);
             return new RoutingTableHandlerImpl(
-                    routingTable, rediscovery, connectionPool, allTables, logging, routingTablePurgeDelayMs);
-        }
-    }
-
-    private record Principal(String id) {
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            var principal = (Principal) o;
-            return Objects.equals(id, principal.id);
+                    routingTable,
+                    rediscovery,
+                    connectionPool,
+                    allTables,
+                    logging,
+                    routingTablePurgeDelayMs,
+                    routingTableRefreshAheadFactor,
+                    clock,
+                    knownServersListener);
         }
     }
 
@@ -48,6 +48,7 @@ import org.neo4j.driver.internal.cluster.RoutingTable;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistry;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistryImpl;
 import org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
@@ -78,7 +79,7 @@ public class LoadBalancer implements ConnectionProvider {
             Logging logging) {
         this(
                 connectionPool,
-                createRoutingTables(connectionPool, rediscovery, settings, clock, logging),
+                createRoutingTables(connectionPool, rediscovery, settings, loadBalancingStrategy, clock, logging),
                 rediscovery,
                 loadBalancingStrategy,
                 eventExecutorGroup,
@@ -104,7 +105,10 @@ public class LoadBalancer implements ConnectionProvider {
     @Override
     public CompletionStage<Connection> acquireConnection(ConnectionContext context) {
         return routingTables.ensureRoutingTable(context).thenCompose(handler -> acquire(
-                        context.mode(), handler.routingTable(), context.overrideAuthToken())
+                        context.mode(),
+                        handler.routingTable(),
+                        context.overrideAuthToken(),
+                        context.acquisitionOptions())
                 .thenApply(connection -> new RoutingConnection(
                         connection,
                         Futures.joinNowOrElseThrow(
@@ -170,10 +174,12 @@ public class LoadBalancer implements ConnectionProvider {
                 if (error instanceof SecurityException) {
                     return failedFuture(error);
                 }
-                return connectionPool.acquire(address, null).thenCompose(conn -> {
-                    boolean featureDetected = featureDetectionFunction.apply(conn);
-                    return conn.release().thenApply(ignored -> featureDetected);
-                });
+                return connectionPool
+                        .acquire(address, null, AcquisitionOptions.DEFAULT)
+                        .thenCompose(conn -> {
+                            boolean featureDetected = featureDetectionFunction.apply(conn);
+                            return conn.release().thenApply(ignored -> featureDetected);
+                        });
             });
         }
         return onErrorContinue(result, baseError, completionError -> {
@@ -192,10 +198,13 @@ public class LoadBalancer implements ConnectionProvider {
     }
 
     private CompletionStage<Connection> acquire(
-            AccessMode mode, RoutingTable routingTable, AuthToken overrideAuthToken) {
+            AccessMode mode,
+            RoutingTable routingTable,
+            AuthToken overrideAuthToken,
+            AcquisitionOptions acquisitionOptions) {
         var result = new CompletableFuture<Connection>();
         List<Throwable> attemptExceptions = new ArrayList<>();
-        acquire(mode, routingTable, result, overrideAuthToken, attemptExceptions);
+        acquire(mode, routingTable, result, overrideAuthToken, acquisitionOptions, attemptExceptions);
         return result;
     }
 
@@ -204,6 +213,7 @@ public class LoadBalancer implements ConnectionProvider {
             RoutingTable routingTable,
             CompletableFuture<Connection> result,
             AuthToken overrideAuthToken,
+            AcquisitionOptions acquisitionOptions,
             List<Throwable> attemptErrors) {
         var addresses = getAddressesByMode(mode, routingTable);
         var address = selectAddress(mode, addresses);
@@ -217,25 +227,33 @@ public class LoadBalancer implements ConnectionProvider {
             return;
         }
 
-        connectionPool.acquire(address, overrideAuthToken).whenComplete((connection, completionError) -> {
-            var error = completionExceptionCause(completionError);
-            if (error != null) {
-                if (error instanceof ServiceUnavailableException) {
-                    var attemptMessage = format(CONNECTION_ACQUISITION_ATTEMPT_FAILURE_MESSAGE, address);
-                    log.warn(attemptMessage);
-                    log.debug(attemptMessage, error);
-                    attemptErrors.add(error);
-                    routingTable.forget(address);
-                    eventExecutorGroup
-                            .next()
-                            .execute(() -> acquire(mode, routingTable, result, overrideAuthToken, attemptErrors));
-                } else {
-                    result.completeExceptionally(error);
-                }
-            } else {
-                result.complete(connection);
-            }
-        });
+        connectionPool
+                .acquire(address, overrideAuthToken, acquisitionOptions)
+                .whenComplete((connection, completionError) -> {
+                    var error = completionExceptionCause(completionError);
+                    if (error != null) {
+                        if (error instanceof ServiceUnavailableException) {
+                            var attemptMessage = format(CONNECTION_ACQUISITION_ATTEMPT_FAILURE_MESSAGE, address);
+                            log.warn(attemptMessage);
+                            log.debug(attemptMessage, error);
+                            attemptErrors.add(error);
+                            routingTable.forget(address);
+                            eventExecutorGroup
+                                    .next()
+                                    .execute(() -> acquire(
+                                            mode,
+                                            routingTable,
+                                            result,
+                                            overrideAuthToken,
+                                            acquisitionOptions,
+                                            attemptErrors));
+                        } else {
+                            result.completeExceptionally(error);
+                        }
+                    } else {
+                        result.complete(connection);
+                    }
+                });
     }
 
     private static List<BoltServerAddress> getAddressesByMode(AccessMode mode, RoutingTable routingTable) {
@@ -256,10 +274,18 @@ public class LoadBalancer implements ConnectionProvider {
             ConnectionPool connectionPool,
             Rediscovery rediscovery,
             RoutingSettings settings,
+            LoadBalancingStrategy loadBalancingStrategy,
             Clock clock,
             Logging logging) {
         return new RoutingTableRegistryImpl(
-                connectionPool, rediscovery, clock, logging, settings.routingTablePurgeDelayMs());
+                connectionPool,
+                rediscovery,
+                clock,
+                logging,
+                settings.routingTablePurgeDelayMs(),
+                settings.homeDatabaseCacheTtlMs(),
+                settings.routingTableRefreshAheadFactor(),
+                loadBalancingStrategy::onRoutingTableUpdated);
     }
 
     /**
@@ -17,6 +17,7 @@
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
 import java.util.List;
+import java.util.Set;
 import org.neo4j.driver.internal.BoltServerAddress;
 
 /**
@@ -38,4 +39,11 @@ public interface LoadBalancingStrategy {
      * @return most appropriate writer or {@code null} if it can't be selected.
      */
     BoltServerAddress selectWriter(List<BoltServerAddress> knownWriters);
+
+    /**
+     * Notifies the strategy that a routing table has been updated.
+     *
+     * @param knownServers all servers known to the driver after the update.
+     */
+    default void onRoutingTableUpdated(Set<BoltServerAddress> knownServers) {}
 }
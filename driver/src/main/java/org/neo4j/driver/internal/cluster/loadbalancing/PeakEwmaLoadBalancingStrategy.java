@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+/**
+ * Load balancing strategy that picks two random addresses from given readers or writers and selects the one with the
+ * lower cost. The cost of an address is its estimated response time multiplied by its amount of active (checked out of
+ * the pool) connections plus one, so that a server that slows down receives less work even while it is lightly used.
+ * Comparing two random addresses instead of all of them prevents all new work from going to the same address until
+ * its estimate catches up.
+ */
+public class PeakEwmaLoadBalancingStrategy implements LoadBalancingStrategy {
+    private final ConnectionPool connectionPool;
+    private final Logger log;
+
+    public PeakEwmaLoadBalancingStrategy(ConnectionPool connectionPool, Logging logging) {
+        this.connectionPool = connectionPool;
+        this.log = logging.getLog(getClass());
+    }
+
+    @Override
+    public BoltServerAddress selectReader(List<BoltServerAddress> knownReaders) {
+        return select(knownReaders, "reader");
+    }
+
+    @Override
+    public BoltServerAddress selectWriter(List<BoltServerAddress> knownWriters) {
+        return select(knownWriters, "writer");
+    }
+
+    private BoltServerAddress select(List<BoltServerAddress> addresses, String addressType) {
+        var size = addresses.size();
+        if (size == 0) {
+            log.trace("Unable to select %s, no known addresses given", addressType);
+            return null;
+        } else if (size == 1) {
+            return addresses.get(0);
+        }
+
+        // choose two distinct addresses at random
+        var random = ThreadLocalRandom.current();
+        var firstIndex = random.nextInt(size);
+        var secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+
+        var first = addresses.get(firstIndex);
+        var second = addresses.get(secondIndex);
+        var firstCost = cost(first);
+        var secondCost = cost(second);
+        var selected = firstCost <= secondCost ? first : second;
+
+        log.trace(
+                "Selected %s with address: '%s' and cost: %s", addressType, selected, Math.min(firstCost, secondCost));
+
+        return selected;
+    }
+
+    private double cost(BoltServerAddress address) {
+        // unknown response times count as the shortest ones, so that new servers are tried
+        return (connectionPool.responseLatencyNanos(address) + 1.0) * (connectionPool.inUseConnections(address) + 1);
+    }
+}
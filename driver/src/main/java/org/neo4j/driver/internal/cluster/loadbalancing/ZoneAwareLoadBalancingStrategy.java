@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.net.ServerZoneResolver;
+
+/**
+ * Load balancing strategy that narrows given readers down to those located in the zone of the driver before delegating
+ * the selection to another strategy. Readers in other zones are only used when no reader of the local zone is
+ * available, either because all of them failed and were removed from the routing table or because all of them have no
+ * connections left in their pools. Writers are selected by the other strategy directly.
+ * <p>
+ * The zone of each address is resolved once and cached until the next routing table update. Addresses whose zone
+ * fails to resolve are treated as located in an unknown zone and the failure is logged once per address.
+ */
+public class ZoneAwareLoadBalancingStrategy implements LoadBalancingStrategy {
+    private final LoadBalancingStrategy delegate;
+    private final ConnectionPool connectionPool;
+    private final String localZone;
+    private final ServerZoneResolver zoneResolver;
+    private final MetricsListener metricsListener;
+    private final Logger log;
+    private final ConcurrentMap<BoltServerAddress, Optional<String>> zones = new ConcurrentHashMap<>();
+    private final Set<BoltServerAddress> unresolvedAddresses = ConcurrentHashMap.newKeySet();
+
+    public ZoneAwareLoadBalancingStrategy(
+            LoadBalancingStrategy delegate,
+            ConnectionPool connectionPool,
+            String localZone,
+            ServerZoneResolver zoneResolver,
+            MetricsListener metricsListener,
+            Logging logging) {
+        this.delegate = delegate;
+        this.connectionPool = connectionPool;
+        this.localZone = localZone;
+        this.zoneResolver = zoneResolver;
+        this.metricsListener = metricsListener;
+        this.log = logging.getLog(getClass());
+    }
+
+    @Override
+    public BoltServerAddress selectReader(List<BoltServerAddress> knownReaders) {
+        List<BoltServerAddress> localReaders = new ArrayList<>(knownReaders.size());
+        List<BoltServerAddress> remoteReaders = new ArrayList<>(knownReaders.size());
+        for (var reader : knownReaders) {
+            if (!isLocal(reader)) {
+                remoteReaders.add(reader);
+            } else if (!connectionPool.isSaturated(reader)) {
+                localReaders.add(reader);
+            }
+        }
+
+        BoltServerAddress selected;
+        boolean local;
+        if (!localReaders.isEmpty()) {
+            selected = delegate.selectReader(localReaders);
+            local = true;
+        } else if (!remoteReaders.isEmpty()) {
+            log.debug("No reader available in zone '%s', falling back to readers in other zones", localZone);
+            selected = delegate.selectReader(remoteReaders);
+            local = false;
+        } else {
+            // all readers are local and saturated, let the pool queue the acquisition
+            selected = delegate.selectReader(knownReaders);
+            local = true;
+        }
+
+        if (selected != null) {
+            metricsListener.afterReaderSelected(local);
+        }
+        return selected;
+    }
+
+    @Override
+    public BoltServerAddress selectWriter(List<BoltServerAddress> knownWriters) {
+        return delegate.selectWriter(knownWriters);
+    }
+
+    @Override
+    public void onRoutingTableUpdated(Set<BoltServerAddress> knownServers) {
+        zones.clear();
+        unresolvedAddresses.retainAll(knownServers);
+        delegate.onRoutingTableUpdated(knownServers);
+    }
+
+    private boolean isLocal(BoltServerAddress address) {
+        var zone = zones.get(address);
+        if (zone == null) {
+            zone = resolveZone(address);
+            zones.put(address, zone);
+        }
+        return Objects.equals(localZone, zone.orElse(null));
+    }
+
+    private Optional<String> resolveZone(BoltServerAddress address) {
+        try {
+            return Optional.ofNullable(zoneResolver.resolve(address));
+        } catch (Throwable error) {
+            if (unresolvedAddresses.add(address)) {
+                log.warn(
+                        "Failed to resolve zone of address '%s', it is treated as located in an unknown zone", address);
+                log.debug("Failed to resolve zone", error);
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -35,6 +35,7 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.request.PullAllMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
@@ -132,12 +133,24 @@ public class LegacyPullAllResponseHandler implements PullAllResponseHandler {
         if (ignoreRecords) {
             completeRecordFuture(null);
         } else {
-            Record record = new InternalRecord(runResponseHandler.queryKeys(), fields);
-            enqueueRecord(record);
-            completeRecordFuture(record);
+            handleRecord(new InternalRecord(runResponseHandler.queryKeys(), fields));
         }
     }
 
+    @Override
+    public synchronized void onRecord(LazyRecordFields fields) {
+        if (ignoreRecords) {
+            completeRecordFuture(null);
+        } else {
+            handleRecord(new InternalRecord(runResponseHandler.queryKeys(), fields));
+        }
+    }
+
+    private void handleRecord(Record record) {
+        enqueueRecord(record);
+        completeRecordFuture(record);
+    }
+
     @Override
     public synchronized void disableAutoReadManagement() {
         autoReadManagementEnabled = false;
@@ -28,6 +28,7 @@ import org.neo4j.driver.exceptions.SessionExpiredException;
 import org.neo4j.driver.exceptions.TransientException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.RoutingErrorHandler;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.Futures;
 
@@ -64,6 +65,11 @@ public class RoutingResponseHandler implements ResponseHandler {
         delegate.onRecord(fields);
     }
 
+    @Override
+    public void onRecord(LazyRecordFields fields) {
+        delegate.onRecord(fields);
+    }
+
     @Override
     public boolean canManageAutoRead() {
         return delegate.canManageAutoRead();
@@ -37,6 +37,7 @@ public class RunResponseHandler implements ResponseHandler {
 
     private final Connection connection;
     private final UnmanagedTransaction tx;
+    private long flushedNanos = System.nanoTime();
 
     public RunResponseHandler(
             CompletableFuture<Void> runFuture,
@@ -87,4 +88,21 @@ public class RunResponseHandler implements ResponseHandler {
     public long queryId() {
         return queryId;
     }
+
+    /**
+     * Marks the moment the RUN message has been flushed to the network, from which {@link #elapsedNanos()} is
+     * measured. Must be called in the event loop of the connection.
+     */
+    public void markFlushed() {
+        flushedNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the time in nanoseconds since the RUN message has been flushed to the network.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - flushedNanos;
+    }
 }
@@ -24,6 +24,7 @@ import static org.neo4j.driver.internal.messaging.request.DiscardMessage.newDisc
 
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
@@ -31,6 +32,7 @@ import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.internal.handlers.PullResponseCompletionListener;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.MetadataExtractor;
@@ -143,6 +145,15 @@ public class BasicPullResponseHandler implements PullResponseHandler {
 
     @Override
     public void onRecord(Value[] fields) {
+        onRecord(() -> new InternalRecord(runResponseHandler.queryKeys(), fields));
+    }
+
+    @Override
+    public void onRecord(LazyRecordFields fields) {
+        onRecord(() -> new InternalRecord(runResponseHandler.queryKeys(), fields));
+    }
+
+    private void onRecord(Supplier<Record> recordSupplier) {
         State newState;
         Record record = null;
         synchronized (this) {
@@ -150,7 +161,7 @@ public class BasicPullResponseHandler implements PullResponseHandler {
             state.onRecord(this);
             newState = state;
             if (newState == State.STREAMING_STATE) {
-                record = new InternalRecord(runResponseHandler.queryKeys(), fields);
+                record = recordSupplier.get();
                 if (syncSignals) {
                     recordConsumer.accept(record, null);
                 }
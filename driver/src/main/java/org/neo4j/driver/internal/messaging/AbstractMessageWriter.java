@@ -17,17 +17,35 @@
 package org.neo4j.driver.internal.messaging;
 
 import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.messaging.request.CommitMessage.COMMIT;
+import static org.neo4j.driver.internal.messaging.request.GoodbyeMessage.GOODBYE;
+import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
+import static org.neo4j.driver.internal.messaging.request.RollbackMessage.ROLLBACK;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public abstract class AbstractMessageWriter implements MessageFormat.Writer {
+    /**
+     * The messages without fields that all protocol versions since Bolt 3 support.
+     */
+    protected static final Set<Message> CONSTANT_MESSAGES = Set.of(GOODBYE, COMMIT, ROLLBACK, RESET);
+
     private final ValuePacker packer;
     private final Map<Byte, MessageEncoder> encodersByMessageSignature;
+    private final Set<Message> constantMessages;
 
     protected AbstractMessageWriter(ValuePacker packer, Map<Byte, MessageEncoder> encodersByMessageSignature) {
+        this(packer, encodersByMessageSignature, Set.of());
+    }
+
+    protected AbstractMessageWriter(
+            ValuePacker packer, Map<Byte, MessageEncoder> encodersByMessageSignature, Set<Message> constantMessages) {
         this.packer = requireNonNull(packer);
         this.encodersByMessageSignature = requireNonNull(encodersByMessageSignature);
+        this.constantMessages = requireNonNull(constantMessages);
     }
 
     @Override
@@ -39,4 +57,24 @@ public abstract class AbstractMessageWriter implements MessageFormat.Writer {
         }
         encoder.encode(msg, packer);
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The constant messages contain no values, so all writers of the same class encode them to the same bytes.
+     */
+    @Override
+    public Set<Message> constantMessages() {
+        return constantMessages;
+    }
+
+    /**
+     * @param messages the additional constant messages of a protocol version
+     * @return {@link #CONSTANT_MESSAGES} together with the given messages
+     */
+    protected static Set<Message> constantMessagesWith(Message... messages) {
+        var result = new HashSet<>(CONSTANT_MESSAGES);
+        result.addAll(Set.of(messages));
+        return Set.copyOf(result);
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import java.io.IOException;
+import java.util.function.Function;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ProtocolException;
+import org.neo4j.driver.internal.packstream.ByteArrayInput;
+import org.neo4j.driver.internal.packstream.PackInput;
+import org.neo4j.driver.internal.packstream.PackStream;
+
+/**
+ * Fields of a RECORD message kept in their packed form and decoded one by one when accessed.
+ * <p>
+ * The packed fields are copied out of the network buffer, so instances do not hold on to pooled memory and need no
+ * explicit release. Every instance decodes its own copy, which is dropped together with the decoding state as soon as
+ * every field has been decoded.
+ */
+public final class LazyRecordFields {
+    private final Decoder decoder;
+    private final int packedSize;
+    private byte[] bytes;
+    private ByteArrayInput input;
+    private ValueUnpacker valueUnpacker;
+    private int[] offsets;
+    private Value[] values;
+    private int undecodedCount;
+
+    public LazyRecordFields(byte[] bytes, Decoder decoder) {
+        this.bytes = bytes;
+        this.packedSize = bytes.length;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Returns the size of the packed fields as received, which is known without decoding them.
+     *
+     * @return the size in bytes
+     */
+    public int packedSize() {
+        return packedSize;
+    }
+
+    public synchronized int size() {
+        ensureScanned();
+        return values.length;
+    }
+
+    public synchronized Value get(int index) {
+        ensureScanned();
+        var value = values[index];
+        if (value == null) {
+            value = decode(offsets[index]);
+            values[index] = value;
+            if (--undecodedCount == 0) {
+                release();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Decodes all remaining fields.
+     *
+     * @return all fields, the array is owned by this instance
+     */
+    public synchronized Value[] values() {
+        ensureScanned();
+        for (var i = 0; i < values.length; i++) {
+            get(i);
+        }
+        return values;
+    }
+
+    private void ensureScanned() {
+        if (values == null) {
+            input = new ByteArrayInput();
+            valueUnpacker = decoder.valueUnpackerFactory.apply(input);
+            offsets = scan();
+            values = new Value[offsets.length];
+            undecodedCount = offsets.length;
+            if (undecodedCount == 0) {
+                release();
+            }
+        }
+    }
+
+    private int[] scan() {
+        input.start(bytes, 0);
+        try {
+            var unpacker = new PackStream.Unpacker(input);
+            var offsets = new int[(int) unpacker.unpackListHeader()];
+            for (var i = 0; i < offsets.length; i++) {
+                offsets[i] = input.position();
+                unpacker.skip();
+            }
+            return offsets;
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new ProtocolException("Failed to read RECORD message fields", e);
+        } finally {
+            input.stop();
+        }
+    }
+
+    private Value decode(int offset) {
+        input.start(bytes, offset);
+        try {
+            return valueUnpacker.unpack();
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new ProtocolException("Failed to decode RECORD message field", e);
+        } finally {
+            input.stop();
+        }
+    }
+
+    private void release() {
+        bytes = null;
+        offsets = null;
+        input = null;
+        valueUnpacker = null;
+    }
+
+    /**
+     * Creates the value unpackers that {@link LazyRecordFields} received on a single connection decode their fields
+     * with. It holds no decoding state, so records of a connection can be decoded on different threads at once.
+     */
+    public static final class Decoder {
+        private final Function<PackInput, ValueUnpacker> valueUnpackerFactory;
+
+        public Decoder(Function<PackInput, ValueUnpacker> valueUnpackerFactory) {
+            this.valueUnpackerFactory = valueUnpackerFactory;
+        }
+    }
+}
@@ -17,12 +17,25 @@
 package org.neo4j.driver.internal.messaging;
 
 import java.io.IOException;
+import java.util.Set;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
 public interface MessageFormat {
     interface Writer {
         void write(Message msg) throws IOException;
+
+        /**
+         * Returns the messages that this writer always encodes to the same bytes, such as {@code RESET} or
+         * {@code COMMIT}. Callers may encode them once and reuse the result instead of writing them every time.
+         * <p>
+         * Messages are matched by identity.
+         *
+         * @return the constant messages, never {@code null}
+         */
+        default Set<Message> constantMessages() {
+            return Set.of();
+        }
     }
 
     interface Reader {
@@ -39,4 +52,12 @@ public interface MessageFormat {
      * This only takes effect on subsequent writer and reader creation via {@link #newWriter(PackOutput)} and {@link #newReader(PackInput)}.
      */
     default void enableDateTimeUtc() {}
+
+    /**
+     * Enables lazy decoding of RECORD messages if supported by the given message format. Their fields are then
+     * delivered as {@link LazyRecordFields} and decoded when accessed.
+     * <p>
+     * This only takes effect on subsequent reader creation via {@link #newReader(PackInput)}.
+     */
+    default void enableLazyRecords() {}
 }
@@ -24,6 +24,10 @@ public interface ResponseMessageHandler {
 
     void handleRecordMessage(Value[] fields);
 
+    default void handleRecordMessage(LazyRecordFields fields) {
+        handleRecordMessage(fields.values());
+    }
+
     void handleFailureMessage(String code, String message);
 
     void handleIgnoredMessage();
@@ -29,4 +29,6 @@ public interface ValueUnpacker {
     Map<String, Value> unpackMap() throws IOException;
 
     Value[] unpackArray() throws IOException;
+
+    Value unpack() throws IOException;
 }
@@ -17,6 +17,8 @@
 package org.neo4j.driver.internal.messaging.common;
 
 import java.io.IOException;
+import java.util.function.Function;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
 import org.neo4j.driver.internal.messaging.ValueUnpacker;
@@ -28,13 +30,34 @@ import org.neo4j.driver.internal.packstream.PackInput;
 
 public class CommonMessageReader implements MessageFormat.Reader {
     private final ValueUnpacker unpacker;
+    private final PackInput input;
+    private final LazyRecordFields.Decoder lazyRecordDecoder;
 
     public CommonMessageReader(PackInput input, boolean dateTimeUtcEnabled) {
-        this(new CommonValueUnpacker(input, dateTimeUtcEnabled));
+        this(input, dateTimeUtcEnabled, false);
+    }
+
+    public CommonMessageReader(PackInput input, boolean dateTimeUtcEnabled, boolean lazyRecordsEnabled) {
+        this(input, in -> new CommonValueUnpacker(in, dateTimeUtcEnabled), lazyRecordsEnabled);
     }
 
     protected CommonMessageReader(ValueUnpacker unpacker) {
         this.unpacker = unpacker;
+        this.input = null;
+        this.lazyRecordDecoder = null;
+    }
+
+    /**
+     * @param input the input to read messages from
+     * @param unpackerFactory creates the value unpacker for the given input
+     * @param lazyRecordsEnabled whether RECORD messages should be kept packed until their fields are accessed, which
+     * only takes effect when the input knows the size of the current message
+     */
+    protected CommonMessageReader(
+            PackInput input, Function<PackInput, ValueUnpacker> unpackerFactory, boolean lazyRecordsEnabled) {
+        this.unpacker = unpackerFactory.apply(input);
+        this.input = input;
+        this.lazyRecordDecoder = lazyRecordsEnabled ? new LazyRecordFields.Decoder(unpackerFactory) : null;
     }
 
     @Override
@@ -67,6 +90,15 @@ public class CommonMessageReader implements MessageFormat.Reader {
     }
 
     private void unpackRecordMessage(ResponseMessageHandler output) throws IOException {
+        if (lazyRecordDecoder != null) {
+            var size = input.readableBytes();
+            if (size >= 0) {
+                var bytes = new byte[size];
+                input.readBytes(bytes, 0, size);
+                output.handleRecordMessage(new LazyRecordFields(bytes, lazyRecordDecoder));
+                return;
+            }
+        }
         var fields = unpacker.unpackArray();
         output.handleRecordMessage(fields);
     }
@@ -32,7 +32,9 @@ import org.neo4j.driver.internal.InternalPoint3D;
 import org.neo4j.driver.internal.messaging.ValuePacker;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.value.DoubleArrayValue;
 import org.neo4j.driver.internal.value.InternalValue;
+import org.neo4j.driver.internal.value.LongArrayValue;
 import org.neo4j.driver.types.IsoDuration;
 import org.neo4j.driver.types.Point;
 
@@ -134,9 +136,15 @@ public class CommonValuePacker implements ValuePacker {
                 }
             }
             case LIST -> {
-                packer.packListHeader(value.size());
-                for (var item : value.values()) {
-                    pack(item);
+                if (value instanceof LongArrayValue longArrayValue) {
+                    packer.pack(longArrayValue.backingArray());
+                } else if (value instanceof DoubleArrayValue doubleArrayValue) {
+                    packer.pack(doubleArrayValue.backingArray());
+                } else {
+                    packer.packListHeader(value.size());
+                    for (var item : value.values()) {
+                        pack(item);
+                    }
                 }
             }
             default -> throw new IOException("Unknown type: " + value.type().name());
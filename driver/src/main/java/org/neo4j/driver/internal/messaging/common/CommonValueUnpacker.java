@@ -46,9 +46,13 @@ import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.messaging.ValueUnpacker;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.packstream.PackType;
+import org.neo4j.driver.internal.packstream.StringDictionary;
 import org.neo4j.driver.internal.types.TypeConstructor;
 import org.neo4j.driver.internal.util.Iterables;
+import org.neo4j.driver.internal.value.DoubleArrayValue;
 import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongArrayValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.PathValue;
@@ -96,10 +100,12 @@ public class CommonValueUnpacker implements ValueUnpacker {
 
     private final boolean dateTimeUtcEnabled;
     protected final PackStream.Unpacker unpacker;
+    private final StringDictionary tokens;
 
     public CommonValueUnpacker(PackInput input, boolean dateTimeUtcEnabled) {
         this.dateTimeUtcEnabled = dateTimeUtcEnabled;
         this.unpacker = new PackStream.Unpacker(input);
+        this.tokens = new StringDictionary();
     }
 
     @Override
@@ -120,7 +126,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
         }
         Map<String, Value> map = Iterables.newHashMapWithSize(size);
         for (var i = 0; i < size; i++) {
-            var key = unpacker.unpackString();
+            var key = unpackToken();
             map.put(key, unpack());
         }
         return map;
@@ -136,7 +142,16 @@ public class CommonValueUnpacker implements ValueUnpacker {
         return values;
     }
 
-    protected Value unpack() throws IOException {
+    /**
+     * Unpacks a string that comes from a small vocabulary, like a map key, a label or a relationship type. Repeated
+     * values share a single instance for the lifetime of this unpacker.
+     */
+    protected String unpackToken() throws IOException {
+        return unpacker.unpackString(tokens);
+    }
+
+    @Override
+    public Value unpack() throws IOException {
         var type = unpacker.peekNextType();
         switch (type) {
             case NULL -> {
@@ -161,12 +176,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
                 return new MapValue(unpackMap());
             }
             case LIST -> {
-                var size = (int) unpacker.unpackListHeader();
-                var vals = new Value[size];
-                for (var j = 0; j < size; j++) {
-                    vals[j] = unpack();
-                }
-                return new ListValue(vals);
+                return unpackList((int) unpacker.unpackListHeader());
             }
             case STRUCT -> {
                 var size = unpacker.unpackStructHeader();
@@ -177,6 +187,49 @@ public class CommonValueUnpacker implements ValueUnpacker {
         throw new IOException("Unknown value type: " + type);
     }
 
+    private Value unpackList(int size) throws IOException {
+        if (size == 0) {
+            return new ListValue();
+        }
+        var type = unpacker.peekNextType();
+        var j = 0;
+        Value[] vals;
+        switch (type) {
+            case INTEGER -> {
+                var longs = new long[size];
+                for (; j < size && unpacker.peekNextType() == PackType.INTEGER; j++) {
+                    longs[j] = unpacker.unpackLong();
+                }
+                if (j == size) {
+                    return new LongArrayValue(longs);
+                }
+                vals = new Value[size];
+                for (var i = 0; i < j; i++) {
+                    vals[i] = value(longs[i]);
+                }
+            }
+            case FLOAT -> {
+                var doubles = new double[size];
+                for (; j < size && unpacker.peekNextType() == PackType.FLOAT; j++) {
+                    doubles[j] = unpacker.unpackDouble();
+                }
+                if (j == size) {
+                    return new DoubleArrayValue(doubles);
+                }
+                vals = new Value[size];
+                for (var i = 0; i < j; i++) {
+                    vals[i] = value(doubles[i]);
+                }
+            }
+            default -> vals = new Value[size];
+        }
+        // not a homogeneous list of numbers, decode the remaining elements one by one
+        for (; j < size; j++) {
+            vals[j] = unpack();
+        }
+        return new ListValue(vals);
+    }
+
     private Value unpackStruct(long size, byte type) throws IOException {
         switch (type) {
             case DATE -> {
@@ -260,7 +313,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
         var urn = unpacker.unpackLong();
         var startUrn = unpacker.unpackLong();
         var endUrn = unpacker.unpackLong();
-        var relType = unpacker.unpackString();
+        var relType = unpackToken();
         var props = unpackMap();
 
         var adapted = new InternalRelationship(
@@ -282,12 +335,12 @@ public class CommonValueUnpacker implements ValueUnpacker {
         var numLabels = (int) unpacker.unpackListHeader();
         List<String> labels = new ArrayList<>(numLabels);
         for (var i = 0; i < numLabels; i++) {
-            labels.add(unpacker.unpackString());
+            labels.add(unpackToken());
         }
         var numProps = (int) unpacker.unpackMapHeader();
         Map<String, Value> props = Iterables.newHashMapWithSize(numProps);
         for (var j = 0; j < numProps; j++) {
-            var key = unpacker.unpackString();
+            var key = unpackToken();
             props.put(key, unpack());
         }
 
@@ -311,7 +364,7 @@ public class CommonValueUnpacker implements ValueUnpacker {
             ensureCorrectStructSignature(
                     "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature());
             var id = unpacker.unpackLong();
-            var relType = unpacker.unpackString();
+            var relType = unpackToken();
             var props = unpackMap();
             uniqRels[i] = new InternalRelationship(
                     id, String.valueOf(id), -1, String.valueOf(-1), -1, String.valueOf(-1), relType, props);
@@ -16,12 +16,12 @@
  */
 package org.neo4j.driver.internal.messaging.v3;
 
-import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.AbstractMessageFormat;
 import org.neo4j.driver.internal.messaging.common.CommonMessageReader;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
-public class MessageFormatV3 implements MessageFormat {
+public class MessageFormatV3 extends AbstractMessageFormat {
     @Override
     public Writer newWriter(PackOutput output) {
         return new MessageWriterV3(output);
@@ -29,6 +29,6 @@ public class MessageFormatV3 implements MessageFormat {
 
     @Override
     public Reader newReader(PackInput input) {
-        return new CommonMessageReader(input, false);
+        return new CommonMessageReader(input, false, lazyRecordsEnabled());
     }
 }
@@ -16,8 +16,12 @@
  */
 package org.neo4j.driver.internal.messaging.v3;
 
+import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
+
 import java.util.Map;
+import java.util.Set;
 import org.neo4j.driver.internal.messaging.AbstractMessageWriter;
+import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageEncoder;
 import org.neo4j.driver.internal.messaging.common.CommonValuePacker;
 import org.neo4j.driver.internal.messaging.encode.BeginMessageEncoder;
@@ -42,8 +46,10 @@ import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.util.Iterables;
 
 public class MessageWriterV3 extends AbstractMessageWriter {
+    private static final Set<Message> CONSTANT_MESSAGES_V3 = constantMessagesWith(PULL_ALL);
+
     public MessageWriterV3(PackOutput output) {
-        super(new CommonValuePacker(output, false), buildEncoders());
+        super(new CommonValuePacker(output, false), buildEncoders(), CONSTANT_MESSAGES_V3);
     }
 
     private static Map<Byte, MessageEncoder> buildEncoders() {
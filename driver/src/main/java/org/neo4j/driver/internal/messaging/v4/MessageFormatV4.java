@@ -16,12 +16,12 @@
  */
 package org.neo4j.driver.internal.messaging.v4;
 
-import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.AbstractMessageFormat;
 import org.neo4j.driver.internal.messaging.common.CommonMessageReader;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
-public class MessageFormatV4 implements MessageFormat {
+public class MessageFormatV4 extends AbstractMessageFormat {
     @Override
     public Writer newWriter(PackOutput output) {
         return new MessageWriterV4(output);
@@ -29,6 +29,6 @@ public class MessageFormatV4 implements MessageFormat {
 
     @Override
     public Reader newReader(PackInput input) {
-        return new CommonMessageReader(input, false);
+        return new CommonMessageReader(input, false, lazyRecordsEnabled());
     }
 }
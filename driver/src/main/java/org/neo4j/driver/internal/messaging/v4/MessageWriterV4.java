@@ -43,7 +43,7 @@ import org.neo4j.driver.internal.util.Iterables;
 
 public class MessageWriterV4 extends AbstractMessageWriter {
     public MessageWriterV4(PackOutput output) {
-        super(new CommonValuePacker(output, false), buildEncoders());
+        super(new CommonValuePacker(output, false), buildEncoders(), CONSTANT_MESSAGES);
     }
 
     @SuppressWarnings("DuplicatedCode")
@@ -16,7 +16,7 @@
  */
 package org.neo4j.driver.internal.messaging.v43;
 
-import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.AbstractMessageFormat;
 import org.neo4j.driver.internal.messaging.common.CommonMessageReader;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
@@ -24,7 +24,7 @@ import org.neo4j.driver.internal.packstream.PackOutput;
 /**
  * Bolt message format v4.3
  */
-public class MessageFormatV43 implements MessageFormat {
+public class MessageFormatV43 extends AbstractMessageFormat {
     private boolean dateTimeUtcEnabled;
 
     @Override
@@ -34,7 +34,7 @@ public class MessageFormatV43 implements MessageFormat {
 
     @Override
     public Reader newReader(PackInput input) {
-        return new CommonMessageReader(input, dateTimeUtcEnabled);
+        return new CommonMessageReader(input, dateTimeUtcEnabled, lazyRecordsEnabled());
     }
 
     @Override
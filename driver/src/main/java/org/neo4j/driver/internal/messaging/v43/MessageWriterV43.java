@@ -51,7 +51,7 @@ import org.neo4j.driver.internal.util.Iterables;
  */
 public class MessageWriterV43 extends AbstractMessageWriter {
     public MessageWriterV43(PackOutput output, boolean dateTimeUtcEnabled) {
-        super(new CommonValuePacker(output, dateTimeUtcEnabled), buildEncoders());
+        super(new CommonValuePacker(output, dateTimeUtcEnabled), buildEncoders(), CONSTANT_MESSAGES);
     }
 
     @SuppressWarnings("DuplicatedCode")
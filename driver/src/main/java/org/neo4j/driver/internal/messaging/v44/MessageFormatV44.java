@@ -16,6 +16,7 @@
  */
 package org.neo4j.driver.internal.messaging.v44;
 
+import org.neo4j.driver.internal.messaging.AbstractMessageFormat;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.messaging.common.CommonMessageReader;
 import org.neo4j.driver.internal.packstream.PackInput;
@@ -24,7 +25,7 @@ import org.neo4j.driver.internal.packstream.PackOutput;
 /**
  * Bolt message format v4.4
  */
-public class MessageFormatV44 implements MessageFormat {
+public class MessageFormatV44 extends AbstractMessageFormat {
     private boolean dateTimeUtcEnabled;
 
     @Override
@@ -34,7 +35,7 @@ public class MessageFormatV44 implements MessageFormat {
 
     @Override
     public MessageFormat.Reader newReader(PackInput input) {
-        return new CommonMessageReader(input, dateTimeUtcEnabled);
+        return new CommonMessageReader(input, dateTimeUtcEnabled, lazyRecordsEnabled());
     }
 
     @Override
@@ -48,7 +48,7 @@ import org.neo4j.driver.internal.util.Iterables;
  */
 public class MessageWriterV44 extends AbstractMessageWriter {
     public MessageWriterV44(PackOutput output, boolean dateTimeUtcEnabled) {
-        super(new CommonValuePacker(output, dateTimeUtcEnabled), buildEncoders());
+        super(new CommonValuePacker(output, dateTimeUtcEnabled), buildEncoders(), CONSTANT_MESSAGES);
     }
 
     @SuppressWarnings("DuplicatedCode")
@@ -16,11 +16,11 @@
  */
 package org.neo4j.driver.internal.messaging.v5;
 
-import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.AbstractMessageFormat;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
-public class MessageFormatV5 implements MessageFormat {
+public class MessageFormatV5 extends AbstractMessageFormat {
     @Override
     public Writer newWriter(PackOutput output) {
         return new MessageWriterV5(output);
@@ -28,6 +28,6 @@ public class MessageFormatV5 implements MessageFormat {
 
     @Override
     public Reader newReader(PackInput input) {
-        return new MessageReaderV5(input);
+        return new MessageReaderV5(input, lazyRecordsEnabled());
     }
 }
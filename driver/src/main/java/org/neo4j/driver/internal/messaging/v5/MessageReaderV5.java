@@ -21,6 +21,10 @@ import org.neo4j.driver.internal.packstream.PackInput;
 
 public class MessageReaderV5 extends CommonMessageReader {
     public MessageReaderV5(PackInput input) {
-        super(new ValueUnpackerV5(input));
+        this(input, false);
+    }
+
+    public MessageReaderV5(PackInput input, boolean lazyRecordsEnabled) {
+        super(input, ValueUnpackerV5::new, lazyRecordsEnabled);
     }
 }
@@ -45,7 +45,7 @@ import org.neo4j.driver.internal.util.Iterables;
 
 public class MessageWriterV5 extends AbstractMessageWriter {
     public MessageWriterV5(PackOutput output) {
-        super(new CommonValuePacker(output, true), buildEncoders());
+        super(new CommonValuePacker(output, true), buildEncoders(), CONSTANT_MESSAGES);
     }
 
     @SuppressWarnings("DuplicatedCode")
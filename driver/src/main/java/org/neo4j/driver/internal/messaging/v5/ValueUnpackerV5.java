@@ -61,12 +61,12 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         var numLabels = (int) unpacker.unpackListHeader();
         List<String> labels = new ArrayList<>(numLabels);
         for (var i = 0; i < numLabels; i++) {
-            labels.add(unpacker.unpackString());
+            labels.add(unpackToken());
         }
         var numProps = (int) unpacker.unpackMapHeader();
         Map<String, Value> props = Iterables.newHashMapWithSize(numProps);
         for (var j = 0; j < numProps; j++) {
-            var key = unpacker.unpackString();
+            var key = unpackToken();
             props.put(key, unpack());
         }
 
@@ -93,7 +93,7 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
             ensureCorrectStructSignature(
                     "UNBOUND_RELATIONSHIP", UNBOUND_RELATIONSHIP, unpacker.unpackStructSignature());
             var id = unpacker.unpackLong();
-            var relType = unpacker.unpackString();
+            var relType = unpackToken();
             var props = unpackMap();
             var elementId = unpacker.unpackString();
             uniqRels[i] = new InternalRelationship(
@@ -142,7 +142,7 @@ public class ValueUnpackerV5 extends CommonValueUnpacker {
         var urn = unpacker.unpackLong();
         var startUrn = unpacker.unpackLong();
         var endUrn = unpacker.unpackLong();
-        var relType = unpacker.unpackString();
+        var relType = unpackToken();
         var props = unpackMap();
         var elementId = unpacker.unpackString();
         var startElementId = unpacker.unpackString();
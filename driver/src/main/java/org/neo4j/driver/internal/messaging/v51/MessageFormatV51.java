@@ -16,12 +16,12 @@
  */
 package org.neo4j.driver.internal.messaging.v51;
 
-import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.AbstractMessageFormat;
 import org.neo4j.driver.internal.messaging.v5.MessageReaderV5;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
-public class MessageFormatV51 implements MessageFormat {
+public class MessageFormatV51 extends AbstractMessageFormat {
     @Override
     public Writer newWriter(PackOutput output) {
         return new MessageWriterV51(output);
@@ -29,6 +29,6 @@ public class MessageFormatV51 implements MessageFormat {
 
     @Override
     public Reader newReader(PackInput input) {
-        return new MessageReaderV5(input);
+        return new MessageReaderV5(input, lazyRecordsEnabled());
     }
 }
@@ -49,7 +49,7 @@ import org.neo4j.driver.internal.util.Iterables;
 
 public class MessageWriterV51 extends AbstractMessageWriter {
     public MessageWriterV51(PackOutput output) {
-        super(new CommonValuePacker(output, true), buildEncoders());
+        super(new CommonValuePacker(output, true), buildEncoders(), CONSTANT_MESSAGES);
     }
 
     @SuppressWarnings("DuplicatedCode")
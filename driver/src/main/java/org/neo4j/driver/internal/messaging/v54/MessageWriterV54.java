@@ -51,7 +51,7 @@ import org.neo4j.driver.internal.util.Iterables;
 
 public class MessageWriterV54 extends AbstractMessageWriter {
     public MessageWriterV54(PackOutput output) {
-        super(new CommonValuePacker(output, true), buildEncoders());
+        super(new CommonValuePacker(output, true), buildEncoders(), CONSTANT_MESSAGES);
     }
 
     @SuppressWarnings("DuplicatedCode")
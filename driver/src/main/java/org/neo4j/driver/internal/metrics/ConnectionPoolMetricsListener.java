@@ -32,6 +32,13 @@ interface ConnectionPoolMetricsListener {
      */
     void afterFailedToCreate();
 
+    /**
+     * Invoked after the TLS handshake of a newly created connection.
+     *
+     * @param resumed whether a cached TLS session was resumed
+     */
+    void afterTlsHandshake(boolean resumed);
+
     /**
      * Invoked after a connection is closed.
      */
@@ -31,9 +31,15 @@ public enum DevNullMetricsListener implements MetricsListener {
     @Override
     public void afterFailedToCreate(String poolId) {}
 
+    @Override
+    public void afterTlsHandshake(String poolId, boolean resumed) {}
+
     @Override
     public void afterClosed(String poolId) {}
 
+    @Override
+    public void afterReaderSelected(boolean local) {}
+
     @Override
     public void beforeAcquiringOrCreating(String poolId, ListenerEvent<?> acquireEvent) {}
 
@@ -28,6 +28,9 @@ enum DevNullPoolMetricsListener implements ConnectionPoolMetricsListener {
     @Override
     public void afterFailedToCreate() {}
 
+    @Override
+    public void afterTlsHandshake(boolean resumed) {}
+
     @Override
     public void afterClosed() {}
 
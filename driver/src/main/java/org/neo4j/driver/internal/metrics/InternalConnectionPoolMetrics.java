@@ -37,6 +37,9 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
     private final AtomicLong created = new AtomicLong();
     private final AtomicLong failedToCreate = new AtomicLong();
 
+    private final AtomicLong resumedTlsHandshakes = new AtomicLong();
+    private final AtomicLong fullTlsHandshakes = new AtomicLong();
+
     // acquiring = acquired + timedOutToAcquire + failedToAcquireDueToOtherFailures (which we do not keep track)
     private final AtomicInteger acquiring = new AtomicInteger();
     private final AtomicLong acquired = new AtomicLong();
@@ -73,6 +76,15 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         creating.decrementAndGet();
     }
 
+    @Override
+    public void afterTlsHandshake(boolean resumed) {
+        if (resumed) {
+            resumedTlsHandshakes.incrementAndGet();
+        } else {
+            fullTlsHandshakes.incrementAndGet();
+        }
+    }
+
     @Override
     public void afterCreated(ListenerEvent<?> connEvent) {
         created.incrementAndGet();
@@ -179,6 +191,16 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         return totalInUseCount.get();
     }
 
+    @Override
+    public long resumedTlsHandshakes() {
+        return resumedTlsHandshakes.get();
+    }
+
+    @Override
+    public long fullTlsHandshakes() {
+        return fullTlsHandshakes.get();
+    }
+
     @Override
     public long closed() {
         return closed.get();
@@ -199,7 +221,8 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
         return format(
                 "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, "
                         + "timedOutToAcquire=%s, inUse=%s, idle=%s, "
-                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
+                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, "
+                        + "resumedTlsHandshakes=%s, fullTlsHandshakes=%s]",
                 id(),
                 created(),
                 closed(),
@@ -213,7 +236,9 @@ final class InternalConnectionPoolMetrics implements ConnectionPoolMetrics, Conn
                 totalAcquisitionTime(),
                 totalConnectionTime(),
                 totalInUseTime(),
-                totalInUseCount());
+                totalInUseCount(),
+                resumedTlsHandshakes(),
+                fullTlsHandshakes());
     }
 
     // This is used by the Testkit backend
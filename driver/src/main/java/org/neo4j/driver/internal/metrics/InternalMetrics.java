@@ -24,6 +24,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntSupplier;
 import org.neo4j.driver.ConnectionPoolMetrics;
 import org.neo4j.driver.Logger;
@@ -33,6 +34,8 @@ import org.neo4j.driver.net.ServerAddress;
 
 final class InternalMetrics implements Metrics, MetricsListener {
     private final Map<String, ConnectionPoolMetrics> connectionPoolMetrics;
+    private final AtomicLong localReaderSelections = new AtomicLong();
+    private final AtomicLong remoteReaderSelections = new AtomicLong();
     private final Clock clock;
     private final Logger log;
 
@@ -70,6 +73,11 @@ final class InternalMetrics implements Metrics, MetricsListener {
         poolMetrics(poolId).afterFailedToCreate();
     }
 
+    @Override
+    public void afterTlsHandshake(String poolId, boolean resumed) {
+        poolMetrics(poolId).afterTlsHandshake(resumed);
+    }
+
     @Override
     public void afterClosed(String poolId) {
         poolMetrics(poolId).afterClosed();
@@ -105,6 +113,15 @@ final class InternalMetrics implements Metrics, MetricsListener {
         poolMetrics(poolId).afterTimedOutToAcquireOrCreate();
     }
 
+    @Override
+    public void afterReaderSelected(boolean local) {
+        if (local) {
+            localReaderSelections.incrementAndGet();
+        } else {
+            remoteReaderSelections.incrementAndGet();
+        }
+    }
+
     @Override
     public ListenerEvent<?> createListenerEvent() {
         return new TimeRecorderListenerEvent(clock);
@@ -115,9 +132,21 @@ final class InternalMetrics implements Metrics, MetricsListener {
         return unmodifiableCollection(this.connectionPoolMetrics.values());
     }
 
+    @Override
+    public long localReaderSelections() {
+        return localReaderSelections.get();
+    }
+
+    @Override
+    public long remoteReaderSelections() {
+        return remoteReaderSelections.get();
+    }
+
     @Override
     public String toString() {
-        return format("PoolMetrics=%s", connectionPoolMetrics);
+        return format(
+                "PoolMetrics=%s, localReaderSelections=%s, remoteReaderSelections=%s",
+                connectionPoolMetrics, localReaderSelections(), remoteReaderSelections());
     }
 
     private ConnectionPoolMetricsListener poolMetrics(String poolId) {
@@ -43,6 +43,13 @@ public interface MetricsListener {
      */
     void afterFailedToCreate(String poolId);
 
+    /**
+     * After the TLS handshake of a newly created netty channel.
+     * @param poolId the id of the pool where the netty channel lives.
+     * @param resumed whether a cached TLS session was resumed.
+     */
+    void afterTlsHandshake(String poolId, boolean resumed);
+
     /**
      * After a netty channel is closed successfully.
      * @param poolId the id of the pool where the netty channel lives.
@@ -94,6 +101,12 @@ public interface MetricsListener {
      */
     void afterConnectionReleased(String poolId, ListenerEvent<?> inUseEvent);
 
+    /**
+     * After a reader was selected by a zone aware routing driver.
+     * @param local whether the reader is located in the zone of the driver.
+     */
+    void afterReaderSelected(boolean local);
+
     ListenerEvent<?> createListenerEvent();
 
     void registerPoolMetrics(
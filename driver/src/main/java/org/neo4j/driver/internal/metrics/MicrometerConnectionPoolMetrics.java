@@ -44,6 +44,7 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     public static final String ACQUISITION = PREFIX + ".acquisition";
     public static final String CREATION = PREFIX + ".creation";
     public static final String USAGE = PREFIX + ".usage";
+    public static final String TLS_HANDSHAKES = PREFIX + ".tls.handshakes";
 
     private final IntSupplier inUseSupplier;
     private final IntSupplier idleSupplier;
@@ -58,6 +59,8 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
     private final Timer totalAcquisitionTimer;
     private final Timer totalConnectionTimer;
     private final Timer totalInUseTimer;
+    private final Counter resumedTlsHandshakes;
+    private final Counter fullTlsHandshakes;
 
     MicrometerConnectionPoolMetrics(
             String poolId,
@@ -98,6 +101,12 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         totalAcquisitionTimer = Timer.builder(ACQUISITION).tags(tags).register(registry);
         totalConnectionTimer = Timer.builder(CREATION).tags(tags).register(registry);
         totalInUseTimer = Timer.builder(USAGE).tags(tags).register(registry);
+        resumedTlsHandshakes = Counter.builder(TLS_HANDSHAKES)
+                .tags(Tags.concat(tags, "resumed", "true"))
+                .register(registry);
+        fullTlsHandshakes = Counter.builder(TLS_HANDSHAKES)
+                .tags(Tags.concat(tags, "resumed", "false"))
+                .register(registry);
     }
 
     @Override
@@ -112,6 +121,15 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         creating.decrementAndGet();
     }
 
+    @Override
+    public void afterTlsHandshake(boolean resumed) {
+        if (resumed) {
+            resumedTlsHandshakes.increment();
+        } else {
+            fullTlsHandshakes.increment();
+        }
+    }
+
     @Override
     public void afterCreated(ListenerEvent<?> connEvent) {
         creating.decrementAndGet();
@@ -187,6 +205,16 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         return count(failedToCreate);
     }
 
+    @Override
+    public long resumedTlsHandshakes() {
+        return count(resumedTlsHandshakes);
+    }
+
+    @Override
+    public long fullTlsHandshakes() {
+        return count(fullTlsHandshakes);
+    }
+
     @Override
     public long closed() {
         return count(closed);
@@ -232,7 +260,8 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
         return format(
                 "%s=[created=%s, closed=%s, creating=%s, failedToCreate=%s, acquiring=%s, acquired=%s, "
                         + "timedOutToAcquire=%s, inUse=%s, idle=%s, "
-                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s]",
+                        + "totalAcquisitionTime=%s, totalConnectionTime=%s, totalInUseTime=%s, totalInUseCount=%s, "
+                        + "resumedTlsHandshakes=%s, fullTlsHandshakes=%s]",
                 id(),
                 created(),
                 closed(),
@@ -246,7 +275,9 @@ final class MicrometerConnectionPoolMetrics implements ConnectionPoolMetricsList
                 totalAcquisitionTime(),
                 totalConnectionTime(),
                 totalInUseTime(),
-                totalInUseCount());
+                totalInUseCount(),
+                resumedTlsHandshakes(),
+                fullTlsHandshakes());
     }
 
     private long count(Counter counter) {
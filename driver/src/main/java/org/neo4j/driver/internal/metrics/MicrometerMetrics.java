@@ -16,6 +16,7 @@
  */
 package org.neo4j.driver.internal.metrics;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collection;
 import java.util.Collections;
@@ -27,12 +28,20 @@ import org.neo4j.driver.Metrics;
 import org.neo4j.driver.net.ServerAddress;
 
 final class MicrometerMetrics implements Metrics, MetricsListener {
+    public static final String READER_SELECTIONS = "neo4j.driver.routing.reader.selections";
+
     private final MeterRegistry meterRegistry;
     private final Map<String, ConnectionPoolMetrics> connectionPoolMetrics;
+    private final Counter localReaderSelections;
+    private final Counter remoteReaderSelections;
 
     public MicrometerMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
         this.connectionPoolMetrics = new ConcurrentHashMap<>();
+        this.localReaderSelections =
+                Counter.builder(READER_SELECTIONS).tag("zone", "local").register(meterRegistry);
+        this.remoteReaderSelections =
+                Counter.builder(READER_SELECTIONS).tag("zone", "remote").register(meterRegistry);
     }
 
     @Override
@@ -40,6 +49,16 @@ final class MicrometerMetrics implements Metrics, MetricsListener {
         return Collections.unmodifiableCollection(this.connectionPoolMetrics.values());
     }
 
+    @Override
+    public long localReaderSelections() {
+        return (long) localReaderSelections.count();
+    }
+
+    @Override
+    public long remoteReaderSelections() {
+        return (long) remoteReaderSelections.count();
+    }
+
     @Override
     public void beforeCreating(String poolId, ListenerEvent<?> creatingEvent) {
         poolMetricsListener(poolId).beforeCreating(creatingEvent);
@@ -55,6 +74,11 @@ final class MicrometerMetrics implements Metrics, MetricsListener {
         poolMetricsListener(poolId).afterFailedToCreate();
     }
 
+    @Override
+    public void afterTlsHandshake(String poolId, boolean resumed) {
+        poolMetricsListener(poolId).afterTlsHandshake(resumed);
+    }
+
     @Override
     public void afterClosed(String poolId) {
         poolMetricsListener(poolId).afterClosed();
@@ -90,6 +114,15 @@ final class MicrometerMetrics implements Metrics, MetricsListener {
         poolMetricsListener(poolId).released(inUseEvent);
     }
 
+    @Override
+    public void afterReaderSelected(boolean local) {
+        if (local) {
+            localReaderSelections.increment();
+        } else {
+            remoteReaderSelections.increment();
+        }
+    }
+
     @Override
     public ListenerEvent<?> createListenerEvent() {
         return new MicrometerTimerListenerEvent(this.meterRegistry);
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * {@link PackInput} over a byte array that can be repositioned, used to decode values of a message kept in memory.
+ */
+public class ByteArrayInput implements PackInput {
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+
+    private byte[] bytes;
+    private int position;
+
+    public void start(byte[] bytes, int position) {
+        this.bytes = Objects.requireNonNull(bytes);
+        this.position = Objects.checkIndex(position, bytes.length + 1);
+    }
+
+    public void stop() {
+        bytes = null;
+        position = 0;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    @Override
+    public byte readByte() {
+        return bytes[advance(Byte.BYTES)];
+    }
+
+    @Override
+    public short readShort() {
+        return (short) SHORT.get(bytes, advance(Short.BYTES));
+    }
+
+    @Override
+    public int readInt() {
+        return (int) INT.get(bytes, advance(Integer.BYTES));
+    }
+
+    @Override
+    public long readLong() {
+        return (long) LONG.get(bytes, advance(Long.BYTES));
+    }
+
+    @Override
+    public double readDouble() {
+        return (double) DOUBLE.get(bytes, advance(Double.BYTES));
+    }
+
+    @Override
+    public void readBytes(byte[] into, int offset, int toRead) {
+        System.arraycopy(bytes, advance(toRead), into, offset, toRead);
+    }
+
+    @Override
+    public String readUtf8(int size) {
+        return new String(bytes, advance(size), size, UTF_8);
+    }
+
+    @Override
+    public void skipBytes(int size) {
+        advance(size);
+    }
+
+    @Override
+    public int readableBytes() {
+        return bytes.length - position;
+    }
+
+    @Override
+    public byte peekByte() {
+        return bytes[position];
+    }
+
+    private int advance(int size) {
+        var start = position;
+        Objects.checkFromIndexSize(start, size, bytes.length);
+        position = start + size;
+        return start;
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.neo4j.driver.internal.packstream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.io.IOException;
 
 /**
@@ -41,6 +43,29 @@ public interface PackInput {
     /** Consume a specified number of bytes */
     void readBytes(byte[] into, int offset, int toRead) throws IOException;
 
+    /**
+     * Consume a specified number of bytes and decode them as a UTF-8 string. Implementations backed by a buffer should
+     * override this to decode in place, without copying the bytes into an intermediate array first.
+     */
+    default String readUtf8(int size) throws IOException {
+        var bytes = new byte[size];
+        readBytes(bytes, 0, size);
+        return new String(bytes, UTF_8);
+    }
+
+    /** Skip a specified number of bytes */
+    default void skipBytes(int size) throws IOException {
+        readBytes(new byte[size], 0, size);
+    }
+
+    /**
+     * Get the number of bytes left to consume from the current message, or {@code -1} when the input is a stream of
+     * unknown length.
+     */
+    default int readableBytes() {
+        return -1;
+    }
+
     /** Get the next byte without forwarding the internal pointer */
     byte peekByte() throws IOException;
 }
@@ -43,4 +43,16 @@ public interface PackOutput {
     /** Produce an 8-byte IEEE 754 "double format" floating-point number */
     @SuppressWarnings("UnusedReturnValue")
     PackOutput writeDouble(double value) throws IOException;
+
+    /**
+     * Produce a run of 8-byte IEEE 754 "double format" floating-point numbers, each preceded by the given marker byte.
+     * Implementations may write as many of them as fit into their current frame at once.
+     */
+    @SuppressWarnings("UnusedReturnValue")
+    default PackOutput writeDoubles(byte marker, double[] values) throws IOException {
+        for (var value : values) {
+            writeByte(marker).writeDouble(value);
+        }
+        return this;
+    }
 }
@@ -18,7 +18,6 @@ package org.neo4j.driver.internal.packstream;
 
 import static java.lang.Integer.toHexString;
 import static java.lang.String.format;
-import static java.util.Collections.singletonList;
 
 import java.io.IOException;
 import java.io.Serial;
@@ -286,13 +285,68 @@ public class PackStream {
             }
         }
 
+        public void pack(long[] values) throws IOException {
+            if (values == null) {
+                packNull();
+            } else {
+                packListHeader(values.length);
+                for (var value : values) {
+                    pack(value);
+                }
+            }
+        }
+
+        public void pack(double[] values) throws IOException {
+            if (values == null) {
+                packNull();
+            } else {
+                packListHeader(values.length);
+                out.writeDoubles(FLOAT_64, values);
+            }
+        }
+
+        private void pack(int[] values) throws IOException {
+            packListHeader(values.length);
+            for (var value : values) {
+                pack(value);
+            }
+        }
+
+        private void pack(short[] values) throws IOException {
+            packListHeader(values.length);
+            for (var value : values) {
+                pack(value);
+            }
+        }
+
+        private void pack(float[] values) throws IOException {
+            packListHeader(values.length);
+            for (var value : values) {
+                pack(value);
+            }
+        }
+
+        private void pack(boolean[] values) throws IOException {
+            packListHeader(values.length);
+            for (var value : values) {
+                pack(value);
+            }
+        }
+
+        private void pack(String[] values) throws IOException {
+            packListHeader(values.length);
+            for (var value : values) {
+                pack(value);
+            }
+        }
+
         public void pack(Object value) throws IOException {
             if (value == null) {
                 packNull();
             } else if (value instanceof Boolean) {
                 pack((boolean) value);
             } else if (value instanceof boolean[]) {
-                pack(singletonList(value));
+                pack((boolean[]) value);
             } else if (value instanceof Byte) {
                 pack((byte) value);
             } else if (value instanceof byte[]) {
@@ -300,23 +354,23 @@ public class PackStream {
             } else if (value instanceof Short) {
                 pack((short) value);
             } else if (value instanceof short[]) {
-                pack(singletonList(value));
+                pack((short[]) value);
             } else if (value instanceof Integer) {
                 pack((int) value);
             } else if (value instanceof int[]) {
-                pack(singletonList(value));
+                pack((int[]) value);
             } else if (value instanceof Long) {
                 pack((long) value);
             } else if (value instanceof long[]) {
-                pack(singletonList(value));
+                pack((long[]) value);
             } else if (value instanceof Float) {
                 pack((float) value);
             } else if (value instanceof float[]) {
-                pack(singletonList(value));
+                pack((float[]) value);
             } else if (value instanceof Double) {
                 pack((double) value);
             } else if (value instanceof double[]) {
-                pack(singletonList(value));
+                pack((double[]) value);
             } else if (value instanceof Character) {
                 pack(Character.toString((char) value));
             } else if (value instanceof char[]) {
@@ -324,7 +378,7 @@ public class PackStream {
             } else if (value instanceof String) {
                 pack((String) value);
             } else if (value instanceof String[]) {
-                pack(singletonList(value));
+                pack((String[]) value);
             } else if (value instanceof List) {
                 pack((List<?>) value);
             } else if (value instanceof Map) {
@@ -477,18 +531,21 @@ public class PackStream {
         }
 
         public byte[] unpackBytes() throws IOException {
-            final var markerByte = in.readByte();
+            return unpackRawBytes(unpackBytesSize(in.readByte()));
+        }
+
+        private int unpackBytesSize(byte markerByte) throws IOException {
             switch (markerByte) {
                 case BYTES_8 -> {
-                    return unpackRawBytes(unpackUINT8());
+                    return unpackUINT8();
                 }
                 case BYTES_16 -> {
-                    return unpackRawBytes(unpackUINT16());
+                    return unpackUINT16();
                 }
                 case BYTES_32 -> {
                     var size = unpackUINT32();
                     if (size <= Integer.MAX_VALUE) {
-                        return unpackRawBytes((int) size);
+                        return (int) size;
                     } else {
                         throw new Overflow("BYTES_32 too long for Java");
                     }
@@ -504,7 +561,21 @@ public class PackStream {
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            return unpackRawUtf8(unpackUtf8Size(markerByte));
+        }
+
+        /**
+         * Unpacks a string like {@link #unpackString()}, but returns the instance held by the given dictionary when an
+         * equal string has been unpacked before. Meant for values from a small vocabulary, like map keys.
+         */
+        public String unpackString(StringDictionary dictionary) throws IOException {
+            final var markerByte = in.readByte();
+            if (markerByte == TINY_STRING) // Note no mask, so we compare to 0x80.
+            {
+                return EMPTY_STRING;
+            }
+
+            return dictionary.read(in, unpackUtf8Size(markerByte));
         }
 
         /**
@@ -523,24 +594,24 @@ public class PackStream {
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException {
+        private int unpackUtf8Size(byte markerByte) throws IOException {
             final var markerHighNibble = (byte) (markerByte & 0xF0);
             final var markerLowNibble = (byte) (markerByte & 0x0F);
 
             if (markerHighNibble == TINY_STRING) {
-                return unpackRawBytes(markerLowNibble);
+                return markerLowNibble;
             }
             switch (markerByte) {
                 case STRING_8 -> {
-                    return unpackRawBytes(unpackUINT8());
+                    return unpackUINT8();
                 }
                 case STRING_16 -> {
-                    return unpackRawBytes(unpackUINT16());
+                    return unpackUINT16();
                 }
                 case STRING_32 -> {
                     var size = unpackUINT32();
                     if (size <= Integer.MAX_VALUE) {
-                        return unpackRawBytes((int) size);
+                        return (int) size;
                     } else {
                         throw new Overflow("STRING_32 too long for Java");
                     }
@@ -579,6 +650,39 @@ public class PackStream {
             return heapBuffer;
         }
 
+        private String unpackRawUtf8(int size) throws IOException {
+            if (size == 0) {
+                return EMPTY_STRING;
+            }
+            return in.readUtf8(size);
+        }
+
+        /**
+         * Moves the internal pointer past the next value, including any values nested in it, without decoding it.
+         */
+        public void skip() throws IOException {
+            switch (peekNextType()) {
+                case NULL, BOOLEAN -> in.readByte();
+                case INTEGER -> unpackLong();
+                case FLOAT -> unpackDouble();
+                case BYTES -> in.skipBytes(unpackBytesSize(in.readByte()));
+                case STRING -> in.skipBytes(unpackUtf8Size(in.readByte()));
+                case LIST -> skip(unpackListHeader());
+                case MAP -> skip(unpackMapHeader() * 2);
+                case STRUCT -> {
+                    var size = unpackStructHeader();
+                    unpackStructSignature();
+                    skip(size);
+                }
+            }
+        }
+
+        private void skip(long count) throws IOException {
+            for (var i = 0L; i < count; i++) {
+                skip();
+            }
+        }
+
         public PackType peekNextType() throws IOException {
             final var markerByte = in.peekByte();
             final var markerHighNibble = (byte) (markerByte & 0xF0);
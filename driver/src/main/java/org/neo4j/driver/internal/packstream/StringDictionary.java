@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A bounded dictionary of short strings, keyed by their UTF-8 encoding. Strings that repeat across messages, like map
+ * keys, labels and relationship types, are returned as the same instance instead of being decoded again.
+ * <p>
+ * The dictionary is a direct-mapped table, a string that hashes to an occupied slot replaces the previous entry. It is
+ * not thread-safe and is meant to be owned by a single {@link PackStream.Unpacker}.
+ */
+public final class StringDictionary {
+    public static final int DEFAULT_CAPACITY = 256;
+    public static final int DEFAULT_MAX_STRING_BYTES = 64;
+
+    private static final String EMPTY_STRING = "";
+
+    private final byte[][] keys;
+    private final String[] values;
+    private final int mask;
+    private final byte[] scratch;
+
+    public StringDictionary() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_STRING_BYTES);
+    }
+
+    public StringDictionary(int capacity, int maxStringBytes) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two, but was: " + capacity);
+        }
+        if (maxStringBytes <= 0) {
+            throw new IllegalArgumentException("Max string bytes must be positive, but was: " + maxStringBytes);
+        }
+        this.keys = new byte[capacity][];
+        this.values = new String[capacity];
+        this.mask = capacity - 1;
+        this.scratch = new byte[maxStringBytes];
+    }
+
+    String read(PackInput in, int size) throws IOException {
+        if (size == 0) {
+            return EMPTY_STRING;
+        }
+        if (size > scratch.length) {
+            return in.readUtf8(size);
+        }
+
+        in.readBytes(scratch, 0, size);
+        var slot = hash(scratch, size) & mask;
+        var key = keys[slot];
+        if (key != null && Arrays.equals(key, 0, key.length, scratch, 0, size)) {
+            return values[slot];
+        }
+
+        var value = new String(scratch, 0, size, UTF_8);
+        keys[slot] = Arrays.copyOf(scratch, size);
+        values[slot] = value;
+        return value;
+    }
+
+    private static int hash(byte[] bytes, int size) {
+        var hash = 1;
+        for (var i = 0; i < size; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.neo4j.driver.internal.security;
 
+import io.netty.handler.ssl.SslContext;
 import javax.net.ssl.SSLContext;
 import org.neo4j.driver.RevocationCheckingStrategy;
 
@@ -27,6 +28,15 @@ public interface SecurityPlan {
 
     SSLContext sslContext();
 
+    /**
+     * Returns the OpenSSL based context that engines of encrypted connections are created from, when OpenSSL is used.
+     *
+     * @return the OpenSSL context or {@code null} when engines are created from {@link #sslContext()}
+     */
+    default SslContext openSslContext() {
+        return null;
+    }
+
     boolean requiresHostnameVerification();
 
     RevocationCheckingStrategy revocationCheckingStrategy();
@@ -20,6 +20,10 @@ import static org.neo4j.driver.RevocationCheckingStrategy.VERIFY_IF_PRESENT;
 import static org.neo4j.driver.RevocationCheckingStrategy.requiresRevocationChecking;
 import static org.neo4j.driver.internal.util.CertificateTool.loadX509Cert;
 
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
 import java.io.File;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
@@ -37,10 +41,12 @@ import java.util.List;
 import javax.net.ssl.CertPathTrustManagerParameters;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLException;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
 import org.neo4j.driver.RevocationCheckingStrategy;
+import org.neo4j.driver.TlsProvider;
 
 /**
  * A SecurityPlan consists of encryption and trust details.
@@ -49,10 +55,27 @@ public class SecurityPlanImpl implements SecurityPlan {
     public static SecurityPlan forAllCertificates(
             boolean requiresHostnameVerification, RevocationCheckingStrategy revocationCheckingStrategy)
             throws GeneralSecurityException {
+        return forAllCertificates(requiresHostnameVerification, revocationCheckingStrategy, TlsSettings.DEFAULT);
+    }
+
+    public static SecurityPlan forAllCertificates(
+            boolean requiresHostnameVerification,
+            RevocationCheckingStrategy revocationCheckingStrategy,
+            TlsSettings tlsSettings)
+            throws GeneralSecurityException {
+        var trustManager = new TrustAllTrustManager();
         var sslContext = SSLContext.getInstance("TLS");
-        sslContext.init(new KeyManager[0], new TrustManager[] {new TrustAllTrustManager()}, null);
+        sslContext.init(new KeyManager[0], new TrustManager[] {trustManager}, null);
+        configureSessionCache(sslContext, tlsSettings);
 
-        return new SecurityPlanImpl(true, sslContext, requiresHostnameVerification, revocationCheckingStrategy);
+        // the JDK verifies hostnames for plain trust managers on its own, OpenSSL leaves it to the trust manager
+        SslContext openSslContext = null;
+        if (!requiresHostnameVerification && canUseOpenSsl(tlsSettings, revocationCheckingStrategy)) {
+            openSslContext = buildOpenSslContext(SslContextBuilder.forClient().trustManager(trustManager), tlsSettings);
+        }
+
+        return new SecurityPlanImpl(
+                true, sslContext, openSslContext, requiresHostnameVerification, revocationCheckingStrategy);
     }
 
     public static SecurityPlan forCustomCASignedCertificates(
@@ -60,18 +83,60 @@ public class SecurityPlanImpl implements SecurityPlan {
             boolean requiresHostnameVerification,
             RevocationCheckingStrategy revocationCheckingStrategy)
             throws GeneralSecurityException, IOException {
-        var sslContext = configureSSLContext(certFiles, revocationCheckingStrategy);
-        return new SecurityPlanImpl(true, sslContext, requiresHostnameVerification, revocationCheckingStrategy);
+        return forCustomCASignedCertificates(
+                certFiles, requiresHostnameVerification, revocationCheckingStrategy, TlsSettings.DEFAULT);
+    }
+
+    public static SecurityPlan forCustomCASignedCertificates(
+            List<File> certFiles,
+            boolean requiresHostnameVerification,
+            RevocationCheckingStrategy revocationCheckingStrategy,
+            TlsSettings tlsSettings)
+            throws GeneralSecurityException, IOException {
+        return forCASignedCertificates(
+                certFiles, requiresHostnameVerification, revocationCheckingStrategy, tlsSettings);
     }
 
     public static SecurityPlan forSystemCASignedCertificates(
             boolean requiresHostnameVerification, RevocationCheckingStrategy revocationCheckingStrategy)
             throws GeneralSecurityException, IOException {
-        var sslContext = configureSSLContext(Collections.emptyList(), revocationCheckingStrategy);
-        return new SecurityPlanImpl(true, sslContext, requiresHostnameVerification, revocationCheckingStrategy);
+        return forSystemCASignedCertificates(
+                requiresHostnameVerification, revocationCheckingStrategy, TlsSettings.DEFAULT);
     }
 
-    private static SSLContext configureSSLContext(
+    public static SecurityPlan forSystemCASignedCertificates(
+            boolean requiresHostnameVerification,
+            RevocationCheckingStrategy revocationCheckingStrategy,
+            TlsSettings tlsSettings)
+            throws GeneralSecurityException, IOException {
+        return forCASignedCertificates(
+                Collections.emptyList(), requiresHostnameVerification, revocationCheckingStrategy, tlsSettings);
+    }
+
+    private static SecurityPlan forCASignedCertificates(
+            List<File> customCertFiles,
+            boolean requiresHostnameVerification,
+            RevocationCheckingStrategy revocationCheckingStrategy,
+            TlsSettings tlsSettings)
+            throws GeneralSecurityException, IOException {
+        var trustManagerFactory = configureTrustManagerFactory(customCertFiles, revocationCheckingStrategy);
+
+        var sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(new KeyManager[0], trustManagerFactory.getTrustManagers(), null);
+        configureSessionCache(sslContext, tlsSettings);
+
+        // trust managers of the factory verify hostnames with both providers, see NettyChannelInitializer
+        SslContext openSslContext = null;
+        if (canUseOpenSsl(tlsSettings, revocationCheckingStrategy)) {
+            openSslContext =
+                    buildOpenSslContext(SslContextBuilder.forClient().trustManager(trustManagerFactory), tlsSettings);
+        }
+
+        return new SecurityPlanImpl(
+                true, sslContext, openSslContext, requiresHostnameVerification, revocationCheckingStrategy);
+    }
+
+    private static TrustManagerFactory configureTrustManagerFactory(
             List<File> customCertFiles, RevocationCheckingStrategy revocationCheckingStrategy)
             throws GeneralSecurityException, IOException {
         var trustedKeyStore = KeyStore.getInstance(KeyStore.getDefaultType());
@@ -86,7 +151,6 @@ public class SecurityPlanImpl implements SecurityPlan {
 
         var pkixBuilderParameters = configurePKIXBuilderParameters(trustedKeyStore, revocationCheckingStrategy);
 
-        var sslContext = SSLContext.getInstance("TLS");
         var trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
 
         if (pkixBuilderParameters == null) {
@@ -95,9 +159,40 @@ public class SecurityPlanImpl implements SecurityPlan {
             trustManagerFactory.init(new CertPathTrustManagerParameters(pkixBuilderParameters));
         }
 
-        sslContext.init(new KeyManager[0], trustManagerFactory.getTrustManagers(), null);
+        return trustManagerFactory;
+    }
 
-        return sslContext;
+    private static void configureSessionCache(SSLContext sslContext, TlsSettings tlsSettings) {
+        // sessions are cached per host and port of the engines, see NettyChannelInitializer, so reconnects to a known
+        // server resume the previous session with an abbreviated handshake
+        var sessionContext = sslContext.getClientSessionContext();
+        if (tlsSettings.sessionCacheSize() != TlsSettings.UNCONFIGURED) {
+            sessionContext.setSessionCacheSize(tlsSettings.sessionCacheSize());
+        }
+        if (tlsSettings.sessionTimeoutSeconds() != TlsSettings.UNCONFIGURED) {
+            sessionContext.setSessionTimeout(tlsSettings.sessionTimeoutSeconds());
+        }
+    }
+
+    private static boolean canUseOpenSsl(
+            TlsSettings tlsSettings, RevocationCheckingStrategy revocationCheckingStrategy) {
+        // revocation checking is configured through JDK specific system and security properties
+        return tlsSettings.provider() == TlsProvider.OPENSSL
+                && !requiresRevocationChecking(revocationCheckingStrategy)
+                && OpenSsl.isAvailable();
+    }
+
+    private static SslContext buildOpenSslContext(SslContextBuilder builder, TlsSettings tlsSettings)
+            throws GeneralSecurityException {
+        try {
+            // contexts and engines of this provider are freed when garbage collected, like the JDK ones
+            return builder.sslProvider(SslProvider.OPENSSL)
+                    .sessionCacheSize(tlsSettings.sessionCacheSize())
+                    .sessionTimeout(tlsSettings.sessionTimeoutSeconds())
+                    .build();
+        } catch (SSLException e) {
+            throw new GeneralSecurityException("Unable to create OpenSSL context", e);
+        }
     }
 
     private static PKIXBuilderParameters configurePKIXBuilderParameters(
@@ -143,21 +238,24 @@ public class SecurityPlanImpl implements SecurityPlan {
     }
 
     public static SecurityPlan insecure() {
-        return new SecurityPlanImpl(false, null, false, RevocationCheckingStrategy.NO_CHECKS);
+        return new SecurityPlanImpl(false, null, null, false, RevocationCheckingStrategy.NO_CHECKS);
     }
 
     private final boolean requiresEncryption;
     private final SSLContext sslContext;
+    private final SslContext openSslContext;
     private final boolean requiresHostnameVerification;
     private final RevocationCheckingStrategy revocationCheckingStrategy;
 
     private SecurityPlanImpl(
             boolean requiresEncryption,
             SSLContext sslContext,
+            SslContext openSslContext,
             boolean requiresHostnameVerification,
             RevocationCheckingStrategy revocationCheckingStrategy) {
         this.requiresEncryption = requiresEncryption;
         this.sslContext = sslContext;
+        this.openSslContext = openSslContext;
         this.requiresHostnameVerification = requiresHostnameVerification;
         this.revocationCheckingStrategy = revocationCheckingStrategy;
     }
@@ -172,6 +270,11 @@ public class SecurityPlanImpl implements SecurityPlan {
         return sslContext;
     }
 
+    @Override
+    public SslContext openSslContext() {
+        return openSslContext;
+    }
+
     @Override
     public boolean requiresHostnameVerification() {
         return requiresHostnameVerification;
@@ -30,13 +30,18 @@ import org.neo4j.driver.internal.SecuritySettings;
 
 public class SecurityPlans {
     public static SecurityPlan createSecurityPlan(SecuritySettings settings, String uriScheme) {
+        return createSecurityPlan(settings, uriScheme, TlsSettings.DEFAULT);
+    }
+
+    public static SecurityPlan createSecurityPlan(
+            SecuritySettings settings, String uriScheme, TlsSettings tlsSettings) {
         Scheme.validateScheme(uriScheme);
         try {
             if (isSecurityScheme(uriScheme)) {
                 assertSecuritySettingsNotUserConfigured(settings, uriScheme);
-                return createSecurityPlanFromScheme(uriScheme);
+                return createSecurityPlanFromScheme(uriScheme, tlsSettings);
             } else {
-                return createSecurityPlanImpl(settings.encrypted(), settings.trustStrategy());
+                return createSecurityPlanImpl(settings.encrypted(), settings.trustStrategy(), tlsSettings);
             }
         } catch (GeneralSecurityException | IOException ex) {
             throw new ClientException("Unable to establish SSL parameters", ex);
@@ -68,12 +73,13 @@ public class SecurityPlans {
                 && t1.revocationCheckingStrategy() == t2.revocationCheckingStrategy();
     }
 
-    private static SecurityPlan createSecurityPlanFromScheme(String scheme)
+    private static SecurityPlan createSecurityPlanFromScheme(String scheme, TlsSettings tlsSettings)
             throws GeneralSecurityException, IOException {
         if (isHighTrustScheme(scheme)) {
-            return SecurityPlanImpl.forSystemCASignedCertificates(true, RevocationCheckingStrategy.NO_CHECKS);
+            return SecurityPlanImpl.forSystemCASignedCertificates(
+                    true, RevocationCheckingStrategy.NO_CHECKS, tlsSettings);
         } else {
-            return SecurityPlanImpl.forAllCertificates(false, RevocationCheckingStrategy.NO_CHECKS);
+            return SecurityPlanImpl.forAllCertificates(false, RevocationCheckingStrategy.NO_CHECKS, tlsSettings);
         }
     }
 
@@ -81,18 +87,22 @@ public class SecurityPlans {
      * Establish a complete SecurityPlan based on the details provided for
      * driver construction.
      */
-    private static SecurityPlan createSecurityPlanImpl(boolean encrypted, Config.TrustStrategy trustStrategy)
+    private static SecurityPlan createSecurityPlanImpl(
+            boolean encrypted, Config.TrustStrategy trustStrategy, TlsSettings tlsSettings)
             throws GeneralSecurityException, IOException {
         if (encrypted) {
             var hostnameVerificationEnabled = trustStrategy.isHostnameVerificationEnabled();
             var revocationCheckingStrategy = trustStrategy.revocationCheckingStrategy();
             return switch (trustStrategy.strategy()) {
                 case TRUST_CUSTOM_CA_SIGNED_CERTIFICATES -> SecurityPlanImpl.forCustomCASignedCertificates(
-                        trustStrategy.certFiles(), hostnameVerificationEnabled, revocationCheckingStrategy);
+                        trustStrategy.certFiles(),
+                        hostnameVerificationEnabled,
+                        revocationCheckingStrategy,
+                        tlsSettings);
                 case TRUST_SYSTEM_CA_SIGNED_CERTIFICATES -> SecurityPlanImpl.forSystemCASignedCertificates(
-                        hostnameVerificationEnabled, revocationCheckingStrategy);
+                        hostnameVerificationEnabled, revocationCheckingStrategy, tlsSettings);
                 case TRUST_ALL_CERTIFICATES -> SecurityPlanImpl.forAllCertificates(
-                        hostnameVerificationEnabled, revocationCheckingStrategy);
+                        hostnameVerificationEnabled, revocationCheckingStrategy, tlsSettings);
             };
         } else {
             return insecure();
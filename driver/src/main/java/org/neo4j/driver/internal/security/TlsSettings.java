@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.security;
+
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.Config;
+import org.neo4j.driver.TlsProvider;
+
+/**
+ * TLS implementation and client session cache settings shared by all connections of a {@link SecurityPlan}.
+ *
+ * @param provider              the TLS implementation
+ * @param sessionCacheSize      the maximum amount of cached TLS sessions, or {@link #UNCONFIGURED}
+ * @param sessionTimeoutSeconds the time in seconds a cached TLS session may be resumed for, or {@link #UNCONFIGURED}
+ */
+public record TlsSettings(TlsProvider provider, int sessionCacheSize, int sessionTimeoutSeconds) {
+    /**
+     * Session cache setting that keeps the default of the TLS implementation.
+     */
+    public static final int UNCONFIGURED = 0;
+
+    public static final TlsSettings DEFAULT = new TlsSettings(TlsProvider.JDK, UNCONFIGURED, UNCONFIGURED);
+
+    public static TlsSettings from(Config config) {
+        return new TlsSettings(
+                config.tlsProvider(), config.tlsSessionCacheSize(), toSeconds(config.tlsSessionTimeoutMillis()));
+    }
+
+    private static int toSeconds(long millis) {
+        return (int) Math.min(TimeUnit.MILLISECONDS.toSeconds(millis), Integer.MAX_VALUE);
+    }
+}
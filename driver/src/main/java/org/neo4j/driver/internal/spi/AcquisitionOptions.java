@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.spi;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import org.neo4j.driver.ConnectionAcquisitionPriority;
+import org.neo4j.driver.SessionConfig;
+
+/**
+ * The options of a connection acquisition.
+ *
+ * @param priority      the priority of the acquisition when all connections are in use
+ * @param timeoutMillis the maximum time to wait for a connection in milliseconds or a negative value to wait for as
+ *                      long as the connection pool is configured to
+ */
+public record AcquisitionOptions(ConnectionAcquisitionPriority priority, long timeoutMillis) {
+    public static final AcquisitionOptions DEFAULT = new AcquisitionOptions(ConnectionAcquisitionPriority.NORMAL, -1);
+
+    public AcquisitionOptions {
+        requireNonNull(priority);
+    }
+
+    public static AcquisitionOptions from(SessionConfig sessionConfig) {
+        var timeoutMillis = sessionConfig
+                .connectionAcquisitionTimeout()
+                .map(Duration::toMillis)
+                .orElse(-1L);
+        return new AcquisitionOptions(sessionConfig.connectionAcquisitionPriority(), timeoutMillis);
+    }
+
+    public boolean hasTimeout() {
+        return timeoutMillis >= 0;
+    }
+}
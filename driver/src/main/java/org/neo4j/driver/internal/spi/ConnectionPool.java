@@ -25,12 +25,39 @@ import org.neo4j.driver.net.ServerAddress;
 public interface ConnectionPool {
     String CONNECTION_POOL_CLOSED_ERROR_MESSAGE = "Pool closed";
 
-    CompletionStage<Connection> acquire(BoltServerAddress address, AuthToken overrideAuthToken);
+    CompletionStage<Connection> acquire(
+            BoltServerAddress address, AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions);
 
     void retainAll(Set<BoltServerAddress> addressesToRetain);
 
+    /**
+     * Fills the pools of the given servers with idle connections in the background, if a minimum amount of idle
+     * connections is configured.
+     *
+     * @param addresses the servers to connect to
+     */
+    void warmUp(Set<BoltServerAddress> addresses);
+
     int inUseConnections(ServerAddress address);
 
+    /**
+     * Checks if all connections the pool of the given server currently admits are in use, so that an acquisition
+     * would have to wait for a release. The limit of a pool may be lower than the maximum pool size when it adapts to
+     * the response times of the server.
+     *
+     * @param address the server
+     * @return {@code true} if the pool is saturated or {@code false} otherwise, including when there is no pool
+     */
+    boolean isSaturated(BoltServerAddress address);
+
+    /**
+     * Returns the estimated time the given server takes to respond to queries, if response times are tracked.
+     *
+     * @param address the server
+     * @return the estimated response time in nanoseconds or {@code 0} if it is not known
+     */
+    long responseLatencyNanos(ServerAddress address);
+
     CompletionStage<Void> close();
 
     boolean isOpen(BoltServerAddress address);
@@ -19,6 +19,7 @@ package org.neo4j.driver.internal.spi;
 import java.util.Map;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 
 public interface ResponseHandler {
     void onSuccess(Map<String, Value> metadata);
@@ -27,6 +28,14 @@ public interface ResponseHandler {
 
     void onRecord(Value[] fields);
 
+    /**
+     * Handles a RECORD message received with lazy record decoding enabled. Handlers that expose records to the user
+     * should override this to defer decoding, all other handlers receive the decoded fields.
+     */
+    default void onRecord(LazyRecordFields fields) {
+        onRecord(fields.values());
+    }
+
     /**
      * Tells whether this response handler is able to manage auto-read of the underlying connection using {@link Connection#enableAutoRead()} and
      * {@link Connection#disableAutoRead()}.
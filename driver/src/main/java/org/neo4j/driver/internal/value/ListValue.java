@@ -58,6 +58,24 @@ public class ListValue extends ValueAdapter {
         return Extract.list(values, mapFunction);
     }
 
+    @Override
+    public long[] asLongArray() {
+        var longs = new long[values.length];
+        for (var i = 0; i < values.length; i++) {
+            longs[i] = values[i].asLong();
+        }
+        return longs;
+    }
+
+    @Override
+    public double[] asDoubleArray() {
+        var doubles = new double[values.length];
+        for (var i = 0; i < values.length; i++) {
+            doubles[i] = values[i].asDouble();
+        }
+        return doubles;
+    }
+
     @Override
     public int size() {
         return values.length;
@@ -103,6 +121,9 @@ public class ListValue extends ValueAdapter {
         if (this == o) {
             return true;
         }
+        if (o instanceof LongArrayValue || o instanceof DoubleArrayValue) {
+            return o.equals(this);
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+
+/**
+ * A {@link ListValue} equivalent for lists of integers, backed by a primitive array. Elements are only wrapped into
+ * {@link IntegerValue} instances when accessed as {@link Value}.
+ */
+public class LongArrayValue extends ValueAdapter {
+    private final long[] values;
+
+    public LongArrayValue(long... values) {
+        if (values == null) {
+            throw new IllegalArgumentException("Cannot construct LongArrayValue from null");
+        }
+        this.values = values;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @Override
+    public List<Object> asObject() {
+        return asList();
+    }
+
+    @Override
+    public List<Object> asList() {
+        return Arrays.stream(values).<Object>mapToObj(Long::valueOf).toList();
+    }
+
+    @Override
+    public <T> List<T> asList(Function<Value, T> mapFunction) {
+        return Arrays.stream(values)
+                .mapToObj(IntegerValue::new)
+                .map(mapFunction)
+                .toList();
+    }
+
+    @Override
+    public long[] asLongArray() {
+        return values.clone();
+    }
+
+    @Override
+    public double[] asDoubleArray() {
+        var doubles = new double[values.length];
+        for (var i = 0; i < values.length; i++) {
+            var doubleVal = (double) values[i];
+            if ((long) doubleVal != values[i]) {
+                throw new LossyCoercion(type().name(), "Java double array");
+            }
+            doubles[i] = doubleVal;
+        }
+        return doubles;
+    }
+
+    /**
+     * Returns the array backing this value without copying it, for packing. It must not be modified.
+     *
+     * @return the backing array
+     */
+    public long[] backingArray() {
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public Value get(int index) {
+        return index >= 0 && index < values.length ? new IntegerValue(values[index]) : Values.NULL;
+    }
+
+    @Override
+    public <T> Iterable<T> values(final Function<Value, T> mapFunction) {
+        return () -> new Iterator<>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < values.length;
+            }
+
+            @Override
+            public T next() {
+                return mapFunction.apply(new IntegerValue(values[cursor++]));
+            }
+
+            @Override
+            public void remove() {}
+        };
+    }
+
+    @Override
+    public Type type() {
+        return InternalTypeSystem.TYPE_SYSTEM.LIST();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LongArrayValue otherValues) {
+            return Arrays.equals(values, otherValues.values);
+        }
+        if (o instanceof ListValue otherValues) {
+            if (values.length != otherValues.size()) {
+                return false;
+            }
+            for (var i = 0; i < values.length; i++) {
+                if (!(otherValues.get(i) instanceof IntegerValue other) || other.asLong() != values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (o instanceof DoubleArrayValue otherValues) {
+            return values.length == 0 && otherValues.isEmpty();
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        // matches the hash code of an equal ListValue of IntegerValues
+        return Arrays.hashCode(values);
+    }
+}
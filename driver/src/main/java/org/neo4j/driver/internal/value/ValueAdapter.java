@@ -140,6 +140,16 @@ public abstract class ValueAdapter extends InternalMapAccessorWithDefaultValue i
         return asList(ofObject());
     }
 
+    @Override
+    public long[] asLongArray() {
+        throw new Uncoercible(type().name(), "Java long array");
+    }
+
+    @Override
+    public double[] asDoubleArray() {
+        throw new Uncoercible(type().name(), "Java double array");
+    }
+
     @Override
     public <T> List<T> asList(Function<Value, T> mapFunction) {
         throw new Uncoercible(type().name(), "Java List");
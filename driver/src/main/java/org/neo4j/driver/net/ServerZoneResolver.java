@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.net;
+
+/**
+ * A function used by the routing driver to find the zone, such as a cloud availability zone, a server is located in.
+ * <p>
+ * It is called whenever the driver selects a reader, so it should be fast and should not block. Exceptions thrown by
+ * this method will be logged and the server will be treated as located in an unknown zone.
+ *
+ * @since 5.15
+ */
+@FunctionalInterface
+public interface ServerZoneResolver {
+    /**
+     * Resolve the zone of the given server.
+     *
+     * @param address the address of the server.
+     * @return the zone of the server or {@code null} if unknown.
+     */
+    String resolve(ServerAddress address);
+}
@@ -19,6 +19,7 @@ package org.neo4j.driver;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -37,6 +38,7 @@ import java.util.logging.Level;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.support.HierarchyTraversalMode;
 import org.junit.platform.commons.support.ReflectionSupport;
@@ -45,6 +47,7 @@ import org.neo4j.driver.internal.logging.DevNullLogging;
 import org.neo4j.driver.internal.logging.JULogging;
 import org.neo4j.driver.internal.logging.Slf4jLogging;
 import org.neo4j.driver.net.ServerAddressResolver;
+import org.neo4j.driver.net.ServerZoneResolver;
 import org.neo4j.driver.testutil.TestUtil;
 
 class ConfigTest {
@@ -392,6 +395,102 @@ class ConfigTest {
         assertEquals(delay, config.routingTablePurgeDelayMillis());
     }
 
+    @Test
+    void shouldDisableHomeDatabaseCacheByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(0, config.homeDatabaseCacheTtlMillis());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 600})
+    void shouldChangeHomeDatabaseCacheTtl(long seconds) {
+        var config = Config.builder()
+                .withHomeDatabaseCacheTtl(seconds, TimeUnit.SECONDS)
+                .build();
+
+        assertEquals(seconds * 1000, config.homeDatabaseCacheTtlMillis());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, Long.MIN_VALUE})
+    void shouldRejectNegativeHomeDatabaseCacheTtl(long value) {
+        var builder = Config.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withHomeDatabaseCacheTtl(value, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTablesAheadByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(0, config.routingTableRefreshAheadFactor());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.5, 0.99})
+    void shouldChangeRoutingTableRefreshAheadFactor(double factor) {
+        var config = Config.builder().withRoutingTableRefreshAheadFactor(factor).build();
+
+        assertEquals(factor, config.routingTableRefreshAheadFactor());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1, 1.5, Double.NaN})
+    void shouldRejectInvalidRoutingTableRefreshAheadFactor(double factor) {
+        var builder = Config.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withRoutingTableRefreshAheadFactor(factor));
+    }
+
+    @Test
+    void shouldUseLeastConnectedLoadBalancingByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(Config.LoadBalancingMode.LEAST_CONNECTED, config.loadBalancingMode());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Config.LoadBalancingMode.class)
+    void shouldChangeLoadBalancingMode(Config.LoadBalancingMode mode) {
+        var config = Config.builder().withLoadBalancingMode(mode).build();
+
+        assertEquals(mode, config.loadBalancingMode());
+    }
+
+    @Test
+    void shouldRejectNullLoadBalancingMode() {
+        var builder = Config.builder();
+
+        assertThrows(NullPointerException.class, () -> builder.withLoadBalancingMode(null));
+    }
+
+    @Test
+    void shouldSelectReadersRegardlessOfZoneByDefault() {
+        var config = Config.defaultConfig();
+
+        assertNull(config.localZone());
+        assertNull(config.zoneResolver());
+    }
+
+    @Test
+    void shouldAllowToConfigureLocalZone() {
+        var zoneResolver = mock(ServerZoneResolver.class);
+        var config = Config.builder().withLocalZone("eu-west-1a", zoneResolver).build();
+
+        assertEquals("eu-west-1a", config.localZone());
+        assertEquals(zoneResolver, config.zoneResolver());
+    }
+
+    @Test
+    void shouldNotAllowNullLocalZoneOrZoneResolver() {
+        var builder = Config.builder();
+        var zoneResolver = mock(ServerZoneResolver.class);
+
+        assertThrows(NullPointerException.class, () -> builder.withLocalZone(null, zoneResolver));
+        assertThrows(NullPointerException.class, () -> builder.withLocalZone("eu-west-1a", null));
+    }
+
     @Test
     void shouldMaxTransactionRetryTimeMillis() {
         // GIVEN
@@ -424,7 +523,26 @@ class ConfigTest {
                     .withUserAgent("user-agent")
                     .withDriverMetrics()
                     .withRoutingTablePurgeDelay(50000, TimeUnit.MILLISECONDS)
+                    .withHomeDatabaseCacheTtl(30, TimeUnit.SECONDS)
+                    .withRoutingTableRefreshAheadFactor(0.8)
+                    .withLoadBalancingMode(Config.LoadBalancingMode.PEAK_EWMA)
                     .withLeakedSessionsLogging()
+                    .withLazyRecordDecoding(true)
+                    .withMaxOutboundChunkSize(65535)
+                    .withAdaptiveOutboundChunking(true)
+                    .withTransportType(TransportType.EPOLL)
+                    .withTlsProvider(TlsProvider.OPENSSL)
+                    .withTlsSessionCacheSize(16)
+                    .withTlsSessionTimeout(5, TimeUnit.MINUTES)
+                    .withEventLoopAffinity(true)
+                    .withMinIdleConnectionsPerServer(2)
+                    .withMaxIdleConnectionsPerServer(8)
+                    .withIdleConnectionSweepInterval(30, TimeUnit.SECONDS)
+                    .withMaxConnectionIdleTime(10, TimeUnit.MINUTES)
+                    .withMaxConnectionLifetimeJitter(5, TimeUnit.MINUTES)
+                    .withProactiveConnectionRotation(true)
+                    .withAdaptiveConnectionPoolSizing(true)
+                    .withMinAdaptiveConnectionPoolSize(7)
                     .withMetricsAdapter(MetricsAdapter.MICROMETER)
                     .withNotificationConfig(NotificationConfig.defaultConfig()
                             .enableMinimumSeverity(NotificationSeverity.WARNING)
@@ -466,6 +584,26 @@ class ConfigTest {
                                     Set.of(NotificationCategory.UNSUPPORTED, NotificationCategory.UNRECOGNIZED)),
                     config.notificationConfig());
             assertEquals(config.isTelemetryDisabled(), verify.isTelemetryDisabled());
+            assertEquals(config.isLazyRecordDecodingEnabled(), verify.isLazyRecordDecodingEnabled());
+            assertEquals(config.maxOutboundChunkSize(), verify.maxOutboundChunkSize());
+            assertEquals(config.isAdaptiveOutboundChunkingEnabled(), verify.isAdaptiveOutboundChunkingEnabled());
+            assertEquals(config.transportType(), verify.transportType());
+            assertEquals(config.tlsProvider(), verify.tlsProvider());
+            assertEquals(config.tlsSessionCacheSize(), verify.tlsSessionCacheSize());
+            assertEquals(config.tlsSessionTimeoutMillis(), verify.tlsSessionTimeoutMillis());
+            assertEquals(config.isEventLoopAffinityEnabled(), verify.isEventLoopAffinityEnabled());
+            assertEquals(config.minIdleConnectionsPerServer(), verify.minIdleConnectionsPerServer());
+            assertEquals(config.maxIdleConnectionsPerServer(), verify.maxIdleConnectionsPerServer());
+            assertEquals(config.idleConnectionSweepIntervalMillis(), verify.idleConnectionSweepIntervalMillis());
+            assertEquals(config.maxConnectionIdleTimeMillis(), verify.maxConnectionIdleTimeMillis());
+            assertEquals(config.maxConnectionLifetimeJitterMillis(), verify.maxConnectionLifetimeJitterMillis());
+            assertEquals(config.isProactiveConnectionRotationEnabled(), verify.isProactiveConnectionRotationEnabled());
+            assertEquals(
+                    config.isAdaptiveConnectionPoolSizingEnabled(), verify.isAdaptiveConnectionPoolSizingEnabled());
+            assertEquals(config.minAdaptiveConnectionPoolSize(), verify.minAdaptiveConnectionPoolSize());
+            assertEquals(config.homeDatabaseCacheTtlMillis(), verify.homeDatabaseCacheTtlMillis());
+            assertEquals(config.routingTableRefreshAheadFactor(), verify.routingTableRefreshAheadFactor());
+            assertEquals(config.loadBalancingMode(), verify.loadBalancingMode());
         }
 
         @Test
@@ -529,4 +667,346 @@ class ConfigTest {
         // Then
         assertEquals(disabled, telemetryDisabled);
     }
+
+    @Test
+    void shouldDefaultToEagerRecordDecoding() {
+        // Given
+        var config = Config.defaultConfig();
+
+        // When
+        var lazyRecordDecoding = config.isLazyRecordDecodingEnabled();
+
+        // Then
+        assertFalse(lazyRecordDecoding);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldChangeLazyRecordDecoding(boolean lazy) {
+        // Given
+        var config = Config.builder().withLazyRecordDecoding(lazy).build();
+
+        // When
+        var lazyRecordDecoding = config.isLazyRecordDecodingEnabled();
+
+        // Then
+        assertEquals(lazy, lazyRecordDecoding);
+    }
+
+    @Test
+    void shouldDefaultToMaxOutboundChunkSizeOfFixedChunks() {
+        // Given
+        var config = Config.defaultConfig();
+
+        // When
+        var maxOutboundChunkSize = config.maxOutboundChunkSize();
+        var adaptiveOutboundChunking = config.isAdaptiveOutboundChunkingEnabled();
+
+        // Then
+        assertEquals(16381, maxOutboundChunkSize);
+        assertFalse(adaptiveOutboundChunking);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 1024, 65535})
+    void shouldChangeMaxOutboundChunkSize(int size) {
+        // Given
+        var config = Config.builder().withMaxOutboundChunkSize(size).build();
+
+        // When
+        var maxOutboundChunkSize = config.maxOutboundChunkSize();
+
+        // Then
+        assertEquals(size, maxOutboundChunkSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 65536})
+    void shouldRejectInvalidMaxOutboundChunkSize(int size) {
+        var builder = Config.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withMaxOutboundChunkSize(size));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldChangeAdaptiveOutboundChunking(boolean adaptive) {
+        // Given
+        var config = Config.builder().withAdaptiveOutboundChunking(adaptive).build();
+
+        // When
+        var adaptiveOutboundChunking = config.isAdaptiveOutboundChunkingEnabled();
+
+        // Then
+        assertEquals(adaptive, adaptiveOutboundChunking);
+    }
+
+    @Test
+    void shouldDefaultToNioTransport() {
+        // Given
+        var config = Config.defaultConfig();
+
+        // When
+        var transportType = config.transportType();
+
+        // Then
+        assertEquals(TransportType.NIO, transportType);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    void shouldChangeTransportType(TransportType transportType) {
+        // Given
+        var config = Config.builder().withTransportType(transportType).build();
+
+        // When
+        var configuredTransportType = config.transportType();
+
+        // Then
+        assertEquals(transportType, configuredTransportType);
+    }
+
+    @Test
+    void shouldRejectNullTransportType() {
+        var builder = Config.builder();
+
+        assertThrows(NullPointerException.class, () -> builder.withTransportType(null));
+    }
+
+    @Test
+    void shouldDefaultToJdkTlsProvider() {
+        // Given
+        var config = Config.defaultConfig();
+
+        // When
+        var tlsProvider = config.tlsProvider();
+
+        // Then
+        assertEquals(TlsProvider.JDK, tlsProvider);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TlsProvider.class)
+    void shouldChangeTlsProvider(TlsProvider tlsProvider) {
+        // Given
+        var config = Config.builder().withTlsProvider(tlsProvider).build();
+
+        // When
+        var configuredTlsProvider = config.tlsProvider();
+
+        // Then
+        assertEquals(tlsProvider, configuredTlsProvider);
+    }
+
+    @Test
+    void shouldRejectNullTlsProvider() {
+        var builder = Config.builder();
+
+        assertThrows(NullPointerException.class, () -> builder.withTlsProvider(null));
+    }
+
+    @Test
+    void shouldHaveDefaultTlsSessionCache() {
+        // Given
+        var config = Config.defaultConfig();
+
+        // Then
+        assertEquals(0, config.tlsSessionCacheSize());
+        assertEquals(0, config.tlsSessionTimeoutMillis());
+    }
+
+    @Test
+    void shouldChangeTlsSessionCache() {
+        // Given
+        var config = Config.builder()
+                .withTlsSessionCacheSize(10)
+                .withTlsSessionTimeout(90, TimeUnit.SECONDS)
+                .build();
+
+        // Then
+        assertEquals(10, config.tlsSessionCacheSize());
+        assertEquals(90_000, config.tlsSessionTimeoutMillis());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+    void shouldRejectInvalidTlsSessionCacheSize(int size) {
+        var builder = Config.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withTlsSessionCacheSize(size));
+    }
+
+    @Test
+    void shouldHaveNoMinIdleConnectionsPerServerByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(0, config.minIdleConnectionsPerServer());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100})
+    void shouldChangeMinIdleConnectionsPerServer(int value) {
+        var config = Config.builder().withMinIdleConnectionsPerServer(value).build();
+
+        assertEquals(value, config.minIdleConnectionsPerServer());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, Integer.MIN_VALUE})
+    void shouldRejectNegativeMinIdleConnectionsPerServer(int value) {
+        var builder = Config.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withMinIdleConnectionsPerServer(value));
+    }
+
+    @Test
+    void shouldHaveUnlimitedIdleConnectionsPerServerByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(Integer.MAX_VALUE, config.maxIdleConnectionsPerServer());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100})
+    void shouldChangeMaxIdleConnectionsPerServer(int value) {
+        var config = Config.builder().withMaxIdleConnectionsPerServer(value).build();
+
+        assertEquals(value, config.maxIdleConnectionsPerServer());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, Integer.MIN_VALUE})
+    void shouldTreatNegativeMaxIdleConnectionsPerServerAsUnlimited(int value) {
+        var config = Config.builder().withMaxIdleConnectionsPerServer(value).build();
+
+        assertEquals(Integer.MAX_VALUE, config.maxIdleConnectionsPerServer());
+    }
+
+    @Test
+    void shouldDisableIdleConnectionSweepByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(-1, config.idleConnectionSweepIntervalMillis());
+        assertEquals(-1, config.maxConnectionIdleTimeMillis());
+    }
+
+    @Test
+    void shouldChangeIdleConnectionSweepInterval() {
+        var config = Config.builder()
+                .withIdleConnectionSweepInterval(15, TimeUnit.SECONDS)
+                .build();
+
+        assertEquals(15_000, config.idleConnectionSweepIntervalMillis());
+    }
+
+    @Test
+    void shouldChangeMaxConnectionIdleTime() {
+        var config =
+                Config.builder().withMaxConnectionIdleTime(3, TimeUnit.MINUTES).build();
+
+        assertEquals(180_000, config.maxConnectionIdleTimeMillis());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1, Long.MIN_VALUE})
+    void shouldDisableIdleConnectionSweepForNonPositiveValues(long value) {
+        var config = Config.builder()
+                .withIdleConnectionSweepInterval(value, TimeUnit.SECONDS)
+                .withMaxConnectionIdleTime(value, TimeUnit.SECONDS)
+                .build();
+
+        assertEquals(-1, config.idleConnectionSweepIntervalMillis());
+        assertEquals(-1, config.maxConnectionIdleTimeMillis());
+    }
+
+    @Test
+    void shouldHaveNoMaxConnectionLifetimeJitterByDefault() {
+        var config = Config.defaultConfig();
+
+        assertEquals(0, config.maxConnectionLifetimeJitterMillis());
+        assertFalse(config.isProactiveConnectionRotationEnabled());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 600})
+    void shouldChangeMaxConnectionLifetimeJitter(long seconds) {
+        var config = Config.builder()
+                .withMaxConnectionLifetimeJitter(seconds, TimeUnit.SECONDS)
+                .build();
+
+        assertEquals(seconds * 1000, config.maxConnectionLifetimeJitterMillis());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, Long.MIN_VALUE})
+    void shouldRejectNegativeMaxConnectionLifetimeJitter(long value) {
+        var builder = Config.builder();
+
+        assertThrows(
+                IllegalArgumentException.class, () -> builder.withMaxConnectionLifetimeJitter(value, TimeUnit.SECONDS));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldChangeProactiveConnectionRotation(boolean enabled) {
+        var config = Config.builder().withProactiveConnectionRotation(enabled).build();
+
+        assertEquals(enabled, config.isProactiveConnectionRotationEnabled());
+    }
+
+    @Test
+    void shouldDisableAdaptiveConnectionPoolSizingByDefault() {
+        var config = Config.defaultConfig();
+
+        assertFalse(config.isAdaptiveConnectionPoolSizingEnabled());
+        assertEquals(1, config.minAdaptiveConnectionPoolSize());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldChangeAdaptiveConnectionPoolSizing(boolean enabled) {
+        var config = Config.builder().withAdaptiveConnectionPoolSizing(enabled).build();
+
+        assertEquals(enabled, config.isAdaptiveConnectionPoolSizingEnabled());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, Integer.MAX_VALUE})
+    void shouldChangeMinAdaptiveConnectionPoolSize(int value) {
+        var config = Config.builder().withMinAdaptiveConnectionPoolSize(value).build();
+
+        assertEquals(value, config.minAdaptiveConnectionPoolSize());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+    void shouldRejectMinAdaptiveConnectionPoolSizeSmallerThanOne(int value) {
+        var builder = Config.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.withMinAdaptiveConnectionPoolSize(value));
+    }
+
+    @Test
+    void shouldDisableEventLoopAffinityByDefault() {
+        var config = Config.defaultConfig();
+
+        assertFalse(config.isEventLoopAffinityEnabled());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldChangeEventLoopAffinity(boolean eventLoopAffinity) {
+        var config = Config.builder().withEventLoopAffinity(eventLoopAffinity).build();
+
+        assertEquals(eventLoopAffinity, config.isEventLoopAffinityEnabled());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {999, 0, -1})
+    void shouldRejectTlsSessionTimeoutShorterThanOneSecond(long millis) {
+        var builder = Config.builder();
+
+        assertThrows(
+                IllegalArgumentException.class, () -> builder.withTlsSessionTimeout(millis, TimeUnit.MILLISECONDS));
+    }
 }
@@ -42,6 +42,7 @@ import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.internal.InternalSession;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.retry.RetryLogic;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 
 class ParametersTest {
@@ -114,6 +115,7 @@ class ParametersTest {
                 mock(BookmarkManager.class),
                 null,
                 null,
+                AcquisitionOptions.DEFAULT,
                 true);
         return new InternalSession(session);
     }
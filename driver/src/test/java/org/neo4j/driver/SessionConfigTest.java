@@ -28,6 +28,7 @@ import static org.neo4j.driver.SessionConfig.builder;
 import static org.neo4j.driver.SessionConfig.defaultConfig;
 import static org.neo4j.driver.internal.InternalBookmark.parse;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -52,6 +53,8 @@ class SessionConfigTest {
         assertFalse(config.database().isPresent());
         assertNull(config.bookmarks());
         assertFalse(config.fetchSize().isPresent());
+        assertEquals(ConnectionAcquisitionPriority.NORMAL, config.connectionAcquisitionPriority());
+        assertFalse(config.connectionAcquisitionTimeout().isPresent());
     }
 
     @ParameterizedTest
@@ -187,6 +190,38 @@ class SessionConfigTest {
                 () -> builder().withFetchSize(value).build());
     }
 
+    @ParameterizedTest
+    @EnumSource(ConnectionAcquisitionPriority.class)
+    void shouldChangeConnectionAcquisitionPriority(ConnectionAcquisitionPriority priority) {
+        var config = builder().withConnectionAcquisitionPriority(priority).build();
+        assertEquals(priority, config.connectionAcquisitionPriority());
+    }
+
+    @Test
+    void shouldNotAllowNullConnectionAcquisitionPriority() {
+        assertThrows(NullPointerException.class, () -> builder().withConnectionAcquisitionPriority(null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 100, 60_000})
+    void shouldChangeConnectionAcquisitionTimeout(long millis) {
+        var config = builder()
+                .withConnectionAcquisitionTimeout(Duration.ofMillis(millis))
+                .build();
+        assertEquals(Optional.of(Duration.ofMillis(millis)), config.connectionAcquisitionTimeout());
+    }
+
+    @Test
+    void shouldNotAllowNullConnectionAcquisitionTimeout() {
+        assertThrows(NullPointerException.class, () -> builder().withConnectionAcquisitionTimeout(null));
+    }
+
+    @Test
+    void shouldNotAllowNegativeConnectionAcquisitionTimeout() {
+        assertThrows(IllegalArgumentException.class, () -> builder()
+                .withConnectionAcquisitionTimeout(Duration.ofMillis(-1)));
+    }
+
     @Test
     void shouldTwoConfigBeEqual() {
         var config1 = builder().withFetchSize(100).build();
@@ -206,6 +241,8 @@ class SessionConfigTest {
                 .withFetchSize(54321L)
                 .withDatabase("testing")
                 .withImpersonatedUser("impersonator")
+                .withConnectionAcquisitionPriority(ConnectionAcquisitionPriority.HIGH)
+                .withConnectionAcquisitionTimeout(Duration.ofSeconds(5))
                 .withNotificationConfig(NotificationConfig.defaultConfig()
                         .enableMinimumSeverity(NotificationSeverity.WARNING)
                         .disableCategories(Set.of(NotificationCategory.UNSUPPORTED, NotificationCategory.UNRECOGNIZED)))
@@ -225,6 +262,8 @@ class SessionConfigTest {
         assertEquals(config.fetchSize(), verify.fetchSize());
         assertEquals(config.database(), verify.database());
         assertEquals(config.impersonatedUser(), verify.impersonatedUser());
+        assertEquals(config.connectionAcquisitionPriority(), verify.connectionAcquisitionPriority());
+        assertEquals(config.connectionAcquisitionTimeout(), verify.connectionAcquisitionTimeout());
         assertEquals(
                 NotificationConfig.defaultConfig()
                         .enableMinimumSeverity(NotificationSeverity.WARNING)
@@ -63,6 +63,7 @@ import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.security.SecurityPlanImpl;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.EnabledOnNeo4jWith;
@@ -487,8 +488,9 @@ class ConnectionHandlingIT {
         }
 
         @Override
-        public CompletionStage<Connection> acquire(final BoltServerAddress address, AuthToken overrideAuthToken) {
-            var connection = await(super.acquire(address, overrideAuthToken));
+        public CompletionStage<Connection> acquire(
+                final BoltServerAddress address, AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions) {
+            var connection = await(super.acquire(address, overrideAuthToken, acquisitionOptions));
 
             if (memorize) {
                 // this connection pool returns spies so spies will be returned to the pool
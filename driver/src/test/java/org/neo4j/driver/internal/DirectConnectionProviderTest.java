@@ -21,6 +21,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -41,6 +44,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.async.connection.DirectConnection;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 
@@ -107,7 +111,7 @@ class DirectConnectionProviderTest {
         assertThat(acquired1, instanceOf(DirectConnection.class));
         assertSame(connection, ((DirectConnection) acquired1).connection());
 
-        verify(pool).acquire(address, null);
+        verify(pool).acquire(address, null, AcquisitionOptions.DEFAULT);
     }
 
     @ParameterizedTest
@@ -152,7 +156,8 @@ class DirectConnectionProviderTest {
         CompletableFuture<Connection>[] otherConnectionFutures = Stream.of(otherConnections)
                 .map(CompletableFuture::completedFuture)
                 .toArray(CompletableFuture[]::new);
-        when(pool.acquire(address, null)).thenReturn(completedFuture(connection), otherConnectionFutures);
+        when(pool.acquire(eq(address), isNull(), any()))
+                .thenReturn(completedFuture(connection), otherConnectionFutures);
         return pool;
     }
 }
@@ -57,6 +57,7 @@ import org.neo4j.driver.Driver;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.MetricsAdapter;
 import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransportType;
 import org.neo4j.driver.internal.async.LeakLoggingNetworkSession;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
@@ -67,6 +68,7 @@ import org.neo4j.driver.internal.cluster.RoutingSettings;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.metrics.DevNullMetricsProvider;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.metrics.MicrometerMetricsProvider;
 import org.neo4j.driver.internal.retry.RetryLogic;
@@ -262,7 +264,8 @@ class DriverFactoryTest {
     private static ConnectionPool connectionPoolMock() {
         var pool = mock(ConnectionPool.class);
         var connection = mock(Connection.class);
-        when(pool.acquire(any(BoltServerAddress.class), any(AuthToken.class))).thenReturn(completedFuture(connection));
+        when(pool.acquire(any(BoltServerAddress.class), any(AuthToken.class), any()))
+                .thenReturn(completedFuture(connection));
         when(pool.close()).thenReturn(completedWithNull());
         return pool;
     }
@@ -331,7 +334,8 @@ class DriverFactoryTest {
                 EventExecutorGroup eventExecutorGroup,
                 Config config,
                 RoutingSettings routingSettings,
-                Supplier<Rediscovery> rediscoverySupplier) {
+                Supplier<Rediscovery> rediscoverySupplier,
+                MetricsListener metricsListener) {
             return null;
         }
 
@@ -364,7 +368,7 @@ class DriverFactoryTest {
         }
 
         @Override
-        protected Bootstrap createBootstrap(int ignored) {
+        protected Bootstrap createBootstrap(int ignored, TransportType transportType) {
             return BootstrapFactory.newBootstrap(1);
         }
 
@@ -25,6 +25,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.driver.Values.value;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -32,7 +35,12 @@ import java.util.NoSuchElementException;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
+import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
+import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.util.Extract;
+import org.neo4j.driver.internal.util.QueryKeys;
+import org.neo4j.driver.internal.util.io.ChannelOutput;
 import org.neo4j.driver.internal.value.NullValue;
 
 class InternalRecordTest {
@@ -198,6 +206,30 @@ class InternalRecordTest {
         assertThat(appendedValues, equalTo(Arrays.asList(values)));
     }
 
+    @Test
+    void lazyRecordShouldEqualEagerRecord() throws IOException {
+        // GIVEN
+        var eager = createRecord();
+        var output = new ByteArrayOutputStream();
+        var packer = new PackStream.Packer(new ChannelOutput(Channels.newChannel(output)));
+        packer.packListHeader(2);
+        packer.pack(0);
+        packer.pack(1);
+        var fields = new LazyRecordFields(
+                output.toByteArray(), new LazyRecordFields.Decoder(input -> new CommonValueUnpacker(input, false)));
+
+        // WHEN
+        var lazy = new InternalRecord(new QueryKeys(eager.keys()), fields);
+
+        // THEN
+        assertThat(lazy.get("k2"), equalTo(value(1)));
+        assertThat(lazy.get(2), equalTo(NullValue.NULL));
+        assertThat(lazy.size(), equalTo(2));
+        assertThat(lazy.values(), equalTo(eager.values()));
+        assertThat(lazy, equalTo(eager));
+        assertThat(lazy.hashCode(), equalTo(eager.hashCode()));
+    }
+
     private InternalRecord createRecord() {
         var keys = Arrays.asList("k1", "k2");
         return new InternalRecord(keys, new Value[] {value(0), value(1)});
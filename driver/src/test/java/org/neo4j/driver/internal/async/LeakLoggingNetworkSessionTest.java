@@ -39,6 +39,7 @@ import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.telemetry.ApiTelemetryWork;
@@ -105,6 +106,7 @@ class LeakLoggingNetworkSessionTest {
                 mock(BookmarkManager.class),
                 null,
                 null,
+                AcquisitionOptions.DEFAULT,
                 true);
     }
 
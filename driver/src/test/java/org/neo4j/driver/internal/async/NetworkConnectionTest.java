@@ -64,6 +64,7 @@ import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.pool.ExtendedChannelPool;
 import org.neo4j.driver.internal.handlers.NoOpResponseHandler;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.request.CommitMessage;
 import org.neo4j.driver.internal.messaging.request.DiscardAllMessage;
@@ -184,6 +185,20 @@ class NetworkConnectionTest {
         assertEquals(PULL_ALL, single(channel.outboundMessages()));
     }
 
+    @Test
+    void shouldMarkRunFlushedWhenFlushed() {
+        var channel = newChannel();
+        var connection = newConnection(channel);
+        var runHandler = mock(RunResponseHandler.class);
+
+        connection.write(PULL_ALL, runHandler);
+        channel.runPendingTasks();
+        then(runHandler).should(never()).markFlushed();
+
+        channel.flushOutbound();
+        then(runHandler).should().markFlushed();
+    }
+
     @Test
     void shouldNotWriteSingleMessageWhenReleased() {
         var handler = mock(ResponseHandler.class);
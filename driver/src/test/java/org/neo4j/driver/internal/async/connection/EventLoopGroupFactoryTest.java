@@ -24,15 +24,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.neo4j.driver.internal.util.Iterables.count;
 import static org.neo4j.driver.internal.util.Matchers.blockingOperationInEventLoopError;
 
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.driver.TransportType;
 
 class EventLoopGroupFactoryTest {
     private EventLoopGroup eventLoopGroup;
@@ -79,6 +87,44 @@ class EventLoopGroupFactoryTest {
         assertFalse(EventLoopGroupFactory.isEventLoopThread(Thread.currentThread()));
     }
 
+    @Test
+    void shouldResolveNioTransport() {
+        assertEquals(TransportType.NIO, EventLoopGroupFactory.resolveTransportType(TransportType.NIO));
+        assertEquals(NioSocketChannel.class, EventLoopGroupFactory.channelClass(TransportType.NIO));
+    }
+
+    @Test
+    void shouldResolveAutoTransportToEpollWhenAvailable() {
+        var expected = Epoll.isAvailable() ? TransportType.EPOLL : TransportType.NIO;
+        assertEquals(expected, EventLoopGroupFactory.resolveTransportType(TransportType.AUTO));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransportType.class)
+    void shouldCreateEventLoopGroupOfResolvedTransport(TransportType transportType) throws Exception {
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup(1, transportType);
+
+        var channelClass =
+                switch (EventLoopGroupFactory.resolveTransportType(transportType)) {
+                    case EPOLL -> EpollSocketChannel.class;
+                    case IO_URING -> IOUringSocketChannel.class;
+                    default -> NioSocketChannel.class;
+                };
+        assertEquals(channelClass, EventLoopGroupFactory.channelClass(transportType));
+        assertTrue(EventLoopGroupFactory.isEventLoopThread(getThread(eventLoopGroup)));
+    }
+
+    @Test
+    void shouldFallBackToNioWhenNativeTransportIsNotAvailable() {
+        assumeFalse(Epoll.isAvailable());
+        assumeFalse(IOUring.isAvailable());
+
+        assertEquals(TransportType.NIO, EventLoopGroupFactory.resolveTransportType(TransportType.EPOLL));
+        assertEquals(TransportType.NIO, EventLoopGroupFactory.resolveTransportType(TransportType.IO_URING));
+        eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup(1, TransportType.EPOLL);
+        assertThat(eventLoopGroup, instanceOf(NioEventLoopGroup.class));
+    }
+
     /**
      * Test verifies that our event loop group uses same kind of thread as Netty does by default.
      * It's needed because default Netty setup has good performance.
@@ -23,7 +23,10 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authContext;
@@ -33,7 +36,9 @@ import static org.neo4j.driver.internal.async.connection.ChannelAttributes.serve
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslProvider;
 import java.security.GeneralSecurityException;
 import java.time.Clock;
 import javax.net.ssl.SNIHostName;
@@ -147,6 +152,25 @@ class NettyChannelInitializerTest {
         assertEquals(expectedValue, sslParameters.getEndpointIdentificationAlgorithm());
     }
 
+    @Test
+    void shouldCreateSslEngineFromOpenSslContextWhenPresent() throws Exception {
+        var openSslContext =
+                SslContextBuilder.forClient().sslProvider(SslProvider.JDK).build();
+        var security = mock(SecurityPlan.class);
+        when(security.requiresEncryption()).thenReturn(true);
+        when(security.requiresHostnameVerification()).thenReturn(true);
+        when(security.openSslContext()).thenReturn(openSslContext);
+        var initializer = newInitializer(security);
+
+        initializer.initChannel(channel);
+
+        var sslHandler = channel.pipeline().get(SslHandler.class);
+        var sslEngine = sslHandler.engine();
+        assertTrue(sslEngine.getUseClientMode());
+        assertEquals("HTTPS", sslEngine.getSSLParameters().getEndpointIdentificationAlgorithm());
+        verify(security, never()).sslContext();
+    }
+
     private static NettyChannelInitializer newInitializer(SecurityPlan securityPlan) {
         return newInitializer(securityPlan, Integer.MAX_VALUE);
     }
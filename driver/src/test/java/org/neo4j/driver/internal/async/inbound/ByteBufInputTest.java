@@ -16,6 +16,7 @@
  */
 package org.neo4j.driver.internal.async.inbound;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 
 class ByteBufInputTest {
@@ -112,4 +114,47 @@ class ByteBufInputTest {
 
         assertEquals((byte) 42, input.peekByte());
     }
+
+    @Test
+    void shouldReadUtf8FromHeapBuf() {
+        var input = new ByteBufInput();
+        var buf = Unpooled.wrappedBuffer("Hello, Wörld! 😀 tail".getBytes(UTF_8));
+        input.start(buf);
+
+        assertEquals("Hello, Wörld! 😀", input.readUtf8(19));
+        assertEquals(' ', input.readByte());
+    }
+
+    @Test
+    void shouldReadUtf8FromDirectBuf() {
+        var input = new ByteBufInput();
+        var buf = Unpooled.directBuffer().writeBytes("Привет мир".getBytes(UTF_8));
+        input.start(buf);
+
+        assertEquals("Привет мир", input.readUtf8(buf.readableBytes()));
+        assertEquals(0, buf.readableBytes());
+        buf.release();
+    }
+
+    @Test
+    void shouldReadUtf8SpanningCompositeBufComponents() {
+        var input = new ByteBufInput();
+        var bytes = "data spanning components".getBytes(UTF_8);
+        var buf = Unpooled.wrappedBuffer(
+                Unpooled.wrappedBuffer(bytes, 0, 7), Unpooled.wrappedBuffer(bytes, 7, bytes.length - 7));
+        input.start(buf);
+
+        assertEquals("data spanning components", input.readUtf8(bytes.length));
+        buf.release();
+    }
+
+    @Test
+    void shouldThrowWhenReadingUtf8BeyondReadableBytes() {
+        var input = new ByteBufInput();
+        var buf = Unpooled.wrappedBuffer("abc".getBytes(UTF_8));
+        input.start(buf);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> input.readUtf8(4));
+        assertEquals(0, buf.readerIndex());
+    }
 }
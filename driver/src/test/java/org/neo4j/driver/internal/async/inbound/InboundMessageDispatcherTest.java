@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
@@ -40,6 +41,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAuthContext;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setResponseLatencyListener;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
 
@@ -64,9 +66,12 @@ import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.exceptions.Neo4jException;
 import org.neo4j.driver.exceptions.SecurityException;
 import org.neo4j.driver.exceptions.TokenExpiredException;
+import org.neo4j.driver.internal.async.connection.ResponseLatencyListener;
 import org.neo4j.driver.internal.async.pool.AuthContext;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.logging.ChannelErrorLogger;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.response.FailureMessage;
 import org.neo4j.driver.internal.messaging.response.IgnoredMessage;
@@ -107,6 +112,24 @@ class InboundMessageDispatcherTest {
         verify(handler).onSuccess(metadata);
     }
 
+    @Test
+    void shouldNotifyResponseLatencyListenerOnRunSuccess() {
+        var channel = new EmbeddedChannel();
+        var latencyListener = mock(ResponseLatencyListener.class);
+        setResponseLatencyListener(channel, latencyListener);
+        var dispatcher = newDispatcher(channel);
+        var runHandler = mock(RunResponseHandler.class);
+        given(runHandler.elapsedNanos()).willReturn(42L);
+        dispatcher.enqueue(runHandler);
+        dispatcher.enqueue(mock(ResponseHandler.class));
+
+        dispatcher.handleSuccessMessage(emptyMap());
+        dispatcher.handleSuccessMessage(emptyMap());
+
+        verify(latencyListener, only()).onQueryResponse(42L);
+        verify(runHandler).onSuccess(emptyMap());
+    }
+
     @Test
     void shouldDequeHandlerOnFailure() {
         var channel = new EmbeddedChannel();
@@ -327,6 +350,27 @@ class InboundMessageDispatcherTest {
                 IllegalStateException.class, () -> dispatcher.handleRecordMessage(new Value[] {value(1), value(2)}));
     }
 
+    @Test
+    void shouldNotDecodeLazyRecordFieldsForDebugLogging() {
+        var logging = mock(Logging.class);
+        var logger = mock(Logger.class);
+        when(logger.isDebugEnabled()).thenReturn(true);
+        when(logging.getLog(InboundMessageDispatcher.class)).thenReturn(logger);
+        when(logging.getLog(ChannelErrorLogger.class)).thenReturn(mock(ChannelErrorLogger.class));
+        var dispatcher = new InboundMessageDispatcher(new EmbeddedChannel(), logging);
+        var handler = mock(ResponseHandler.class);
+        dispatcher.enqueue(handler);
+        var fields = mock(LazyRecordFields.class);
+        given(fields.packedSize()).willReturn(42);
+
+        dispatcher.handleRecordMessage(fields);
+
+        verify(handler).onRecord(fields);
+        verify(fields, never()).values();
+        verify(fields, never()).get(anyInt());
+        verify(fields, never()).size();
+    }
+
     @Test
     void shouldKeepSingleAutoReadManagingHandler() {
         var dispatcher = newDispatcher();
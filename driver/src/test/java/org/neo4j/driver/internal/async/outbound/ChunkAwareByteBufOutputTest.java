@@ -16,12 +16,19 @@
  */
 package org.neo4j.driver.internal.async.outbound;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.testutil.TestUtil.assertByteBufContains;
+import static org.neo4j.driver.testutil.TestUtil.assertByteBufEquals;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -38,6 +45,11 @@ class ChunkAwareByteBufOutputTest {
         assertThrows(IllegalArgumentException.class, () -> new ChunkAwareByteBufOutput(-42));
     }
 
+    @Test
+    void shouldThrowForMaxChunkSizeLargerThanAllowedByProtocol() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkAwareByteBufOutput(65538, false));
+    }
+
     @Test
     void shouldThrowWhenStartedWithNullBuf() {
         var output = new ChunkAwareByteBufOutput(16);
@@ -476,4 +488,118 @@ class ChunkAwareByteBufOutputTest {
                 (byte) 10 // chunk 6
                 );
     }
+
+    @ParameterizedTest
+    @MethodSource("testBuffers")
+    void shouldWriteDoublesWhenCurrentChunkIsFull(ByteBuf buf) {
+        var output = new ChunkAwareByteBufOutput(20);
+
+        output.start(buf);
+        output.writeDoubles((byte) 1, new double[] {1839, 5710923.34873, -47389.333399});
+        output.stop();
+
+        assertByteBufContains(
+                buf,
+                (short) 18,
+                (byte) 1,
+                1839D,
+                (byte) 1,
+                5710923.34873D, // chunk 1
+                (short) 9,
+                (byte) 1,
+                -47389.333399D // chunk 2
+                );
+    }
+
+    @ParameterizedTest
+    @MethodSource("testBuffers")
+    void shouldWrapLargeByteArraysInsteadOfCopying(ByteBuf buf) {
+        var data = new byte[42];
+        for (var i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        var copyingOutput = new ChunkAwareByteBufOutput(7, Integer.MAX_VALUE);
+        var expected = Unpooled.buffer();
+        copyingOutput.start(expected);
+        copyingOutput.writeByte((byte) -1);
+        copyingOutput.writeBytes(data);
+        copyingOutput.writeByte((byte) -2);
+        copyingOutput.stop();
+
+        var output = new ChunkAwareByteBufOutput(7, 10);
+        output.start(buf);
+        output.writeByte((byte) -1);
+        output.writeBytes(data);
+        output.writeByte((byte) -2);
+        var actual = output.stop();
+
+        assertInstanceOf(CompositeByteBuf.class, actual);
+        assertByteBufEquals(expected, actual);
+        assertEquals(0, buf.refCnt());
+    }
+
+    @Test
+    void shouldCopyByteArraysThatDoNotFillAChunk() {
+        var output = new ChunkAwareByteBufOutput(7, 4);
+        var buf = Unpooled.buffer();
+
+        output.start(buf);
+        output.writeBytes(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        var actual = output.stop();
+
+        assertSame(buf, actual);
+        assertByteBufContains(
+                buf, (short) 5, (byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (short) 3, (byte) 6, (byte) 7,
+                (byte) 8);
+    }
+
+    @Test
+    void shouldGrowChunksWithinMessageWhenAdaptive() {
+        var output = new ChunkAwareByteBufOutput(4, true);
+
+        for (var i = 0; i < 2; i++) {
+            var buf = Unpooled.buffer();
+            output.start(buf);
+            for (var b = 0; b < 10; b++) {
+                output.writeByte((byte) b);
+            }
+            output.stop();
+
+            assertByteBufContains(
+                    buf,
+                    (short) 2,
+                    (byte) 0,
+                    (byte) 1, // chunk 1
+                    (short) 6,
+                    (byte) 2,
+                    (byte) 3,
+                    (byte) 4,
+                    (byte) 5,
+                    (byte) 6,
+                    (byte) 7, // chunk 2
+                    (short) 2,
+                    (byte) 8,
+                    (byte) 9 // chunk 3
+                    );
+        }
+    }
+
+    @Test
+    void shouldNotGrowChunksBeyondProtocolLimitWhenAdaptive() {
+        var output = new ChunkAwareByteBufOutput(40_000, true);
+        var buf = Unpooled.buffer();
+
+        output.start(buf);
+        output.writeBytes(new byte[200_000]);
+        var message = output.stop();
+
+        var chunkSizes = new ArrayList<Integer>();
+        while (message.isReadable()) {
+            var chunkSize = message.readUnsignedShort();
+            chunkSizes.add(chunkSize);
+            message.skipBytes(chunkSize);
+        }
+        message.release();
+        assertEquals(List.of(39_998, 65_535, 65_535, 28_932), chunkSizes);
+    }
 }
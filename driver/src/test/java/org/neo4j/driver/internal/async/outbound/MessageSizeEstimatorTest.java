@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.driver.internal.async.outbound.MessageSizeEstimator.DEFAULT_ESTIMATE;
+import static org.neo4j.driver.internal.async.outbound.MessageSizeEstimator.MAX_ESTIMATE;
+import static org.neo4j.driver.internal.async.outbound.MessageSizeEstimator.WINDOW;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
+
+class MessageSizeEstimatorTest {
+    private static final byte RUN = RunWithMetadataMessage.SIGNATURE;
+
+    private final MessageSizeEstimator estimator = new MessageSizeEstimator();
+
+    @Test
+    void shouldReturnDefaultEstimateForUnseenMessageTypes() {
+        assertEquals(DEFAULT_ESTIMATE, estimator.estimate(RUN));
+        assertEquals(DEFAULT_ESTIMATE, estimator.estimate((byte) 0xFF));
+    }
+
+    @Test
+    void shouldRoundEstimateUpToSizeClass() {
+        estimator.update(RUN, 1000);
+        assertEquals(1024, estimator.estimate(RUN));
+
+        estimator.update(PullMessage.SIGNATURE, 1024);
+        assertEquals(1024, estimator.estimate(PullMessage.SIGNATURE));
+    }
+
+    @Test
+    void shouldUseSmallestSizeClassForTinyMessages() {
+        estimator.update(RUN, 1);
+        assertEquals(64, estimator.estimate(RUN));
+    }
+
+    @Test
+    void shouldIgnoreRareLargeMessages() {
+        update(RUN, 200, 20);
+
+        estimator.update(RUN, 60_000);
+        assertEquals(256, estimator.estimate(RUN));
+
+        update(RUN, 200, 20);
+        estimator.update(RUN, 60_000);
+        assertEquals(256, estimator.estimate(RUN));
+    }
+
+    @Test
+    void shouldFollowSustainedGrowth() {
+        update(RUN, 200, WINDOW);
+
+        update(RUN, 5000, WINDOW);
+
+        assertEquals(8192, estimator.estimate(RUN));
+    }
+
+    @Test
+    void shouldForgetLargeMessagesThatAreNoLongerSeen() {
+        update(RUN, 5000, WINDOW);
+
+        update(RUN, 200, 2 * WINDOW);
+
+        assertEquals(256, estimator.estimate(RUN));
+    }
+
+    @Test
+    void shouldCapEstimate() {
+        estimator.update(RUN, 10 * MAX_ESTIMATE);
+        assertEquals(MAX_ESTIMATE, estimator.estimate(RUN));
+    }
+
+    @Test
+    void shouldKeepSeparateEstimatesPerMessageType() {
+        estimator.update(RUN, 4000);
+        estimator.update(PullMessage.SIGNATURE, 20);
+
+        assertEquals(4096, estimator.estimate(RUN));
+        assertEquals(64, estimator.estimate(PullMessage.SIGNATURE));
+    }
+
+    private void update(byte signature, int size, int times) {
+        for (var i = 0; i < times; i++) {
+            estimator.update(signature, size);
+        }
+    }
+}
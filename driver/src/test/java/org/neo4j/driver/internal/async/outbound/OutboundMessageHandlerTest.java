@@ -19,31 +19,48 @@ package org.neo4j.driver.internal.async.outbound;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.messaging.MessageFormat.Writer;
+import static org.neo4j.driver.internal.messaging.request.CommitMessage.COMMIT;
 import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
+import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
 import static org.neo4j.driver.testutil.TestUtil.assertByteBufContains;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.embedded.EmbeddedChannel;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
 import org.neo4j.driver.Query;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.async.connection.ChannelAttributes;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.messaging.AbstractMessageWriter;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.common.CommonValuePacker;
+import org.neo4j.driver.internal.messaging.encode.ResetMessageEncoder;
+import org.neo4j.driver.internal.messaging.request.CommitMessage;
+import org.neo4j.driver.internal.messaging.request.ResetMessage;
 import org.neo4j.driver.internal.messaging.v3.MessageFormatV3;
+import org.neo4j.driver.internal.messaging.v54.MessageFormatV54;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
 class OutboundMessageHandlerTest {
@@ -97,6 +114,79 @@ class OutboundMessageHandlerTest {
         assertTrue(channel.finish());
     }
 
+    @Test
+    void shouldWriteConstantMessagesFromTemplates() {
+        var handler = newHandler(new MessageFormatV54());
+        channel.pipeline().addLast(handler);
+
+        assertTrue(channel.writeOutbound(RESET, COMMIT, RESET));
+        assertTrue(channel.finish());
+
+        assertEquals(3, channel.outboundMessages().size());
+        for (var signature : new byte[] {ResetMessage.SIGNATURE, CommitMessage.SIGNATURE, ResetMessage.SIGNATURE}) {
+            ByteBuf buf = channel.readOutbound();
+            assertTrue(buf.isReadOnly());
+            assertByteBufContains(
+                    buf,
+                    (short) 2,
+                    (byte) 0xB0,
+                    signature, // message body
+                    (byte) 0,
+                    (byte) 0 // message boundary
+                    );
+        }
+    }
+
+    @Test
+    void shouldTraceConstantMessagesWithoutMessageBoundary() {
+        var logging = mock(Logging.class);
+        var logger = mock(Logger.class);
+        when(logging.getLog(any(Class.class))).thenReturn(logger);
+        when(logger.isTraceEnabled()).thenReturn(true);
+        channel.pipeline()
+                .addLast(new OutboundMessageHandler(new MessageFormatV54(), new ChunkAwareByteBufOutput(), logging));
+
+        assertTrue(channel.writeOutbound(RESET));
+
+        verify(logger).trace(anyString(), eq("0002b00f"));
+    }
+
+    @Test
+    void shouldEncodeConstantMessagesOnlyOnce() throws IOException {
+        var output = new ChunkAwareByteBufOutput();
+        var writer = mockWriter(output, 0xB0, ResetMessage.SIGNATURE);
+        when(writer.constantMessages()).thenReturn(Set.of(RESET));
+        var messageFormat = mock(MessageFormat.class);
+        when(messageFormat.newWriter(output)).thenReturn(writer);
+        channel.pipeline().addLast(new OutboundMessageHandler(messageFormat, output, DEV_NULL_LOGGING));
+
+        assertTrue(channel.writeOutbound(RESET, RESET, RESET));
+        assertTrue(channel.finish());
+
+        assertEquals(3, channel.outboundMessages().size());
+        verify(writer, times(1)).write(RESET);
+    }
+
+    @Test
+    void shouldShareConstantMessageTemplatesBetweenHandlers() {
+        var otherChannel = new EmbeddedChannel();
+        try {
+            channel.pipeline().addLast(newHandler(new CountingMessageFormat()));
+            otherChannel.pipeline().addLast(newHandler(new CountingMessageFormat()));
+
+            assertTrue(channel.writeOutbound(RESET));
+            assertTrue(otherChannel.writeOutbound(RESET));
+
+            assertEquals(1, CountingMessageWriter.RESET_WRITES.get());
+            for (var outboundChannel : List.of(channel, otherChannel)) {
+                ByteBuf buf = outboundChannel.readOutbound();
+                assertByteBufContains(buf, (short) 2, (byte) 0xB0, ResetMessage.SIGNATURE, (short) 0);
+            }
+        } finally {
+            otherChannel.finishAndReleaseAll();
+        }
+    }
+
     private static MessageFormat mockMessageFormatWithWriter(
             @SuppressWarnings("SameParameterValue") final int... bytesToWrite) {
         var messageFormat = mock(MessageFormat.class);
@@ -127,4 +217,25 @@ class OutboundMessageHandlerTest {
     private static OutboundMessageHandler newHandler(MessageFormat messageFormat) {
         return new OutboundMessageHandler(messageFormat, DEV_NULL_LOGGING);
     }
+
+    private static class CountingMessageFormat extends MessageFormatV54 {
+        @Override
+        public Writer newWriter(PackOutput output) {
+            return new CountingMessageWriter(output);
+        }
+    }
+
+    private static class CountingMessageWriter extends AbstractMessageWriter {
+        static final AtomicInteger RESET_WRITES = new AtomicInteger();
+
+        CountingMessageWriter(PackOutput output) {
+            super(
+                    new CommonValuePacker(output, true),
+                    Map.of(ResetMessage.SIGNATURE, (message, packer) -> {
+                        RESET_WRITES.incrementAndGet();
+                        new ResetMessageEncoder().encode(message, packer);
+                    }),
+                    Set.of(RESET));
+        }
+    }
 }
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.ConnectionAcquisitionPriority;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
+import org.neo4j.driver.internal.util.FakeClock;
+
+class AcquisitionSchedulerTest {
+    private final FakeClock clock = new FakeClock();
+    private final EventExecutor timeoutExecutor = mock(EventExecutor.class);
+    private final List<Runnable> scheduledTimeouts = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        given(timeoutExecutor.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .willAnswer(invocation -> {
+                    scheduledTimeouts.add(invocation.getArgument(0));
+                    return mock(ScheduledFuture.class);
+                });
+    }
+
+    @Test
+    void shouldAdmitAcquisitionsUpToTheLimit() {
+        var scheduler = newScheduler(2, -1);
+
+        assertTrue(isDone(scheduler.acquire(AcquisitionOptions.DEFAULT)));
+        assertFalse(scheduler.isExhausted());
+        assertTrue(isDone(scheduler.acquire(AcquisitionOptions.DEFAULT)));
+        assertTrue(scheduler.isExhausted());
+        assertFalse(isDone(scheduler.acquire(AcquisitionOptions.DEFAULT)));
+    }
+
+    @Test
+    void shouldTryToAcquireWithoutWaiting() {
+        var scheduler = newScheduler(1, -1);
+
+        assertTrue(scheduler.tryAcquire());
+        assertFalse(scheduler.tryAcquire());
+
+        scheduler.release();
+        assertTrue(scheduler.tryAcquire());
+    }
+
+    @Test
+    void shouldNotTryToAcquireWhenClosed() {
+        var scheduler = newScheduler(1, -1);
+
+        scheduler.close();
+
+        assertFalse(scheduler.tryAcquire());
+    }
+
+    @Test
+    void shouldServeWaitersByPriority() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        var low = scheduler.acquire(options(ConnectionAcquisitionPriority.LOW, -1));
+        var normal = scheduler.acquire(options(ConnectionAcquisitionPriority.NORMAL, -1));
+        var high = scheduler.acquire(options(ConnectionAcquisitionPriority.HIGH, -1));
+
+        scheduler.release();
+        assertTrue(isDone(high));
+        assertFalse(isDone(normal));
+        assertFalse(isDone(low));
+
+        scheduler.release();
+        assertTrue(isDone(normal));
+        assertFalse(isDone(low));
+
+        scheduler.release();
+        assertTrue(isDone(low));
+    }
+
+    @Test
+    void shouldServeWaitersWithTheSamePriorityByDeadline() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        var unbounded = scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var late = scheduler.acquire(options(ConnectionAcquisitionPriority.NORMAL, 2000));
+        var early = scheduler.acquire(options(ConnectionAcquisitionPriority.NORMAL, 1000));
+
+        scheduler.release();
+        assertTrue(isDone(early));
+        assertFalse(isDone(late));
+
+        scheduler.release();
+        assertTrue(isDone(late));
+        assertFalse(isDone(unbounded));
+
+        scheduler.release();
+        assertTrue(isDone(unbounded));
+    }
+
+    @Test
+    void shouldServeWaitersWithoutDeadlinesInOrder() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        var first = scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var second = scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        scheduler.release();
+        assertTrue(isDone(first));
+        assertFalse(isDone(second));
+    }
+
+    @Test
+    void shouldFailImmediatelyWithZeroTimeout() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        var stage = scheduler.acquire(options(ConnectionAcquisitionPriority.HIGH, 0));
+
+        assertTimedOut(stage);
+        assertTrue(scheduledTimeouts.isEmpty());
+    }
+
+    @Test
+    void shouldUseDefaultTimeoutWhenNotConfigured() {
+        var scheduler = newScheduler(1, 500);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        verify(timeoutExecutor).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldFailWaiterWhenDeadlinePasses() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var stage = scheduler.acquire(options(ConnectionAcquisitionPriority.NORMAL, 100));
+
+        clock.progress(100);
+        scheduledTimeouts.forEach(Runnable::run);
+
+        assertTimedOut(stage);
+    }
+
+    @Test
+    void shouldSkipExpiredWaitersOnRelease() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var expired = scheduler.acquire(options(ConnectionAcquisitionPriority.HIGH, 100));
+        var waiting = scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        clock.progress(100);
+        scheduler.release();
+
+        assertTimedOut(expired);
+        assertTrue(isDone(waiting));
+    }
+
+    @Test
+    void shouldReturnPermitWhenNoOneIsWaiting() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        assertTrue(scheduler.isExhausted());
+
+        scheduler.release();
+
+        assertFalse(scheduler.isExhausted());
+    }
+
+    @Test
+    void shouldAdmitWaitersWhenMaximumGrows() {
+        var maxAcquired = new AtomicInteger(1);
+        var scheduler = new AcquisitionScheduler(maxAcquired::get, -1, timeoutExecutor, clock);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var first = scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var second = scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        maxAcquired.set(2);
+        scheduler.release();
+
+        assertTrue(isDone(first));
+        assertTrue(isDone(second));
+        assertTrue(scheduler.isExhausted());
+    }
+
+    @Test
+    void shouldHoldBackReleasedPermitsWhenMaximumShrinks() {
+        var maxAcquired = new AtomicInteger(2);
+        var scheduler = new AcquisitionScheduler(maxAcquired::get, -1, timeoutExecutor, clock);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var waiting = scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        maxAcquired.set(1);
+        scheduler.release();
+        assertFalse(isDone(waiting));
+
+        scheduler.release();
+        assertTrue(isDone(waiting));
+    }
+
+    @Test
+    void shouldFailWaitersAndNewAcquisitionsWhenClosed() {
+        var scheduler = newScheduler(1, -1);
+        scheduler.acquire(AcquisitionOptions.DEFAULT);
+        var waiting = scheduler.acquire(AcquisitionOptions.DEFAULT);
+
+        scheduler.close();
+
+        assertClosed(waiting);
+        assertClosed(scheduler.acquire(AcquisitionOptions.DEFAULT));
+    }
+
+    private AcquisitionScheduler newScheduler(int maxAcquired, long acquisitionTimeoutMillis) {
+        return new AcquisitionScheduler(() -> maxAcquired, acquisitionTimeoutMillis, timeoutExecutor, clock);
+    }
+
+    private static AcquisitionOptions options(ConnectionAcquisitionPriority priority, long timeoutMillis) {
+        return new AcquisitionOptions(priority, timeoutMillis);
+    }
+
+    private static boolean isDone(CompletionStage<Void> stage) {
+        var future = stage.toCompletableFuture();
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    private static void assertTimedOut(CompletionStage<Void> stage) {
+        var error = failure(stage);
+        assertInstanceOf(TimeoutException.class, error);
+        assertEquals(AcquisitionScheduler.TIMEOUT_ERROR_MESSAGE, error.getMessage());
+    }
+
+    private static void assertClosed(CompletionStage<Void> stage) {
+        var error = failure(stage);
+        assertInstanceOf(IllegalStateException.class, error);
+        assertEquals(AcquisitionScheduler.CLOSED_ERROR_MESSAGE, error.getMessage());
+    }
+
+    private static Throwable failure(CompletionStage<Void> stage) {
+        CompletableFuture<Void> future = stage.toCompletableFuture();
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            throw new AssertionError("Expected a failure");
+        } catch (CompletionException e) {
+            return e.getCause();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.internal.async.pool.AdaptiveConnectionLimit.WINDOW_SIZE;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConnectionLimitTest {
+    private static final long USUAL_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void shouldStartAtCeiling() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void shouldShrinkWhenServerRespondsSlowly() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 100);
+
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY * 3, 100);
+
+        // the window took 3 times as long as the baseline, 1.5 times longer than tolerated
+        assertEquals(66, limit.limit());
+    }
+
+    @Test
+    void shouldShrinkByAtMostMinGradient() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 100);
+
+        respond(limit, WINDOW_SIZE, SLOW_LATENCY * 10, 100);
+
+        assertEquals(50, limit.limit());
+    }
+
+    @Test
+    void shouldNotShrinkOnSingleSlowResponse() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 100);
+
+        limit.onQueryResponse(SLOW_LATENCY * 10, 100);
+        respond(limit, WINDOW_SIZE - 1, USUAL_LATENCY, 100);
+
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void shouldNotCollapseUnderBimodalLatencies() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+        var random = new Random(42);
+
+        for (var i = 0; i < 100 * WINDOW_SIZE; i++) {
+            var latency = random.nextInt(100) < 20 ? SLOW_LATENCY : TimeUnit.MILLISECONDS.toNanos(5);
+            limit.onQueryResponse(latency, 1);
+        }
+
+        assertTrue(limit.limit() >= 90, "limit collapsed to " + limit.limit());
+    }
+
+    @Test
+    void shouldNotShrinkBelowFloor() {
+        var limit = new AdaptiveConnectionLimit(80, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 100);
+
+        var latency = SLOW_LATENCY;
+        for (var i = 0; i < 5; i++) {
+            respond(limit, WINDOW_SIZE, latency, 100);
+            latency *= 10;
+        }
+
+        assertEquals(80, limit.limit());
+    }
+
+    @Test
+    void shouldNotGrowWhileOverloaded() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 100);
+
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY * 3, 100);
+        limit.onAcquisitionWait();
+        respond(limit, WINDOW_SIZE - 1, USUAL_LATENCY * 3, 100);
+
+        assertEquals(66, limit.limit());
+    }
+
+    @Test
+    void shouldGrowWhenConnectionsAreInUse() {
+        var limit = shrunkLimit();
+
+        limit.onQueryResponse(USUAL_LATENCY, 45);
+
+        assertEquals(67, limit.limit());
+    }
+
+    @Test
+    void shouldNotGrowWhenConnectionsAreNotInUse() {
+        var limit = shrunkLimit();
+
+        limit.onQueryResponse(USUAL_LATENCY, 1);
+
+        assertEquals(66, limit.limit());
+    }
+
+    @Test
+    void shouldGrowAfterAcquisitionWaited() {
+        var limit = shrunkLimit();
+
+        limit.onAcquisitionWait();
+        limit.onQueryResponse(USUAL_LATENCY, 1);
+        assertEquals(67, limit.limit());
+
+        limit.onQueryResponse(USUAL_LATENCY, 1);
+        assertEquals(67, limit.limit());
+    }
+
+    @Test
+    void shouldNotGrowAboveCeiling() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+
+        limit.onAcquisitionWait();
+        limit.onQueryResponse(USUAL_LATENCY, 100);
+
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    void shouldLimitFloorToCeiling() {
+        var limit = new AdaptiveConnectionLimit(10, 5);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 5);
+
+        respond(limit, WINDOW_SIZE, SLOW_LATENCY, 5);
+
+        assertEquals(5, limit.limit());
+    }
+
+    private static AdaptiveConnectionLimit shrunkLimit() {
+        var limit = new AdaptiveConnectionLimit(5, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 100);
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY * 3, 100);
+        // a window as fast as the baseline shows that the server has recovered
+        respond(limit, WINDOW_SIZE, USUAL_LATENCY, 1);
+        assertEquals(66, limit.limit());
+        return limit;
+    }
+
+    private static void respond(AdaptiveConnectionLimit limit, int responses, long latencyNanos, int inUse) {
+        for (var i = 0; i < responses; i++) {
+            limit.onQueryResponse(latencyNanos, inUse);
+        }
+    }
+}
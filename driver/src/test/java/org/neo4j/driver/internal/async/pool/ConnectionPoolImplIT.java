@@ -43,6 +43,7 @@ import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.security.SecurityPlanImpl;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.FakeClock;
 import org.neo4j.driver.testutil.DatabaseExtension;
@@ -67,24 +68,24 @@ class ConnectionPoolImplIT {
 
     @Test
     void shouldAcquireConnectionWhenPoolIsEmpty() {
-        var connection = await(pool.acquire(neo4j.address(), null));
+        var connection = await(pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT));
 
         assertNotNull(connection);
     }
 
     @Test
     void shouldAcquireIdleConnection() {
-        var connection1 = await(pool.acquire(neo4j.address(), null));
+        var connection1 = await(pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT));
         await(connection1.release());
 
-        var connection2 = await(pool.acquire(neo4j.address(), null));
+        var connection2 = await(pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT));
         assertNotNull(connection2);
     }
 
     @Test
     void shouldBeAbleToClosePoolInIOWorkerThread() {
         // In the IO worker thread of a channel obtained from a pool, we shall be able to close the pool.
-        var future = pool.acquire(neo4j.address(), null)
+        var future = pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT)
                 .thenCompose(Connection::release)
                 // This shall close all pools
                 .whenComplete((ignored, error) -> pool.retainAll(Collections.emptySet()));
@@ -97,18 +98,19 @@ class ConnectionPoolImplIT {
     void shouldFailToAcquireConnectionToWrongAddress() {
         var e = assertThrows(
                 ServiceUnavailableException.class,
-                () -> await(pool.acquire(new BoltServerAddress("wrong-localhost"), null)));
+                () -> await(pool.acquire(new BoltServerAddress("wrong-localhost"), null, AcquisitionOptions.DEFAULT)));
 
         assertThat(e.getMessage(), startsWith("Unable to connect"));
     }
 
     @Test
     void shouldFailToAcquireWhenPoolClosed() {
-        var connection = await(pool.acquire(neo4j.address(), null));
+        var connection = await(pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT));
         await(connection.release());
         await(pool.close());
 
-        var e = assertThrows(IllegalStateException.class, () -> pool.acquire(neo4j.address(), null));
+        var e = assertThrows(
+                IllegalStateException.class, () -> pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT));
         assertThat(e.getMessage(), startsWith("Pool closed"));
     }
 
@@ -120,10 +122,12 @@ class ConnectionPoolImplIT {
 
     @Test
     void shouldFailToAcquireConnectionWhenPoolIsClosed() {
-        await(pool.acquire(neo4j.address(), null));
+        await(pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT));
         var channelPool = this.pool.getPool(neo4j.address());
         await(channelPool.close());
-        var error = assertThrows(ServiceUnavailableException.class, () -> await(pool.acquire(neo4j.address(), null)));
+        var error = assertThrows(
+                ServiceUnavailableException.class,
+                () -> await(pool.acquire(neo4j.address(), null, AcquisitionOptions.DEFAULT)));
         assertThat(error.getMessage(), containsString("closed while acquiring a connection"));
         assertThat(error.getCause(), instanceOf(IllegalStateException.class));
         assertThat(error.getCause().getMessage(), containsString("FixedChannelPool was closed"));
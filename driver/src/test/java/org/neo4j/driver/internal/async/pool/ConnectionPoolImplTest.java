@@ -20,6 +20,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -28,16 +29,26 @@ import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authorizationStateListener;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.testutil.TestUtil.await;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.util.FakeClock;
 
 class ConnectionPoolImplTest {
@@ -55,14 +66,21 @@ class ConnectionPoolImplTest {
         verifyNoInteractions(nettyChannelTracker);
     }
 
+    @Test
+    void shouldReportNoResponseLatencyForUnknownAddress() {
+        var pool = newConnectionPool(mock(NettyChannelTracker.class));
+
+        assertEquals(0, pool.responseLatencyNanos(LOCAL_DEFAULT));
+    }
+
     @Test
     void shouldRetainSpecifiedAddresses() {
         var nettyChannelTracker = mock(NettyChannelTracker.class);
         var pool = newConnectionPool(nettyChannelTracker);
 
-        pool.acquire(ADDRESS_1, null);
-        pool.acquire(ADDRESS_2, null);
-        pool.acquire(ADDRESS_3, null);
+        pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT);
+        pool.acquire(ADDRESS_2, null, AcquisitionOptions.DEFAULT);
+        pool.acquire(ADDRESS_3, null, AcquisitionOptions.DEFAULT);
 
         pool.retainAll(new HashSet<>(asList(ADDRESS_1, ADDRESS_2, ADDRESS_3)));
         for (var channelPool : pool.channelPoolsByAddress.values()) {
@@ -75,9 +93,9 @@ class ConnectionPoolImplTest {
         var nettyChannelTracker = mock(NettyChannelTracker.class);
         var pool = newConnectionPool(nettyChannelTracker);
 
-        pool.acquire(ADDRESS_1, null);
-        pool.acquire(ADDRESS_2, null);
-        pool.acquire(ADDRESS_3, null);
+        pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT);
+        pool.acquire(ADDRESS_2, null, AcquisitionOptions.DEFAULT);
+        pool.acquire(ADDRESS_3, null, AcquisitionOptions.DEFAULT);
 
         when(nettyChannelTracker.inUseChannelCount(ADDRESS_1)).thenReturn(2);
         when(nettyChannelTracker.inUseChannelCount(ADDRESS_2)).thenReturn(0);
@@ -94,9 +112,9 @@ class ConnectionPoolImplTest {
         var nettyChannelTracker = mock(NettyChannelTracker.class);
         var pool = newConnectionPool(nettyChannelTracker);
 
-        pool.acquire(ADDRESS_1, null);
-        pool.acquire(ADDRESS_2, null);
-        pool.acquire(ADDRESS_3, null);
+        pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT);
+        pool.acquire(ADDRESS_2, null, AcquisitionOptions.DEFAULT);
+        pool.acquire(ADDRESS_3, null, AcquisitionOptions.DEFAULT);
 
         when(nettyChannelTracker.inUseChannelCount(ADDRESS_1)).thenReturn(1);
         when(nettyChannelTracker.inUseChannelCount(ADDRESS_2)).thenReturn(42);
@@ -116,22 +134,147 @@ class ConnectionPoolImplTest {
         var channelArgumentCaptor = ArgumentCaptor.forClass(Channel.class);
         var pool = newConnectionPool(nettyChannelTracker);
 
-        pool.acquire(ADDRESS_1, null).toCompletableFuture().get();
+        pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT)
+                .toCompletableFuture()
+                .get();
         verify(nettyChannelTracker).channelAcquired(channelArgumentCaptor.capture());
         var channel = channelArgumentCaptor.getValue();
 
         assertEquals(nettyChannelHealthChecker, authorizationStateListener(channel));
     }
 
+    @Test
+    void shouldCreateSinglePoolForConcurrentAcquisitions() throws Exception {
+        var nettyChannelTracker = mock(NettyChannelTracker.class);
+        var pool = newConnectionPool(nettyChannelTracker);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var start = new CountDownLatch(1);
+            var acquisitions = new ArrayList<Future<?>>();
+            for (var i = 0; i < 8; i++) {
+                acquisitions.add(executor.submit(() -> {
+                    start.await();
+                    return pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT);
+                }));
+            }
+            start.countDown();
+            for (var acquisition : acquisitions) {
+                acquisition.get();
+            }
+
+            assertEquals(1, pool.channelPoolsByAddress.size());
+            assertTrue(pool.isOpen(ADDRESS_1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldWarmUpPoolsToMinIdleConnections() {
+        var pool = newConnectionPool(mock(NettyChannelTracker.class), newSettings(3));
+
+        pool.warmUp(new HashSet<>(asList(ADDRESS_1, ADDRESS_2)));
+
+        assertEquals(Map.of(ADDRESS_1, 3, ADDRESS_2, 3), pool.idleTargetsByAddress);
+        assertTrue(pool.isOpen(ADDRESS_1));
+        assertTrue(pool.isOpen(ADDRESS_2));
+    }
+
+    @Test
+    void shouldNotWarmUpPoolsWithoutMinIdleConnections() {
+        var nettyChannelTracker = mock(NettyChannelTracker.class);
+        var pool = newConnectionPool(nettyChannelTracker);
+
+        pool.warmUp(singleton(ADDRESS_1));
+
+        verifyNoInteractions(nettyChannelTracker);
+        assertFalse(pool.isOpen(ADDRESS_1));
+    }
+
+    @Test
+    void shouldReportSaturationOfExistingPoolsOnly() {
+        var pool = newConnectionPool(mock(NettyChannelTracker.class));
+
+        assertFalse(pool.isSaturated(ADDRESS_1));
+        await(pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT));
+        pool.exhaustedAddresses.add(ADDRESS_1);
+
+        assertTrue(pool.isSaturated(ADDRESS_1));
+        assertFalse(pool.isSaturated(ADDRESS_2));
+    }
+
+    @Test
+    void shouldSweepIdleConnectionsPeriodicallyUntilClosed() throws InterruptedException {
+        var nettyChannelTracker = mock(NettyChannelTracker.class);
+        var eventLoopGroup = new DefaultEventLoopGroup(1);
+        try {
+            var settings = testSettings()
+                    .withIdleConnectionSweepInterval(10)
+                    .withMaxIdleConnectionsPerServer(2)
+                    .build();
+            var pool = newConnectionPool(nettyChannelTracker, eventLoopGroup, settings);
+            await(pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT));
+
+            assertEquals(ADDRESS_1, pool.sweptAddresses.poll(5, TimeUnit.SECONDS));
+            assertEquals(ADDRESS_1, pool.sweptAddresses.poll(5, TimeUnit.SECONDS));
+
+            await(pool.close());
+            pool.sweptAddresses.clear();
+            assertNull(pool.sweptAddresses.poll(50, TimeUnit.MILLISECONDS));
+        } finally {
+            eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void shouldNotSweepIdleConnectionsByDefault() {
+        var pool = newConnectionPool(mock(NettyChannelTracker.class));
+
+        await(pool.acquire(ADDRESS_1, null, AcquisitionOptions.DEFAULT));
+
+        assertTrue(pool.sweptAddresses.isEmpty());
+    }
+
+    private static PoolSettings newSettings(int minIdleConnectionsPerServer) {
+        return testSettings()
+                .withMinIdleConnectionsPerServer(minIdleConnectionsPerServer)
+                .build();
+    }
+
+    private static TestConnectionPool newConnectionPool(
+            NettyChannelTracker nettyChannelTracker, EventLoopGroup eventLoopGroup, PoolSettings settings) {
+        return new TestConnectionPool(
+                new Bootstrap().group(eventLoopGroup),
+                nettyChannelTracker,
+                settings,
+                DevNullMetricsListener.INSTANCE,
+                DEV_NULL_LOGGING,
+                new FakeClock(),
+                false);
+    }
+
     private static PoolSettings newSettings() {
         return new PoolSettings(10, 5000, -1, -1);
     }
 
+    private static PoolSettings.PoolSettingsBuilder testSettings() {
+        return new PoolSettings.PoolSettingsBuilder()
+                .withMaxConnectionPoolSize(10)
+                .withConnectionAcquisitionTimeout(5000)
+                .withMaxConnectionLifetime(-1)
+                .withIdleTimeBeforeConnectionTest(-1);
+    }
+
     private static TestConnectionPool newConnectionPool(NettyChannelTracker nettyChannelTracker) {
+        return newConnectionPool(nettyChannelTracker, newSettings());
+    }
+
+    private static TestConnectionPool newConnectionPool(
+            NettyChannelTracker nettyChannelTracker, PoolSettings settings) {
         return new TestConnectionPool(
                 mock(Bootstrap.class),
                 nettyChannelTracker,
-                newSettings(),
+                settings,
                 DevNullMetricsListener.INSTANCE,
                 DEV_NULL_LOGGING,
                 new FakeClock(),
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.authContext;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.lifetimeJitter;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAuthContext;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setConnectionReadTimeout;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setCreationTimestamp;
@@ -123,6 +124,101 @@ class NettyChannelHealthCheckerTest {
         assertThat(await(healthy), is(true));
     }
 
+    @Test
+    void shouldDetectChannelsIdleForLongerThanMaxIdleTime() {
+        var settings = testSettings(NOT_CONFIGURED)
+                .withIdleConnectionSweepInterval(1000)
+                .withMaxConnectionIdleTime(1000)
+                .build();
+        var clock = Clock.systemUTC();
+        var healthChecker = newHealthChecker(settings, clock);
+
+        setCreationTimestamp(channel, clock.millis() - 10_000);
+        setLastUsedTimestamp(channel, clock.millis() - 5_000);
+        assertTrue(healthChecker.hasExceededMaxIdleTime(channel));
+
+        setLastUsedTimestamp(channel, clock.millis());
+        assertFalse(healthChecker.hasExceededMaxIdleTime(channel));
+    }
+
+    @Test
+    void shouldUseCreationTimestampForMaxIdleTimeOfUnusedChannels() {
+        var settings = testSettings(NOT_CONFIGURED)
+                .withIdleConnectionSweepInterval(1000)
+                .withMaxConnectionIdleTime(1000)
+                .build();
+        var clock = Clock.systemUTC();
+        var healthChecker = newHealthChecker(settings, clock);
+
+        setCreationTimestamp(channel, clock.millis() - 5_000);
+
+        assertTrue(healthChecker.hasExceededMaxIdleTime(channel));
+    }
+
+    @Test
+    void shouldNotDetectIdleChannelsWhenMaxIdleTimeDisabled() {
+        var settings = new PoolSettings(10, 5000, NOT_CONFIGURED, NOT_CONFIGURED);
+        var healthChecker = newHealthChecker(settings, Clock.systemUTC());
+
+        setCreationTimestamp(channel, 0);
+        setLastUsedTimestamp(channel, 0);
+
+        assertFalse(healthChecker.hasExceededMaxIdleTime(channel));
+    }
+
+    @Test
+    void shouldShortenMaxLifetimeByAssignedJitter() {
+        var settings =
+                testSettings(10_000).withMaxConnectionLifetimeJitter(5_000).build();
+        var clock = Clock.systemUTC();
+        var healthChecker = newHealthChecker(settings, clock);
+
+        healthChecker.assignLifetime(channel);
+        var jitter = lifetimeJitter(channel);
+
+        assertNotNull(jitter);
+        assertTrue(jitter >= 0 && jitter <= 5_000);
+        setCreationTimestamp(channel, clock.millis() - (10_000 - jitter) - 1_000);
+        assertTrue(healthChecker.isTooOld(channel));
+    }
+
+    @Test
+    void shouldNotAssignJitterWhenDisabled() {
+        var settings = new PoolSettings(10, 5000, 10_000, NOT_CONFIGURED);
+        var healthChecker = newHealthChecker(settings, Clock.systemUTC());
+
+        healthChecker.assignLifetime(channel);
+
+        assertNull(lifetimeJitter(channel));
+    }
+
+    @Test
+    void shouldRotateChannelsExpiringBeforeNextSweep() {
+        var settings = testSettings(10_000)
+                .withIdleConnectionSweepInterval(1_000)
+                .withProactiveConnectionRotation(true)
+                .build();
+        var clock = Clock.systemUTC();
+        var healthChecker = newHealthChecker(settings, clock);
+
+        setCreationTimestamp(channel, clock.millis() - 9_500);
+
+        assertTrue(healthChecker.isDueForRotation(channel));
+        assertFalse(healthChecker.isTooOld(channel));
+    }
+
+    @Test
+    void shouldNotRotateChannelsWhenRotationDisabled() {
+        var settings =
+                testSettings(10_000).withIdleConnectionSweepInterval(1_000).build();
+        var clock = Clock.systemUTC();
+        var healthChecker = newHealthChecker(settings, clock);
+
+        setCreationTimestamp(channel, clock.millis() - 9_500);
+
+        assertFalse(healthChecker.isDueForRotation(channel));
+    }
+
     public static List<BoltProtocolVersion> boltVersionsBefore51() {
         return List.of(
                 BoltProtocolV3.VERSION,
@@ -378,6 +474,14 @@ class NettyChannelHealthCheckerTest {
         }
     }
 
+    private static PoolSettings.PoolSettingsBuilder testSettings(long maxConnectionLifetime) {
+        return new PoolSettings.PoolSettingsBuilder()
+                .withMaxConnectionPoolSize(10)
+                .withConnectionAcquisitionTimeout(5000)
+                .withMaxConnectionLifetime(maxConnectionLifetime)
+                .withIdleTimeBeforeConnectionTest(NOT_CONFIGURED);
+    }
+
     private NettyChannelHealthChecker newHealthChecker(PoolSettings settings, Clock clock) {
         return new NettyChannelHealthChecker(settings, clock, DEV_NULL_LOGGING);
     }
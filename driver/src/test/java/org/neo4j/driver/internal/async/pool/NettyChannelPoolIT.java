@@ -55,6 +55,7 @@ import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
 import org.neo4j.driver.internal.security.InternalAuthToken;
 import org.neo4j.driver.internal.security.SecurityPlanImpl;
 import org.neo4j.driver.internal.security.StaticAuthTokenManager;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.util.DisabledOnNeo4jWith;
 import org.neo4j.driver.internal.util.EnabledOnNeo4jWith;
 import org.neo4j.driver.internal.util.FakeClock;
@@ -96,7 +97,7 @@ class NettyChannelPoolIT {
     void shouldAcquireAndReleaseWithCorrectCredentials() {
         pool = newPool(neo4j.authTokenManager());
 
-        var channel = await(pool.acquire(null));
+        var channel = await(pool.acquire(null, AcquisitionOptions.DEFAULT));
         assertNotNull(channel);
         verify(poolHandler).channelCreated(eq(channel), any());
         verify(poolHandler, never()).channelReleased(channel);
@@ -110,7 +111,7 @@ class NettyChannelPoolIT {
     void shouldFailToAcquireWithWrongCredentialsBolt50AndBelow() {
         pool = newPool(new StaticAuthTokenManager(AuthTokens.basic("wrong", "wrong")));
 
-        assertThrows(AuthenticationException.class, () -> await(pool.acquire(null)));
+        assertThrows(AuthenticationException.class, () -> await(pool.acquire(null, AcquisitionOptions.DEFAULT)));
 
         verify(poolHandler, never()).channelCreated(any());
         verify(poolHandler, never()).channelReleased(any());
@@ -121,7 +122,7 @@ class NettyChannelPoolIT {
     void shouldFailToAcquireWithWrongCredentials() {
         pool = newPool(new StaticAuthTokenManager(AuthTokens.basic("wrong", "wrong")));
 
-        assertThrows(AuthenticationException.class, () -> await(pool.acquire(null)));
+        assertThrows(AuthenticationException.class, () -> await(pool.acquire(null, AcquisitionOptions.DEFAULT)));
 
         verify(poolHandler).channelCreated(any(), any());
         verify(poolHandler).channelReleased(any());
@@ -213,7 +214,7 @@ class NettyChannelPoolIT {
     }
 
     private static Channel acquire(NettyChannelPool pool) {
-        return await(pool.acquire(null));
+        return await(pool.acquire(null, AcquisitionOptions.DEFAULT));
     }
 
     private void release(Channel channel) {
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setAuthContext;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setHelloStage;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.testutil.TestUtil.await;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthToken;
+import org.neo4j.driver.AuthTokenManager;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.exceptions.AuthenticationException;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.async.connection.ChannelConnector;
+import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.messaging.request.LogonMessage;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
+import org.neo4j.driver.internal.util.FakeClock;
+
+class NettyChannelPoolTest {
+    private static final AuthToken AUTH_TOKEN = AuthTokens.basic("neo4j", "password");
+
+    private EventLoopGroup eventLoopGroup;
+    private ChannelConnector connector;
+    private NettyChannelTracker tracker;
+    private NettyChannelHealthChecker healthChecker;
+    private AuthTokenManager authTokenManager;
+
+    @BeforeEach
+    void setUp() {
+        eventLoopGroup = new DefaultEventLoopGroup(1);
+        connector = mock(ChannelConnector.class);
+        given(connector.connect(any(), any()))
+                .willAnswer(invocation -> newChannel(true).newSucceededFuture());
+        tracker = mock(NettyChannelTracker.class);
+        healthChecker = mock(NettyChannelHealthChecker.class);
+        authTokenManager = mock(AuthTokenManager.class);
+        given(authTokenManager.getToken()).willReturn(completedFuture(AUTH_TOKEN));
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldCreateIdleChannelsUpToMinIdleChannels() {
+        var pool = newPool(10);
+
+        await(pool.createIdleChannels(3));
+        await(pool.createIdleChannels(3));
+
+        then(connector).should(times(3)).connect(any(), any());
+        then(tracker).should(times(3)).channelKeptIdle(any());
+        then(tracker).should(times(0)).channelAcquired(any());
+    }
+
+    @Test
+    void shouldNotCreateIdleChannelsBeyondMaxConnections() {
+        var pool = newPool(2);
+
+        await(pool.createIdleChannels(3));
+
+        then(connector).should(times(2)).connect(any(), any());
+    }
+
+    @Test
+    void shouldLogOnIdleChannelsSoThatTheirAcquisitionWritesNoLogon() {
+        var channel = newChannel(false);
+        given(connector.connect(any(), any())).willReturn(channel.newSucceededFuture());
+        given(healthChecker.isHealthy(channel)).willReturn(channel.eventLoop().newSucceededFuture(true));
+        var pool = newPool(10);
+
+        var created = pool.createIdleChannels(1).toCompletableFuture();
+        assertInstanceOf(LogonMessage.class, channel.readOutbound());
+        assertFalse(created.isDone());
+        messageDispatcher(channel).handleSuccessMessage(Map.of());
+        await(created);
+
+        var acquired = await(pool.acquire(null, AcquisitionOptions.DEFAULT));
+
+        assertSame(channel, acquired);
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void shouldCloseIdleChannelsThatFailToLogOn() {
+        var channel = newChannel(false);
+        given(connector.connect(any(), any())).willReturn(channel.newSucceededFuture());
+        var pool = newPool(10);
+
+        var created = pool.createIdleChannels(1);
+        messageDispatcher(channel).handleFailureMessage("Neo.ClientError.Security.Unauthorized", "unauthorized");
+
+        assertThrows(AuthenticationException.class, () -> await(created));
+        assertFalse(channel.isOpen());
+    }
+
+    @Test
+    void shouldLogOnReplacementsOfRotatedChannels() {
+        var rotated = newChannel(true);
+        var replacement = newChannel(false);
+        given(connector.connect(any(), any()))
+                .willReturn(rotated.newSucceededFuture())
+                .willReturn(replacement.newSucceededFuture());
+        given(healthChecker.isDueForRotation(rotated)).willReturn(true);
+        given(healthChecker.isHealthy(replacement))
+                .willReturn(replacement.eventLoop().newSucceededFuture(true));
+        var pool = newPool(10);
+        await(pool.createIdleChannels(1));
+
+        pool.sweepIdleChannels(1, 1);
+        assertInstanceOf(LogonMessage.class, replacement.readOutbound());
+        assertTrue(rotated.isOpen());
+        messageDispatcher(replacement).handleSuccessMessage(Map.of());
+
+        assertFalse(rotated.isOpen());
+        assertSame(replacement, await(pool.acquire(null, AcquisitionOptions.DEFAULT)));
+        assertNull(replacement.readOutbound());
+    }
+
+    @Test
+    void shouldPingIdleChannelsOnTheirEventLoopWhenSweptFromAnotherThread() throws Exception {
+        var channelEventLoop = new DefaultEventLoop();
+        var localAddress = new LocalAddress("neo4j");
+        var server = new ServerBootstrap()
+                .group(channelEventLoop)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter())
+                .bind(localAddress)
+                .sync()
+                .channel();
+        try {
+            var channelFuture = new Bootstrap()
+                    .group(channelEventLoop)
+                    .channel(LocalChannel.class)
+                    .handler(new ChannelInboundHandlerAdapter())
+                    .connect(localAddress);
+            var channel = channelFuture.sync().channel();
+            setAuthContext(channel, newAuthContext(true));
+            given(connector.connect(any(), any())).willReturn(channelFuture);
+            given(healthChecker.hasBeenIdleForTooLong(channel)).willReturn(true);
+            var pingedOnEventLoop = new CompletableFuture<Boolean>();
+            given(healthChecker.ping(channel)).willAnswer(invocation -> {
+                pingedOnEventLoop.complete(channelEventLoop.inEventLoop());
+                return channelEventLoop.newSucceededFuture(true);
+            });
+            var pool = newPool(10);
+            await(pool.createIdleChannels(1));
+
+            pool.sweepIdleChannels(1, 1);
+
+            assertTrue(pingedOnEventLoop.get(5, TimeUnit.SECONDS));
+            // the channel is offered back on its event loop once the ping completes, so the next sweep pings it again
+            channelEventLoop.submit(() -> {}).get(5, TimeUnit.SECONDS);
+            pool.sweepIdleChannels(1, 1);
+            then(healthChecker).should(timeout(5_000).times(2)).ping(channel);
+        } finally {
+            server.close().sync();
+            channelEventLoop.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private EmbeddedChannel newChannel(boolean loggedOn) {
+        var channel = new EmbeddedChannel();
+        setAuthContext(channel, newAuthContext(loggedOn));
+        setMessageDispatcher(channel, new InboundMessageDispatcher(channel, DEV_NULL_LOGGING));
+        setHelloStage(channel, completedWithNull());
+        return channel;
+    }
+
+    private AuthContext newAuthContext(boolean loggedOn) {
+        var authContext = new AuthContext(authTokenManager);
+        if (loggedOn) {
+            // like a channel of a protocol version that authenticates with HELLO
+            authContext.initiateAuth(AUTH_TOKEN);
+            authContext.finishAuth(0);
+        }
+        return authContext;
+    }
+
+    private NettyChannelPool newPool(int maxConnections) {
+        return new NettyChannelPool(
+                BoltServerAddress.LOCAL_DEFAULT,
+                connector,
+                new Bootstrap().group(eventLoopGroup),
+                tracker,
+                healthChecker,
+                1000,
+                maxConnections,
+                new FakeClock());
+    }
+}
@@ -21,24 +21,58 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setPoolId;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setProtocolVersion;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import io.netty.util.ReferenceCountUtil;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
 import org.bouncycastle.util.Arrays;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.request.GoodbyeMessage;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
 import org.neo4j.driver.internal.metrics.DevNullMetricsListener;
+import org.neo4j.driver.internal.metrics.MetricsListener;
 
 class NettyChannelTrackerTest {
     private final BoltServerAddress address = BoltServerAddress.LOCAL_DEFAULT;
@@ -86,6 +120,17 @@ class NettyChannelTrackerTest {
         assertEquals(1, tracker.idleChannelCount(address));
     }
 
+    @Test
+    void shouldDecrementIdleCountWhenChannelKeptIdleIsClosed() {
+        var channel = newChannel();
+        tracker.channelCreated(channel, null);
+        tracker.channelKeptIdle(channel);
+        assertEquals(1, tracker.idleChannelCount(address));
+
+        channel.close().syncUninterruptibly();
+        assertEquals(0, tracker.idleChannelCount(address));
+    }
+
     @Test
     void shouldIncrementIdleCountForAddress() {
         var channel1 = newChannel();
@@ -190,6 +235,88 @@ class NettyChannelTrackerTest {
         verify(group).add(anotherChannel);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldReportTlsHandshakeWhenChannelCreated(boolean resumed) {
+        var metricsListener = mock(MetricsListener.class);
+        var tracker = new NettyChannelTracker(metricsListener, mock(ChannelGroup.class), DEV_NULL_LOGGING);
+        var channel = newChannel();
+        setPoolId(channel, "pool");
+        var session = mock(SSLSession.class);
+        when(session.getValue(any())).thenReturn(resumed ? Boolean.TRUE : null);
+        var engine = mock(SSLEngine.class);
+        when(engine.getSession()).thenReturn(session);
+        channel.pipeline().addLast(new SslHandler(engine));
+
+        tracker.channelCreated(channel, null);
+
+        verify(metricsListener).afterTlsHandshake("pool", resumed);
+        verify(session).putValue(any(), eq(Boolean.TRUE));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"JDK, TLSv1.2", "JDK, TLSv1.3", "OPENSSL, TLSv1.2", "OPENSSL, TLSv1.3"})
+    void shouldDetectResumedTlsSessions(SslProvider provider, String protocol) throws Exception {
+        assumeTrue(SslProvider.isTlsv13Supported(provider) || !protocol.equals("TLSv1.3"));
+        assumeTrue(provider == SslProvider.JDK || OpenSsl.isAvailable());
+        var metricsListener = mock(MetricsListener.class);
+        var tracker = new NettyChannelTracker(metricsListener, mock(ChannelGroup.class), DEV_NULL_LOGGING);
+        var certificate = new SelfSignedCertificate();
+        var group = new DefaultEventLoopGroup(1);
+        try {
+            var serverContext = SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                    .sslProvider(provider)
+                    .protocols(protocol)
+                    .build();
+            var clientContext = SslContextBuilder.forClient()
+                    .trustManager(InsecureTrustManagerFactory.INSTANCE)
+                    .sslProvider(provider)
+                    .protocols(protocol)
+                    .build();
+            var serverAddress = new LocalAddress("tls-" + provider + "-" + protocol);
+            var serverChannel = new ServerBootstrap()
+                    .group(group)
+                    .channel(LocalServerChannel.class)
+                    .childHandler(new ChannelInitializer<LocalChannel>() {
+                        @Override
+                        protected void initChannel(LocalChannel channel) {
+                            channel.pipeline().addLast(serverContext.newHandler(channel.alloc()));
+                            channel.pipeline().addLast(new GreetingHandler());
+                        }
+                    })
+                    .bind(serverAddress)
+                    .sync()
+                    .channel();
+            try {
+                for (var resumed : new boolean[] {false, true}) {
+                    var channel = connectTls(group, clientContext, serverAddress);
+                    setServerAddress(channel, address);
+                    setPoolId(channel, "pool");
+
+                    tracker.channelCreated(channel, null);
+
+                    verify(metricsListener).afterTlsHandshake("pool", resumed);
+                    channel.close().sync();
+                }
+            } finally {
+                serverChannel.close().sync();
+            }
+        } finally {
+            group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+            certificate.delete();
+        }
+    }
+
+    @Test
+    void shouldNotReportTlsHandshakeWhenUnencryptedChannelCreated() {
+        var metricsListener = mock(MetricsListener.class);
+        var tracker = new NettyChannelTracker(metricsListener, mock(ChannelGroup.class), DEV_NULL_LOGGING);
+
+        tracker.channelCreated(newChannel(), null);
+
+        verify(metricsListener, never()).afterTlsHandshake(any(), anyBoolean());
+    }
+
     @Test
     void shouldDelegateToProtocolPrepareToClose() {
         var channel = newChannelWithProtocolV3();
@@ -214,6 +341,34 @@ class NettyChannelTrackerTest {
         return channel;
     }
 
+    private static Channel connectTls(EventLoopGroup group, SslContext sslContext, LocalAddress serverAddress)
+            throws Exception {
+        var greeted = new CompletableFuture<Void>();
+        var channel = new Bootstrap()
+                .group(group)
+                .channel(LocalChannel.class)
+                .handler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel channel) {
+                        // the same peer for every connection, so that the client may resume its sessions
+                        channel.pipeline().addLast(sslContext.newHandler(channel.alloc(), "localhost", 7687));
+                        channel.pipeline().addLast(new ChannelInboundHandlerAdapter() {
+                            @Override
+                            public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                ReferenceCountUtil.release(msg);
+                                greeted.complete(null);
+                            }
+                        });
+                    }
+                })
+                .connect(serverAddress)
+                .sync()
+                .channel();
+        // TLS 1.3 session tickets are sent after the handshake, so they have been received together with the greeting
+        greeted.get(10, TimeUnit.SECONDS);
+        return channel;
+    }
+
     private EmbeddedChannel newChannelWithProtocolV3() {
         var channel = new EmbeddedChannel();
         setServerAddress(channel, address);
@@ -222,6 +377,16 @@ class NettyChannelTrackerTest {
         return channel;
     }
 
+    private static class GreetingHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object event) {
+            if (event instanceof SslHandshakeCompletionEvent completionEvent && completionEvent.isSuccess()) {
+                ctx.writeAndFlush(Unpooled.wrappedBuffer(new byte[] {1}));
+            }
+            ctx.fireUserEventTriggered(event);
+        }
+    }
+
     private void channelCreatedAndAcquired(Channel channel) {
         tracker.channelCreated(channel, null);
         tracker.channelAcquired(channel);
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.util.FakeClock;
+
+class PeakEwmaLatencyTest {
+    private static final long DECAY_TIME_MILLIS = 1000;
+    private static final long USUAL_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW_LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final FakeClock clock = new FakeClock();
+    private final PeakEwmaLatency latency = new PeakEwmaLatency(DECAY_TIME_MILLIS, clock);
+
+    @Test
+    void shouldStartWithoutEstimate() {
+        assertEquals(0, latency.estimateNanos());
+    }
+
+    @Test
+    void shouldFollowSlowdownImmediately() {
+        latency.observe(USUAL_LATENCY);
+        clock.progress(DECAY_TIME_MILLIS * 10);
+        latency.observe(USUAL_LATENCY);
+
+        latency.observe(SLOW_LATENCY);
+
+        assertEquals(SLOW_LATENCY, latency.estimateNanos());
+    }
+
+    @Test
+    void shouldIgnoreFasterResponsesWithoutTimePassing() {
+        latency.observe(SLOW_LATENCY);
+
+        latency.observe(USUAL_LATENCY);
+
+        assertEquals(SLOW_LATENCY, latency.estimateNanos());
+    }
+
+    @Test
+    void shouldRecoverFromSlowdownGradually() {
+        latency.observe(SLOW_LATENCY);
+
+        clock.progress(DECAY_TIME_MILLIS);
+        latency.observe(USUAL_LATENCY);
+
+        var expected = SLOW_LATENCY * Math.exp(-1) + USUAL_LATENCY * (1 - Math.exp(-1));
+        assertEquals(expected, latency.estimateNanos(), 1);
+    }
+
+    @Test
+    void shouldDecayWithoutResponses() {
+        latency.observe(SLOW_LATENCY);
+
+        clock.progress(DECAY_TIME_MILLIS);
+        var decayed = latency.estimateNanos();
+        clock.progress(DECAY_TIME_MILLIS * 20);
+
+        assertEquals(SLOW_LATENCY * Math.exp(-1), decayed, 1);
+        assertTrue(latency.estimateNanos() < USUAL_LATENCY / 1000);
+    }
+}
@@ -61,6 +61,21 @@ class PoolSettingsTest {
         testMaxConnectionLifetimeWithIllegalValue(Integer.MIN_VALUE);
     }
 
+    @Test
+    void adaptiveConnectionPoolSizingWhenFloorIsBelowCeiling() {
+        assertTrue(adaptiveSettings(10, 1).adaptiveConnectionPoolSizingEnabled());
+        assertFalse(adaptiveSettings(10, 10).adaptiveConnectionPoolSizingEnabled());
+        assertFalse(adaptiveSettings(10, 20).adaptiveConnectionPoolSizingEnabled());
+    }
+
+    private static PoolSettings adaptiveSettings(int maxConnectionPoolSize, int minAdaptiveConnectionPoolSize) {
+        return new PoolSettings.PoolSettingsBuilder()
+                .withMaxConnectionPoolSize(maxConnectionPoolSize)
+                .withAdaptiveConnectionPoolSizing(true)
+                .withMinAdaptiveConnectionPoolSize(minAdaptiveConnectionPoolSize)
+                .build();
+    }
+
     private static void testIdleTimeBeforeConnectionTestWithIllegalValue(int value) {
         var settings = new PoolSettings(5, -1, 10, value);
         assertFalse(settings.idleTimeBeforeConnectionTestEnabled());
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.pool;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.neo4j.driver.testutil.TestUtil.await;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.ConnectionAcquisitionPriority;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
+
+class ShardedNettyChannelPoolTest {
+    private static final int MAX_CONNECTIONS = 2;
+
+    private EventLoop eventLoop1;
+    private EventLoop eventLoop2;
+    private NettyChannelPool shard1;
+    private NettyChannelPool shard2;
+    private ShardedNettyChannelPool pool;
+
+    @BeforeEach
+    void setUp() {
+        eventLoop1 = new DefaultEventLoop();
+        eventLoop2 = new DefaultEventLoop();
+        shard1 = mock(NettyChannelPool.class);
+        shard2 = mock(NettyChannelPool.class);
+        pool = new ShardedNettyChannelPool(
+                "pool",
+                List.of(
+                        new ShardedNettyChannelPool.Shard(eventLoop1, shard1),
+                        new ShardedNettyChannelPool.Shard(eventLoop2, shard2)),
+                new AcquisitionScheduler(() -> MAX_CONNECTIONS, -1, eventLoop1, Clock.systemUTC()),
+                mock(NettyChannelHealthChecker.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop1.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        eventLoop2.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldAcquireFromShardOfCallingEventLoop() throws Exception {
+        var channel1 = mock(Channel.class);
+        var channel2 = mock(Channel.class);
+        given(shard1.tryAcquire(null)).willReturn(completedFuture(channel1));
+        given(shard2.tryAcquire(null)).willReturn(completedFuture(channel2));
+
+        assertSame(channel1, await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT)));
+        assertSame(channel2, await(acquireOn(eventLoop2, AcquisitionOptions.DEFAULT)));
+    }
+
+    @Test
+    void shouldStealFromAnotherShardWhenShardOfCallingEventLoopIsExhausted() throws Exception {
+        var channel = mock(Channel.class);
+        given(shard1.tryAcquire(null)).willReturn(completedFuture(channel));
+
+        assertSame(channel, await(acquireOn(eventLoop2, AcquisitionOptions.DEFAULT)));
+        then(shard2).should().tryAcquire(null);
+        then(shard2).should(never()).acquire(null, AcquisitionOptions.DEFAULT);
+    }
+
+    @Test
+    void shouldUseShardsInTurnOutsideEventLoops() {
+        var channel1 = mock(Channel.class);
+        var channel2 = mock(Channel.class);
+        given(channel1.eventLoop()).willReturn(eventLoop1);
+        given(shard1.tryAcquire(null)).willReturn(completedFuture(channel1));
+        given(shard1.release(channel1)).willReturn(completedFuture(null));
+        given(shard2.tryAcquire(null)).willReturn(completedFuture(channel2));
+
+        var first = await(pool.acquire(null, AcquisitionOptions.DEFAULT));
+        await(pool.release(channel1));
+        var second = await(pool.acquire(null, AcquisitionOptions.DEFAULT));
+
+        assertTrue(first != second);
+    }
+
+    @Test
+    void shouldAdmitWaitingAcquisitionOnReleaseToAnotherShardWhenAllShardsAreExhausted() throws Exception {
+        var channel1 = mock(Channel.class);
+        var channel2 = mock(Channel.class);
+        var channel3 = mock(Channel.class);
+        given(channel2.eventLoop()).willReturn(eventLoop2);
+        given(shard1.tryAcquire(null)).willReturn(completedFuture(channel1)).willReturn(null);
+        given(shard2.tryAcquire(null)).willReturn(completedFuture(channel2)).willReturn(completedFuture(channel3));
+        given(shard2.release(channel2)).willReturn(completedFuture(null));
+        await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT));
+        await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT));
+        assertTrue(pool.isExhausted());
+
+        var waiting = acquireOn(eventLoop1, AcquisitionOptions.DEFAULT).toCompletableFuture();
+        assertFalse(waiting.isDone());
+        await(pool.release(channel2));
+
+        assertSame(channel3, await(waiting));
+        then(shard1).should(never()).acquire(null, AcquisitionOptions.DEFAULT);
+    }
+
+    @Test
+    void shouldAdmitWaitingAcquisitionsByPriorityAcrossShards() throws Exception {
+        var channel1 = mock(Channel.class);
+        var channel2 = mock(Channel.class);
+        var channel3 = mock(Channel.class);
+        given(channel2.eventLoop()).willReturn(eventLoop2);
+        given(shard1.tryAcquire(null)).willReturn(completedFuture(channel1)).willReturn(null);
+        given(shard2.tryAcquire(null)).willReturn(completedFuture(channel2)).willReturn(completedFuture(channel3));
+        given(shard2.release(channel2)).willReturn(completedFuture(null));
+        await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT));
+        await(acquireOn(eventLoop2, AcquisitionOptions.DEFAULT));
+
+        var low = acquireOn(eventLoop1, new AcquisitionOptions(ConnectionAcquisitionPriority.LOW, -1))
+                .toCompletableFuture();
+        var high = acquireOn(eventLoop1, new AcquisitionOptions(ConnectionAcquisitionPriority.HIGH, -1))
+                .toCompletableFuture();
+        await(pool.release(channel2));
+
+        assertSame(channel3, await(high));
+        assertFalse(low.isDone());
+    }
+
+    @Test
+    void shouldReleaseAdmissionWhenShardFailsToAcquire() throws Exception {
+        var channel = mock(Channel.class);
+        given(shard1.tryAcquire(null))
+                .willReturn(failedFuture(new IllegalStateException()))
+                .willReturn(completedFuture(channel));
+
+        assertThrows(IllegalStateException.class, () -> await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT)));
+
+        assertSame(channel, await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT)));
+        assertFalse(pool.isExhausted());
+    }
+
+    @Test
+    void shouldReleaseToShardOfChannelEventLoop() {
+        var channel = mock(Channel.class);
+        given(channel.eventLoop()).willReturn(eventLoop2);
+        given(shard2.release(channel)).willReturn(completedFuture(null));
+
+        await(pool.release(channel));
+
+        then(shard2).should().release(channel);
+        then(shard1).should(never()).release(channel);
+    }
+
+    @Test
+    void shouldFailToReleaseChannelOfUnknownEventLoop() {
+        var channel = mock(Channel.class);
+        given(channel.eventLoop()).willReturn(mock(EventLoop.class));
+
+        assertThrows(IllegalArgumentException.class, () -> await(pool.release(channel)));
+    }
+
+    @Test
+    void shouldFailWaitingAcquisitionsWhenClosed() throws Exception {
+        given(shard1.tryAcquire(null)).willReturn(completedFuture(mock(Channel.class)));
+        given(shard1.close()).willReturn(completedFuture(null));
+        given(shard2.close()).willReturn(completedFuture(null));
+        await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT));
+        await(acquireOn(eventLoop1, AcquisitionOptions.DEFAULT));
+        var waiting = acquireOn(eventLoop1, AcquisitionOptions.DEFAULT);
+
+        await(pool.close());
+
+        assertThrows(IllegalStateException.class, () -> await(waiting));
+    }
+
+    @Test
+    void shouldCloseAllShards() {
+        given(shard1.close()).willReturn(completedFuture(null));
+        given(shard2.close()).willReturn(completedFuture(null));
+
+        await(pool.close());
+
+        assertTrue(pool.isClosed());
+        then(shard1).should().close();
+        then(shard2).should().close();
+    }
+
+    @Test
+    void shouldSplitIdleTargetsOverShardsWhenSweeping() {
+        pool.sweepIdleChannels(3, 5);
+
+        then(shard1).should().sweepIdleChannels(2, 3);
+        then(shard2).should().sweepIdleChannels(1, 2);
+    }
+
+    @Test
+    void shouldSplitIdleTargetOverShardsWhenCreatingIdleChannels() {
+        given(shard1.createIdleChannels(2)).willReturn(completedFuture(null));
+        given(shard2.createIdleChannels(1)).willReturn(completedFuture(null));
+
+        await(pool.createIdleChannels(3));
+
+        then(shard1).should().createIdleChannels(2);
+        then(shard2).should().createIdleChannels(1);
+    }
+
+    private CompletionStage<Channel> acquireOn(EventLoop eventLoop, AcquisitionOptions options)
+            throws ExecutionException, InterruptedException {
+        return eventLoop.submit(() -> pool.acquire(null, options)).get();
+    }
+}
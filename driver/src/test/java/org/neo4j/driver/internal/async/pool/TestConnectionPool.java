@@ -29,17 +29,25 @@ import io.netty.channel.embedded.EmbeddedChannel;
 import java.time.Clock;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 
 public class TestConnectionPool extends ConnectionPoolImpl {
     final Map<BoltServerAddress, ExtendedChannelPool> channelPoolsByAddress = new HashMap<>();
+    final BlockingQueue<BoltServerAddress> sweptAddresses = new LinkedBlockingQueue<>();
+    final Map<BoltServerAddress, Integer> idleTargetsByAddress = new ConcurrentHashMap<>();
+    final Set<BoltServerAddress> exhaustedAddresses = ConcurrentHashMap.newKeySet();
     private final NettyChannelTracker nettyChannelTracker;
 
     public TestConnectionPool(
@@ -73,7 +81,8 @@ public class TestConnectionPool extends ConnectionPoolImpl {
             private final AtomicBoolean isClosed = new AtomicBoolean(false);
 
             @Override
-            public CompletionStage<Channel> acquire(AuthToken overrideAuthToken) {
+            public CompletionStage<Channel> acquire(
+                    AuthToken overrideAuthToken, AcquisitionOptions acquisitionOptions) {
                 var channel = new EmbeddedChannel();
                 setServerAddress(channel, address);
                 setPoolId(channel, id());
@@ -97,6 +106,11 @@ public class TestConnectionPool extends ConnectionPoolImpl {
                 return isClosed.get();
             }
 
+            @Override
+            public boolean isExhausted() {
+                return exhaustedAddresses.contains(address);
+            }
+
             @Override
             public String id() {
                 return "Pool-" + this.hashCode();
@@ -112,6 +126,17 @@ public class TestConnectionPool extends ConnectionPoolImpl {
             public NettyChannelHealthChecker healthChecker() {
                 return mock(NettyChannelHealthChecker.class);
             }
+
+            @Override
+            public void sweepIdleChannels(int minIdleChannels, int maxIdleChannels) {
+                sweptAddresses.add(address);
+            }
+
+            @Override
+            public CompletionStage<Void> createIdleChannels(int minIdleChannels) {
+                idleTargetsByAddress.put(address, minIdleChannels);
+                return completedWithNull();
+            }
         };
         channelPoolsByAddress.put(address, channelPool);
         return channelPool;
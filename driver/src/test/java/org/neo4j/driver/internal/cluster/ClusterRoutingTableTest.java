@@ -37,7 +37,11 @@ import static org.neo4j.driver.internal.util.ClusterCompositionUtil.createCluste
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -257,6 +261,52 @@ class ClusterRoutingTableTest {
         assertFalse(routingTable.preferInitialRouter());
     }
 
+    @Test
+    void shouldNotChangePreviouslyReturnedAddressesOnForget() {
+        var routingTable = newRoutingTable();
+        routingTable.update(createClusterComposition(asList(A, B), asList(A, C), asList(B, C)));
+        var routers = routingTable.routers();
+        var writers = routingTable.writers();
+        var readers = routingTable.readers();
+
+        routingTable.forget(A);
+        routingTable.forget(C);
+
+        assertEquals(asList(A, B), routers);
+        assertEquals(asList(A, C), writers);
+        assertEquals(asList(B, C), readers);
+        assertEquals(List.of(B), routingTable.routers());
+        assertTrue(routingTable.writers().isEmpty());
+        assertEquals(List.of(B), routingTable.readers());
+        assertEquals(Set.of(A, B, C), routingTable.servers());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentForgets() throws Exception {
+        var addresses = IntStream.range(0, 100)
+                .mapToObj(i -> new BoltServerAddress("server-" + i, 7687))
+                .toList();
+        var routingTable = newRoutingTable();
+        routingTable.update(createClusterComposition(addresses, addresses, addresses));
+        var executor = Executors.newFixedThreadPool(4);
+
+        try {
+            var futures = addresses.stream()
+                    .map(address -> executor.submit(() -> routingTable.forget(address)))
+                    .toList();
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(routingTable.routers().isEmpty());
+        assertTrue(routingTable.writers().isEmpty());
+        assertTrue(routingTable.readers().isEmpty());
+        assertEquals(new HashSet<>(addresses), routingTable.servers());
+    }
+
     private ClusterRoutingTable newRoutingTable() {
         return new ClusterRoutingTable(defaultDatabase(), new FakeClock());
     }
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.driver.internal.DatabaseNameUtil.database;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.internal.cluster.HomeDatabaseCache.Principal;
+import org.neo4j.driver.internal.util.FakeClock;
+
+class HomeDatabaseCacheTest {
+    private static final Principal DRIVER_USER = new Principal(null, null);
+    private static final Principal IMPERSONATED_USER = new Principal("carol", null);
+
+    private final FakeClock clock = new FakeClock();
+
+    @Test
+    void shouldNotCacheWhenDisabled() {
+        var cache = new HomeDatabaseCache(0, clock);
+
+        cache.put(IMPERSONATED_USER, database("home"));
+
+        assertEquals(Optional.empty(), cache.get(IMPERSONATED_USER));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldReturnCachedHomeDatabase() {
+        var cache = new HomeDatabaseCache(1000, clock);
+
+        cache.put(IMPERSONATED_USER, database("home"));
+
+        assertEquals(Optional.of(database("home")), cache.get(IMPERSONATED_USER));
+    }
+
+    @Test
+    void shouldNotReturnExpiredHomeDatabase() {
+        var cache = new HomeDatabaseCache(1000, clock);
+        cache.put(IMPERSONATED_USER, database("home"));
+
+        clock.progress(999);
+        assertEquals(Optional.of(database("home")), cache.get(IMPERSONATED_USER));
+
+        clock.progress(1);
+        assertEquals(Optional.empty(), cache.get(IMPERSONATED_USER));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldNotCacheHomeDatabaseOfDriverUser() {
+        var cache = new HomeDatabaseCache(1000, clock);
+
+        cache.put(DRIVER_USER, database("home"));
+
+        assertEquals(Optional.empty(), cache.get(DRIVER_USER));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldDistinguishPrincipals() {
+        var cache = new HomeDatabaseCache(1000, clock);
+        var impersonated = new Principal("alice", null);
+        var authenticated = new Principal(null, AuthTokens.basic("bob", "password"));
+
+        cache.put(IMPERSONATED_USER, database("home"));
+        cache.put(impersonated, database("alice"));
+        cache.put(authenticated, database("bob"));
+
+        assertEquals(Optional.of(database("home")), cache.get(IMPERSONATED_USER));
+        assertEquals(Optional.of(database("alice")), cache.get(new Principal("alice", null)));
+        assertEquals(Optional.of(database("bob")), cache.get(new Principal(null, AuthTokens.basic("bob", "password"))));
+        assertEquals(Optional.empty(), cache.get(new Principal(null, AuthTokens.basic("bob", "other"))));
+    }
+
+    @Test
+    void shouldInvalidateAllPrincipalsOfDatabase() {
+        var cache = new HomeDatabaseCache(1000, clock);
+        cache.put(IMPERSONATED_USER, database("home"));
+        cache.put(new Principal("alice", null), database("home"));
+        cache.put(new Principal("bob", null), database("bob"));
+
+        cache.invalidate(database("home"));
+
+        assertEquals(Optional.empty(), cache.get(IMPERSONATED_USER));
+        assertEquals(Optional.empty(), cache.get(new Principal("alice", null)));
+        assertEquals(Optional.of(database("bob")), cache.get(new Principal("bob", null)));
+    }
+
+    @Test
+    void shouldRemoveExpiredEntries() {
+        var cache = new HomeDatabaseCache(1000, clock);
+        cache.put(IMPERSONATED_USER, database("home"));
+        clock.progress(500);
+        cache.put(new Principal("alice", null), database("alice"));
+
+        clock.progress(500);
+        cache.removeExpired();
+
+        assertEquals(1, cache.size());
+        assertEquals(Optional.of(database("alice")), cache.get(new Principal("alice", null)));
+    }
+}
@@ -529,7 +529,7 @@ class RediscoveryTest {
         given(domainNameResolver.resolve(initialRouter.host())).willReturn(new InetAddress[] {address});
         var table = routingTableMock(true);
         var pool = mock(ConnectionPool.class);
-        given(pool.acquire(any(), any()))
+        given(pool.acquire(any(), any(), any()))
                 .willReturn(CompletableFuture.failedFuture(new ServiceUnavailableException("not available")));
         var logging = mock(Logging.class);
         var logger = mock(Logger.class);
@@ -589,7 +589,7 @@ class RediscoveryTest {
 
     private static ConnectionPool asyncConnectionPoolMock() {
         var pool = mock(ConnectionPool.class);
-        when(pool.acquire(any(), any())).then(invocation -> {
+        when(pool.acquire(any(), any(), any())).then(invocation -> {
             BoltServerAddress address = invocation.getArgument(0);
             return completedFuture(asyncConnectionMock(address));
         });
@@ -24,10 +24,12 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
@@ -36,6 +38,7 @@ import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
 import static org.neo4j.driver.internal.async.ImmutableConnectionContext.simple;
 import static org.neo4j.driver.internal.cluster.RediscoveryUtil.contextWithMode;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR;
 import static org.neo4j.driver.internal.cluster.RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
@@ -47,11 +50,15 @@ import static org.neo4j.driver.internal.util.ClusterCompositionUtil.F;
 import static org.neo4j.driver.testutil.TestUtil.asOrderedSet;
 import static org.neo4j.driver.testutil.TestUtil.await;
 
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.AccessMode;
@@ -59,6 +66,7 @@ import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
 import org.neo4j.driver.internal.async.ConnectionContext;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.FakeClock;
@@ -185,6 +193,44 @@ class RoutingTableHandlerTest {
         verify(connectionPool).retainAll(new HashSet<>(asList(A, B, C)));
     }
 
+    @Test
+    void shouldWarmUpFetchedAddressesInConnectionPoolAfterFetchingOfRoutingTable() {
+        RoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), new FakeClock());
+        var connectionPool = newConnectionPoolMock();
+        var rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any(), any()))
+                .thenReturn(completedFuture(new ClusterCompositionLookupResult(
+                        new ClusterComposition(42, asOrderedSet(A, B), asOrderedSet(B, C), asOrderedSet(D), null))));
+        var handler = newRoutingTableHandler(routingTable, rediscovery, connectionPool);
+
+        await(handler.ensureRoutingTable(simple(false)));
+
+        verify(connectionPool).warmUp(new HashSet<>(asList(A, B, C, D)));
+    }
+
+    @Test
+    void shouldNotifyKnownServersAfterFetchingOfRoutingTable() {
+        RoutingTable routingTable = new ClusterRoutingTable(defaultDatabase(), new FakeClock());
+        var rediscovery = newRediscoveryMock();
+        var registry = newRoutingTableRegistryMock();
+        when(registry.allServers()).thenReturn(Set.of(A, B, C));
+        List<Set<BoltServerAddress>> notifiedServers = new ArrayList<>();
+        var handler = new RoutingTableHandlerImpl(
+                routingTable,
+                rediscovery,
+                newConnectionPoolMock(),
+                registry,
+                DEV_NULL_LOGGING,
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR,
+                Clock.systemUTC(),
+                notifiedServers::add);
+
+        await(handler.ensureRoutingTable(simple(false)));
+
+        assertEquals(List.of(Set.of(A, B, C)), notifiedServers);
+    }
+
     @Test
     void shouldRemoveRoutingTableHandlerIfFailedToLookup() {
         // Given
@@ -205,9 +251,101 @@ class RoutingTableHandlerTest {
         verify(registry).remove(defaultDatabase());
     }
 
+    @Test
+    void shouldRefreshRoutingTableInBackgroundAfterRefreshAheadFactorOfTimeToLive() {
+        var clock = new FakeClock();
+        var routingTable = new ClusterRoutingTable(defaultDatabase(), clock);
+        var rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any(), any()))
+                .then(invocation -> completedFuture(newClusterCompositionLookupResult(clock.millis() + 1000)));
+        var handler =
+                newRefreshAheadRoutingTableHandler(routingTable, rediscovery, newRoutingTableRegistryMock(), clock);
+        await(handler.ensureRoutingTable(simple(false)));
+
+        clock.progress(799);
+        await(handler.ensureRoutingTable(simple(false)));
+        verify(rediscovery).lookupClusterComposition(any(), any(), any(), any(), any());
+
+        clock.progress(1);
+        await(handler.ensureRoutingTable(simple(false)));
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any(), any());
+        assertEquals(1800, routingTable.expirationTimestamp());
+    }
+
+    @Test
+    void shouldUseCurrentRoutingTableWhileRefreshingInBackground() {
+        var clock = new FakeClock();
+        var routingTable = new ClusterRoutingTable(defaultDatabase(), clock);
+        var rediscovery = newRediscoveryMock();
+        var backgroundLookup = new CompletableFuture<ClusterCompositionLookupResult>();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any(), any()))
+                .thenReturn(completedFuture(newClusterCompositionLookupResult(1000)))
+                .thenReturn(backgroundLookup);
+        var handler =
+                newRefreshAheadRoutingTableHandler(routingTable, rediscovery, newRoutingTableRegistryMock(), clock);
+        await(handler.ensureRoutingTable(simple(false)));
+        clock.progress(900);
+
+        var first = handler.ensureRoutingTable(simple(false)).toCompletableFuture();
+        var second = handler.ensureRoutingTable(simple(false)).toCompletableFuture();
+
+        assertTrue(first.isDone());
+        assertTrue(second.isDone());
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any(), any());
+        assertEquals(1000, routingTable.expirationTimestamp());
+
+        backgroundLookup.complete(newClusterCompositionLookupResult(1900));
+
+        assertEquals(1900, routingTable.expirationTimestamp());
+    }
+
+    @Test
+    void shouldKeepRoutingTableWhenRefreshingInBackgroundFails() {
+        var clock = new FakeClock();
+        var routingTable = new ClusterRoutingTable(defaultDatabase(), clock);
+        var rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any(), any()))
+                .thenReturn(completedFuture(newClusterCompositionLookupResult(1000)))
+                .thenReturn(Futures.failedFuture(new RuntimeException("Bang!")))
+                .thenReturn(completedFuture(newClusterCompositionLookupResult(2000)));
+        var registry = newRoutingTableRegistryMock();
+        var handler = newRefreshAheadRoutingTableHandler(routingTable, rediscovery, registry, clock);
+        await(handler.ensureRoutingTable(simple(false)));
+        clock.progress(900);
+
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+        assertEquals(routingTable, await(handler.ensureRoutingTable(simple(false))));
+
+        verify(registry, never()).remove(any());
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any(), any());
+
+        clock.progress(101);
+        await(handler.ensureRoutingTable(simple(false)));
+
+        verify(rediscovery, times(3)).lookupClusterComposition(any(), any(), any(), any(), any());
+        assertEquals(2000, routingTable.expirationTimestamp());
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTableInBackgroundByDefault() {
+        var clock = new FakeClock();
+        var routingTable = new ClusterRoutingTable(defaultDatabase(), clock);
+        var rediscovery = newRediscoveryMock();
+        when(rediscovery.lookupClusterComposition(any(), any(), any(), any(), any()))
+                .thenReturn(completedFuture(newClusterCompositionLookupResult(1000)));
+        var handler = newRoutingTableHandler(routingTable, rediscovery, newConnectionPoolMock());
+        await(handler.ensureRoutingTable(simple(false)));
+
+        clock.progress(1000);
+        await(handler.ensureRoutingTable(simple(false)));
+
+        verify(rediscovery).lookupClusterComposition(any(), any(), any(), any(), any());
+    }
+
     private void testRediscoveryWhenStale(AccessMode mode) {
         var connectionPool = mock(ConnectionPool.class);
-        when(connectionPool.acquire(LOCAL_DEFAULT, null)).thenReturn(completedFuture(mock(Connection.class)));
+        when(connectionPool.acquire(LOCAL_DEFAULT, null, AcquisitionOptions.DEFAULT))
+                .thenReturn(completedFuture(mock(Connection.class)));
 
         var routingTable = newStaleRoutingTableMock(mode);
         var rediscovery = newRediscoveryMock();
@@ -222,7 +360,8 @@ class RoutingTableHandlerTest {
 
     private void testNoRediscoveryWhenNotStale(AccessMode staleMode, AccessMode notStaleMode) {
         var connectionPool = mock(ConnectionPool.class);
-        when(connectionPool.acquire(LOCAL_DEFAULT, null)).thenReturn(completedFuture(mock(Connection.class)));
+        when(connectionPool.acquire(LOCAL_DEFAULT, null, AcquisitionOptions.DEFAULT))
+                .thenReturn(completedFuture(mock(Connection.class)));
 
         var routingTable = newStaleRoutingTableMock(staleMode);
         var rediscovery = newRediscoveryMock();
@@ -267,7 +406,7 @@ class RoutingTableHandlerTest {
 
     private static ConnectionPool newConnectionPoolMockWithFailures(Set<BoltServerAddress> unavailableAddresses) {
         var pool = mock(ConnectionPool.class);
-        when(pool.acquire(any(BoltServerAddress.class), any())).then(invocation -> {
+        when(pool.acquire(any(BoltServerAddress.class), any(), any())).then(invocation -> {
             BoltServerAddress requestedAddress = invocation.getArgument(0);
             if (unavailableAddresses.contains(requestedAddress)) {
                 return Futures.failedFuture(new ServiceUnavailableException(requestedAddress + " is unavailable!"));
@@ -279,6 +418,28 @@ class RoutingTableHandlerTest {
         return pool;
     }
 
+    private static ClusterCompositionLookupResult newClusterCompositionLookupResult(long expirationTimestamp) {
+        return new ClusterCompositionLookupResult(
+                new ClusterComposition(expirationTimestamp, asOrderedSet(A), asOrderedSet(B), asOrderedSet(C), null));
+    }
+
+    private static RoutingTableHandler newRefreshAheadRoutingTableHandler(
+            RoutingTable routingTable,
+            Rediscovery rediscovery,
+            RoutingTableRegistry routingTableRegistry,
+            Clock clock) {
+        return new RoutingTableHandlerImpl(
+                routingTable,
+                rediscovery,
+                newConnectionPoolMock(),
+                routingTableRegistry,
+                DEV_NULL_LOGGING,
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                0.8,
+                clock,
+                ignored -> {});
+    }
+
     private static RoutingTableHandler newRoutingTableHandler(
             RoutingTable routingTable, Rediscovery rediscovery, ConnectionPool connectionPool) {
         return new RoutingTableHandlerImpl(
@@ -287,7 +448,10 @@ class RoutingTableHandlerTest {
                 connectionPool,
                 newRoutingTableRegistryMock(),
                 DEV_NULL_LOGGING,
-                STALE_ROUTING_TABLE_PURGE_DELAY_MS);
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR,
+                Clock.systemUTC(),
+                ignored -> {});
     }
 
     private static RoutingTableHandler newRoutingTableHandler(
@@ -301,6 +465,9 @@ class RoutingTableHandlerTest {
                 connectionPool,
                 routingTableRegistry,
                 DEV_NULL_LOGGING,
-                STALE_ROUTING_TABLE_PURGE_DELAY_MS);
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR,
+                Clock.systemUTC(),
+                ignored -> {});
     }
 }
@@ -27,12 +27,16 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.DatabaseNameUtil.SYSTEM_DATABASE_NAME;
 import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.DatabaseNameUtil.defaultDatabase;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.DEFAULT_HOME_DATABASE_CACHE_TTL_MS;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR;
 import static org.neo4j.driver.internal.cluster.RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.util.ClusterCompositionUtil.A;
@@ -47,6 +51,8 @@ import java.time.Clock;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.junit.jupiter.api.Test;
@@ -56,9 +62,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.DatabaseName;
+import org.neo4j.driver.internal.async.ConnectionContext;
 import org.neo4j.driver.internal.async.ImmutableConnectionContext;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistryImpl.RoutingTableHandlerFactory;
 import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.FakeClock;
 
 class RoutingTableRegistryImplTest {
     @Test
@@ -69,7 +77,9 @@ class RoutingTableRegistryImplTest {
                 mock(RediscoveryImpl.class),
                 clock,
                 DEV_NULL_LOGGING,
-                STALE_ROUTING_TABLE_PURGE_DELAY_MS);
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR,
+                ignored -> {});
 
         var handler = factory.newInstance(database("Molly"), null);
         var table = handler.routingTable();
@@ -131,8 +141,7 @@ class RoutingTableRegistryImplTest {
         ConcurrentMap<DatabaseName, RoutingTableHandler> map = new ConcurrentHashMap<>();
         var handler = mockedRoutingTableHandler();
         var factory = mockedHandlerFactory(handler);
-        var routingTables =
-                new RoutingTableRegistryImpl(map, factory, null, null, mock(Rediscovery.class), DEV_NULL_LOGGING);
+        var routingTables = newRoutingTables(map, factory);
 
         var context = new ImmutableConnectionContext(defaultDatabase(), Collections.emptySet(), mode);
         // When
@@ -150,8 +159,7 @@ class RoutingTableRegistryImplTest {
         map.put(database("Banana"), mockedRoutingTableHandler(B, C, D));
         map.put(database("Orange"), mockedRoutingTableHandler(E, F, C));
         var factory = mockedHandlerFactory();
-        var routingTables =
-                new RoutingTableRegistryImpl(map, factory, null, null, mock(Rediscovery.class), DEV_NULL_LOGGING);
+        var routingTables = newRoutingTables(map, factory);
 
         // When
         var servers = routingTables.allServers();
@@ -194,6 +202,58 @@ class RoutingTableRegistryImplTest {
         assertThat(routingTables.allServers(), empty());
     }
 
+    @Test
+    void shouldResolveHomeDatabaseFromCache() {
+        var clock = new FakeClock();
+        var rediscovery = homeDatabaseRediscovery("home");
+        var routingTables = newRoutingTablesWithHomeDatabaseCache(rediscovery, clock);
+
+        await(routingTables.ensureRoutingTable(homeDatabaseContext("alice")));
+        var context = homeDatabaseContext("alice");
+        await(routingTables.ensureRoutingTable(context));
+
+        assertEquals(database("home"), context.databaseNameFuture().join());
+        verify(rediscovery).lookupClusterComposition(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldLookUpHomeDatabaseWhenCachedOneExpired() {
+        var clock = new FakeClock();
+        var rediscovery = homeDatabaseRediscovery("home");
+        var routingTables = newRoutingTablesWithHomeDatabaseCache(rediscovery, clock);
+
+        await(routingTables.ensureRoutingTable(homeDatabaseContext("alice")));
+        clock.progress(1000);
+        await(routingTables.ensureRoutingTable(homeDatabaseContext("alice")));
+
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldLookUpHomeDatabaseWhenItsRoutingTableIsRemoved() {
+        var clock = new FakeClock();
+        var rediscovery = homeDatabaseRediscovery("home");
+        var routingTables = newRoutingTablesWithHomeDatabaseCache(rediscovery, clock);
+
+        await(routingTables.ensureRoutingTable(homeDatabaseContext("alice")));
+        routingTables.remove(database("home"));
+        await(routingTables.ensureRoutingTable(homeDatabaseContext("alice")));
+
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldLookUpHomeDatabaseOfDriverUserForEverySession() {
+        var clock = new FakeClock();
+        var rediscovery = homeDatabaseRediscovery("home");
+        var routingTables = newRoutingTablesWithHomeDatabaseCache(rediscovery, clock);
+
+        await(routingTables.ensureRoutingTable(homeDatabaseContext(null)));
+        await(routingTables.ensureRoutingTable(homeDatabaseContext(null)));
+
+        verify(rediscovery, times(2)).lookupClusterComposition(any(), any(), any(), any(), any());
+    }
+
     @Test
     void shouldNotAcceptNullRediscovery() {
         // GIVEN
@@ -205,7 +265,13 @@ class RoutingTableRegistryImplTest {
         assertThrows(
                 NullPointerException.class,
                 () -> new RoutingTableRegistryImpl(
-                        new ConcurrentHashMap<>(), factory, clock, connectionPool, null, DEV_NULL_LOGGING));
+                        new ConcurrentHashMap<>(),
+                        factory,
+                        clock,
+                        connectionPool,
+                        null,
+                        DEV_NULL_LOGGING,
+                        new HomeDatabaseCache(DEFAULT_HOME_DATABASE_CACHE_TTL_MS, clock)));
     }
 
     private RoutingTableHandler mockedRoutingTableHandler(BoltServerAddress... servers) {
@@ -215,9 +281,46 @@ class RoutingTableRegistryImplTest {
         return handler;
     }
 
+    private static Rediscovery homeDatabaseRediscovery(String homeDatabase) {
+        var rediscovery = mock(Rediscovery.class);
+        var composition = new ClusterComposition(Long.MAX_VALUE, Set.of(A), Set.of(A), Set.of(A), homeDatabase);
+        given(rediscovery.lookupClusterComposition(any(), any(), any(), any(), any()))
+                .willReturn(completedFuture(new ClusterCompositionLookupResult(composition)));
+        return rediscovery;
+    }
+
+    private RoutingTableRegistryImpl newRoutingTablesWithHomeDatabaseCache(Rediscovery rediscovery, FakeClock clock) {
+        var handler = mockedRoutingTableHandler(A);
+        given(handler.updateRoutingTable(any())).willReturn(completedFuture(null));
+        given(handler.ensureRoutingTable(any())).willReturn(completedFuture(null));
+        return new RoutingTableRegistryImpl(
+                new ConcurrentHashMap<>(),
+                mockedHandlerFactory(handler),
+                clock,
+                null,
+                rediscovery,
+                DEV_NULL_LOGGING,
+                new HomeDatabaseCache(1000, clock));
+    }
+
+    private static ConnectionContext homeDatabaseContext(String impersonatedUser) {
+        var context = mock(ConnectionContext.class);
+        given(context.impersonatedUser()).willReturn(impersonatedUser);
+        given(context.databaseNameFuture()).willReturn(new CompletableFuture<>());
+        given(context.mode()).willReturn(AccessMode.READ);
+        return context;
+    }
+
     private RoutingTableRegistryImpl newRoutingTables(
             ConcurrentMap<DatabaseName, RoutingTableHandler> handlers, RoutingTableHandlerFactory factory) {
-        return new RoutingTableRegistryImpl(handlers, factory, null, null, mock(Rediscovery.class), DEV_NULL_LOGGING);
+        return new RoutingTableRegistryImpl(
+                handlers,
+                factory,
+                null,
+                null,
+                mock(Rediscovery.class),
+                DEV_NULL_LOGGING,
+                new HomeDatabaseCache(DEFAULT_HOME_DATABASE_CACHE_TTL_MS, null));
     }
 
     private RoutingTableHandlerFactory mockedHandlerFactory(RoutingTableHandler handler) {
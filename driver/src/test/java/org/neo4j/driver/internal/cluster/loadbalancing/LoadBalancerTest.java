@@ -83,6 +83,7 @@ import org.neo4j.driver.internal.cluster.RoutingTableHandler;
 import org.neo4j.driver.internal.cluster.RoutingTableRegistry;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.v42.BoltProtocolV42;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.FakeClock;
@@ -121,7 +122,7 @@ class LoadBalancerTest {
 
         assertThat(acquired, instanceOf(RoutingConnection.class));
         assertThat(acquired.databaseName().description(), equalTo(databaseName));
-        verify(connectionPool).acquire(A, null);
+        verify(connectionPool).acquire(A, null, AcquisitionOptions.DEFAULT);
     }
 
     @Test
@@ -231,7 +232,7 @@ class LoadBalancerTest {
         assertThat(suppressed.length, equalTo(2)); // one for A, one for B
         assertThat(suppressed[0].getMessage(), containsString(A.toString()));
         assertThat(suppressed[1].getMessage(), containsString(B.toString()));
-        verify(connectionPool, times(2)).acquire(any(), any());
+        verify(connectionPool, times(2)).acquire(any(), any(), any());
     }
 
     @Test
@@ -247,7 +248,7 @@ class LoadBalancerTest {
 
         var exception = assertThrows(SecurityException.class, () -> await(loadBalancer.supportsMultiDb()));
         assertThat(exception.getMessage(), startsWith("hi there"));
-        verify(connectionPool, times(1)).acquire(any(), any());
+        verify(connectionPool, times(1)).acquire(any(), any(), any());
     }
 
     @Test
@@ -261,7 +262,7 @@ class LoadBalancerTest {
         var loadBalancer = newLoadBalancer(connectionPool, rediscovery);
 
         assertTrue(await(loadBalancer.supportsMultiDb()));
-        verify(connectionPool, times(3)).acquire(any(), any());
+        verify(connectionPool, times(3)).acquire(any(), any(), any());
     }
 
     @Test
@@ -425,7 +426,7 @@ class LoadBalancerTest {
     private static ConnectionPool newConnectionPoolMockWithFailures(
             Set<BoltServerAddress> unavailableAddresses, Function<BoltServerAddress, Throwable> errorAction) {
         var pool = mock(ConnectionPool.class);
-        when(pool.acquire(any(BoltServerAddress.class), any())).then(invocation -> {
+        when(pool.acquire(any(BoltServerAddress.class), any(), any())).then(invocation -> {
             BoltServerAddress requestedAddress = invocation.getArgument(0);
             if (unavailableAddresses.contains(requestedAddress)) {
                 return Futures.failedFuture(errorAction.apply(requestedAddress));
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+
+class PeakEwmaLoadBalancingStrategyTest {
+    @Mock
+    private ConnectionPool connectionPool;
+
+    private PeakEwmaLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    @SuppressWarnings("resource")
+    void setUp() {
+        openMocks(this);
+        strategy = new PeakEwmaLoadBalancingStrategy(connectionPool, DEV_NULL_LOGGING);
+    }
+
+    @Test
+    void shouldHandleEmptyReaders() {
+        assertNull(strategy.selectReader(Collections.emptyList()));
+    }
+
+    @Test
+    void shouldHandleEmptyWriters() {
+        assertNull(strategy.selectWriter(Collections.emptyList()));
+    }
+
+    @Test
+    void shouldHandleSingleReader() {
+        var address = new BoltServerAddress("reader", 9999);
+        when(connectionPool.responseLatencyNanos(address)).thenReturn(1_000_000L);
+        when(connectionPool.inUseConnections(address)).thenReturn(42);
+
+        assertEquals(address, strategy.selectReader(Collections.singletonList(address)));
+    }
+
+    @Test
+    void shouldHandleSingleWriter() {
+        var address = new BoltServerAddress("writer", 9999);
+
+        assertEquals(address, strategy.selectWriter(Collections.singletonList(address)));
+    }
+
+    @RepeatedTest(10)
+    void shouldSelectFasterReaderOfTwo() {
+        var slow = new BoltServerAddress("slow", 9999);
+        var fast = new BoltServerAddress("fast", 9999);
+        when(connectionPool.responseLatencyNanos(slow)).thenReturn(100_000_000L);
+        when(connectionPool.responseLatencyNanos(fast)).thenReturn(10_000_000L);
+
+        assertEquals(fast, strategy.selectReader(List.of(slow, fast)));
+    }
+
+    @RepeatedTest(10)
+    void shouldSelectLessLoadedWriterOfTwoWithEqualResponseTimes() {
+        var busy = new BoltServerAddress("busy", 9999);
+        var idle = new BoltServerAddress("idle", 9999);
+        when(connectionPool.responseLatencyNanos(busy)).thenReturn(10_000_000L);
+        when(connectionPool.responseLatencyNanos(idle)).thenReturn(10_000_000L);
+        when(connectionPool.inUseConnections(busy)).thenReturn(10);
+        when(connectionPool.inUseConnections(idle)).thenReturn(1);
+
+        assertEquals(idle, strategy.selectWriter(List.of(busy, idle)));
+    }
+
+    @Test
+    void shouldWeighResponseTimeByActiveConnections() {
+        var slowIdle = new BoltServerAddress("slow-idle", 9999);
+        var fastBusy = new BoltServerAddress("fast-busy", 9999);
+        when(connectionPool.responseLatencyNanos(slowIdle)).thenReturn(30_000_000L);
+        when(connectionPool.responseLatencyNanos(fastBusy)).thenReturn(10_000_000L);
+        when(connectionPool.inUseConnections(fastBusy)).thenReturn(9);
+
+        assertEquals(slowIdle, strategy.selectReader(List.of(slowIdle, fastBusy)));
+    }
+
+    @Test
+    void shouldSpreadSelectionsOverEqualAddresses() {
+        var addresses = List.of(
+                new BoltServerAddress("a", 9999),
+                new BoltServerAddress("b", 9999),
+                new BoltServerAddress("c", 9999),
+                new BoltServerAddress("d", 9999));
+
+        var selected = new HashSet<BoltServerAddress>();
+        for (var i = 0; i < 1000; i++) {
+            selected.add(strategy.selectReader(addresses));
+        }
+
+        assertEquals(new HashSet<>(addresses), selected);
+    }
+}
@@ -29,6 +29,8 @@ import static org.neo4j.driver.Logging.none;
 import static org.neo4j.driver.internal.DatabaseNameUtil.SYSTEM_DATABASE_NAME;
 import static org.neo4j.driver.internal.DatabaseNameUtil.database;
 import static org.neo4j.driver.internal.cluster.RediscoveryUtil.contextWithDatabase;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.DEFAULT_HOME_DATABASE_CACHE_TTL_MS;
+import static org.neo4j.driver.internal.cluster.RoutingSettings.DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR;
 import static org.neo4j.driver.internal.cluster.RoutingSettings.STALE_ROUTING_TABLE_PURGE_DELAY_MS;
 import static org.neo4j.driver.testutil.TestUtil.await;
 
@@ -317,7 +319,14 @@ class RoutingTableAndConnectionPoolTest {
 
     private RoutingTableRegistryImpl newRoutingTables(ConnectionPool connectionPool, Rediscovery rediscovery) {
         return new RoutingTableRegistryImpl(
-                connectionPool, rediscovery, clock, logging, STALE_ROUTING_TABLE_PURGE_DELAY_MS);
+                connectionPool,
+                rediscovery,
+                clock,
+                logging,
+                STALE_ROUTING_TABLE_PURGE_DELAY_MS,
+                DEFAULT_HOME_DATABASE_CACHE_TTL_MS,
+                DEFAULT_ROUTING_TABLE_REFRESH_AHEAD_FACTOR,
+                ignored -> {});
     }
 
     private LoadBalancer newLoadBalancer(ConnectionPool connectionPool, RoutingTableRegistry routingTables) {
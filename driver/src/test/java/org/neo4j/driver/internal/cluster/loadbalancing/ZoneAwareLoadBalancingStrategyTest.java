@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.metrics.MetricsListener;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.net.ServerZoneResolver;
+
+class ZoneAwareLoadBalancingStrategyTest {
+    private static final BoltServerAddress LOCAL_1 = new BoltServerAddress("local-1", 7687);
+    private static final BoltServerAddress LOCAL_2 = new BoltServerAddress("local-2", 7687);
+    private static final BoltServerAddress REMOTE_1 = new BoltServerAddress("remote-1", 7687);
+    private static final BoltServerAddress REMOTE_2 = new BoltServerAddress("remote-2", 7687);
+
+    private final ServerZoneResolver zoneResolver = address -> address.host().startsWith("local") ? "a" : "b";
+    private final ConnectionPool connectionPool = mock(ConnectionPool.class);
+    private final MetricsListener metricsListener = mock(MetricsListener.class);
+
+    private LeastConnectedLoadBalancingStrategy delegate;
+    private ZoneAwareLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new LeastConnectedLoadBalancingStrategy(connectionPool, DEV_NULL_LOGGING);
+        strategy = newStrategy(zoneResolver);
+    }
+
+    @Test
+    void shouldHandleEmptyReaders() {
+        assertNull(strategy.selectReader(Collections.emptyList()));
+        verify(metricsListener, never()).afterReaderSelected(anyBoolean());
+    }
+
+    @Test
+    void shouldPreferLocalReaders() {
+        var readers = List.of(REMOTE_1, LOCAL_1, REMOTE_2, LOCAL_2);
+
+        for (var i = 0; i < 10; i++) {
+            var selected = strategy.selectReader(readers);
+            assertEquals("a", zoneResolver.resolve(selected));
+        }
+        verify(metricsListener, never()).afterReaderSelected(false);
+    }
+
+    @Test
+    void shouldPreferLocalReadersWithMoreConnectionsInUse() {
+        when(connectionPool.inUseConnections(LOCAL_1)).thenReturn(9);
+
+        assertEquals(LOCAL_1, strategy.selectReader(List.of(REMOTE_1, LOCAL_1)));
+        verify(metricsListener).afterReaderSelected(true);
+    }
+
+    @Test
+    void shouldFallBackToRemoteReadersWhenLocalReadersAreSaturated() {
+        when(connectionPool.isSaturated(LOCAL_1)).thenReturn(true);
+        when(connectionPool.inUseConnections(REMOTE_1)).thenReturn(9);
+
+        assertEquals(REMOTE_1, strategy.selectReader(List.of(LOCAL_1, REMOTE_1)));
+        verify(metricsListener).afterReaderSelected(false);
+    }
+
+    @Test
+    void shouldFallBackToRemoteReadersWithoutLocalReaders() {
+        assertEquals(REMOTE_2, strategy.selectReader(List.of(REMOTE_2)));
+        verify(metricsListener).afterReaderSelected(false);
+    }
+
+    @Test
+    void shouldSelectSaturatedLocalReaderWithoutRemoteReaders() {
+        when(connectionPool.isSaturated(LOCAL_1)).thenReturn(true);
+
+        assertEquals(LOCAL_1, strategy.selectReader(List.of(LOCAL_1)));
+        verify(metricsListener).afterReaderSelected(true);
+    }
+
+    @Test
+    void shouldTreatReadersAsRemoteWhenZoneResolutionFails() {
+        strategy = newStrategy(address -> {
+            if (address.equals(LOCAL_1)) {
+                throw new IllegalStateException();
+            }
+            return zoneResolver.resolve(address);
+        });
+
+        assertEquals(LOCAL_2, strategy.selectReader(List.of(LOCAL_1, LOCAL_2)));
+        strategy.selectReader(List.of(LOCAL_1, REMOTE_1));
+        verify(metricsListener).afterReaderSelected(false);
+    }
+
+    @Test
+    void shouldResolveZonesOnceUntilRoutingTableUpdate() {
+        var resolutions = new AtomicInteger();
+        strategy = newStrategy(address -> {
+            resolutions.incrementAndGet();
+            return zoneResolver.resolve(address);
+        });
+        var readers = List.of(LOCAL_1, REMOTE_1);
+
+        strategy.selectReader(readers);
+        strategy.selectReader(readers);
+        assertEquals(2, resolutions.get());
+
+        strategy.onRoutingTableUpdated(Set.of(LOCAL_1, REMOTE_1));
+        strategy.selectReader(readers);
+        assertEquals(4, resolutions.get());
+    }
+
+    @Test
+    void shouldLogZoneResolutionFailuresOncePerAddress() {
+        var logging = mock(Logging.class);
+        var log = mock(Logger.class);
+        when(logging.getLog(ZoneAwareLoadBalancingStrategy.class)).thenReturn(log);
+        strategy = new ZoneAwareLoadBalancingStrategy(
+                delegate,
+                connectionPool,
+                "a",
+                address -> {
+                    throw new IllegalStateException();
+                },
+                metricsListener,
+                logging);
+        var readers = List.of(LOCAL_1, LOCAL_2);
+
+        strategy.selectReader(readers);
+        strategy.onRoutingTableUpdated(Set.of(LOCAL_1, LOCAL_2));
+        strategy.selectReader(readers);
+
+        verify(log, times(2)).warn(anyString(), any(BoltServerAddress.class));
+    }
+
+    @Test
+    void shouldSelectWritersRegardlessOfZone() {
+        var delegate = mock(LoadBalancingStrategy.class);
+        when(delegate.selectWriter(anyList())).thenReturn(REMOTE_1);
+        strategy = new ZoneAwareLoadBalancingStrategy(
+                delegate, connectionPool, "a", zoneResolver, metricsListener, DEV_NULL_LOGGING);
+
+        assertEquals(REMOTE_1, strategy.selectWriter(List.of(LOCAL_1, REMOTE_1)));
+        verify(delegate).selectWriter(List.of(LOCAL_1, REMOTE_1));
+        verify(metricsListener, never()).afterReaderSelected(anyBoolean());
+    }
+
+    private ZoneAwareLoadBalancingStrategy newStrategy(ServerZoneResolver zoneResolver) {
+        return new ZoneAwareLoadBalancingStrategy(
+                delegate, connectionPool, "a", zoneResolver, metricsListener, DEV_NULL_LOGGING);
+    }
+}
@@ -22,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +35,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.request.DiscardMessage;
 import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.messaging.v43.BoltProtocolV43;
@@ -138,6 +140,28 @@ abstract class BasicPullResponseHandlerTestBase {
         assertThat(handler.state(), equalTo(BasicPullResponseHandler.State.STREAMING_STATE));
     }
 
+    @Test
+    void shouldReportLazyRecordWithoutDecodingIt() {
+        // Given a handler in streaming state
+        var conn = mockConnection();
+        @SuppressWarnings("unchecked")
+        BiConsumer<Record, Throwable> recordConsumer = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        BiConsumer<ResultSummary, Throwable> summaryConsumer = mock(BiConsumer.class);
+        var handler = newResponseHandlerWithStatus(
+                conn, recordConsumer, summaryConsumer, BasicPullResponseHandler.State.STREAMING_STATE);
+        var fields = mock(LazyRecordFields.class);
+
+        // When
+        handler.onRecord(fields);
+
+        // Then
+        verify(recordConsumer).accept(any(Record.class), eq(null));
+        verifyNoInteractions(fields);
+        verifyNoMoreInteractions(summaryConsumer);
+        assertThat(handler.state(), equalTo(BasicPullResponseHandler.State.STREAMING_STATE));
+    }
+
     @ParameterizedTest
     @MethodSource("allStatusExceptStreaming")
     void shouldNotReportRecordWhenNotStreaming(BasicPullResponseHandler.State state) {
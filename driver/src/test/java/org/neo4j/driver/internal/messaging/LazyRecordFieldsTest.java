@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ProtocolException;
+import org.neo4j.driver.internal.messaging.common.CommonValuePacker;
+import org.neo4j.driver.internal.messaging.common.CommonValueUnpacker;
+import org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.util.io.ChannelOutput;
+
+class LazyRecordFieldsTest {
+    private static final Value[] VALUES = {
+        value(42),
+        value("a string that is longer than the tiny string limit"),
+        value(new byte[] {1, 2, 3}),
+        value(List.of(1, "two", 3.0, List.of(true, false))),
+        value(Map.of("key", Map.of("nested", List.of(1, 2)))),
+        value(LocalDate.of(2023, 11, 2)),
+        value((Object) null),
+        value(0.5)
+    };
+
+    @Test
+    void shouldDecodeFieldsInAnyOrder() throws IOException {
+        var fields = new LazyRecordFields(pack(VALUES), new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        assertEquals(VALUES.length, fields.size());
+        for (var i = VALUES.length - 1; i >= 0; i--) {
+            assertEquals(VALUES[i], fields.get(i));
+        }
+    }
+
+    @Test
+    void shouldDecodeEachFieldOnce() throws IOException {
+        var fields = new LazyRecordFields(pack(VALUES), new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        var map = fields.get(4);
+
+        assertSame(map, fields.get(4));
+        assertSame(map, fields.values()[4]);
+    }
+
+    @Test
+    void shouldDecodeAllValues() throws IOException {
+        var fields = new LazyRecordFields(pack(VALUES), new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        fields.get(2);
+
+        assertArrayEquals(VALUES, fields.values());
+    }
+
+    @Test
+    void shouldSkipGraphEntities() throws IOException {
+        var output = new ByteArrayOutputStream();
+        var channelOutput = new ChannelOutput(Channels.newChannel(output));
+        new PackStream.Packer(channelOutput).packListHeader(2);
+        var packer = new CommonValuePacker(channelOutput, true);
+        packer.packStructHeader(4, CommonValueUnpacker.NODE);
+        packer.pack(value(1));
+        packer.pack(value(List.of("Person")));
+        packer.pack(Map.of("name", value("Alice")));
+        packer.pack("element-1");
+        packer.pack(value("after node"));
+
+        var fields = new LazyRecordFields(output.toByteArray(), new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        assertEquals(value("after node"), fields.get(1));
+        var node = fields.get(0).asNode();
+        assertEquals("element-1", node.elementId());
+        assertEquals(List.of("Person"), node.labels());
+        assertEquals(value("Alice"), node.get("name"));
+    }
+
+    @Test
+    void shouldHandleEmptyRecord() throws IOException {
+        var fields = new LazyRecordFields(pack(), new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        assertEquals(0, fields.size());
+        assertArrayEquals(new Value[0], fields.values());
+    }
+
+    @Test
+    void shouldFailOnAccessWhenFieldsAreTruncated() throws IOException {
+        var bytes = pack(VALUES);
+        var truncated = new byte[bytes.length - 3];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        var fields = new LazyRecordFields(truncated, new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        assertThrows(ProtocolException.class, () -> fields.get(0));
+    }
+
+    @Test
+    void shouldDecodeRecordsOfOneDecoderConcurrently() throws Exception {
+        var decoder = new LazyRecordFields.Decoder(ValueUnpackerV5::new);
+        var bytes = pack(VALUES);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var results = new ArrayList<Future<Value[]>>();
+            for (var i = 0; i < 100; i++) {
+                var fields = new LazyRecordFields(bytes, decoder);
+                results.add(executor.submit(fields::values));
+            }
+            for (var result : results) {
+                assertArrayEquals(VALUES, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReportPackedSize() throws IOException {
+        var bytes = pack(VALUES);
+        var fields = new LazyRecordFields(bytes, new LazyRecordFields.Decoder(ValueUnpackerV5::new));
+
+        fields.values();
+
+        assertEquals(bytes.length, fields.packedSize());
+    }
+
+    private static byte[] pack(Value... values) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var channelOutput = new ChannelOutput(Channels.newChannel(output));
+        new PackStream.Packer(channelOutput).packListHeader(values.length);
+        var packer = new CommonValuePacker(channelOutput, true);
+        for (var value : values) {
+            packer.pack(value);
+        }
+        return output.toByteArray();
+    }
+}
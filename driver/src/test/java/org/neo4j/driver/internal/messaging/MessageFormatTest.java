@@ -19,7 +19,9 @@ package org.neo4j.driver.internal.messaging;
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.driver.Values.parameters;
@@ -38,6 +40,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.embedded.EmbeddedChannel;
 import java.util.HashMap;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.ClientException;
@@ -53,6 +56,9 @@ import org.neo4j.driver.internal.messaging.v3.MessageFormatV3;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
 import org.neo4j.driver.internal.util.messaging.MemorizingInboundMessageDispatcher;
+import org.neo4j.driver.internal.value.DoubleArrayValue;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongArrayValue;
 
 class MessageFormatTest {
     public final MessageFormat format = new MessageFormatV3();
@@ -70,6 +76,36 @@ class MessageFormatTest {
         assertSerializesValue(value(parameters("cat", null, "dog", null)));
         assertSerializesValue(value(parameters("k", 12, "a", "banana")));
         assertSerializesValue(value(asList("k", 12, "a", "banana")));
+        assertSerializesValue(value(new long[] {1, -2, Long.MIN_VALUE}));
+        assertSerializesValue(value(new int[] {1, -2, Integer.MAX_VALUE}));
+        assertSerializesValue(value(new double[] {0.5, Double.NEGATIVE_INFINITY}));
+        assertSerializesValue(value(new float[] {0.5f, -1.25f}));
+        assertSerializesValue(value(largeByteArray()));
+    }
+
+    @Test
+    void shouldUnpackHomogeneousNumberListsIntoPrimitiveArrays() throws Throwable {
+        var message = new RecordMessage(new Value[] {
+            value(new long[] {1, -2, Long.MAX_VALUE}),
+            value(new double[] {1.5, -0.25, Double.NaN}),
+            value(asList(1, 2.5)),
+            value(asList(1.5, 2)),
+            value(asList(1, 2, "three"))
+        });
+        var packed = knowledgeablePack(message);
+
+        var channel = newEmbeddedChannel();
+        var unpackedMessage = (RecordMessage) unpack(packed, channel);
+
+        assertEquals(message, unpackedMessage);
+        var fields = unpackedMessage.fields();
+        assertInstanceOf(LongArrayValue.class, fields[0]);
+        assertInstanceOf(DoubleArrayValue.class, fields[1]);
+        assertInstanceOf(ListValue.class, fields[2]);
+        assertInstanceOf(ListValue.class, fields[3]);
+        assertInstanceOf(ListValue.class, fields[4]);
+        assertArrayEquals(new long[] {1, -2, Long.MAX_VALUE}, fields[0].asLongArray());
+        assertArrayEquals(new double[] {1.5, -0.25, Double.NaN}, fields[1].asDoubleArray());
     }
 
     @Test
@@ -83,6 +119,20 @@ class MessageFormatTest {
         assertOnlyDeserializesValue(filledPathValue());
     }
 
+    @Test
+    void shouldUnpackRecordsLazily() throws Throwable {
+        var values = new Value[] {
+            value(parameters("k", 12, "a", "banana")), emptyNodeValue(), filledRelationshipValue(), filledPathValue()
+        };
+        var message = new RecordMessage(values);
+        var packed = knowledgeablePack(message);
+
+        var channel = newEmbeddedChannel(format, true);
+        var unpackedMessage = unpack(packed, channel);
+
+        assertEquals(message, unpackedMessage);
+    }
+
     @Test
     void shouldGiveHelpfulErrorOnMalformedNodeStruct() throws Throwable {
         // Given
@@ -106,6 +156,12 @@ class MessageFormatTest {
                         + "received NODE structure has 0 fields."));
     }
 
+    private static byte[] largeByteArray() {
+        var bytes = new byte[200_000];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
     private void assertSerializesValue(Value value) throws Throwable {
         assertSerializes(new RecordMessage(new Value[] {value}));
     }
@@ -124,9 +180,13 @@ class MessageFormatTest {
     }
 
     private EmbeddedChannel newEmbeddedChannel(MessageFormat format) {
+        return newEmbeddedChannel(format, false);
+    }
+
+    private EmbeddedChannel newEmbeddedChannel(MessageFormat format, boolean lazyRecordsEnabled) {
         var channel = new EmbeddedChannel();
         setMessageDispatcher(channel, new MemorizingInboundMessageDispatcher(channel, DEV_NULL_LOGGING));
-        new ChannelPipelineBuilderImpl().build(format, channel.pipeline(), DEV_NULL_LOGGING);
+        new ChannelPipelineBuilderImpl(lazyRecordsEnabled).build(format, channel.pipeline(), DEV_NULL_LOGGING);
         return channel;
     }
 
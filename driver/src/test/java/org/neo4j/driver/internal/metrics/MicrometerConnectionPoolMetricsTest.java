@@ -97,6 +97,32 @@ class MicrometerConnectionPoolMetricsTest {
         assertEquals(timerCount + 1, timer.count());
     }
 
+    @Test
+    void shouldIncrementResumedTlsHandshakesOnAfterResumedTlsHandshake() {
+        // GIVEN
+        var expectedMetrics = mock(ConnectionPoolMetrics.class);
+        given(expectedMetrics.resumedTlsHandshakes()).willReturn(1L);
+
+        // WHEN
+        metrics.afterTlsHandshake(true);
+
+        // THEN
+        verifyMetrics(expectedMetrics, metrics);
+    }
+
+    @Test
+    void shouldIncrementFullTlsHandshakesOnAfterFullTlsHandshake() {
+        // GIVEN
+        var expectedMetrics = mock(ConnectionPoolMetrics.class);
+        given(expectedMetrics.fullTlsHandshakes()).willReturn(1L);
+
+        // WHEN
+        metrics.afterTlsHandshake(false);
+
+        // THEN
+        verifyMetrics(expectedMetrics, metrics);
+    }
+
     @Test
     void shouldIncrementClosedOnAfterClosed() {
         // GIVEN
@@ -261,6 +287,20 @@ class MicrometerConnectionPoolMetricsTest {
         assertEquals(
                 expected.failedToCreate(),
                 registry.get(MicrometerConnectionPoolMetrics.FAILED).counter().count());
+        assertEquals(expected.resumedTlsHandshakes(), actual.resumedTlsHandshakes());
+        assertEquals(
+                expected.resumedTlsHandshakes(),
+                registry.get(MicrometerConnectionPoolMetrics.TLS_HANDSHAKES)
+                        .tag("resumed", "true")
+                        .counter()
+                        .count());
+        assertEquals(expected.fullTlsHandshakes(), actual.fullTlsHandshakes());
+        assertEquals(
+                expected.fullTlsHandshakes(),
+                registry.get(MicrometerConnectionPoolMetrics.TLS_HANDSHAKES)
+                        .tag("resumed", "false")
+                        .counter()
+                        .count());
         assertEquals(expected.closed(), actual.closed());
         assertEquals(
                 expected.closed(),
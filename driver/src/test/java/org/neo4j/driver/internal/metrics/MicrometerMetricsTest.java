@@ -97,6 +97,43 @@ class MicrometerMetricsTest {
         then(poolMetricsListener).should().afterFailedToCreate();
     }
 
+    @Test
+    void shouldDelegateAfterTlsHandshake() {
+        // GIVEN
+        metrics.putPoolMetrics(ID, poolMetrics);
+
+        // WHEN
+        metrics.afterTlsHandshake(ID, true);
+
+        // THEN
+        assertEquals(1, metrics.connectionPoolMetrics().size());
+        then(poolMetricsListener).should().afterTlsHandshake(true);
+    }
+
+    @Test
+    void shouldCountReaderSelectionsByZone() {
+        // GIVEN & WHEN
+        metrics.afterReaderSelected(true);
+        metrics.afterReaderSelected(true);
+        metrics.afterReaderSelected(false);
+
+        // THEN
+        assertEquals(2, metrics.localReaderSelections());
+        assertEquals(1, metrics.remoteReaderSelections());
+        assertEquals(
+                2,
+                registry.get(MicrometerMetrics.READER_SELECTIONS)
+                        .tag("zone", "local")
+                        .counter()
+                        .count());
+        assertEquals(
+                1,
+                registry.get(MicrometerMetrics.READER_SELECTIONS)
+                        .tag("zone", "remote")
+                        .counter()
+                        .count());
+    }
+
     @Test
     void shouldDelegateAfterClosed() {
         // GIVEN
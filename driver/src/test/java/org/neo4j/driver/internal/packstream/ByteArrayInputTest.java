@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class ByteArrayInputTest {
+    @Test
+    void shouldReadBigEndianValues() {
+        var bytes = ByteBuffer.allocate(23)
+                .put((byte) 1)
+                .putShort((short) -2)
+                .putInt(3)
+                .putLong(-4L)
+                .putDouble(5.5)
+                .array();
+        var input = new ByteArrayInput();
+        input.start(bytes, 0);
+
+        assertEquals((byte) 1, input.peekByte());
+        assertEquals((byte) 1, input.readByte());
+        assertEquals((short) -2, input.readShort());
+        assertEquals(3, input.readInt());
+        assertEquals(-4L, input.readLong());
+        assertEquals(5.5, input.readDouble());
+        assertEquals(0, input.readableBytes());
+    }
+
+    @Test
+    void shouldReadFromPosition() {
+        var bytes = "skipped|ünïcödé|tail".getBytes(UTF_8);
+        var input = new ByteArrayInput();
+        input.start(bytes, 8);
+
+        assertEquals("ünïcödé", input.readUtf8(11));
+        input.skipBytes(1);
+        var tail = new byte[4];
+        input.readBytes(tail, 0, 4);
+
+        assertEquals("tail", new String(tail, UTF_8));
+        assertEquals(bytes.length, input.position());
+    }
+
+    @Test
+    void shouldThrowWhenReadingPastEnd() {
+        var input = new ByteArrayInput();
+        input.start(new byte[] {1, 2, 3}, 1);
+
+        assertThrows(IndexOutOfBoundsException.class, input::readInt);
+        assertEquals(1, input.position());
+    }
+}
@@ -24,12 +24,14 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.channels.Channels;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
@@ -323,6 +325,32 @@ public class PackStreamTest {
         assertArrayEquals("ABCDEFGHIJ".getBytes(), unpacker.unpackBytes());
     }
 
+    @Test
+    void testCanSkipValues() throws Throwable {
+        // Given
+        var machine = new Machine();
+        var packer = machine.packer();
+        packer.pack("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        packer.pack(new byte[] {1, 2, 3});
+        packer.pack(asList(1L, "two", 3.0, asList(true, false)));
+        packer.pack(asMap("k", asMap("nested", asList(1L, 2L))));
+        packer.packStructHeader(2, (byte) 'X');
+        packer.pack(1L);
+        packer.pack("one");
+        packer.packNull();
+        packer.pack(Long.MAX_VALUE);
+        packer.pack(42L);
+
+        // When
+        var unpacker = newUnpacker(machine.output());
+        for (var i = 0; i < 7; i++) {
+            unpacker.skip();
+        }
+
+        // Then
+        assertThat(unpacker.unpackLong(), equalTo(42L));
+    }
+
     @Test
     void testCanPackAndUnpackString() throws Throwable {
         // Given
@@ -403,6 +431,18 @@ public class PackStreamTest {
         assertThat(unpacker.unpackString(), equalTo("drei"));
     }
 
+    @Test
+    void testCanPackAndUnpackPrimitiveArrays() throws Throwable {
+        assertPackedAsList(new long[] {1, -1, Long.MAX_VALUE}, 1L, -1L, Long.MAX_VALUE);
+        assertPackedAsList(new int[] {1, -1, Integer.MIN_VALUE}, 1L, -1L, (long) Integer.MIN_VALUE);
+        assertPackedAsList(new short[] {1, -1, Short.MAX_VALUE}, 1L, -1L, (long) Short.MAX_VALUE);
+        assertPackedAsList(new double[] {1.5, -0.0, Double.NaN}, 1.5, -0.0, Double.NaN);
+        assertPackedAsList(new float[] {1.5f, -2.25f}, 1.5, -2.25);
+        assertPackedAsList(new boolean[] {true, false}, true, false);
+        assertPackedAsList(new String[] {"eins", "zwei"}, "eins", "zwei");
+        assertPackedAsList(new long[1000], Collections.nCopies(1000, 0L).toArray());
+    }
+
     @Test
     void testCanPackAndUnpackListOfSpecialStrings() throws Throwable {
         assertPackStringLists(3);
@@ -669,6 +709,28 @@ public class PackStreamTest {
         assertEquals(type, unpacker.peekNextType());
     }
 
+    private void assertPackedAsList(Object array, Object... expected) throws Throwable {
+        // Given
+        var machine = new Machine();
+
+        // When
+        var packer = machine.packer();
+        packer.pack(array);
+
+        // Then
+        var unpacker = newUnpacker(machine.output());
+        assertThat(unpacker.unpackListHeader(), equalTo((long) expected.length));
+        for (var element : expected) {
+            switch (unpacker.peekNextType()) {
+                case INTEGER -> assertThat(unpacker.unpackLong(), equalTo(element));
+                case FLOAT -> assertThat(unpacker.unpackDouble(), equalTo(element));
+                case BOOLEAN -> assertThat(unpacker.unpackBoolean(), equalTo(element));
+                case STRING -> assertThat(unpacker.unpackString(), equalTo(element));
+                default -> fail("Unexpected type " + unpacker.peekNextType());
+            }
+        }
+    }
+
     private void assertPackStringLists(int size) throws Throwable {
         // Given
         var machine = new Machine();
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.packstream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.internal.util.io.BufferedChannelInput;
+import org.neo4j.driver.internal.util.io.ChannelOutput;
+
+class StringDictionaryTest {
+    @Test
+    void shouldReturnSameInstanceForRepeatedStrings() throws IOException {
+        var unpacker = unpackerFor("name", "Person", "name", "KNOWS", "Person", "name");
+        var dictionary = new StringDictionary();
+
+        var name = unpacker.unpackString(dictionary);
+        var person = unpacker.unpackString(dictionary);
+
+        assertEquals("name", name);
+        assertEquals("Person", person);
+        assertSame(name, unpacker.unpackString(dictionary));
+        assertEquals("KNOWS", unpacker.unpackString(dictionary));
+        assertSame(person, unpacker.unpackString(dictionary));
+        assertSame(name, unpacker.unpackString(dictionary));
+    }
+
+    @Test
+    void shouldNotShareStringsLongerThanMaxBytes() throws IOException {
+        var unpacker = unpackerFor("short", "longer string", "short", "longer string");
+        var dictionary = new StringDictionary(16, 8);
+
+        var shortString = unpacker.unpackString(dictionary);
+        var longString = unpacker.unpackString(dictionary);
+
+        assertSame(shortString, unpacker.unpackString(dictionary));
+        var otherLongString = unpacker.unpackString(dictionary);
+        assertEquals(longString, otherLongString);
+        assertNotSame(longString, otherLongString);
+    }
+
+    @Test
+    void shouldReplaceEntriesWhenSlotIsTaken() throws IOException {
+        var unpacker = unpackerFor("a", "b", "a", "a");
+        var dictionary = new StringDictionary(1, 8);
+
+        var first = unpacker.unpackString(dictionary);
+        assertEquals("b", unpacker.unpackString(dictionary));
+        var second = unpacker.unpackString(dictionary);
+
+        assertEquals("a", second);
+        assertNotSame(first, second);
+        assertSame(second, unpacker.unpackString(dictionary));
+    }
+
+    @Test
+    void shouldDecodeMultiByteCharacters() throws IOException {
+        var unpacker = unpackerFor("Ünïcödé", "", "Ünïcödé");
+        var dictionary = new StringDictionary();
+
+        var first = unpacker.unpackString(dictionary);
+
+        assertEquals("Ünïcödé", first);
+        assertEquals("", unpacker.unpackString(dictionary));
+        assertSame(first, unpacker.unpackString(dictionary));
+    }
+
+    @Test
+    void shouldRejectInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StringDictionary(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new StringDictionary(3, 8));
+        assertThrows(IllegalArgumentException.class, () -> new StringDictionary(4, 0));
+    }
+
+    private static PackStream.Unpacker unpackerFor(String... values) throws IOException {
+        var output = new ByteArrayOutputStream();
+        var packer = new PackStream.Packer(new ChannelOutput(Channels.newChannel(output)));
+        for (var value : values) {
+            packer.pack(value);
+        }
+        var input = new ByteArrayInputStream(output.toByteArray());
+        return new PackStream.Unpacker(new BufferedChannelInput(Channels.newChannel(input)));
+    }
+}
@@ -18,20 +18,29 @@ package org.neo4j.driver.internal.security;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.neo4j.driver.RevocationCheckingStrategy.NO_CHECKS;
 import static org.neo4j.driver.RevocationCheckingStrategy.STRICT;
 import static org.neo4j.driver.RevocationCheckingStrategy.VERIFY_IF_PRESENT;
 
+import io.netty.handler.ssl.OpenSsl;
+import java.security.GeneralSecurityException;
 import java.util.stream.Stream;
+import javax.net.ssl.SSLContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.driver.Config;
+import org.neo4j.driver.TlsProvider;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.SecuritySettings;
 
 class SecurityPlansTest {
+    private static final TlsSettings OPENSSL = new TlsSettings(
+            TlsProvider.OPENSSL, TlsSettings.DEFAULT.sessionCacheSize(), TlsSettings.DEFAULT.sessionTimeoutSeconds());
+
     private static Stream<String> selfSignedSchemes() {
         return Stream.of("bolt+ssc", "neo4j+ssc");
     }
@@ -197,4 +206,86 @@ class SecurityPlansTest {
 
         assertEquals(NO_CHECKS, securityPlan.revocationCheckingStrategy());
     }
+
+    @ParameterizedTest
+    @MethodSource("allSecureSchemes")
+    void testJdkTlsProviderByDefault(String scheme) {
+        var securitySettings = new SecuritySettings.SecuritySettingsBuilder().build();
+
+        var securityPlan = SecurityPlans.createSecurityPlan(securitySettings, scheme);
+
+        assertNotNull(securityPlan.sslContext());
+        assertNull(securityPlan.openSslContext());
+    }
+
+    @ParameterizedTest
+    @MethodSource("allSecureSchemes")
+    void testOpenSslTlsProviderWhenAvailable(String scheme) {
+        var securitySettings = new SecuritySettings.SecuritySettingsBuilder().build();
+
+        var securityPlan = SecurityPlans.createSecurityPlan(securitySettings, scheme, OPENSSL);
+
+        assertNotNull(securityPlan.sslContext());
+        assertEquals(OpenSsl.isAvailable(), securityPlan.openSslContext() != null);
+        if (securityPlan.openSslContext() != null) {
+            assertTrue(securityPlan.openSslContext().isClient());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("allSecureSchemes")
+    void testTlsSessionCacheConfigured(String scheme) {
+        var securitySettings = new SecuritySettings.SecuritySettingsBuilder().build();
+        var tlsSettings = new TlsSettings(TlsProvider.JDK, 16, 300);
+
+        var securityPlan = SecurityPlans.createSecurityPlan(securitySettings, scheme, tlsSettings);
+
+        var sessionContext = securityPlan.sslContext().getClientSessionContext();
+        assertEquals(16, sessionContext.getSessionCacheSize());
+        assertEquals(300, sessionContext.getSessionTimeout());
+    }
+
+    @ParameterizedTest
+    @MethodSource("allSecureSchemes")
+    void testTlsSessionCacheKeepsJdkDefaultsUnlessConfigured(String scheme) throws GeneralSecurityException {
+        var securitySettings = new SecuritySettings.SecuritySettingsBuilder().build();
+        var defaultContext = SSLContext.getInstance("TLS");
+        defaultContext.init(null, null, null);
+
+        var securityPlan = SecurityPlans.createSecurityPlan(securitySettings, scheme, TlsSettings.DEFAULT);
+
+        var sessionContext = securityPlan.sslContext().getClientSessionContext();
+        var defaultSessionContext = defaultContext.getClientSessionContext();
+        assertEquals(defaultSessionContext.getSessionCacheSize(), sessionContext.getSessionCacheSize());
+        assertEquals(defaultSessionContext.getSessionTimeout(), sessionContext.getSessionTimeout());
+    }
+
+    @ParameterizedTest
+    @MethodSource("unencryptedSchemes")
+    void testOpenSslTlsProviderNotUsedWithRevocationChecking(String scheme) {
+        var securitySettings = new SecuritySettings.SecuritySettingsBuilder()
+                .withTrustStrategy(
+                        Config.TrustStrategy.trustSystemCertificates().withStrictRevocationChecks())
+                .withEncryption()
+                .build();
+
+        var securityPlan = SecurityPlans.createSecurityPlan(securitySettings, scheme, OPENSSL);
+
+        assertEquals(STRICT, securityPlan.revocationCheckingStrategy());
+        assertNull(securityPlan.openSslContext());
+    }
+
+    @ParameterizedTest
+    @MethodSource("unencryptedSchemes")
+    void testOpenSslTlsProviderNotUsedWhenTrustingAllCertificatesWithHostnameVerification(String scheme) {
+        var securitySettings = new SecuritySettings.SecuritySettingsBuilder()
+                .withTrustStrategy(Config.TrustStrategy.trustAllCertificates().withHostnameVerification())
+                .withEncryption()
+                .build();
+
+        var securityPlan = SecurityPlans.createSecurityPlan(securitySettings, scheme, OPENSSL);
+
+        assertTrue(securityPlan.requiresHostnameVerification());
+        assertNull(securityPlan.openSslContext());
+    }
 }
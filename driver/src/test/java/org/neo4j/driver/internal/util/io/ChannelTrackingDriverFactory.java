@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.neo4j.driver.AuthTokenManager;
 import org.neo4j.driver.Config;
+import org.neo4j.driver.TransportType;
 import org.neo4j.driver.internal.BoltAgent;
 import org.neo4j.driver.internal.BoltAgentUtil;
 import org.neo4j.driver.internal.BoltServerAddress;
@@ -51,8 +52,8 @@ public class ChannelTrackingDriverFactory extends DriverFactoryWithClock {
     }
 
     @Override
-    protected Bootstrap createBootstrap(int size) {
-        return BootstrapFactory.newBootstrap(eventLoopThreads);
+    protected Bootstrap createBootstrap(int size, TransportType transportType) {
+        return BootstrapFactory.newBootstrap(eventLoopThreads, transportType);
     }
 
     @Override
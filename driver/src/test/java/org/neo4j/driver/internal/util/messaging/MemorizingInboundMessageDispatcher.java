@@ -24,6 +24,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.messaging.LazyRecordFields;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.response.FailureMessage;
 import org.neo4j.driver.internal.messaging.response.IgnoredMessage;
@@ -51,6 +52,11 @@ public class MemorizingInboundMessageDispatcher extends InboundMessageDispatcher
         messages.add(new RecordMessage(fields));
     }
 
+    @Override
+    public void handleRecordMessage(LazyRecordFields fields) {
+        messages.add(new RecordMessage(fields.values()));
+    }
+
     @Override
     public void handleFailureMessage(String code, String message) {
         messages.add(new FailureMessage(code, message));
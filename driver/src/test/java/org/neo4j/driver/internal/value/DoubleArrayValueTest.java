@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.value;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+
+class DoubleArrayValueTest {
+    @Test
+    void shouldHaveSensibleToString() {
+        var value = new DoubleArrayValue(1.5, 2.0, 3.25);
+        assertThat(value.toString(), equalTo("[1.5, 2.0, 3.25]"));
+    }
+
+    @Test
+    void shouldHaveCorrectType() {
+        var value = new DoubleArrayValue();
+        assertThat(value.type(), equalTo(InternalTypeSystem.TYPE_SYSTEM.LIST()));
+    }
+
+    @Test
+    void shouldAccessElements() {
+        var value = new DoubleArrayValue(1.5, 2.0, 3.25);
+
+        assertEquals(3, value.size());
+        assertEquals(value(2.0), value.get(1));
+        assertEquals(Values.NULL, value.get(-1));
+        assertEquals(List.of(1.5, 2.0, 3.25), value.asList());
+        assertEquals(List.of(1.5, 2.0, 3.25), value.asObject());
+        assertEquals(List.of(3.0, 4.0, 6.5), value.asList(element -> element.asDouble() * 2));
+    }
+
+    @Test
+    void shouldExposeBackingArrayWithoutCopying() {
+        var values = new double[] {1.0, 2.0, 3.0};
+        var value = new DoubleArrayValue(values);
+
+        assertSame(values, value.backingArray());
+    }
+
+    @Test
+    void shouldReturnCopyOfElements() {
+        var value = new DoubleArrayValue(1.0, 2.0, 3.0);
+
+        var doubles = value.asDoubleArray();
+        doubles[0] = 42.0;
+
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, value.asDoubleArray());
+        assertArrayEquals(new long[] {1, 2, 3}, value.asLongArray());
+    }
+
+    @Test
+    void shouldNotConvertToLongArrayWhenLosingPrecision() {
+        var value = new DoubleArrayValue(1.0, 2.5);
+
+        assertThrows(LossyCoercion.class, value::asLongArray);
+    }
+
+    @Test
+    void shouldEqualListValueOfSameFloats() {
+        var value = new DoubleArrayValue(1.5, Double.NaN, -0.0);
+        var listValue = new ListValue(value(1.5), value(Double.NaN), value(-0.0));
+
+        assertEquals(listValue, value);
+        assertEquals(value, listValue);
+        assertEquals(listValue.hashCode(), value.hashCode());
+        assertNotEquals(new ListValue(value(1.5), value(Double.NaN), value(0.0)), value);
+        assertNotEquals(value, new ListValue(value(1.5), value(Double.NaN), value(0)));
+    }
+}
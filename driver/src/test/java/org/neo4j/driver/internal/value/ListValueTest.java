@@ -18,10 +18,18 @@ package org.neo4j.driver.internal.value;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.neo4j.driver.Values.value;
 
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.value.Uncoercible;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
 
 class ListValueTest {
@@ -39,6 +47,34 @@ class ListValueTest {
         assertThat(listValue.type(), equalTo(InternalTypeSystem.TYPE_SYSTEM.LIST()));
     }
 
+    @Test
+    void shouldConvertToPrimitiveArrays() {
+        var listValue = listValue(value(1), value(2.0), value(3));
+
+        assertArrayEquals(new long[] {1, 2, 3}, listValue.asLongArray());
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, listValue.asDoubleArray());
+    }
+
+    @Test
+    void shouldNotConvertNonNumbersToPrimitiveArrays() {
+        var listValue = listValue(value(1), value("two"));
+
+        assertThrows(Uncoercible.class, listValue::asLongArray);
+        assertThrows(Uncoercible.class, listValue::asDoubleArray);
+    }
+
+    @Test
+    void shouldConvertToPrimitiveArraysByDefault() {
+        var listValue = listValue(value(1), value(2.0), value(3));
+        var value = mock(Value.class, CALLS_REAL_METHODS);
+        doAnswer(invocation -> listValue.asList(invocation.<Function<Value, ?>>getArgument(0)))
+                .when(value)
+                .asList(ArgumentMatchers.<Function<Value, Object>>any());
+
+        assertArrayEquals(new long[] {1, 2, 3}, value.asLongArray());
+        assertArrayEquals(new double[] {1.0, 2.0, 3.0}, value.asDoubleArray());
+    }
+
     private ListValue listValue(Value... values) {
         return new ListValue(values);
     }
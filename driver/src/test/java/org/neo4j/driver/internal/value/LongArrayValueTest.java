@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.value;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+
+class LongArrayValueTest {
+    @Test
+    void shouldHaveSensibleToString() {
+        var value = new LongArrayValue(1, 2, 3);
+        assertThat(value.toString(), equalTo("[1, 2, 3]"));
+    }
+
+    @Test
+    void shouldHaveCorrectType() {
+        var value = new LongArrayValue();
+        assertThat(value.type(), equalTo(InternalTypeSystem.TYPE_SYSTEM.LIST()));
+    }
+
+    @Test
+    void shouldAccessElements() {
+        var value = new LongArrayValue(1, 2, 3);
+
+        assertEquals(3, value.size());
+        assertEquals(value(2L), value.get(1));
+        assertEquals(Values.NULL, value.get(3));
+        assertEquals(List.of(1L, 2L, 3L), value.asList());
+        assertEquals(List.of(1L, 2L, 3L), value.asObject());
+        assertEquals(List.of(2L, 3L, 4L), value.asList(element -> element.asLong() + 1));
+    }
+
+    @Test
+    void shouldExposeBackingArrayWithoutCopying() {
+        var values = new long[] {1, 2, 3};
+        var value = new LongArrayValue(values);
+
+        assertSame(values, value.backingArray());
+    }
+
+    @Test
+    void shouldReturnCopyOfElements() {
+        var value = new LongArrayValue(1, 2, 3);
+
+        var longs = value.asLongArray();
+        longs[0] = 42;
+
+        assertArrayEquals(new long[] {1, 2, 3}, value.asLongArray());
+        assertArrayEquals(new double[] {1, 2, 3}, value.asDoubleArray());
+    }
+
+    @Test
+    void shouldNotConvertToDoubleArrayWhenLosingPrecision() {
+        var value = new LongArrayValue(1, (1L << 53) + 1);
+
+        assertThrows(LossyCoercion.class, value::asDoubleArray);
+    }
+
+    @Test
+    void shouldEqualListValueOfSameIntegers() {
+        var value = new LongArrayValue(1, 2, 3);
+        var listValue = new ListValue(value(1), value(2), value(3));
+
+        assertEquals(listValue, value);
+        assertEquals(value, listValue);
+        assertEquals(listValue.hashCode(), value.hashCode());
+        assertNotEquals(new ListValue(value(1), value(2), value(3.0)), value);
+        assertNotEquals(value, new ListValue(value(1), value(2)));
+    }
+}
@@ -98,6 +98,7 @@ import org.neo4j.driver.internal.messaging.v52.BoltProtocolV52;
 import org.neo4j.driver.internal.messaging.v53.BoltProtocolV53;
 import org.neo4j.driver.internal.messaging.v54.BoltProtocolV54;
 import org.neo4j.driver.internal.retry.RetryLogic;
+import org.neo4j.driver.internal.spi.AcquisitionOptions;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.spi.ResponseHandler;
@@ -274,6 +275,7 @@ public final class TestUtil {
                 NoOpBookmarkManager.INSTANCE,
                 null,
                 null,
+                AcquisitionOptions.DEFAULT,
                 telemetryDisabled);
     }
 
@@ -44,10 +44,12 @@ import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.internal.value.DateTimeValue;
 import org.neo4j.driver.internal.value.DateValue;
+import org.neo4j.driver.internal.value.DoubleArrayValue;
 import org.neo4j.driver.internal.value.DurationValue;
 import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.LocalDateTimeValue;
 import org.neo4j.driver.internal.value.LocalTimeValue;
+import org.neo4j.driver.internal.value.LongArrayValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.PathValue;
@@ -69,6 +71,8 @@ public class TestkitModule extends SimpleModule {
         this.addSerializer(Value.class, new TestkitValueSerializer());
         this.addSerializer(NodeValue.class, new TestkitNodeValueSerializer());
         this.addSerializer(ListValue.class, new TestkitListValueSerializer());
+        this.addSerializer(LongArrayValue.class, new TestkitListValueSerializer());
+        this.addSerializer(DoubleArrayValue.class, new TestkitListValueSerializer());
         this.addSerializer(DateTimeValue.class, new TestkitDateTimeValueSerializer());
         this.addSerializer(DateValue.class, new TestkitDateValueSerializer());
         this.addSerializer(DurationValue.class, new TestkitDurationValueSerializer());
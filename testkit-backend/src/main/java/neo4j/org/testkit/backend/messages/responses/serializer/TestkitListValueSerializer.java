@@ -25,18 +25,18 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.io.IOException;
 import java.io.Serial;
 import java.util.function.Function;
-import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.Value;
 
-public class TestkitListValueSerializer extends StdSerializer<ListValue> {
+public class TestkitListValueSerializer extends StdSerializer<Value> {
     @Serial
     private static final long serialVersionUID = -5564826952797323279L;
 
     public TestkitListValueSerializer() {
-        super(ListValue.class);
+        super(Value.class);
     }
 
     @Override
-    public void serialize(ListValue listValue, JsonGenerator gen, SerializerProvider serializerProvider)
+    public void serialize(Value listValue, JsonGenerator gen, SerializerProvider serializerProvider)
             throws IOException {
         cypherObject(gen, "CypherList", () -> {
             gen.writeFieldName("value");